@@ -0,0 +1,36 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A typical JSON payload used as request and response entity by the
+ * benchmarks.
+ */
+public class BenchmarkEntity {
+
+    public String id;
+    public String name;
+    public long createdAt;
+    public boolean active;
+    public List<String> tags;
+
+    public BenchmarkEntity() {
+    }
+
+    public BenchmarkEntity(int index) {
+        this.id = "entity-" + index;
+        this.name = "Benchmark entity number " + index;
+        this.createdAt = 1600000000000L + index;
+        this.active = index % 2 == 0;
+        this.tags = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tags.add("tag-" + i);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkEntity [id=" + id + ", name=" + name + "]";
+    }
+}
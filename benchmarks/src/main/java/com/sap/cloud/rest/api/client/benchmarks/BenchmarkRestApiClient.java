@@ -0,0 +1,41 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.net.URI;
+
+import org.apache.http.client.ResponseHandler;
+
+import com.sap.cloud.rest.api.client.PathTemplate;
+import com.sap.cloud.rest.api.client.RestApiClient;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+
+/**
+ * Exposes the protected methods of {@link RestApiClient} to the benchmarks.
+ */
+public class BenchmarkRestApiClient extends RestApiClient {
+
+    static final String API_PATH = "/api/v1";
+
+    public BenchmarkRestApiClient(RestApiClientConfig restApiClientConfig) {
+        super(restApiClientConfig);
+    }
+
+    @Override
+    protected String getApiPath() {
+        return API_PATH;
+    }
+
+    public URI uri(String pathPattern, Object... args) {
+        return buildRequestUri(pathPattern, args);
+    }
+
+    public URI uri(PathTemplate pathTemplate, Object... args) {
+        return buildRequestUri(pathTemplate, args);
+    }
+
+    public <RequestType, ResponseType> Response<ResponseType> executeRequest(Request<RequestType> request,
+            ResponseHandler<ResponseType> responseHandler) {
+        return execute(request, responseHandler);
+    }
+}
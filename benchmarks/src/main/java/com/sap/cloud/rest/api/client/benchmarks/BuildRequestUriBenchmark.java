@@ -0,0 +1,62 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.rest.api.client.PathTemplate;
+import com.sap.cloud.rest.api.client.RestApiClient;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+
+/**
+ * Measures building request URIs with {@link RestApiClient#buildRequestUri}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildRequestUriBenchmark {
+
+    private static final PathTemplate ENTITY_PATH = PathTemplate.compile("/accounts/{0}/entities/{1}");
+
+    private BenchmarkRestApiClient client;
+
+    @Setup
+    public void setup() {
+        client = new BenchmarkRestApiClient(new RestApiClientConfig("https://example.com/service"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Benchmark
+    public URI buildStaticPath() {
+        return client.uri("/entities");
+    }
+
+    @Benchmark
+    public URI buildPathWithArguments() {
+        return client.uri("/accounts/{0}/entities/{1}", "account-id", "entity-id");
+    }
+
+    @Benchmark
+    public URI buildPathWithCompiledTemplate() {
+        return client.uri(ENTITY_PATH, "account-id", "entity-id");
+    }
+}
@@ -0,0 +1,107 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.rest.api.client.PathTemplate;
+import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.RestApiClient;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfigBuilder;
+import com.sap.cloud.rest.api.client.metrics.HistogramMetricsListener;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+import com.sap.cloud.rest.api.client.utils.JacksonJsonResponseHandler;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Measures a whole request execution with the {@link RestApiClient} against
+ * an HTTP server running in the same process on the loopback interface, so
+ * the benchmark needs no network. The server disables Nagle's algorithm, so
+ * that the measured latency is not dominated by delayed TCP acknowledgements.
+ * The same request is executed by a client recording metrics, to measure
+ * their overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ExecuteBenchmark {
+
+    private static final PathTemplate ENTITY_PATH = PathTemplate.compile("/entities/{0}");
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private BenchmarkRestApiClient client;
+    private BenchmarkRestApiClient clientWithMetrics;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] body = ObjectMapperRegistry.getDefault().getWriter(BenchmarkEntity.class)
+                .writeValueAsBytes(new BenchmarkEntity(1));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        String host = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        client = new BenchmarkRestApiClient(new RestApiClientConfig(host));
+        clientWithMetrics = new BenchmarkRestApiClient(RestApiClientConfigBuilder.getBuilder()
+                .host(host)
+                .metricsListener(new HistogramMetricsListener())
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        clientWithMetrics.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Response<BenchmarkEntity> executeGetRequest() {
+        Request<String> request = RequestBuilder.getRequest()
+                .uri(client.uri(ENTITY_PATH, "entity-1"))
+                .build();
+        return client.executeRequest(request, new JacksonJsonResponseHandler<>(BenchmarkEntity.class));
+    }
+
+    @Benchmark
+    public Response<BenchmarkEntity> executeGetRequestWithMetrics() {
+        Request<String> request = RequestBuilder.getRequest()
+                .uri(clientWithMetrics.uri(ENTITY_PATH, "entity-1"))
+                .route(ENTITY_PATH)
+                .build();
+        return clientWithMetrics.executeRequest(request, new JacksonJsonResponseHandler<>(BenchmarkEntity.class));
+    }
+}
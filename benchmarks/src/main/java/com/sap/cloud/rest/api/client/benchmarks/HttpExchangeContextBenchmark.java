@@ -0,0 +1,87 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.handler.DefaultStatusCodeHandler;
+import com.sap.cloud.rest.api.client.handler.StatusCodeHandler;
+import com.sap.cloud.rest.api.client.model.HttpExchangeContext;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
+
+/**
+ * Compares handling the status code of a successful response with an eagerly
+ * built {@link HttpExchangeContext}, which serializes the request and
+ * response entities, and with the lazy context used by the client. Run with
+ * the gc profiler to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpExchangeContextBenchmark {
+
+    private final StatusCodeHandler statusCodeHandler = DefaultStatusCodeHandler.create();
+    private final ObjectMapperRegistry objectMapperRegistry = ObjectMapperRegistry.getDefault();
+
+    private Request<BenchmarkEntity> request;
+    private HttpResponse httpResponse;
+    private BenchmarkEntity responseEntity;
+
+    @Setup
+    public void setup() {
+        request = RequestBuilder.postRequest(BenchmarkEntity.class)
+                .uri("https://example.com/api/v1/entities")
+                .entity(new BenchmarkEntity(1))
+                .build();
+        httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        responseEntity = new BenchmarkEntity(2);
+    }
+
+    @Benchmark
+    public HttpExchangeContext eagerContext() throws JsonProcessingException {
+        String requestBody = objectMapperRegistry.getWriter(BenchmarkEntity.class)
+                .writeValueAsString(request.getEntity());
+        HttpExchangeContext context = new HttpExchangeContext(
+                new Request<>(request.getHttpRequest(), requestBody),
+                new Response<>(httpResponse, responseEntity.toString()));
+        statusCodeHandler.handleStatusCode(context.getStatusCode(), context);
+        return context;
+    }
+
+    @Benchmark
+    public HttpExchangeContext lazyContext() {
+        HttpExchangeContext context = new HttpExchangeContext(() -> toStringRequest(request), httpResponse,
+                () -> responseEntity.toString());
+        statusCodeHandler.handleStatusCode(context.getStatusCode(), context);
+        return context;
+    }
+
+    private Request<String> toStringRequest(Request<BenchmarkEntity> request) {
+        try {
+            return new Request<>(request.getHttpRequest(), objectMapperRegistry.getWriter(BenchmarkEntity.class)
+                    .writeValueAsString(request.getEntity()));
+        } catch (JsonProcessingException e) {
+            return new Request<>(request.getHttpRequest());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.cloud.rest.api.client.utils.JacksonJsonResponseHandler;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
+
+/**
+ * Measures parsing JSON responses with the {@link JacksonJsonResponseHandler},
+ * including the creation of the handler, as done for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonJsonResponseHandlerBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    private byte[] singleEntityJson;
+    private byte[] entityListJson;
+
+    @Setup
+    public void setup() throws IOException {
+        List<BenchmarkEntity> entities = new ArrayList<>();
+        for (int i = 0; i < LIST_SIZE; i++) {
+            entities.add(new BenchmarkEntity(i));
+        }
+        ObjectMapperRegistry registry = ObjectMapperRegistry.getDefault();
+        singleEntityJson = registry.getWriter(BenchmarkEntity.class).writeValueAsBytes(entities.get(0));
+        entityListJson = registry.getObjectMapper().writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public BenchmarkEntity parseSingleEntity() throws IOException {
+        return new JacksonJsonResponseHandler<>(BenchmarkEntity.class).handleResponse(response(singleEntityJson));
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> parseEntityList() throws IOException {
+        return new JacksonJsonResponseHandler<>(new TypeReference<List<BenchmarkEntity>>() {
+        }).handleResponse(response(entityListJson));
+    }
+
+    private static HttpResponse response(byte[] body) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
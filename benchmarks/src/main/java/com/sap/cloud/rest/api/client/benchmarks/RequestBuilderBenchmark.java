@@ -0,0 +1,97 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.multipart.MultipartEntity;
+
+/**
+ * Measures building requests with the {@link RequestBuilder}, and building
+ * multipart requests and writing their body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuilderBenchmark {
+
+    private static final String URI = "https://example.com/api/v1/entities";
+
+    private final BenchmarkEntity entity = new BenchmarkEntity(1);
+    private final PartEntity partEntity = new PartEntity();
+    private final OutputStream outStream = new DiscardingOutputStream();
+
+    @Benchmark
+    public Request<String> buildGetRequestWithParameters() {
+        return RequestBuilder.getRequest()
+                .uri(URI)
+                .addHeader("Accept", "application/json")
+                .addParameter("top", "100")
+                .addParameter("filter", "active")
+                .build();
+    }
+
+    @Benchmark
+    public Request<BenchmarkEntity> buildPostRequestWithEntity() {
+        return RequestBuilder.postRequest(BenchmarkEntity.class)
+                .uri(URI)
+                .addHeader("Accept", "application/json")
+                .entity(entity)
+                .build();
+    }
+
+    @Benchmark
+    public Request<MultipartEntity<PartEntity>> buildAndWriteMultipartRequest() throws IOException {
+        Request<MultipartEntity<PartEntity>> request = RequestBuilder.postRequest(PartEntity.class)
+                .uri(URI)
+                .multipartEntity("first", partEntity)
+                .multipartEntity("second", partEntity)
+                .buildMultipart();
+        ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity().writeTo(outStream);
+        return request;
+    }
+
+    /**
+     * A flat entity, as multipart entity parts are sent as properties.
+     */
+    public static class PartEntity {
+
+        public String id = "entity-1";
+        public String name = "Entity 1";
+        public String description = "An entity sent as part of a multipart request";
+        public long createdAt = 1_600_000_000_000L;
+        public boolean active = true;
+    }
+
+    /**
+     * A stream, which discards the written bytes, standing in for the
+     * connection.
+     */
+    private static class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.compression.ContentEncoding;
+
+/**
+ * Measures writing JSON request bodies of typical sizes as they are and
+ * compressed with gzip and deflate, i.e. the CPU time compression adds per
+ * request. The number of bytes each variant sends per request is reported as
+ * the secondary metric <b>bytesSent</b>, so that the time can be weighed
+ * against the saved bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestCompressionBenchmark {
+
+    private static final String URI = "https://example.com/api/v1/entities";
+
+    @Param({ "1", "10", "100", "1000" })
+    public int entityCount;
+
+    private HttpEntity uncompressedEntity;
+    private HttpEntity gzipEntity;
+    private HttpEntity deflateEntity;
+    private final CountingOutputStream outStream = new CountingOutputStream();
+
+    @Setup
+    public void setup() {
+        BenchmarkEntity[] entities = new BenchmarkEntity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = new BenchmarkEntity(i);
+        }
+        uncompressedEntity = buildEntity(entities, null);
+        gzipEntity = buildEntity(entities, ContentEncoding.GZIP);
+        deflateEntity = buildEntity(entities, ContentEncoding.DEFLATE);
+    }
+
+    private static HttpEntity buildEntity(BenchmarkEntity[] entities, ContentEncoding contentEncoding) {
+        RequestBuilder<BenchmarkEntity[]> builder = RequestBuilder.postRequest(BenchmarkEntity[].class)
+                .uri(URI)
+                .entity(entities);
+        if (contentEncoding != null) {
+            builder.compress(contentEncoding);
+        }
+        return ((HttpEntityEnclosingRequest) builder.build().getHttpRequest()).getEntity();
+    }
+
+    @Benchmark
+    public long writeUncompressed(SentBytes sentBytes) throws IOException {
+        return write(uncompressedEntity, sentBytes);
+    }
+
+    @Benchmark
+    public long writeGzip(SentBytes sentBytes) throws IOException {
+        return write(gzipEntity, sentBytes);
+    }
+
+    @Benchmark
+    public long writeDeflate(SentBytes sentBytes) throws IOException {
+        return write(deflateEntity, sentBytes);
+    }
+
+    private long write(HttpEntity entity, SentBytes sentBytes) throws IOException {
+        outStream.count = 0;
+        entity.writeTo(outStream);
+        sentBytes.bytesSent = outStream.count;
+        return outStream.count;
+    }
+
+    /**
+     * Reports the number of bytes written by the last request, which is the
+     * same for every request of a benchmark, as a secondary metric.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SentBytes {
+
+        public long bytesSent;
+    }
+
+    /**
+     * A stream, which discards the written bytes and counts them, standing in
+     * for the connection.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
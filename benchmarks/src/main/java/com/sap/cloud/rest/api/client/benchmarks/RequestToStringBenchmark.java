@@ -0,0 +1,47 @@
+package com.sap.cloud.rest.api.client.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.model.Request;
+
+/**
+ * Measures {@link Request#toString()}, which is used in every exception
+ * message and log statement about a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestToStringBenchmark {
+
+    private Request<BenchmarkEntity> request;
+
+    @Setup
+    public void setup() {
+        request = RequestBuilder.postRequest(BenchmarkEntity.class)
+                .uri("https://example.com/api/v1/entities")
+                .addHeader("Accept", "application/json")
+                .addHeader("Authorization", "Bearer token")
+                .entity(new BenchmarkEntity(1))
+                .build();
+    }
+
+    @Benchmark
+    public String requestToString() {
+        return request.toString();
+    }
+}
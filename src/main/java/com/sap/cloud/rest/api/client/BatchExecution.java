@@ -0,0 +1,153 @@
+package com.sap.cloud.rest.api.client;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.sap.cloud.rest.api.client.exceptions.RestApiClientException;
+import com.sap.cloud.rest.api.client.model.BatchResult;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+
+/**
+ * Executes a batch of requests asynchronously with at most a given number of
+ * requests in flight. The requests are taken from the iterator only when a
+ * slot is free, and the results are passed to the consumer on the calling
+ * thread as they complete, so the memory used does not grow with the size of
+ * the batch. A failed request does not abort the batch.
+ *
+ * @param <RequestType>
+ *            the type of the request bodies
+ * @param <ResponseType>
+ *            the type of the response bodies
+ */
+class BatchExecution<RequestType, ResponseType> {
+
+    static final String MAX_CONCURRENCY_DISPLAY_NAME = "Max concurrency";
+    static final String REQUESTS_DISPLAY_NAME = "Requests";
+    static final String REQUEST_DISPLAY_NAME = "Request";
+    static final String RESULT_CONSUMER_DISPLAY_NAME = "Result consumer";
+
+    static final String BATCH_INTERRUPTED_MSG = "Interrupted while executing a batch of requests.";
+
+    private final Function<Request<RequestType>, CompletableFuture<Response<ResponseType>>> executor;
+    private final int maxConcurrency;
+
+    private final BlockingQueue<BatchResult<ResponseType>> completed = new LinkedBlockingQueue<>();
+    private final Map<Integer, CompletableFuture<Response<ResponseType>>> inFlight = new HashMap<>();
+
+    /**
+     * @param executor
+     *            starts the asynchronous execution of a request.
+     * @param maxConcurrency
+     *            the maximum number of requests in flight.
+     */
+    BatchExecution(Function<Request<RequestType>, CompletableFuture<Response<ResponseType>>> executor,
+            int maxConcurrency) {
+        isPositive(MAX_CONCURRENCY_DISPLAY_NAME, maxConcurrency);
+
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Executes the requests and returns their results in the order of the
+     * requests.
+     */
+    List<BatchResult<ResponseType>> executeInOrder(Iterator<? extends Request<RequestType>> requests) {
+        List<BatchResult<ResponseType>> results = new ArrayList<>();
+        execute(requests, result -> {
+            while (results.size() <= result.getIndex()) {
+                results.add(null);
+            }
+            results.set(result.getIndex(), result);
+        });
+        return results;
+    }
+
+    /**
+     * Executes the requests and passes their results to the consumer as they
+     * complete. Returns when all results have been consumed. If the calling
+     * thread is interrupted, or the iterator or the consumer throws, the
+     * requests in flight are cancelled.
+     *
+     * @throws RestApiClientException
+     *             if the calling thread is interrupted.
+     */
+    void execute(Iterator<? extends Request<RequestType>> requests,
+            Consumer<? super BatchResult<ResponseType>> resultConsumer) {
+        isNotNull(REQUESTS_DISPLAY_NAME, requests);
+        isNotNull(RESULT_CONSUMER_DISPLAY_NAME, resultConsumer);
+
+        int index = 0;
+        try {
+            while (true) {
+                BatchResult<ResponseType> result;
+                while ((result = completed.poll()) != null) {
+                    consume(result, resultConsumer);
+                }
+                if (inFlight.size() < maxConcurrency && requests.hasNext()) {
+                    submit(index++, requests.next());
+                    continue;
+                }
+                if (inFlight.isEmpty()) {
+                    return;
+                }
+                consume(completed.take(), resultConsumer);
+            }
+        } catch (InterruptedException e) {
+            cancelInFlight();
+            Thread.currentThread().interrupt();
+            throw new RestApiClientException(BATCH_INTERRUPTED_MSG, e);
+        } catch (RuntimeException | Error e) {
+            cancelInFlight();
+            throw e;
+        }
+    }
+
+    private void submit(int index, Request<RequestType> request) {
+        CompletableFuture<Response<ResponseType>> future;
+        try {
+            isNotNull(REQUEST_DISPLAY_NAME, request);
+            future = executor.apply(request);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        inFlight.put(index, future);
+        future.whenComplete((response, e) -> completed.add(e == null
+                ? BatchResult.success(index, request, response)
+                : BatchResult.failure(index, request, unwrap(e))));
+    }
+
+    private void consume(BatchResult<ResponseType> result,
+            Consumer<? super BatchResult<ResponseType>> resultConsumer) {
+        inFlight.remove(result.getIndex());
+        resultConsumer.accept(result);
+    }
+
+    private void cancelInFlight() {
+        for (CompletableFuture<Response<ResponseType>> future : inFlight.values()) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+}
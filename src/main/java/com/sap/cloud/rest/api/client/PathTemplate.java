@@ -0,0 +1,264 @@
+package com.sap.cloud.rest.api.client;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static java.text.MessageFormat.format;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled, immutable template of a request path, e.g.
+ * <b>/accounts/{0}/entities/{1}</b>. The placeholders are numbered like the
+ * ones of {@link java.text.MessageFormat} and refer to the arguments passed to
+ * {@link #expand(Object...)}. A placeholder can be used more than once.
+ *
+ * The template is parsed once, so it should be created once per endpoint and
+ * kept in a constant. Each argument is converted with
+ * {@link String#valueOf(Object)} and encoded as a single path segment
+ * according to RFC 3986, so slashes, question marks and other reserved
+ * characters in the arguments cannot change the structure of the path.
+ * Arguments which are exactly <b>.</b> or <b>..</b> are encoded as
+ * <b>%2E</b> and <b>%2E%2E</b>, so they are not treated as dot segments.
+ * Numbers are not formatted, i.e. 12345 becomes <b>12345</b>. Characters of
+ * the template, which are not allowed in a path, are encoded too. Quotes have
+ * no special meaning.
+ */
+public final class PathTemplate {
+
+    static final String PATH_PATTERN_DISPLAY_NAME = "Path pattern";
+    static final String ARGUMENT_DISPLAY_NAME = "Path argument";
+
+    static final String INVALID_PLACEHOLDER_MSG = "Path pattern [{0}] contains an invalid placeholder at index {1}.";
+    static final String MISSING_ARGUMENT_MSG = "Path pattern [{0}] requires at least {1} arguments, but {2} were given.";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final String DOT_SEGMENT = ".";
+    private static final String DOUBLE_DOT_SEGMENT = "..";
+    private static final String ENCODED_DOT = "%2E";
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int requiredArguments;
+    private final int literalsLength;
+
+    private PathTemplate(String pattern, String[] literals, int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+
+        int maxIndex = -1;
+        for (int argumentIndex : argumentIndexes) {
+            maxIndex = Math.max(maxIndex, argumentIndex);
+        }
+        this.requiredArguments = maxIndex + 1;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Compiles the given path pattern.
+     *
+     * @param pattern
+     *            the path pattern with numbered placeholders, e.g.
+     *            <b>/entities/{0}</b>.
+     * @return the compiled template.
+     * @throws IllegalArgumentException
+     *             if a placeholder is not closed or is not a number.
+     */
+    public static PathTemplate compile(String pattern) {
+        isNotNull(PATH_PATTERN_DISPLAY_NAME, pattern);
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> argumentIndexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < pattern.length()) {
+            char current = pattern.charAt(position);
+            if (current != '{') {
+                literal.append(current);
+                position++;
+                continue;
+            }
+            int end = pattern.indexOf('}', position);
+            if (end < 0 || end == position + 1) {
+                throw new IllegalArgumentException(format(INVALID_PLACEHOLDER_MSG, pattern, position));
+            }
+            argumentIndexes.add(parseArgumentIndex(pattern, position, end));
+            literals.add(encode(literal.toString(), true));
+            literal.setLength(0);
+            position = end + 1;
+        }
+        literals.add(encode(literal.toString(), true));
+
+        int[] indexes = new int[argumentIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = argumentIndexes.get(i);
+        }
+        return new PathTemplate(pattern, literals.toArray(new String[literals.size()]), indexes);
+    }
+
+    private static int parseArgumentIndex(String pattern, int start, int end) {
+        int index = 0;
+        for (int i = start + 1; i < end; i++) {
+            char digit = pattern.charAt(i);
+            if (digit < '0' || digit > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+                throw new IllegalArgumentException(format(INVALID_PLACEHOLDER_MSG, pattern, start));
+            }
+            index = index * 10 + (digit - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Expands the template with the given arguments.
+     *
+     * @param args
+     *            the arguments for the placeholders, each encoded as a path
+     *            segment.
+     * @return the expanded and encoded path.
+     * @throws IllegalArgumentException
+     *             if an argument is missing or null.
+     */
+    public String expand(Object... args) {
+        int argumentCount = args == null ? 0 : args.length;
+        if (argumentCount < requiredArguments) {
+            throw new IllegalArgumentException(format(MISSING_ARGUMENT_MSG, pattern, requiredArguments,
+                    argumentCount));
+        }
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder path = new StringBuilder(literalsLength + 16 * argumentIndexes.length);
+        appendTo(path, args);
+        return path.toString();
+    }
+
+    void appendTo(StringBuilder path, Object[] args) {
+        path.append(literals[0]);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            Object argument = args[argumentIndexes[i]];
+            isNotNull(ARGUMENT_DISPLAY_NAME, argument);
+
+            appendSegment(path, String.valueOf(argument));
+            path.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Appends the argument encoded as a path segment. The dot segments
+     * <b>.</b> and <b>..</b> are encoded completely, since they would
+     * otherwise be removed or remove the preceding segment when the path is
+     * normalized.
+     */
+    private static void appendSegment(StringBuilder path, String argument) {
+        if (DOT_SEGMENT.equals(argument) || DOUBLE_DOT_SEGMENT.equals(argument)) {
+            for (int i = 0; i < argument.length(); i++) {
+                path.append(ENCODED_DOT);
+            }
+            return;
+        }
+        appendEncoded(path, argument, false);
+    }
+
+    int getRequiredArguments() {
+        return requiredArguments;
+    }
+
+    /**
+     * @return Returns the pattern the template was compiled from.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Encodes the given value for use in a URI path.
+     *
+     * @param value
+     *            the value to encode.
+     * @param keepSlashes
+     *            whether slashes separate segments and are kept, or are part
+     *            of a segment and are encoded.
+     * @return the encoded value.
+     */
+    static String encode(String value, boolean keepSlashes) {
+        if (isEncoded(value, keepSlashes)) {
+            return value;
+        }
+        StringBuilder encoded = new StringBuilder(value.length() + 16);
+        appendEncoded(encoded, value, keepSlashes);
+        return encoded.toString();
+    }
+
+    private static void appendEncoded(StringBuilder target, String value, boolean keepSlashes) {
+        if (isEncoded(value, keepSlashes)) {
+            target.append(value);
+            return;
+        }
+        for (byte character : value.getBytes(StandardCharsets.UTF_8)) {
+            if (character >= 0 && isAllowed((char) character, keepSlashes)) {
+                target.append((char) character);
+            } else {
+                target.append('%')
+                        .append(HEX_DIGITS[(character >> 4) & 0x0F])
+                        .append(HEX_DIGITS[character & 0x0F]);
+            }
+        }
+    }
+
+    private static boolean isEncoded(String value, boolean keepSlashes) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAllowed(value.charAt(i), keepSlashes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the character is a <b>pchar</b> of RFC 3986, which is not a
+     * percent encoding, or a slash, if slashes are kept.
+     */
+    private static boolean isAllowed(char character, boolean keepSlashes) {
+        if ((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9')) {
+            return true;
+        }
+        switch (character) {
+        case '-':
+        case '.':
+        case '_':
+        case '~':
+        case '!':
+        case '$':
+        case '&':
+        case '\'':
+        case '(':
+        case ')':
+        case '*':
+        case '+':
+        case ',':
+        case ';':
+        case '=':
+        case ':':
+        case '@':
+            return true;
+        case '/':
+            return keepSlashes;
+        default:
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.sap.cloud.rest.api.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+/**
+ * A multipart body, which writes {@link Properties} in the format of
+ * {@link Properties#store(OutputStream, String)} directly to the stream of
+ * the request while it is sent, instead of storing them in a byte array
+ * first. Each line is escaped and encoded on its own, without the buffered
+ * writer {@link Properties#store(OutputStream, String)} creates for every
+ * call. Its length is not known in advance, so a multipart entity with such
+ * a body is sent in chunks.
+ */
+class PropertiesBody extends AbstractContentBody {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final Properties properties;
+    private final String filename;
+
+    PropertiesBody(Properties properties, String filename) {
+        super(ContentType.DEFAULT_BINARY);
+        this.properties = properties;
+        this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        String lineSeparator = System.lineSeparator();
+        StringBuilder line = new StringBuilder(64);
+        writeLine(outStream, line.append('#').append(new Date()).append(lineSeparator));
+        synchronized (properties) {
+            for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+                line.setLength(0);
+                appendEscaped(line, (String) entry.getKey(), true);
+                line.append('=');
+                appendEscaped(line, (String) entry.getValue(), false);
+                writeLine(outStream, line.append(lineSeparator));
+            }
+        }
+        outStream.flush();
+    }
+
+    private static void writeLine(OutputStream outStream, StringBuilder line) throws IOException {
+        outStream.write(line.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Escapes the string like {@link Properties#store(OutputStream, String)},
+     * i.e. escapes special characters with a backslash and characters outside
+     * of printable ASCII as unicode escapes.
+     */
+    private static void appendEscaped(StringBuilder line, String string, boolean escapeSpace) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c > 61 && c < 127) {
+                line.append(c == '\\' ? "\\\\" : String.valueOf(c));
+                continue;
+            }
+            switch (c) {
+            case ' ':
+                line.append(i == 0 || escapeSpace ? "\\ " : " ");
+                break;
+            case '\t':
+                line.append("\\t");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                line.append("\\r");
+                break;
+            case '\f':
+                line.append("\\f");
+                break;
+            case '=':
+            case ':':
+            case '#':
+            case '!':
+                line.append('\\').append(c);
+                break;
+            default:
+                if (c < 0x0020 || c > 0x007e) {
+                    line.append("\\u")
+                            .append(HEX_DIGITS[(c >> 12) & 0xF])
+                            .append(HEX_DIGITS[(c >> 8) & 0xF])
+                            .append(HEX_DIGITS[(c >> 4) & 0xF])
+                            .append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    line.append(c);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+}
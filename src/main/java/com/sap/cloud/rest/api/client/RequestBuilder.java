@@ -4,34 +4,45 @@ import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrN
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
 import static java.text.MessageFormat.format;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.EntityBuilder;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.entity.mime.content.InputStreamBody;
+import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.message.BasicNameValuePair;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.sap.cloud.rest.api.client.compression.CompressingEntity;
+import com.sap.cloud.rest.api.client.compression.ContentEncoding;
 import com.sap.cloud.rest.api.client.exceptions.RequestBuilderException;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
 import com.sap.cloud.rest.api.client.model.Request;
 import com.sap.cloud.rest.api.client.model.multipart.EntityPart;
 import com.sap.cloud.rest.api.client.model.multipart.MultipartEntity;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
 
 /**
  * A builder for {@link Request}s. Initialize using the static methods to create
@@ -40,11 +51,25 @@ import com.sap.cloud.rest.api.client.model.multipart.MultipartEntity;
  * Supports JSON deserialization for POST, PUT and PATCH requests, using Jackson
  * library. To use it pass the type of the object you want to deserialize as a
  * {@link Class} object when initializing the builder and then pass an object of
- * type {@link T} to the entity method. <BR>
+ * type {@link T} to the entity method. The writers are taken from an
+ * {@link ObjectMapperRegistry}, by default the one shared across the library.
+ * <BR>
  * 
  * Supports multipart requests. To build a multipart {@link Request}, add entity
- * parts using the multipartEntity method and build the request with the
- * buildMultipart method.
+ * parts using the multipartEntity and multipartFile methods and build the
+ * request with the buildMultipart method. The parts are written while the
+ * request is sent, files are streamed from disk.
+ * <BR>
+ * 
+ * Supports request bodies from a file, a stream or a byte buffer, which are
+ * sent as they are, without converting them to a String. A file is streamed
+ * while it is sent instead of being read into memory.
+ * <BR>
+ * 
+ * Supports compressing the request body with gzip or deflate. The body is
+ * compressed while it is sent, whatever its size. To compress only large
+ * bodies of all requests of a client, configure its request compression policy
+ * instead.
  *
  * @param <T>
  *            the type of the {@link Request} that will be build. If no
@@ -57,63 +82,100 @@ public class RequestBuilder<T> {
     static final String FAILED_TO_BUILD_REQUEST_OBJECT_MSG = "Failed to build request object. ";
     static final String FAILED_TO_PARSE_ENTITY_TO_JSON_MSG = "Failed to parse entity [{0}] to json.";
     static final String FAILED_TO_SET_URI_X_MSG = "Failed to set URI. Provided URI [{0}] is invalid.";
+    static final String FILE_NOT_READABLE_MSG = "File [{0}] is not a readable regular file.";
 
     static final String ADDING_QUERY_PARAMS_FAILED_MSG = "Adding query parameters failed.";
     static final String URI_IS_NOT_SET_MSG = "URI is not set.";
 
     static final String ENTITY_DISPLAY_NAME = "Entity";
     static final String NAME_DISPLAY_NAME = "Name";
+    static final String OBJECT_MAPPER_REGISTRY_DISPLAY_NAME = "Object mapper registry";
+    static final String TIMEOUT_CONFIG_DISPLAY_NAME = "Timeout config";
+    static final String ROUTE_DISPLAY_NAME = "Route";
+    static final String PATH_TEMPLATE_DISPLAY_NAME = "Path template";
+    static final String CONTENT_ENCODING_DISPLAY_NAME = "Content encoding";
+    static final String CONTENT_TYPE_DISPLAY_NAME = "Content type";
 
     private org.apache.http.client.methods.RequestBuilder requestBuilder;
     private MultipartEntityBuilder multipartEntityBuilder;
     private EntityBuilder entityBuilder;
 
     private List<NameValuePair> parameters;
-    private ObjectMapper objectMapper;
+    private ObjectMapperRegistry objectMapperRegistry;
     private List<EntityPart<T>> multipartEntities;
+    private List<EntityPart<Path>> multipartFiles;
     private T entity;
+    private HttpEntity bodyEntity;
+    private TimeoutConfig timeoutConfig;
+    private String route;
+    private ContentEncoding contentEncoding;
 
     public static <T> RequestBuilder<T> postRequest(Class<T> clazz) {
-        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.post());
+        return postRequest(clazz, ObjectMapperRegistry.getDefault());
+    }
+
+    public static <T> RequestBuilder<T> postRequest(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
+        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.post(), objectMapperRegistry);
     }
 
     public static <T> RequestBuilder<T> putRequest(Class<T> clazz) {
-        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.put());
+        return putRequest(clazz, ObjectMapperRegistry.getDefault());
+    }
+
+    public static <T> RequestBuilder<T> putRequest(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
+        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.put(), objectMapperRegistry);
     }
 
     public static <T> RequestBuilder<T> patchRequest(Class<T> clazz) {
-        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.patch());
+        return patchRequest(clazz, ObjectMapperRegistry.getDefault());
+    }
+
+    public static <T> RequestBuilder<T> patchRequest(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
+        return new RequestBuilder<T>(org.apache.http.client.methods.RequestBuilder.patch(), objectMapperRegistry);
     }
 
     public static RequestBuilder<String> patchRequest() {
-        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.patch());
+        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.patch(),
+                ObjectMapperRegistry.getDefault());
     }
 
     public static RequestBuilder<String> getRequest() {
-        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.get());
+        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.get(),
+                ObjectMapperRegistry.getDefault());
     }
 
     public static RequestBuilder<String> postRequest() {
-        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.post());
+        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.post(),
+                ObjectMapperRegistry.getDefault());
     }
 
     public static RequestBuilder<String> putRequest() {
-        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.put());
+        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.put(),
+                ObjectMapperRegistry.getDefault());
     }
 
     public static RequestBuilder<String> deleteRequest() {
-        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.delete());
+        return new RequestBuilder<>(org.apache.http.client.methods.RequestBuilder.delete(),
+                ObjectMapperRegistry.getDefault());
     }
 
-    private RequestBuilder(org.apache.http.client.methods.RequestBuilder requestBuilder) {
+    private RequestBuilder(org.apache.http.client.methods.RequestBuilder requestBuilder,
+            ObjectMapperRegistry objectMapperRegistry) {
+        isNotNull(OBJECT_MAPPER_REGISTRY_DISPLAY_NAME, objectMapperRegistry);
+
         this.requestBuilder = requestBuilder;
         this.entityBuilder = EntityBuilder.create().setContentType(ContentType.APPLICATION_JSON);
         this.multipartEntityBuilder = MultipartEntityBuilder.create();
 
         this.parameters = new ArrayList<>();
-        this.objectMapper = new ObjectMapper();
+        this.objectMapperRegistry = objectMapperRegistry;
         this.multipartEntities = new ArrayList<>();
+        this.multipartFiles = new ArrayList<>();
         this.entity = null;
+        this.bodyEntity = null;
+        this.timeoutConfig = null;
+        this.route = null;
+        this.contentEncoding = null;
     }
 
     public RequestBuilder<T> uri(String uri) {
@@ -160,6 +222,79 @@ public class RequestBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets the timeouts of the request. They replace the timeouts of the client
+     * as a whole, i.e. a timeout which is not set in the given
+     * {@link TimeoutConfig} has its default value and not the value configured
+     * for the client.
+     * 
+     * @param timeoutConfig the timeouts of the request
+     * @return RequestBuilder instance.
+     */
+    public RequestBuilder<T> timeouts(TimeoutConfig timeoutConfig) {
+        isNotNull(TIMEOUT_CONFIG_DISPLAY_NAME, timeoutConfig);
+
+        requestBuilder.setConfig(timeoutConfig.toRequestConfig());
+        this.timeoutConfig = timeoutConfig;
+        return this;
+    }
+
+    /**
+     * Sets the route template the request path was built from, e.g.
+     * <b>/entities/{0}</b>. The metrics of the request are tagged with it, so
+     * that requests to the same endpoint share their metrics whatever the
+     * values of their path parameters.
+     * 
+     * @param route the route template of the request
+     * @return RequestBuilder instance.
+     */
+    public RequestBuilder<T> route(String route) {
+        isNotNull(ROUTE_DISPLAY_NAME, route);
+
+        this.route = route;
+        return this;
+    }
+
+    /**
+     * Sets the pattern of the given path template as the route template of the
+     * request.
+     * 
+     * @param pathTemplate the path template the request path was built from
+     * @return RequestBuilder instance.
+     * @see #route(String)
+     */
+    public RequestBuilder<T> route(PathTemplate pathTemplate) {
+        isNotNull(PATH_TEMPLATE_DISPLAY_NAME, pathTemplate);
+
+        return route(pathTemplate.getPattern());
+    }
+
+    /**
+     * Compresses the request body with gzip.
+     * 
+     * @return RequestBuilder instance.
+     * @see #compress(ContentEncoding)
+     */
+    public RequestBuilder<T> compress() {
+        return compress(ContentEncoding.GZIP);
+    }
+
+    /**
+     * Compresses the request body with the given encoding and sets the
+     * <b>Content-Encoding</b> header accordingly. The body is compressed as a
+     * stream while it is sent, so it is sent in chunks without a
+     * <b>Content-Length</b> header. The server must accept the encoding.
+     * 
+     * @param contentEncoding the encoding to compress the request body with
+     * @return RequestBuilder instance.
+     */
+    public RequestBuilder<T> compress(ContentEncoding contentEncoding) {
+        isNotNull(CONTENT_ENCODING_DISPLAY_NAME, contentEncoding);
+
+        this.contentEncoding = contentEncoding;
+        return this;
+    }
+
     /**
      * Sets an entity as request body. If the entity is not of type
      * {@link String} it is deserialized using Jackson.
@@ -175,23 +310,141 @@ public class RequestBuilder<T> {
         if (entity instanceof String) {
             entityBuilder.setText((String) entity);
             this.entity = entity;
+            this.bodyEntity = null;
             return this;
         }
         try {
-            entityBuilder.setText(objectMapper.writeValueAsString(entity));
+            entityBuilder.setText(objectMapperRegistry.getWriter(entity.getClass()).writeValueAsString(entity));
             this.entity = entity;
+            this.bodyEntity = null;
             return this;
         } catch (JsonProcessingException e) {
             throw new RequestBuilderException(format(FAILED_TO_PARSE_ENTITY_TO_JSON_MSG, entity), e);
         }
     }
 
+    /**
+     * Sets the content of a file as request body with the content type
+     * <b>application/octet-stream</b>.
+     * 
+     * @param path the file
+     * @return request builder
+     * @see #fileEntity(Path, ContentType)
+     */
+    public RequestBuilder<T> fileEntity(Path path) {
+        return fileEntity(path, ContentType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * Sets the content of a file as request body. The file is streamed while
+     * the request is sent, in chunks of a few kilobytes, so it is not loaded
+     * into memory. Its length is sent as <b>Content-Length</b> header, unless
+     * the body is compressed. The file is read again if the request is
+     * retried.
+     * 
+     * @param path the file
+     * @param contentType the content type of the file
+     * @return request builder
+     * @throws RequestBuilderException
+     *             if the file is not a readable regular file
+     */
+    public RequestBuilder<T> fileEntity(Path path, ContentType contentType) {
+        isNotNull(ENTITY_DISPLAY_NAME, path);
+        isNotNull(CONTENT_TYPE_DISPLAY_NAME, contentType);
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new RequestBuilderException(format(FILE_NOT_READABLE_MSG, path));
+        }
+
+        return bodyEntity(new FileEntity(path.toFile(), contentType));
+    }
+
+    /**
+     * Sets the content of a stream as request body with the content type
+     * <b>application/octet-stream</b>.
+     * 
+     * @param inStream the stream
+     * @param length the number of bytes of the stream or a negative number if
+     *            it is not known
+     * @return request builder
+     * @see #streamEntity(InputStream, long, ContentType)
+     */
+    public RequestBuilder<T> streamEntity(InputStream inStream, long length) {
+        return streamEntity(inStream, length, ContentType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * Sets the content of a stream as request body. The stream is read while
+     * the request is sent and closed afterwards. If its length is known, it
+     * is sent as <b>Content-Length</b> header, otherwise the body is sent in
+     * chunks. A stream can be sent only once, so the request cannot be
+     * retried after it has been sent.
+     * 
+     * @param inStream the stream
+     * @param length the number of bytes of the stream or a negative number if
+     *            it is not known
+     * @param contentType the content type of the stream
+     * @return request builder
+     */
+    public RequestBuilder<T> streamEntity(InputStream inStream, long length, ContentType contentType) {
+        isNotNull(ENTITY_DISPLAY_NAME, inStream);
+        isNotNull(CONTENT_TYPE_DISPLAY_NAME, contentType);
+
+        return bodyEntity(new InputStreamEntity(inStream, length < 0 ? -1 : length, contentType));
+    }
+
+    /**
+     * Sets the remaining bytes of a buffer as request body with the content
+     * type <b>application/octet-stream</b>.
+     * 
+     * @param buffer the buffer
+     * @return request builder
+     * @see #bufferEntity(ByteBuffer, ContentType)
+     */
+    public RequestBuilder<T> bufferEntity(ByteBuffer buffer) {
+        return bufferEntity(buffer, ContentType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * Sets the bytes between the position and the limit of a buffer as
+     * request body, with their number as <b>Content-Length</b> header. The
+     * position of the buffer is not changed. The array of a heap buffer is
+     * sent as it is, so it must not be modified until the request has been
+     * executed. The bytes of a direct buffer are copied.
+     * 
+     * @param buffer the buffer
+     * @param contentType the content type of the bytes
+     * @return request builder
+     */
+    public RequestBuilder<T> bufferEntity(ByteBuffer buffer, ContentType contentType) {
+        isNotNull(ENTITY_DISPLAY_NAME, buffer);
+        isNotNull(CONTENT_TYPE_DISPLAY_NAME, contentType);
+
+        if (buffer.hasArray()) {
+            return bodyEntity(new ByteArrayEntity(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining(), contentType));
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bodyEntity(new ByteArrayEntity(bytes, contentType));
+    }
+
+    private RequestBuilder<T> bodyEntity(HttpEntity bodyEntity) {
+        this.bodyEntity = bodyEntity;
+        this.entity = null;
+        return this;
+    }
+
     /**
      * Adds an entity part to the request builder in case a multipart request is
      * to be created. The {@link Request} object is to be build with the
      * buildMultipart() method instead of the normal build() method in order to
      * use multipart entities that are set.
      * 
+     * A {@link String} is added as text part. Any other entity is converted to
+     * {@link Properties} with Jackson and added as binary part in the format of
+     * {@link Properties#store(java.io.OutputStream, String)}. The properties
+     * are written directly to the request while it is sent.
+     * 
      * @param name the name of the entity part
      * @param entity an entity representing the part
      * @throws RequestBuilderException
@@ -205,21 +458,65 @@ public class RequestBuilder<T> {
         if (entity instanceof String) {
             multipartEntityBuilder.addTextBody(name, (String) entity);
         } else {
-            try {
-                String jsonObj = objectMapper.writeValueAsString(entity);
-                Properties props = objectMapper.readValue(jsonObj, Properties.class);
+            multipartEntityBuilder.addPart(name, new PropertiesBody(convertToProperties(entity), name));
+        }
 
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                props.store(outputStream, null);
-                ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+        this.multipartEntities.add(new EntityPart<>(name, entity));
+        return this;
+    }
 
-                multipartEntityBuilder.addPart(name, new InputStreamBody(inputStream, name));
-            } catch (IOException e) {
-                throw new RequestBuilderException(format(FAILED_TO_PARSE_ENTITY_TO_JSON_MSG, entity), e);
+    /**
+     * Converts the entity to {@link Properties} through a buffer of JSON
+     * tokens, so that it is not written to and parsed from JSON text.
+     */
+    private Properties convertToProperties(T entity) {
+        try (TokenBuffer buffer = new TokenBuffer(objectMapperRegistry.getObjectMapper(), false)) {
+            objectMapperRegistry.getWriter(entity.getClass()).writeValue(buffer, entity);
+            try (JsonParser parser = buffer.asParser()) {
+                return objectMapperRegistry.getReader(Properties.class).readValue(parser);
             }
+        } catch (IOException e) {
+            throw new RequestBuilderException(format(FAILED_TO_PARSE_ENTITY_TO_JSON_MSG, entity), e);
         }
+    }
 
-        this.multipartEntities.add(new EntityPart<>(name, entity));
+    /**
+     * Adds a file part with the content type <b>application/octet-stream</b>
+     * to the request builder in case a multipart request is to be created.
+     * 
+     * @param name the name of the file part
+     * @param path the file
+     * @return RequestBuilder instance.
+     * @see #multipartFile(String, Path, ContentType)
+     */
+    public RequestBuilder<T> multipartFile(String name, Path path) {
+        return multipartFile(name, path, ContentType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * Adds a file part to the request builder in case a multipart request is
+     * to be created. The file is streamed from disk while the request is sent,
+     * so it is not loaded into memory. The name of the file is sent as file
+     * name of the part.
+     * 
+     * @param name the name of the file part
+     * @param path the file
+     * @param contentType the content type of the file
+     * @throws RequestBuilderException
+     *             if the file is not a readable regular file
+     * @return RequestBuilder instance.
+     */
+    public RequestBuilder<T> multipartFile(String name, Path path, ContentType contentType) {
+        isNotEmptyOrNull(NAME_DISPLAY_NAME, name);
+        isNotNull(ENTITY_DISPLAY_NAME, path);
+        isNotNull(CONTENT_TYPE_DISPLAY_NAME, contentType);
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new RequestBuilderException(format(FILE_NOT_READABLE_MSG, path));
+        }
+
+        multipartEntityBuilder.addPart(name, new FileBody(path.toFile(), contentType,
+                path.getFileName().toString()));
+        this.multipartFiles.add(new EntityPart<>(name, path));
         return this;
     }
 
@@ -239,11 +536,13 @@ public class RequestBuilder<T> {
         if (!parameters.isEmpty()) {
             this.uri(getUriWithParametersSet());
         }
-        if (entity != null) {
-            requestBuilder.setEntity(entityBuilder.build());
+        if (bodyEntity != null) {
+            requestBuilder.setEntity(compressEntity(bodyEntity));
+        } else if (entity != null) {
+            requestBuilder.setEntity(compressEntity(entityBuilder.build()));
         }
 
-        return new Request<>(requestBuilder.build(), entity);
+        return new Request<>(requestBuilder.build(), entity, timeoutConfig, route);
     }
 
     /**
@@ -262,11 +561,16 @@ public class RequestBuilder<T> {
         if (!parameters.isEmpty()) {
             this.uri(getUriWithParametersSet());
         }
-        if (!multipartEntities.isEmpty()) {
-            requestBuilder.setEntity(multipartEntityBuilder.build());
+        if (!multipartEntities.isEmpty() || !multipartFiles.isEmpty()) {
+            requestBuilder.setEntity(compressEntity(multipartEntityBuilder.build()));
         }
 
-        return new Request<>(requestBuilder.build(), new MultipartEntity<>(multipartEntities));
+        return new Request<>(requestBuilder.build(), new MultipartEntity<>(multipartEntities, multipartFiles),
+                timeoutConfig, route);
+    }
+
+    private HttpEntity compressEntity(HttpEntity httpEntity) {
+        return contentEncoding == null ? httpEntity : new CompressingEntity(httpEntity, contentEncoding);
     }
 
     protected String getUriWithParametersSet() {
@@ -0,0 +1,110 @@
+package com.sap.cloud.rest.api.client;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The deadline of a request, which covers all attempts and reading the
+ * response. When the deadline is exceeded, the given action is run once, e.g.
+ * to abort the request. The deadline must be cancelled when the request
+ * completes in time.
+ *
+ * The actions of all clients are run on one shared daemon thread, so they
+ * must be short and must not block.
+ */
+class RequestDeadline {
+
+    static final String THREAD_NAME = "rest-api-client-deadline";
+
+    static final RequestDeadline NONE = new RequestDeadline(0, Long.MAX_VALUE, null);
+
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+    private final ScheduledFuture<?> timer;
+
+    private volatile boolean exceeded;
+
+    private RequestDeadline(long timeoutMillis, long deadlineNanos, ScheduledFuture<?> timer) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = deadlineNanos;
+        this.timer = timer;
+    }
+
+    private RequestDeadline(long timeoutMillis, Runnable onExceeded) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.timer = Timer.EXECUTOR.schedule(() -> {
+            exceeded = true;
+            onExceeded.run();
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a deadline.
+     *
+     * @param timeoutMillis
+     *            the time in milliseconds until the deadline, or 0 for no
+     *            deadline.
+     * @param onExceeded
+     *            the action run when the deadline is exceeded.
+     * @return the started deadline, or {@link #NONE} if the timeout is 0.
+     */
+    static RequestDeadline start(long timeoutMillis, Runnable onExceeded) {
+        if (timeoutMillis <= 0) {
+            return NONE;
+        }
+        return new RequestDeadline(timeoutMillis, onExceeded);
+    }
+
+    /**
+     * @return Returns whether the deadline has been exceeded and its action
+     *         has been run.
+     */
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    /**
+     * @param delayMillis
+     *            a delay in milliseconds, e.g. before a retry.
+     * @return Returns whether the delay ends before the deadline.
+     */
+    boolean allowsDelay(long delayMillis) {
+        if (timer == null) {
+            return true;
+        }
+        return !exceeded && deadlineNanos - System.nanoTime() > TimeUnit.MILLISECONDS.toNanos(delayMillis);
+    }
+
+    long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Cancels the deadline. Its action is not run afterwards.
+     */
+    void cancel() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    /**
+     * Holds the timer thread, which is created on the first deadline.
+     */
+    private static class Timer {
+
+        static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
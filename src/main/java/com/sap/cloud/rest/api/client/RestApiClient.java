@@ -3,52 +3,139 @@ package com.sap.cloud.rest.api.client;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
 import static java.text.MessageFormat.format;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sap.cloud.rest.api.client.cache.CacheLookup;
+import com.sap.cloud.rest.api.client.cache.ResponseCache;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreaker;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerRegistry;
+import com.sap.cloud.rest.api.client.compression.CompressingEntity;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicy;
+import com.sap.cloud.rest.api.client.compression.DecompressingEntity;
 import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+import com.sap.cloud.rest.api.client.exceptions.CircuitBreakerOpenException;
 import com.sap.cloud.rest.api.client.exceptions.ConnectionException;
 import com.sap.cloud.rest.api.client.exceptions.ResponseException;
+import com.sap.cloud.rest.api.client.exceptions.RestApiClientException;
 import com.sap.cloud.rest.api.client.handler.DefaultResponseHandler;
 import com.sap.cloud.rest.api.client.handler.DefaultStatusCodeHandler;
 import com.sap.cloud.rest.api.client.handler.StatusCodeHandler;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolStatistics;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
 import com.sap.cloud.rest.api.client.http.HttpClientProviderFactory;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.metrics.MetricsListener;
+import com.sap.cloud.rest.api.client.metrics.RequestRecorder;
+import com.sap.cloud.rest.api.client.model.BatchResult;
 import com.sap.cloud.rest.api.client.model.HttpExchangeContext;
 import com.sap.cloud.rest.api.client.model.Request;
 import com.sap.cloud.rest.api.client.model.Response;
+import com.sap.cloud.rest.api.client.paging.PageIterator;
+import com.sap.cloud.rest.api.client.paging.PagingConfig;
+import com.sap.cloud.rest.api.client.paging.PagingStrategy;
+import com.sap.cloud.rest.api.client.retry.RetryHandler;
+import com.sap.cloud.rest.api.client.retry.RetryPolicy;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
 
 /**
  * A generic Java client for Rest API calls. Capable of executing a
  * {@link Request} and returning a {@link Response}. Requires an
  * {@link RestApiClientConfig} to construct. Provided with utility methods for
  * building the needed {@link URI} and {@link HttpEntity}.
+ * 
+ * Requests can also be executed asynchronously. The asynchronous HTTP client is
+ * created on the first asynchronous request and runs all requests on a small
+ * number of non-blocking I/O threads.
+ * 
+ * If the configuration has a {@link ResponseCache}, fresh cached responses to
+ * GET requests are returned without a request and stale ones are revalidated
+ * with a conditional request. Cached responses are still passed to the
+ * response and status code handlers.
+ * 
+ * The metrics of the requests are reported to the {@link MetricsListener} of
+ * the configuration. The phases of synchronous requests, from leasing a
+ * connection to deserializing the response, are measured when the HTTP client
+ * is created by the providers of the library. Asynchronous requests report
+ * their total duration and the time spent reading and deserializing the
+ * response.
+ * 
+ * Request bodies are compressed according to the {@link CompressionPolicy} of
+ * the configuration, unless the {@link RequestBuilder} compressed them
+ * already. Gzip and deflate encoded response bodies are decompressed while
+ * they are read, up to the maximum decompressed size of the configuration.
+ * 
+ * The items of paginated list APIs can be iterated over with
+ * {@link #executePaged(Request, Class, PagingConfig)}, which prefetches the
+ * next pages while the caller consumes the current one.
  */
-public abstract class RestApiClient {
+public abstract class RestApiClient implements Closeable {
 
     static final String IO_EXCEPTION_WHILE_HANDLING_RESPONSE_MSG = "IOException occurred while handling response. Context: [{0}].";
     static final String IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG = "IOException occurred while executing request. Request: [{0}].";
     static final String PATH_NOT_VALID_MSG = "The given path is not a valid URI.";
     static final String HOST_NOT_VALID_MSG = "Host [{0}] is not a valid URI.";
+    static final String CLIENT_CLOSED_MSG = "The client has been closed.";
+    static final String CIRCUIT_BREAKER_OPEN_MSG = "The circuit breaker of route [{0}] is open. Request [{1}] was not executed.";
+    static final String RETRY_INTERRUPTED_MSG = "Interrupted while waiting to retry the request.";
+    static final String REQUEST_TIMEOUT_EXCEEDED_MSG = "Request [{0}] did not complete within its timeout of {1} milliseconds.";
+    static final String REQUEST_TIMEOUT_MSG = "Request timeout of {0} milliseconds exceeded.";
 
     static final String HTTP_CLIENT_PROVIDER_DISPLAY_NAME = "HTTP client provider";
     static final String CONFIG_DISPLAY_NAME = "Configuration";
+    static final String PATH_TEMPLATE_DISPLAY_NAME = "Path template";
+
+    private static final PathTemplate EMPTY_PATH = PathTemplate.compile("");
 
     private final HttpClient httpClient;
+    private final HttpClientProvider httpClientProvider;
+    private final HttpClientProvider ownedHttpClientProvider;
+    private final HttpRoutePlanner routePlanner;
     private final URL host;
+    private final ObjectMapperRegistry objectMapperRegistry;
+    private final RetryHandler retryHandler;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeoutConfig timeoutConfig;
+    private final ResponseCache responseCache;
+    private final MetricsListener metricsListener;
+    private final CompressionPolicy requestCompression;
+    private final long maxDecompressedResponseSizeBytes;
+
+    private volatile String baseUri;
+    private volatile String baseUriSuffix;
+
+    private final Object httpAsyncClientLock = new Object();
+    private volatile CloseableHttpAsyncClient httpAsyncClient;
+    private boolean closed;
 
     /**
      * Creates a {@link RestApiClient} instance with the given configuration.
@@ -61,7 +148,18 @@ public abstract class RestApiClient {
                 .createHttpClientProvider(restApiClientConfig);
 
         this.httpClient = httpClientProvider.createHttpClient(restApiClientConfig.getRoutePlanner());
+        this.httpClientProvider = httpClientProvider;
+        this.ownedHttpClientProvider = httpClientProvider;
+        this.routePlanner = restApiClientConfig.getRoutePlanner();
         this.host = getHostAsURL(restApiClientConfig.getHost());
+        this.objectMapperRegistry = restApiClientConfig.getObjectMapperRegistry();
+        this.retryHandler = new RetryHandler(restApiClientConfig.getRetryPolicy());
+        this.circuitBreakerRegistry = new CircuitBreakerRegistry(restApiClientConfig.getCircuitBreakerConfig());
+        this.timeoutConfig = restApiClientConfig.getTimeoutConfig();
+        this.responseCache = restApiClientConfig.getResponseCache();
+        this.metricsListener = restApiClientConfig.getMetricsListener();
+        this.requestCompression = restApiClientConfig.getRequestCompression();
+        this.maxDecompressedResponseSizeBytes = restApiClientConfig.getMaxDecompressedResponseSizeBytes();
     }
 
     /**
@@ -77,7 +175,18 @@ public abstract class RestApiClient {
         isNotNull(CONFIG_DISPLAY_NAME, restApiClientConfig);
 
         this.httpClient = httpClientProvider.createHttpClient(restApiClientConfig.getRoutePlanner());
+        this.httpClientProvider = httpClientProvider;
+        this.ownedHttpClientProvider = null;
+        this.routePlanner = restApiClientConfig.getRoutePlanner();
         this.host = getHostAsURL(restApiClientConfig.getHost());
+        this.objectMapperRegistry = restApiClientConfig.getObjectMapperRegistry();
+        this.retryHandler = new RetryHandler(restApiClientConfig.getRetryPolicy());
+        this.circuitBreakerRegistry = new CircuitBreakerRegistry(restApiClientConfig.getCircuitBreakerConfig());
+        this.timeoutConfig = restApiClientConfig.getTimeoutConfig();
+        this.responseCache = restApiClientConfig.getResponseCache();
+        this.metricsListener = restApiClientConfig.getMetricsListener();
+        this.requestCompression = restApiClientConfig.getRequestCompression();
+        this.maxDecompressedResponseSizeBytes = restApiClientConfig.getMaxDecompressedResponseSizeBytes();
     }
 
     private URL getHostAsURL(String host) {
@@ -88,6 +197,40 @@ public abstract class RestApiClient {
         }
     }
 
+    /**
+     * Returns the registry of the {@link ObjectMapper} configured for the
+     * client. Pass it to the {@link RequestBuilder} and the response handlers
+     * so that they use the configured mapper and share its cached readers and
+     * writers.
+     *
+     * @return the object mapper registry.
+     */
+    protected ObjectMapperRegistry getObjectMapperRegistry() {
+        return objectMapperRegistry;
+    }
+
+    /**
+     * Returns the listener, which receives the metrics of the requests of the
+     * client, e.g. to report further metrics of a subclass.
+     *
+     * @return the metrics listener.
+     */
+    protected MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Returns the numbers of leased, available and pending connections of the
+     * connection pools of the client in total and per route. If the client
+     * was created with a custom {@link HttpClientProvider}, the statistics
+     * cover the pools of all clients created by the provider.
+     *
+     * @return the connection pool statistics.
+     */
+    public ConnectionPoolStatistics getConnectionPoolStatistics() {
+        return httpClientProvider.getConnectionPoolStatistics();
+    }
+
     /**
      * An abstract method that should be overridden. Implementation should
      * return the API path of the client as String.
@@ -97,23 +240,56 @@ public abstract class RestApiClient {
     protected abstract String getApiPath();
 
     /**
-     * Construct a URI appending a provided path to the host and API path.
+     * Construct a URI appending a provided path to the host and API path. The
+     * pattern is compiled to a {@link PathTemplate} on each call. Prefer
+     * {@link #buildRequestUri(PathTemplate, Object...)} with a template kept
+     * in a constant.
+     * 
+     * Each argument is encoded as a single path segment, so slashes in the
+     * arguments are encoded as <b>%2F</b>. Callers which passed arguments
+     * consisting of several segments, e.g. <b>a/b</b>, to build a deeper
+     * path have to put the segments into the pattern or pass each of them as
+     * an argument of its own.
      * 
      * @param pathPattern
-     *            pattern used to build the path in the format of
-     *            {@link MessageFormat}
+     *            pattern used to build the path with numbered placeholders
+     *            like the ones of {@link MessageFormat}, as described in
+     *            {@link PathTemplate}
      * @param args
-     *            arguments used the build the path
+     *            arguments used the build the path, each encoded as a path
+     *            segment
      * @return the constructed URI object
      */
     protected URI buildRequestUri(String pathPattern, Object... args) {
-        String requestPath = format(pathPattern, args);
+        return buildRequestUri(PathTemplate.compile(pathPattern), args);
+    }
+
+    /**
+     * Construct a URI appending the expanded path template to the host and API
+     * path.
+     * 
+     * @param pathTemplate
+     *            template of the path
+     * @param args
+     *            arguments used the build the path, each encoded as a path
+     *            segment
+     * @return the constructed URI object
+     */
+    protected URI buildRequestUri(PathTemplate pathTemplate, Object... args) {
+        isNotNull(PATH_TEMPLATE_DISPLAY_NAME, pathTemplate);
+        String expandedPath = pathTemplate.expand(args);
+        String base = getBaseUri();
+        String suffix = baseUriSuffix;
 
         try {
-            URI uri = host.toURI();
-            return new URIBuilder(uri)
-                    .setPath(uri.getPath() + getApiPath() + requestPath)
-                    .build();
+            if (expandedPath.isEmpty() && suffix.isEmpty()) {
+                return new URI(base);
+            }
+            return new URI(new StringBuilder(base.length() + expandedPath.length() + suffix.length())
+                    .append(base)
+                    .append(expandedPath)
+                    .append(suffix)
+                    .toString());
         } catch (URISyntaxException e) {
             throw new IllegalArgumentException(PATH_NOT_VALID_MSG, e);
         }
@@ -125,7 +301,36 @@ public abstract class RestApiClient {
      * @return the constructed URI object
      */
     protected URI buildRequestUri() {
-        return buildRequestUri("");
+        return buildRequestUri(EMPTY_PATH);
+    }
+
+    /**
+     * Returns the host and the encoded API path, which are the same for every
+     * request. They are computed on first use, since the API path is provided
+     * by the subclass.
+     */
+    private String getBaseUri() {
+        String base = baseUri;
+        if (base == null) {
+            try {
+                URI hostUri = host.toURI();
+                StringBuilder suffix = new StringBuilder();
+                if (hostUri.getRawQuery() != null) {
+                    suffix.append('?').append(hostUri.getRawQuery());
+                }
+                if (hostUri.getRawFragment() != null) {
+                    suffix.append('#').append(hostUri.getRawFragment());
+                }
+                String hostPath = hostUri.getRawPath() == null ? "" : hostUri.getRawPath();
+                base = hostUri.getScheme() + "://" + hostUri.getRawAuthority() + hostPath
+                        + PathTemplate.encode(getApiPath(), true);
+                baseUriSuffix = suffix.toString();
+                baseUri = base;
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(PATH_NOT_VALID_MSG, e);
+            }
+        }
+        return base;
     }
 
     /**
@@ -196,7 +401,8 @@ public abstract class RestApiClient {
 
     /**
      * Executes a {@link Request} using custom {@link ResponseHandler} and
-     * {@link StatusCodeHandler}.
+     * {@link StatusCodeHandler}. If the request has a request timeout, the
+     * request is aborted when it does not complete in time.
      * 
      * @param <RequestType>
      *            the type of the request body
@@ -210,7 +416,8 @@ public abstract class RestApiClient {
      *            the custom response handler.
      * @return a {@link Response} object constructed from the HTTP response.
      * @throws ConnectionException
-     *             thrown in case of an {@link IOException}.
+     *             thrown in case of an {@link IOException} or if the request
+     *             timeout is exceeded.
      * @throws ResponseException
      *             may be thrown by the status code handler or in case of an
      *             {@link IOException} while handling response.
@@ -218,42 +425,687 @@ public abstract class RestApiClient {
     protected <RequestType, ResponseType> Response<ResponseType> execute(Request<RequestType> request,
             ResponseHandler<ResponseType> responseHandler, StatusCodeHandler statusCodeHandler)
             throws ConnectionException, ResponseException {
+        RequestRecorder recorder = RequestRecorder.start(metricsListener, request.getHttpRequest(),
+                request.getRoute());
         try {
-            HttpResponse httpResponse = httpClient.execute(request.getHttpRequest());
-            return handleResponse(request, httpResponse, responseHandler, statusCodeHandler);
-        } catch (IOException e) {
-            throw new ConnectionException(format(IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG, request), e,
-                    getStringRequest(request));
+            Response<ResponseType> response = execute(request, responseHandler, statusCodeHandler, recorder);
+            recorder.onCompleted(null);
+            return response;
+        } catch (RuntimeException e) {
+            recorder.onCompleted(e);
+            throw e;
         }
     }
 
-    private <RequestType, ResponseType> Response<ResponseType> handleResponse(Request<RequestType> request,
-            HttpResponse httpResponse, ResponseHandler<ResponseType> responseHandler,
+    private <RequestType, ResponseType> Response<ResponseType> execute(Request<RequestType> request,
+            ResponseHandler<ResponseType> responseHandler, StatusCodeHandler statusCodeHandler,
+            RequestRecorder recorder) {
+        CacheLookup cacheLookup = lookupCache(request);
+        HttpResponse cachedResponse = cacheLookup.getFreshResponse();
+        if (cachedResponse != null) {
+            recorder.onCacheHit();
+            return handleResponse(request, cachedResponse, CacheLookup.NONE, responseHandler, statusCodeHandler,
+                    recorder);
+        }
+        Request<RequestType> exchangeRequest = compressEntity(addHeaders(request,
+                cacheLookup.getConditionalHeaders()));
+        HttpUriRequest httpRequest = exchangeRequest.getHttpRequest();
+        RequestDeadline deadline = RequestDeadline.start(getRequestTimeoutMillis(request), httpRequest::abort);
+        try {
+            HttpResponse httpResponse = executeWithRetries(exchangeRequest, deadline, recorder);
+            return handleResponse(exchangeRequest, httpResponse, cacheLookup, responseHandler, statusCodeHandler,
+                    recorder);
+        } catch (ConnectionException | ResponseException e) {
+            if (deadline.isExceeded()) {
+                throw createRequestTimeoutException(exchangeRequest, deadline.getTimeoutMillis(), e);
+            }
+            throw e;
+        } finally {
+            deadline.cancel();
+        }
+    }
+
+    /**
+     * Executes the request and retries failed attempts according to the
+     * {@link RetryPolicy} of the client. Returns the response of the last
+     * attempt. The responses of retried attempts are consumed, so that their
+     * connections are released. A failed attempt is not retried if the retry
+     * would start after the deadline of the request. The attempts are
+     * executed with the context of the recorder, if it measures them.
+     */
+    private <RequestType> HttpResponse executeWithRetries(Request<RequestType> request,
+            RequestDeadline deadline, RequestRecorder recorder) throws ConnectionException {
+        HttpUriRequest httpRequest = request.getHttpRequest();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.getCircuitBreaker(httpRequest);
+        retryHandler.onRequest();
+        for (int attempt = 1;; attempt++) {
+            CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+            if (permission == null) {
+                throw createCircuitBreakerOpenException(request, circuitBreaker);
+            }
+            retryHandler.onAttempt(httpRequest, attempt);
+            long retryDelay;
+            long start = System.nanoTime();
+            try {
+                HttpContext context = recorder.startAttempt();
+                HttpResponse httpResponse = context == null ? httpClient.execute(httpRequest)
+                        : httpClient.execute(httpRequest, context);
+                int statusCode = httpResponse.getStatusLine().getStatusCode();
+                permission.onResponse(statusCode, getElapsedMillis(start));
+                retryDelay = retryHandler.getRetryDelay(httpRequest, attempt, httpResponse);
+                if (retryDelay < 0 || !deadline.allowsDelay(retryDelay)) {
+                    return httpResponse;
+                }
+                EntityUtils.consumeQuietly(httpResponse.getEntity());
+                recorder.onRetry(statusCode);
+            } catch (IOException e) {
+                permission.onException(getElapsedMillis(start));
+                retryDelay = retryHandler.getRetryDelay(httpRequest, attempt, e);
+                if (retryDelay < 0 || !deadline.allowsDelay(retryDelay)) {
+                    throw new ConnectionException(format(IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG, request), e,
+                            getStringRequest(request));
+                }
+                recorder.onRetry(-1);
+            } catch (RuntimeException e) {
+                permission.release();
+                throw e;
+            }
+            try {
+                retryHandler.awaitRetry(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException cause = new InterruptedIOException(RETRY_INTERRUPTED_MSG);
+                cause.initCause(e);
+                throw new ConnectionException(format(IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG, request), cause,
+                        getStringRequest(request));
+            }
+        }
+    }
+
+    /**
+     * Executes a {@link Request} asynchronously using the default response and
+     * status code handlers.
+     * 
+     * @param <RequestType>
+     *            the type of the request body
+     * @param request
+     *            the request to be executed
+     * @return a future completed with the Response constructed from the HTTP
+     *         response, or exceptionally with the exceptions thrown by
+     *         {@link #execute(Request)}.
+     */
+    protected <RequestType> CompletableFuture<Response<String>> executeAsync(Request<RequestType> request) {
+        return executeAsync(request, getDefaultResponseHandler());
+    }
+
+    /**
+     * Executes a {@link Request} asynchronously using the default status code
+     * handler and custom {@link ResponseHandler}.
+     * 
+     * @param <RequestType>
+     *            the type of the request body
+     * @param <ResponseType>
+     *            the type of the response body
+     * @param request
+     *            the request to be executed
+     * @param responseHandler
+     *            the custom response handler.
+     * @return a future completed with the Response constructed from the HTTP
+     *         response, or exceptionally with the exceptions thrown by
+     *         {@link #execute(Request, ResponseHandler)}.
+     */
+    protected <RequestType, ResponseType> CompletableFuture<Response<ResponseType>> executeAsync(
+            Request<RequestType> request, ResponseHandler<ResponseType> responseHandler) {
+        return executeAsync(request, responseHandler, getDefaultStatusCodeHandler());
+    }
+
+    /**
+     * Executes a {@link Request} asynchronously using the default response
+     * handler and custom {@link StatusCodeHandler}.
+     * 
+     * @param <RequestType>
+     *            the type of the request body
+     * @param request
+     *            the request to be executed
+     * @param statusCodeHandler
+     *            the custom status code handler.
+     * @return a future completed with the Response constructed from the HTTP
+     *         response, or exceptionally with the exceptions thrown by
+     *         {@link #execute(Request, StatusCodeHandler)}.
+     */
+    protected <RequestType> CompletableFuture<Response<String>> executeAsync(Request<RequestType> request,
+            StatusCodeHandler statusCodeHandler) {
+        return executeAsync(request, getDefaultResponseHandler(), statusCodeHandler);
+    }
+
+    /**
+     * Executes a {@link Request} asynchronously using custom
+     * {@link ResponseHandler} and {@link StatusCodeHandler}. The response body
+     * is received without blocking a thread. The handlers are called on the
+     * I/O thread, which received the response, so they should not block.
+     * Cancelling the returned future aborts the request.
+     * 
+     * @param <RequestType>
+     *            the type of the request body
+     * @param <ResponseType>
+     *            the type of the response body
+     * @param request
+     *            the request to be executed
+     * @param responseHandler
+     *            the custom response handler.
+     * @param statusCodeHandler
+     *            the custom status code handler.
+     * @return a future completed with the Response constructed from the HTTP
+     *         response, or exceptionally with a {@link ConnectionException} in
+     *         case of an {@link IOException} or if the request timeout is
+     *         exceeded, a {@link ResponseException} in
+     *         case of an {@link IOException} while handling the response or
+     *         the exception thrown by the status code handler.
+     * @throws IllegalStateException
+     *             if the client has been closed.
+     */
+    protected <RequestType, ResponseType> CompletableFuture<Response<ResponseType>> executeAsync(
+            Request<RequestType> request, ResponseHandler<ResponseType> responseHandler,
             StatusCodeHandler statusCodeHandler) {
+        CompletableFuture<Response<ResponseType>> result = new CompletableFuture<>();
+        RequestRecorder recorder = RequestRecorder.start(metricsListener, request.getHttpRequest(),
+                request.getRoute());
+        result.whenComplete((response, e) -> recorder.onCompleted(e));
+        CacheLookup cacheLookup = lookupCache(request);
+        HttpResponse cachedResponse = cacheLookup.getFreshResponse();
+        if (cachedResponse != null) {
+            recorder.onCacheHit();
+            try {
+                result.complete(handleResponse(request, cachedResponse, CacheLookup.NONE, responseHandler,
+                        statusCodeHandler, recorder));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        Request<RequestType> exchangeRequest = compressEntity(addHeaders(request,
+                cacheLookup.getConditionalHeaders()));
+        PendingAttempt pendingAttempt = new PendingAttempt();
+        long requestTimeoutMillis = getRequestTimeoutMillis(request);
+        RequestDeadline deadline = RequestDeadline.start(requestTimeoutMillis, () -> {
+            if (result.completeExceptionally(createRequestTimeoutException(exchangeRequest, requestTimeoutMillis,
+                    null))) {
+                pendingAttempt.cancel();
+            }
+        });
+        retryHandler.onRequest();
+        try {
+            executeAsyncAttempt(exchangeRequest, cacheLookup, responseHandler, statusCodeHandler, result,
+                    pendingAttempt, recorder, 1);
+        } catch (RuntimeException e) {
+            deadline.cancel();
+            recorder.onCompleted(e);
+            throw e;
+        }
+        result.whenComplete((response, e) -> {
+            deadline.cancel();
+            if (result.isCancelled()) {
+                pendingAttempt.cancel();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Executes a batch of requests asynchronously using the default response
+     * and status code handlers, with at most the given number of requests in
+     * flight.
+     *
+     * @param <RequestType>
+     *            the type of the request bodies
+     * @param requests
+     *            the requests to be executed.
+     * @param maxConcurrency
+     *            the maximum number of requests in flight.
+     * @return the results in the order of the requests.
+     * @see #executeBatch(Iterable, ResponseHandler, StatusCodeHandler, int)
+     */
+    protected <RequestType> List<BatchResult<String>> executeBatch(Iterable<Request<RequestType>> requests,
+            int maxConcurrency) {
+        return executeBatch(requests, getDefaultResponseHandler(), getDefaultStatusCodeHandler(), maxConcurrency);
+    }
+
+    /**
+     * Executes a batch of requests asynchronously using custom
+     * {@link ResponseHandler} and {@link StatusCodeHandler}, with at most the
+     * given number of requests in flight. Each request is executed like with
+     * {@link #executeAsync(Request, ResponseHandler, StatusCodeHandler)}. A
+     * failed request does not abort the batch, its exception is captured in
+     * its {@link BatchResult}. Blocks until all requests have completed.
+     *
+     * @param <RequestType>
+     *            the type of the request bodies
+     * @param <ResponseType>
+     *            the type of the response bodies
+     * @param requests
+     *            the requests to be executed.
+     * @param responseHandler
+     *            the custom response handler.
+     * @param statusCodeHandler
+     *            the custom status code handler.
+     * @param maxConcurrency
+     *            the maximum number of requests in flight.
+     * @return the results in the order of the requests.
+     * @throws RestApiClientException
+     *             if the calling thread is interrupted. The requests in flight
+     *             are cancelled.
+     */
+    protected <RequestType, ResponseType> List<BatchResult<ResponseType>> executeBatch(
+            Iterable<Request<RequestType>> requests, ResponseHandler<ResponseType> responseHandler,
+            StatusCodeHandler statusCodeHandler, int maxConcurrency) {
+        isNotNull(BatchExecution.REQUESTS_DISPLAY_NAME, requests);
+
+        return new BatchExecution<RequestType, ResponseType>(
+                request -> executeAsync(request, responseHandler, statusCodeHandler), maxConcurrency)
+                        .executeInOrder(requests.iterator());
+    }
+
+    /**
+     * Executes a stream of requests asynchronously using the default response
+     * and status code handlers, with at most the given number of requests in
+     * flight, and passes the results to the consumer as they complete.
+     *
+     * @param <RequestType>
+     *            the type of the request bodies
+     * @param requests
+     *            the requests to be executed.
+     * @param maxConcurrency
+     *            the maximum number of requests in flight.
+     * @param resultConsumer
+     *            the consumer of the results.
+     * @see #executeBatch(Stream, ResponseHandler, StatusCodeHandler, int,
+     *      Consumer)
+     */
+    protected <RequestType> void executeBatch(Stream<Request<RequestType>> requests, int maxConcurrency,
+            Consumer<? super BatchResult<String>> resultConsumer) {
+        executeBatch(requests, getDefaultResponseHandler(), getDefaultStatusCodeHandler(), maxConcurrency,
+                resultConsumer);
+    }
+
+    /**
+     * Executes a stream of requests asynchronously using custom
+     * {@link ResponseHandler} and {@link StatusCodeHandler}, with at most the
+     * given number of requests in flight, and passes the results to the
+     * consumer as they complete. A request is taken from the stream only when
+     * fewer requests are in flight than allowed, so the memory used does not
+     * grow with the length of the stream. The consumer is called on the
+     * calling thread. A failed request does not abort the batch, its exception
+     * is captured in its {@link BatchResult}. Blocks until all results have
+     * been consumed.
+     *
+     * @param <RequestType>
+     *            the type of the request bodies
+     * @param <ResponseType>
+     *            the type of the response bodies
+     * @param requests
+     *            the requests to be executed.
+     * @param responseHandler
+     *            the custom response handler.
+     * @param statusCodeHandler
+     *            the custom status code handler.
+     * @param maxConcurrency
+     *            the maximum number of requests in flight.
+     * @param resultConsumer
+     *            the consumer of the results.
+     * @throws RestApiClientException
+     *             if the calling thread is interrupted. The requests in flight
+     *             are cancelled, as they are if the stream or the consumer
+     *             throws.
+     */
+    protected <RequestType, ResponseType> void executeBatch(Stream<Request<RequestType>> requests,
+            ResponseHandler<ResponseType> responseHandler, StatusCodeHandler statusCodeHandler,
+            int maxConcurrency, Consumer<? super BatchResult<ResponseType>> resultConsumer) {
+        isNotNull(BatchExecution.REQUESTS_DISPLAY_NAME, requests);
+
+        new BatchExecution<RequestType, ResponseType>(
+                request -> executeAsync(request, responseHandler, statusCodeHandler), maxConcurrency)
+                        .execute(requests.iterator(), resultConsumer);
+    }
+
+    /**
+     * Iterates over the items of all pages of a paginated list API using the
+     * default status code handler.
+     *
+     * @param <RequestType>
+     *            the type of the request body
+     * @param <ItemType>
+     *            the type of the items
+     * @param request
+     *            the request of the first page.
+     * @param itemType
+     *            the class of the items.
+     * @param pagingConfig
+     *            the paging configuration.
+     * @return an iterator over the items, which must be closed.
+     * @see #executePaged(Request, ObjectReader, PagingConfig, StatusCodeHandler)
+     */
+    protected <RequestType, ItemType> PageIterator<ItemType> executePaged(Request<RequestType> request,
+            Class<ItemType> itemType, PagingConfig pagingConfig) {
+        return executePaged(request, objectMapperRegistry.getReader(itemType), pagingConfig,
+                getDefaultStatusCodeHandler());
+    }
+
+    /**
+     * Iterates over the items of all pages of a paginated list API using the
+     * default status code handler.
+     *
+     * @param <RequestType>
+     *            the type of the request body
+     * @param <ItemType>
+     *            the type of the items
+     * @param request
+     *            the request of the first page.
+     * @param itemType
+     *            the type reference of the items.
+     * @param pagingConfig
+     *            the paging configuration.
+     * @return an iterator over the items, which must be closed.
+     * @see #executePaged(Request, ObjectReader, PagingConfig, StatusCodeHandler)
+     */
+    protected <RequestType, ItemType> PageIterator<ItemType> executePaged(Request<RequestType> request,
+            TypeReference<ItemType> itemType, PagingConfig pagingConfig) {
+        return executePaged(request, objectMapperRegistry.getReader(itemType), pagingConfig,
+                getDefaultStatusCodeHandler());
+    }
+
+    /**
+     * Iterates over the items of all pages of a paginated list API using a
+     * custom {@link StatusCodeHandler}. The pages are requested asynchronously
+     * like with {@link #executeAsync(Request, ResponseHandler, StatusCodeHandler)},
+     * with a copy of the request, which has the URI determined by the
+     * {@link PagingStrategy} of the configuration. The next pages are
+     * prefetched while the caller consumes the items of the current one, see
+     * {@link PageIterator}.
+     *
+     * @param <RequestType>
+     *            the type of the request body
+     * @param <ItemType>
+     *            the type of the items
+     * @param request
+     *            the request of the first page.
+     * @param itemReader
+     *            the reader of the items, e.g. from
+     *            {@link #getObjectMapperRegistry()}.
+     * @param pagingConfig
+     *            the paging configuration.
+     * @param statusCodeHandler
+     *            the custom status code handler.
+     * @return an iterator over the items, which must be closed.
+     */
+    protected <RequestType, ItemType> PageIterator<ItemType> executePaged(Request<RequestType> request,
+            ObjectReader itemReader, PagingConfig pagingConfig, StatusCodeHandler statusCodeHandler) {
+        isNotNull(BatchExecution.REQUEST_DISPLAY_NAME, request);
+
+        return new PageIterator<ItemType>(request.getHttpRequest().getURI(), itemReader, pagingConfig,
+                (pageUri, pageHandler) -> executeAsync(withUri(request, pageUri), pageHandler, statusCodeHandler));
+    }
+
+    /**
+     * Returns a copy of the request with the given URI, so that the request
+     * passed by the caller is not modified.
+     */
+    private static <RequestType> Request<RequestType> withUri(Request<RequestType> request, URI uri) {
+        HttpUriRequest httpRequest = request.getHttpRequest();
+        if (uri.equals(httpRequest.getURI())) {
+            return request;
+        }
+        HttpUriRequest pageRequest = org.apache.http.client.methods.RequestBuilder.copy(httpRequest)
+                .setUri(uri)
+                .build();
+        return new Request<>(pageRequest, request.getEntity(), request.getTimeoutConfig(), request.getRoute());
+    }
+
+    /**
+     * Executes one attempt of an asynchronous request. A failed attempt, which
+     * is retried according to the {@link RetryPolicy} of the client, schedules
+     * the next attempt. The pending attempt is the exchange in progress or the
+     * scheduled retry, which is cancelled when the result is cancelled.
+     */
+    private <RequestType, ResponseType> void executeAsyncAttempt(Request<RequestType> request,
+            CacheLookup cacheLookup, ResponseHandler<ResponseType> responseHandler,
+            StatusCodeHandler statusCodeHandler,
+            CompletableFuture<Response<ResponseType>> result, PendingAttempt pendingAttempt,
+            RequestRecorder recorder, int attempt) {
+        HttpUriRequest httpRequest = request.getHttpRequest();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.getCircuitBreaker(httpRequest);
+        CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        if (permission == null) {
+            result.completeExceptionally(createCircuitBreakerOpenException(request, circuitBreaker));
+            return;
+        }
+        retryHandler.onAttempt(httpRequest, attempt);
+        recorder.onAttempt();
+        long start = System.nanoTime();
+        Future<HttpResponse> exchange;
+        try {
+            exchange = getHttpAsyncClient().execute(httpRequest, new FutureCallback<HttpResponse>() {
+
+                @Override
+                public void completed(HttpResponse httpResponse) {
+                    int statusCode = httpResponse.getStatusLine().getStatusCode();
+                    permission.onResponse(statusCode, getElapsedMillis(start));
+                    long retryDelay = retryHandler.getRetryDelay(httpRequest, attempt, httpResponse);
+                    if (retryDelay >= 0) {
+                        EntityUtils.consumeQuietly(httpResponse.getEntity());
+                        recorder.onRetry(statusCode);
+                        scheduleAsyncRetry(request, cacheLookup, responseHandler, statusCodeHandler, result,
+                                pendingAttempt, recorder, attempt, retryDelay);
+                        return;
+                    }
+                    try {
+                        result.complete(handleResponse(request, httpResponse, cacheLookup, responseHandler,
+                                statusCodeHandler, recorder));
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    permission.onException(getElapsedMillis(start));
+                    IOException cause = e instanceof IOException ? (IOException) e : new IOException(e);
+                    long retryDelay = retryHandler.getRetryDelay(httpRequest, attempt, cause);
+                    if (retryDelay >= 0) {
+                        recorder.onRetry(-1);
+                        scheduleAsyncRetry(request, cacheLookup, responseHandler, statusCodeHandler, result,
+                                pendingAttempt, recorder, attempt, retryDelay);
+                        return;
+                    }
+                    result.completeExceptionally(new ConnectionException(
+                            format(IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG, request), cause,
+                            getStringRequest(request)));
+                }
+
+                @Override
+                public void cancelled() {
+                    permission.release();
+                    result.cancel(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            permission.release();
+            throw e;
+        }
+        pendingAttempt.set(2 * attempt, exchange, result);
+    }
+
+    private <RequestType> CircuitBreakerOpenException createCircuitBreakerOpenException(
+            Request<RequestType> request, CircuitBreaker circuitBreaker) {
+        return new CircuitBreakerOpenException(format(CIRCUIT_BREAKER_OPEN_MSG, circuitBreaker.getRoute(), request),
+                circuitBreaker.getRoute(), getStringRequest(request));
+    }
+
+    private <RequestType> long getRequestTimeoutMillis(Request<RequestType> request) {
+        TimeoutConfig requestTimeoutConfig = request.getTimeoutConfig();
+        if (requestTimeoutConfig != null) {
+            return requestTimeoutConfig.getRequestTimeoutMillis();
+        }
+        return timeoutConfig.getRequestTimeoutMillis();
+    }
+
+    private <RequestType> ConnectionException createRequestTimeoutException(Request<RequestType> request,
+            long timeoutMillis, Exception exception) {
+        String timeout = String.valueOf(timeoutMillis);
+        InterruptedIOException cause = new InterruptedIOException(format(REQUEST_TIMEOUT_MSG, timeout));
+        if (exception != null) {
+            cause.addSuppressed(exception);
+        }
+        return new ConnectionException(format(REQUEST_TIMEOUT_EXCEEDED_MSG, request, timeout), cause,
+                getStringRequest(request));
+    }
+
+    private static long getElapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private <RequestType, ResponseType> void scheduleAsyncRetry(Request<RequestType> request,
+            CacheLookup cacheLookup, ResponseHandler<ResponseType> responseHandler,
+            StatusCodeHandler statusCodeHandler,
+            CompletableFuture<Response<ResponseType>> result, PendingAttempt pendingAttempt,
+            RequestRecorder recorder, int attempt, long retryDelay) {
+        try {
+            Future<?> retry = retryHandler.scheduleRetry(() -> {
+                try {
+                    executeAsyncAttempt(request, cacheLookup, responseHandler, statusCodeHandler, result,
+                            pendingAttempt, recorder, attempt + 1);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }, retryDelay);
+            pendingAttempt.set(2 * attempt + 1, retry, result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * The exchange in progress or the scheduled retry of an asynchronous
+     * request. An attempt can complete before its future is set, so each
+     * future is tagged with its position in the sequence of exchanges and
+     * retries, and a future is only replaced by a later one.
+     */
+    private static class PendingAttempt {
+
+        private int sequence = -1;
+        private Future<?> future;
+
+        synchronized void set(int sequence, Future<?> future, CompletableFuture<?> result) {
+            if (sequence > this.sequence) {
+                this.sequence = sequence;
+                this.future = future;
+            }
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        }
+
+        synchronized void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient client = httpAsyncClient;
+        if (client != null) {
+            return client;
+        }
+        synchronized (httpAsyncClientLock) {
+            if (closed) {
+                throw new IllegalStateException(CLIENT_CLOSED_MSG);
+            }
+            if (httpAsyncClient == null) {
+                httpAsyncClient = httpClientProvider.createHttpAsyncClient(routePlanner);
+            }
+            return httpAsyncClient;
+        }
+    }
+
+    /**
+     * Passes the HTTP response to the cache lookup, which may store it or
+     * replace it with the cached response, and then to the handlers. The
+     * recorder measures the time spent reading and handling the response.
+     */
+    private <RequestType, ResponseType> Response<ResponseType> handleResponse(Request<RequestType> request,
+            HttpResponse httpResponse, CacheLookup cacheLookup, ResponseHandler<ResponseType> responseHandler,
+            StatusCodeHandler statusCodeHandler, RequestRecorder recorder) {
+        HttpResponse response = httpResponse;
         ResponseType responseEntity = null;
         try {
-            responseEntity = responseHandler.handleResponse(httpResponse);
+            DecompressingEntity.decompress(httpResponse, maxDecompressedResponseSizeBytes);
+            response = cacheLookup.onResponse(recorder.onResponse(httpResponse));
+            responseEntity = responseHandler.handleResponse(response);
+            recorder.onResponseHandled(response);
         } catch (IOException e) {
-            HttpExchangeContext context = buildContext(request, httpResponse, responseEntity);
+            HttpExchangeContext context = buildContext(request, response, responseEntity);
             throw new ResponseException(format(IO_EXCEPTION_WHILE_HANDLING_RESPONSE_MSG, context), context, e);
         }
-        handleStatusCode(request, httpResponse, responseEntity, statusCodeHandler);
-        return new Response<ResponseType>(httpResponse, responseEntity);
+        handleStatusCode(request, response, responseEntity, statusCodeHandler);
+        return new Response<ResponseType>(response, responseEntity);
+    }
+
+    private <RequestType> CacheLookup lookupCache(Request<RequestType> request) {
+        if (responseCache == null) {
+            return CacheLookup.NONE;
+        }
+        return responseCache.lookup(request.getHttpRequest());
+    }
+
+    /**
+     * Returns a copy of the request with the given headers, e.g. the
+     * conditional headers revalidating a cached response, so that the request
+     * passed by the caller is not modified.
+     */
+    private static <RequestType> Request<RequestType> addHeaders(Request<RequestType> request, Header[] headers) {
+        if (headers.length == 0) {
+            return request;
+        }
+        org.apache.http.client.methods.RequestBuilder builder = org.apache.http.client.methods.RequestBuilder
+                .copy(request.getHttpRequest());
+        for (Header header : headers) {
+            builder.setHeader(header);
+        }
+        return new Request<>(builder.build(), request.getEntity(), request.getTimeoutConfig(), request.getRoute());
+    }
+
+    /**
+     * Returns a copy of the request with a compressed entity if the
+     * compression policy of the client applies to it, so that the request
+     * passed by the caller is not modified.
+     */
+    private <RequestType> Request<RequestType> compressEntity(Request<RequestType> request) {
+        HttpUriRequest httpRequest = request.getHttpRequest();
+        if (!requestCompression.shouldCompress(httpRequest)) {
+            return request;
+        }
+        HttpUriRequest compressedRequest = org.apache.http.client.methods.RequestBuilder.copy(httpRequest).build();
+        ((HttpEntityEnclosingRequest) compressedRequest).setEntity(new CompressingEntity(
+                ((HttpEntityEnclosingRequest) httpRequest).getEntity(), requestCompression.getContentEncoding()));
+        return new Request<>(compressedRequest, request.getEntity(), request.getTimeoutConfig(), request.getRoute());
     }
 
     private <RequestType, ResponseType> void handleStatusCode(Request<RequestType> request, HttpResponse httpResponse,
             ResponseType responseEntity, StatusCodeHandler statusCodeHandler) {
         HttpExchangeContext context = buildContext(request, httpResponse, responseEntity);
 
-        statusCodeHandler.handleStatusCode(context.getResponse().getStatusCode(), context);
+        statusCodeHandler.handleStatusCode(context.getStatusCode(), context);
     }
 
+    /**
+     * Builds a context, which converts the request and response entities to
+     * strings only if a handler accesses them, so that successful requests
+     * are not serialized again.
+     */
     private <ResponseType, RequestType> HttpExchangeContext buildContext(Request<RequestType> request,
             HttpResponse httpResponse, ResponseType responseEntity) {
-        Request<String> contextRequest = getStringRequest(request);
-        Response<String> contextResponse = getStringResponse(httpResponse, responseEntity);
-        HttpExchangeContext context = new HttpExchangeContext(contextRequest, contextResponse);
-        return context;
+        return new HttpExchangeContext(() -> getStringRequest(request), httpResponse,
+                () -> getStringResponseEntity(responseEntity));
     }
 
     private <RequestType> Request<String> getStringRequest(Request<RequestType> request) {
@@ -267,15 +1119,49 @@ public abstract class RestApiClient {
             return new Request<>(httpRequest, (String) requestEntity);
         }
         try {
-            String requestBody = new ObjectMapper().writeValueAsString(requestEntity);
+            String requestBody = objectMapperRegistry.getWriter(requestEntity.getClass())
+                    .writeValueAsString(requestEntity);
             return new Request<>(httpRequest, requestBody);
         } catch (JsonProcessingException e) {
             return new Request<>(httpRequest);
         }
     }
 
-    private <ResponseType> Response<String> getStringResponse(HttpResponse httpResponse, ResponseType responseEntity) {
-        return new Response<>(httpResponse, responseEntity == null ? "" : responseEntity.toString());
+    private static <ResponseType> String getStringResponseEntity(ResponseType responseEntity) {
+        return responseEntity == null ? "" : responseEntity.toString();
+    }
+
+    /**
+     * Closes the underlying HTTP clients and releases their connections. The
+     * {@link HttpClientProvider} is closed too, if it was created by this
+     * client. Providers passed to the constructor are left to the caller.
+     */
+    @Override
+    public void close() throws IOException {
+        CloseableHttpAsyncClient asyncClient;
+        synchronized (httpAsyncClientLock) {
+            closed = true;
+            asyncClient = httpAsyncClient;
+        }
+        try {
+            if (httpClient instanceof Closeable) {
+                ((Closeable) httpClient).close();
+            }
+        } finally {
+            try {
+                if (asyncClient != null) {
+                    asyncClient.close();
+                }
+            } finally {
+                try {
+                    retryHandler.close();
+                } finally {
+                    if (ownedHttpClientProvider != null) {
+                        ownedHttpClientProvider.close();
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -6,10 +6,13 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.impl.client.BasicCredentialsProvider;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
 import com.sap.cloud.rest.api.client.http.HttpClientCreationException;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
 
 public class BasicHttpClientProvider extends HttpClientProvider {
 
@@ -17,20 +20,52 @@ public class BasicHttpClientProvider extends HttpClientProvider {
     private final char[] password;
 
     public BasicHttpClientProvider(BasicAuthentication authentication) {
+        this(authentication, new ConnectionPoolConfig());
+    }
+
+    public BasicHttpClientProvider(BasicAuthentication authentication, ConnectionPoolConfig connectionPoolConfig) {
+        this(authentication, connectionPoolConfig, new TimeoutConfig());
+    }
+
+    public BasicHttpClientProvider(BasicAuthentication authentication, ConnectionPoolConfig connectionPoolConfig,
+            TimeoutConfig timeoutConfig) {
+        super(connectionPoolConfig, timeoutConfig);
+        this.username = authentication.getUsername();
+        this.password = authentication.getPassword();
+    }
+
+    public BasicHttpClientProvider(BasicAuthentication authentication, SharedConnectionPool sharedConnectionPool) {
+        this(authentication, sharedConnectionPool, new TimeoutConfig());
+    }
+
+    public BasicHttpClientProvider(BasicAuthentication authentication, SharedConnectionPool sharedConnectionPool,
+            TimeoutConfig timeoutConfig) {
+        super(sharedConnectionPool, timeoutConfig);
         this.username = authentication.getUsername();
         this.password = authentication.getPassword();
     }
 
     @Override
     public HttpClient createHttpClient(HttpRoutePlanner routePlanner) throws HttpClientCreationException {
+        return createHttpClientBuilder(routePlanner)
+                .setDefaultCredentialsProvider(createCredentialsProvider())
+                .build();
+    }
+
+    @Override
+    public CloseableHttpAsyncClient createHttpAsyncClient(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        CloseableHttpAsyncClient httpAsyncClient = createHttpAsyncClientBuilder(routePlanner)
+                .setDefaultCredentialsProvider(createCredentialsProvider())
+                .build();
+        httpAsyncClient.start();
+        return httpAsyncClient;
+    }
+
+    private CredentialsProvider createCredentialsProvider() {
         CredentialsProvider provider = new BasicCredentialsProvider();
         UsernamePasswordCredentials credentials = new UsernamePasswordCredentials(username, String.valueOf(password));
         provider.setCredentials(AuthScope.ANY, credentials);
-
-        return HttpClientBuilder.create()
-                .useSystemProperties()
-                .setRoutePlanner(routePlanner)
-                .setDefaultCredentialsProvider(provider)
-                .build();
+        return provider;
     }
 }
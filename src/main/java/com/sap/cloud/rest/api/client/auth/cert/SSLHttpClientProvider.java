@@ -12,15 +12,16 @@ import java.util.Map;
 import javax.net.ssl.SSLContext;
 
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.conn.routing.HttpRoutePlanner;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.ssl.PrivateKeyDetails;
 import org.apache.http.ssl.PrivateKeyStrategy;
 import org.apache.http.ssl.SSLContexts;
 
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
 import com.sap.cloud.rest.api.client.http.HttpClientCreationException;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
 
 /**
  *  Creates HTTP Client with Mutual TLS authentication. 
@@ -29,17 +30,14 @@ public class SSLHttpClientProvider extends HttpClientProvider {
 
     private static final String SSL_CONTEXT_ERROR_MESSAGE = "Could not create SSLContext";
 
-    private static final int DEFAULT_TIMEOUT_MILLIS = 30000;
-
     private KeystoreConfig keystoreConfig;
-    private int timeoutInMillis;
 
     /**
      * Constructor using Client Certificate Authentication configuration.
      * @param authentication Client Certificate Authentication configuration.
      */
     public SSLHttpClientProvider(ClientCertAuthentication authentication) {
-        this(authentication, DEFAULT_TIMEOUT_MILLIS);
+        this(authentication, TimeoutConfig.DEFAULT_TIMEOUT_MILLIS);
     }
 
     /**
@@ -48,22 +46,56 @@ public class SSLHttpClientProvider extends HttpClientProvider {
      * @param timeoutInMillis Client timeout in milliseconds.
      */
     public SSLHttpClientProvider(ClientCertAuthentication authentication, int timeoutInMillis) {
+        this(authentication, timeoutInMillis, new ConnectionPoolConfig());
+    }
+
+    /**
+     * Constructor using Client Certificate Authentication configuration.
+     * @param authentication authentication Client Certificate Authentication configuration.
+     * @param timeoutInMillis Client timeout in milliseconds.
+     * @param connectionPoolConfig Connection pool configuration.
+     */
+    public SSLHttpClientProvider(ClientCertAuthentication authentication, int timeoutInMillis,
+            ConnectionPoolConfig connectionPoolConfig) {
+        this(authentication, connectionPoolConfig, new TimeoutConfig(timeoutInMillis, timeoutInMillis,
+                timeoutInMillis, 0));
+    }
+
+    /**
+     * Constructor using Client Certificate Authentication configuration.
+     * @param authentication authentication Client Certificate Authentication configuration.
+     * @param connectionPoolConfig Connection pool configuration.
+     * @param timeoutConfig Timeout configuration.
+     */
+    public SSLHttpClientProvider(ClientCertAuthentication authentication, ConnectionPoolConfig connectionPoolConfig,
+            TimeoutConfig timeoutConfig) {
+        super(connectionPoolConfig, timeoutConfig);
         this.keystoreConfig = authentication.getKeystoreConfig();
-        this.timeoutInMillis = timeoutInMillis;
     }
 
     @Override
     public HttpClient createHttpClient(HttpRoutePlanner routePlanner) throws HttpClientCreationException {
         try {
-            return HttpClients.custom()
-                    .useSystemProperties()
-                    .setRoutePlanner(routePlanner)
-                    .setDefaultRequestConfig(createRequestConfig())
-                    .setSSLContext(createSSLContext())
+            return createHttpClientBuilder(routePlanner, createSSLSocketFactory(createSSLContext()))
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new HttpClientCreationException(SSL_CONTEXT_ERROR_MESSAGE, e);
+        }
+    }
+
+    @Override
+    public CloseableHttpAsyncClient createHttpAsyncClient(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        CloseableHttpAsyncClient httpAsyncClient;
+        try {
+            httpAsyncClient = createHttpAsyncClientBuilder(routePlanner,
+                    createSSLIOSessionStrategy(createSSLContext()))
                     .build();
         } catch (GeneralSecurityException e) {
             throw new HttpClientCreationException(SSL_CONTEXT_ERROR_MESSAGE, e);
         }
+        httpAsyncClient.start();
+        return httpAsyncClient;
     }
 
     private SSLContext createSSLContext() throws KeyManagementException, UnrecoverableKeyException,
@@ -78,12 +110,4 @@ public class SSLHttpClientProvider extends HttpClientProvider {
     private PrivateKeyStrategy privateKeyStrategy() {
         return (Map<String, PrivateKeyDetails> aliases, Socket socket) -> keystoreConfig.getKeyAlias();
     }
-
-    private RequestConfig createRequestConfig() {
-        return RequestConfig.custom()
-                .setConnectTimeout(timeoutInMillis)
-                .setConnectionRequestTimeout(timeoutInMillis)
-                .setSocketTimeout(timeoutInMillis)
-                .build();
-    }
 }
\ No newline at end of file
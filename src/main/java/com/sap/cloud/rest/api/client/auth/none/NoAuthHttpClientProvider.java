@@ -2,18 +2,48 @@ package com.sap.cloud.rest.api.client.auth.none;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.conn.routing.HttpRoutePlanner;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
 import com.sap.cloud.rest.api.client.http.HttpClientCreationException;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
 
 public class NoAuthHttpClientProvider extends HttpClientProvider {
 
+    public NoAuthHttpClientProvider() {
+        super();
+    }
+
+    public NoAuthHttpClientProvider(ConnectionPoolConfig connectionPoolConfig) {
+        super(connectionPoolConfig);
+    }
+
+    public NoAuthHttpClientProvider(ConnectionPoolConfig connectionPoolConfig, TimeoutConfig timeoutConfig) {
+        super(connectionPoolConfig, timeoutConfig);
+    }
+
+    public NoAuthHttpClientProvider(SharedConnectionPool sharedConnectionPool) {
+        super(sharedConnectionPool);
+    }
+
+    public NoAuthHttpClientProvider(SharedConnectionPool sharedConnectionPool, TimeoutConfig timeoutConfig) {
+        super(sharedConnectionPool, timeoutConfig);
+    }
+
     @Override
     public HttpClient createHttpClient(HttpRoutePlanner routePlanner) throws HttpClientCreationException {
-        return HttpClients.custom()
-                .useSystemProperties()
-                .setRoutePlanner(routePlanner)
+        return createHttpClientBuilder(routePlanner)
+                .build();
+    }
+
+    @Override
+    public CloseableHttpAsyncClient createHttpAsyncClient(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        CloseableHttpAsyncClient httpAsyncClient = createHttpAsyncClientBuilder(routePlanner)
                 .build();
+        httpAsyncClient.start();
+        return httpAsyncClient;
     }
 }
@@ -0,0 +1,85 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Represents an access token together with the time it was issued at and the
+ * time it expires at. An access token, for which the authorization server did
+ * not provide a lifetime, is considered expired at the moment it is issued.
+ */
+public final class AccessToken {
+
+    static final String VALUE_DISPLAY_NAME = "Access token value";
+
+    private final String value;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public AccessToken(String value, long issuedAtMillis, long expiresAtMillis) {
+        isNotEmptyOrNull(VALUE_DISPLAY_NAME, value);
+
+        this.value = value;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = Math.max(issuedAtMillis, expiresAtMillis);
+    }
+
+    /**
+     * Creates an {@link AccessToken} from the response of the authorization
+     * server.
+     *
+     * @param response
+     *            the access token response
+     * @param issuedAtMillis
+     *            the time the token was received at, in milliseconds since the
+     *            epoch
+     * @return the access token
+     */
+    public static AccessToken fromResponse(AccessTokenResponseDto response, long issuedAtMillis) {
+        Long expiresIn = response.getExpiresIn();
+        long lifetimeMillis = expiresIn == null ? 0 : TimeUnit.SECONDS.toMillis(expiresIn);
+
+        return new AccessToken(response.getAccessToken(), issuedAtMillis, issuedAtMillis + lifetimeMillis);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public long getIssuedAtMillis() {
+        return issuedAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public long getLifetimeMillis() {
+        return expiresAtMillis - issuedAtMillis;
+    }
+
+    /**
+     * @param timeMillis
+     *            the time in milliseconds since the epoch
+     * @return Returns true if the token is not expired at the given time.
+     */
+    public boolean isValidAt(long timeMillis) {
+        return timeMillis < expiresAtMillis;
+    }
+
+    /**
+     * Returns a String representation of the {@link AccessToken}. Hides the
+     * token value.
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(AccessToken.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("issuedAtMillis", issuedAtMillis)
+                .append("expiresAtMillis", expiresAtMillis)
+                .toString();
+    }
+}
@@ -21,6 +21,8 @@ public class AccessTokenProviderFactory {
                 .host(oAuthServerConfig.getOAuthServerHost())
                 .basicAuthentication(oAuthServerConfig.getClientID(), oAuthServerConfig.getClientSecret())
                 .proxy(config.getRoutePlanner())
+                .timeouts(config.getTimeoutConfig())
+                .metricsListener(config.getMetricsListener())
                 .build();
 
         return new ClientCredentialsAccessTokenProvider(restApiClientConfig, getApiPath(oAuthAuthentication));
@@ -35,12 +37,43 @@ public class AccessTokenProviderFactory {
                 .host(oAuthServerConfig.getOAuthServerHost())
                 .basicAuthentication(oAuthServerConfig.getClientID(), oAuthServerConfig.getClientSecret())
                 .proxy(config.getRoutePlanner())
+                .timeouts(config.getTimeoutConfig())
+                .metricsListener(config.getMetricsListener())
                 .build();
 
         return new ClientCredentialsAccessTokenProvider(restApiClientConfig, httpClientProvider,
                 getApiPath(oAuthAuthentication));
     }
 
+    /**
+     * Creates the {@link AccessTokenProvider} described by the OAuth server
+     * configuration: a {@link CachingAccessTokenProvider}, wrapped in a
+     * {@link ScheduledAccessTokenRefresher} if proactive refresh is enabled.
+     * @param config configuration with OAuth authentication.
+     * @return {@link AccessTokenProvider} instance.
+     */
+    public static AccessTokenProvider createAccessTokenProvider(RestApiClientConfig config) {
+        CachingAccessTokenProvider cachingAccessTokenProvider = createCachingAccessTokenProvider(config);
+
+        double proactiveRefreshRatio = extractOAuthAuthentication(config).getOAuthServerConfig()
+                .getProactiveRefreshRatio();
+        if (proactiveRefreshRatio > 0) {
+            return new ScheduledAccessTokenRefresher(cachingAccessTokenProvider, proactiveRefreshRatio);
+        }
+        return cachingAccessTokenProvider;
+    }
+
+    public static CachingAccessTokenProvider createCachingAccessTokenProvider(RestApiClientConfig config) {
+        return new CachingAccessTokenProvider(createClientCredentialsAccessTokenProvider(config),
+                getAccessTokenExpiryMargin(config));
+    }
+
+    public static CachingAccessTokenProvider createCachingAccessTokenProvider(RestApiClientConfig config,
+            HttpClientProvider httpClientProvider) {
+        return new CachingAccessTokenProvider(createClientCredentialsAccessTokenProvider(config, httpClientProvider),
+                getAccessTokenExpiryMargin(config));
+    }
+
     private static OAuthAuthentication extractOAuthAuthentication(RestApiClientConfig config) {
         Authentication authentication = config.getAuthentication();
         AuthenticationType authenticationType = authentication.getAuthenticationType();
@@ -53,4 +86,8 @@ public class AccessTokenProviderFactory {
     private static String getApiPath(OAuthAuthentication oauthAuthentication) {
         return oauthAuthentication.getOAuthServerConfig().getoAuthServerApiPath();
     }
+
+    private static long getAccessTokenExpiryMargin(RestApiClientConfig config) {
+        return extractOAuthAuthentication(config).getOAuthServerConfig().getAccessTokenExpiryMarginMillis();
+    }
 }
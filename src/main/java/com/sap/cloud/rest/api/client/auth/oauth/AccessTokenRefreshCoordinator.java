@@ -0,0 +1,118 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates the renewal of an {@link AccessToken} between concurrent callers.
+ *
+ * The current token is published through a volatile field, so callers that
+ * find a usable token take no lock. When the token has to be renewed, exactly
+ * one caller requests a new token and all other callers wait for the same
+ * future. If the renewal fails, all waiting callers receive the failure and
+ * the next caller starts a new renewal.
+ */
+public class AccessTokenRefreshCoordinator {
+
+    static final String ACCESS_TOKEN_SUPPLIER_DISPLAY_NAME = "Access token supplier";
+
+    private final Supplier<AccessToken> accessTokenSupplier;
+    private final AtomicReference<CompletableFuture<AccessToken>> pendingRefresh = new AtomicReference<>();
+
+    private volatile AccessToken currentAccessToken;
+
+    /**
+     * @param accessTokenSupplier
+     *            the supplier called to request a new access token.
+     */
+    public AccessTokenRefreshCoordinator(Supplier<AccessToken> accessTokenSupplier) {
+        isNotNull(ACCESS_TOKEN_SUPPLIER_DISPLAY_NAME, accessTokenSupplier);
+
+        this.accessTokenSupplier = accessTokenSupplier;
+    }
+
+    /**
+     * @return Returns the last retrieved access token or null if no token has
+     *         been retrieved yet.
+     */
+    public AccessToken getCurrentAccessToken() {
+        return currentAccessToken;
+    }
+
+    /**
+     * Returns the current access token if it is usable, otherwise renews it.
+     *
+     * @param isUsable
+     *            the condition, which the current token has to satisfy to be
+     *            returned without renewal.
+     * @return the access token.
+     */
+    public AccessToken getAccessToken(Predicate<AccessToken> isUsable) {
+        AccessToken accessToken = currentAccessToken;
+        if (accessToken != null && isUsable.test(accessToken)) {
+            return accessToken;
+        }
+        return refresh(isUsable);
+    }
+
+    /**
+     * Renews the access token, unless a renewal is already in progress, in
+     * which case its result is awaited. A token published by another caller in
+     * the meantime is returned without renewal, if it is usable.
+     *
+     * @param isUsable
+     *            the condition, which a token published by another caller has
+     *            to satisfy to be returned without renewal.
+     * @return the access token.
+     */
+    public AccessToken refresh(Predicate<AccessToken> isUsable) {
+        while (true) {
+            CompletableFuture<AccessToken> refresh = pendingRefresh.get();
+            if (refresh != null) {
+                return await(refresh);
+            }
+
+            refresh = new CompletableFuture<>();
+            if (pendingRefresh.compareAndSet(null, refresh)) {
+                return performRefresh(refresh, isUsable);
+            }
+        }
+    }
+
+    private AccessToken performRefresh(CompletableFuture<AccessToken> refresh, Predicate<AccessToken> isUsable) {
+        try {
+            AccessToken accessToken = currentAccessToken;
+            if (accessToken == null || !isUsable.test(accessToken)) {
+                accessToken = accessTokenSupplier.get();
+                currentAccessToken = accessToken;
+            }
+            refresh.complete(accessToken);
+            return accessToken;
+        } catch (RuntimeException | Error e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingRefresh.compareAndSet(refresh, null);
+        }
+    }
+
+    private AccessToken await(CompletableFuture<AccessToken> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
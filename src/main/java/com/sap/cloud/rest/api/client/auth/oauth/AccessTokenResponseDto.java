@@ -4,19 +4,29 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public final class AccessTokenResponseDto {
 
     private static final String ACCESS_TOKEN_JSON_PROPERTY = "access_token";
+    private static final String EXPIRES_IN_JSON_PROPERTY = "expires_in";
 
     private final String accessToken;
+    private final Long expiresIn;
+
+    public AccessTokenResponseDto(final String accessToken) {
+        this(accessToken, null);
+    }
 
     @JsonCreator
     public AccessTokenResponseDto(
-            @JsonProperty(value = ACCESS_TOKEN_JSON_PROPERTY, required = true) final String accessToken) {
+            @JsonProperty(value = ACCESS_TOKEN_JSON_PROPERTY, required = true) final String accessToken,
+            @JsonProperty(value = EXPIRES_IN_JSON_PROPERTY) final Long expiresIn) {
         this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
     }
 
     @JsonProperty(value = ACCESS_TOKEN_JSON_PROPERTY)
@@ -24,17 +34,27 @@ public final class AccessTokenResponseDto {
         return accessToken;
     }
 
+    /**
+     * @return Returns the lifetime of the access token in seconds or null if
+     *         the authorization server did not provide it.
+     */
+    @JsonProperty(value = EXPIRES_IN_JSON_PROPERTY)
+    @JsonInclude(Include.NON_NULL)
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         AccessTokenResponseDto jwtToken = (AccessTokenResponseDto) o;
-        return Objects.equals(accessToken, jwtToken.accessToken);
+        return Objects.equals(accessToken, jwtToken.accessToken) && Objects.equals(expiresIn, jwtToken.expiresIn);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accessToken);
+        return Objects.hash(accessToken, expiresIn);
     }
 
 }
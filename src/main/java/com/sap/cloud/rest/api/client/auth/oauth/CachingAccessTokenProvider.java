@@ -0,0 +1,104 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.function.Predicate;
+
+/**
+ * An {@link AccessTokenProvider} that keeps the access token retrieved by a
+ * {@link ClientCredentialsAccessTokenProvider} in memory and reuses it until
+ * the configured expiry margin before its expiration is reached. Access tokens
+ * received without a lifetime (<b>expires_in</b>) are never reused.
+ * 
+ * Concurrent callers that find the token expired share a single token request
+ * through an {@link AccessTokenRefreshCoordinator}.
+ */
+public class CachingAccessTokenProvider implements AccessTokenProvider, Closeable {
+
+    static final String ACCESS_TOKEN_PROVIDER_DISPLAY_NAME = "Access token provider";
+    static final String EXPIRY_MARGIN_DISPLAY_NAME = "Access token expiry margin";
+    static final String CLOCK_DISPLAY_NAME = "Clock";
+
+    private final ClientCredentialsAccessTokenProvider accessTokenProvider;
+    private final long expiryMarginMillis;
+    private final Clock clock;
+    private final AccessTokenRefreshCoordinator refreshCoordinator;
+    private final Predicate<AccessToken> isUsable;
+
+    /**
+     * @param accessTokenProvider
+     *            the provider used to request new access tokens.
+     * @param expiryMarginMillis
+     *            the time in milliseconds before the expiration of a token,
+     *            after which it is no longer reused.
+     */
+    public CachingAccessTokenProvider(ClientCredentialsAccessTokenProvider accessTokenProvider,
+            long expiryMarginMillis) {
+        this(accessTokenProvider, expiryMarginMillis, Clock.systemUTC());
+    }
+
+    CachingAccessTokenProvider(ClientCredentialsAccessTokenProvider accessTokenProvider, long expiryMarginMillis,
+            Clock clock) {
+        isNotNull(ACCESS_TOKEN_PROVIDER_DISPLAY_NAME, accessTokenProvider);
+        isNotNegative(EXPIRY_MARGIN_DISPLAY_NAME, expiryMarginMillis);
+        isNotNull(CLOCK_DISPLAY_NAME, clock);
+
+        this.accessTokenProvider = accessTokenProvider;
+        this.expiryMarginMillis = expiryMarginMillis;
+        this.clock = clock;
+        this.refreshCoordinator = new AccessTokenRefreshCoordinator(this::requestAccessToken);
+        this.isUsable = this::isUsable;
+    }
+
+    @Override
+    public String retrieveAccessToken() {
+        return refreshCoordinator.getAccessToken(isUsable).getValue();
+    }
+
+    /**
+     * @return Returns the cached access token or null if no token has been
+     *         retrieved yet.
+     */
+    AccessToken getCurrentAccessToken() {
+        return refreshCoordinator.getCurrentAccessToken();
+    }
+
+    /**
+     * Requests a new access token, unless the given token has already been
+     * replaced. Until the new token is received, callers keep getting the
+     * cached one, as long as it is usable.
+     * 
+     * @param staleAccessToken
+     *            the token to be replaced
+     * @return the new access token
+     */
+    AccessToken refreshAccessToken(AccessToken staleAccessToken) {
+        return refreshCoordinator.refresh(accessToken -> accessToken != staleAccessToken);
+    }
+
+    private boolean isUsable(AccessToken accessToken) {
+        return accessToken.isValidAt(clock.millis() + expiryMarginMillis);
+    }
+
+    private AccessToken requestAccessToken() {
+        long issuedAtMillis = clock.millis();
+        AccessTokenResponseDto response = accessTokenProvider.retrieveAccessTokenResponse();
+        return AccessToken.fromResponse(response, issuedAtMillis);
+    }
+
+    public long getExpiryMarginMillis() {
+        return expiryMarginMillis;
+    }
+
+    /**
+     * Closes the underlying {@link ClientCredentialsAccessTokenProvider}.
+     */
+    @Override
+    public void close() throws IOException {
+        accessTokenProvider.close();
+    }
+}
@@ -32,17 +32,36 @@ public class ClientCredentialsAccessTokenProvider extends RestApiClient implemen
 
     @Override
     public String retrieveAccessToken() {
+        return retrieveAccessTokenResponse().getAccessToken();
+    }
+
+    /**
+     * Requests a new access token from the authorization server. The duration
+     * of the fetch is reported to the metrics listener of the client.
+     * 
+     * @return the access token response, including the token lifetime if
+     *         provided by the server.
+     */
+    public AccessTokenResponseDto retrieveAccessTokenResponse() {
         Request<String> retrieveAccessTokenRequest = getAccessTokenRequestBuilder().build();
 
-        AccessTokenResponseDto accessTokenResponse = execute(retrieveAccessTokenRequest,
-                new JacksonJsonResponseHandler<>(AccessTokenResponseDto.class)).getEntity();
-        return accessTokenResponse.getAccessToken();
+        long start = System.nanoTime();
+        try {
+            AccessTokenResponseDto accessTokenResponse = execute(retrieveAccessTokenRequest,
+                    new JacksonJsonResponseHandler<>(AccessTokenResponseDto.class)).getEntity();
+            getMetricsListener().onTokenFetch(System.nanoTime() - start, null);
+            return accessTokenResponse;
+        } catch (RuntimeException e) {
+            getMetricsListener().onTokenFetch(System.nanoTime() - start, e);
+            throw e;
+        }
     }
 
     public RequestBuilder<String> getAccessTokenRequestBuilder() {
         return RequestBuilder
                 .postRequest()
                 .uri(buildRequestUri())
+                .route(apiPath)
                 .addParameter(GRANT_TYPE, CLIENT_CREDENTIALS)
                 .addParameter(RESPONSE_TYPE, TOKEN);
     }
@@ -4,10 +4,14 @@ import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.protocol.HttpContext;
 
+import com.sap.cloud.rest.api.client.http.ExchangeTimings;
+
 /**
  * HTTP request interceptor called during the Rest API Client execution in case
  * of OAuth authentication. It retrieves the access token and adds it as a
  * Bearer header to the request. The header key is provided in the constructor.
+ * The time spent retrieving the token is added to the {@link ExchangeTimings}
+ * of the exchange, if it is measured.
  *
  */
 public class OAuthHeaderProviderRequestInterceptor implements HttpRequestInterceptor {
@@ -24,7 +28,13 @@ public class OAuthHeaderProviderRequestInterceptor implements HttpRequestInterce
 
     @Override
     public void process(final HttpRequest request, final HttpContext context) {
-        request.addHeader(oAuthHeaderKey, BEARER_HEADER_PREFIX + accessTokenProvider.retrieveAccessToken());
+        ExchangeTimings timings = ExchangeTimings.get(context);
+        long start = System.nanoTime();
+        String accessToken = accessTokenProvider.retrieveAccessToken();
+        if (timings != null) {
+            timings.addAuthenticationNanos(System.nanoTime() - start);
+        }
+        request.addHeader(oAuthHeaderKey, BEARER_HEADER_PREFIX + accessToken);
     }
 
 }
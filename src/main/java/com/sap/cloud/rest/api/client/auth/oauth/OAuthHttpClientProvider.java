@@ -1,12 +1,18 @@
 package com.sap.cloud.rest.api.client.auth.oauth;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
 import org.apache.http.conn.routing.HttpRoutePlanner;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
 import com.sap.cloud.rest.api.client.http.HttpClientCreationException;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
 
 public class OAuthHttpClientProvider extends HttpClientProvider {
 
@@ -18,17 +24,58 @@ public class OAuthHttpClientProvider extends HttpClientProvider {
     }
     
     public OAuthHttpClientProvider(AccessTokenProvider accessTokenProvider, String oAuthHeaderKey) {
+        this(accessTokenProvider, oAuthHeaderKey, new ConnectionPoolConfig());
+    }
+
+    public OAuthHttpClientProvider(AccessTokenProvider accessTokenProvider, String oAuthHeaderKey,
+            ConnectionPoolConfig connectionPoolConfig) {
+        this(accessTokenProvider, oAuthHeaderKey, connectionPoolConfig, new TimeoutConfig());
+    }
+
+    public OAuthHttpClientProvider(AccessTokenProvider accessTokenProvider, String oAuthHeaderKey,
+            ConnectionPoolConfig connectionPoolConfig, TimeoutConfig timeoutConfig) {
+        super(connectionPoolConfig, timeoutConfig);
+        this.accessTokenProvider = accessTokenProvider;
+        this.oAuthHeaderKey = oAuthHeaderKey;
+    }
+
+    public OAuthHttpClientProvider(AccessTokenProvider accessTokenProvider, String oAuthHeaderKey,
+            SharedConnectionPool sharedConnectionPool) {
+        this(accessTokenProvider, oAuthHeaderKey, sharedConnectionPool, new TimeoutConfig());
+    }
+
+    public OAuthHttpClientProvider(AccessTokenProvider accessTokenProvider, String oAuthHeaderKey,
+            SharedConnectionPool sharedConnectionPool, TimeoutConfig timeoutConfig) {
+        super(sharedConnectionPool, timeoutConfig);
         this.accessTokenProvider = accessTokenProvider;
         this.oAuthHeaderKey = oAuthHeaderKey;
     }
 
     @Override
     public HttpClient createHttpClient(HttpRoutePlanner routePlanner) throws HttpClientCreationException {
-        return HttpClientBuilder.create()
-                .useSystemProperties()
-                .setRoutePlanner(routePlanner)
+        return createHttpClientBuilder(routePlanner)
                 .addInterceptorLast(new OAuthHeaderProviderRequestInterceptor(accessTokenProvider, oAuthHeaderKey))
                 .build();
     }
 
+    @Override
+    public CloseableHttpAsyncClient createHttpAsyncClient(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        CloseableHttpAsyncClient httpAsyncClient = createHttpAsyncClientBuilder(routePlanner)
+                .addInterceptorLast(new OAuthHeaderProviderRequestInterceptor(accessTokenProvider, oAuthHeaderKey))
+                .build();
+        httpAsyncClient.start();
+        return httpAsyncClient;
+    }
+
+    /**
+     * Closes the {@link AccessTokenProvider}, if it holds any resources.
+     */
+    @Override
+    public void close() throws IOException {
+        if (accessTokenProvider instanceof Closeable) {
+            ((Closeable) accessTokenProvider).close();
+        }
+    }
+
 }
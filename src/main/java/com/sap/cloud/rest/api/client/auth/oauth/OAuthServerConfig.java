@@ -1,6 +1,7 @@
 package com.sap.cloud.rest.api.client.auth.oauth;
 
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isValidUrl;
 
@@ -18,15 +19,21 @@ public class OAuthServerConfig {
     static final String OAUTH_SERVER_HOST_DISPLAY_NAME = "OAuth server host";
     static final String OAUTH_SERVER_API_PATH_DISPLAY_NAME = "OAuth server API path";
     static final String OAUTH_HEADER_KEY_DISPLAY_NAME = "OAuth server host";
+    static final String ACCESS_TOKEN_EXPIRY_MARGIN_DISPLAY_NAME = "Access token expiry margin";
+    static final String INVALID_PROACTIVE_REFRESH_RATIO_MSG = "Proactive access token refresh ratio must be greater than or equal to 0 and less than 1.";
 
     static final String DEFAULT_OAUTH_SERVER_API_PATH = "/oauth/token";
     static final String DEFAULT_OAUTH_HEADER_KEY = HttpHeaders.AUTHORIZATION;
+    static final long DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS = 60000;
+    static final double DISABLED_PROACTIVE_REFRESH_RATIO = 0;
 
     private final String oAuthServerHost;
     private final String oAuthServerApiPath;
     private final String oAuthHeaderKey;
     private final String clientID;
     private final char[] clientSecret;
+    private final long accessTokenExpiryMarginMillis;
+    private final double proactiveRefreshRatio;
 
     /**
      * This constructor allows omitting the API path and header key. In this
@@ -76,18 +83,60 @@ public class OAuthServerConfig {
      */
     public OAuthServerConfig(final String oAuthServerHost, final String oAuthServerApiPath, final String clientID,
             final char[] clientSecret, final String oAuthHeaderKey) {
+        this(oAuthServerHost, oAuthServerApiPath, clientID, clientSecret, oAuthHeaderKey,
+                DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS);
+    }
+
+    /**
+     * Full OAuth server configuration constructor, including the margin before
+     * the expiration of an access token, after which the token is no longer
+     * reused and a new one is requested.
+     * @param oAuthServerHost OAuth server host.
+     * @param oAuthServerApiPath API Path
+     * @param clientID Client ID.
+     * @param clientSecret Client secret.
+     * @param oAuthHeaderKey OAuth Header key.
+     * @param accessTokenExpiryMarginMillis Access token expiry margin in milliseconds.
+     */
+    public OAuthServerConfig(final String oAuthServerHost, final String oAuthServerApiPath, final String clientID,
+            final char[] clientSecret, final String oAuthHeaderKey, final long accessTokenExpiryMarginMillis) {
+        this(oAuthServerHost, oAuthServerApiPath, clientID, clientSecret, oAuthHeaderKey,
+                accessTokenExpiryMarginMillis, DISABLED_PROACTIVE_REFRESH_RATIO);
+    }
+
+    /**
+     * Full OAuth server configuration constructor, including the fraction of
+     * the access token lifetime, after which the token is renewed in the
+     * background. A ratio of 0 disables the background renewal.
+     * @param oAuthServerHost OAuth server host.
+     * @param oAuthServerApiPath API Path
+     * @param clientID Client ID.
+     * @param clientSecret Client secret.
+     * @param oAuthHeaderKey OAuth Header key.
+     * @param accessTokenExpiryMarginMillis Access token expiry margin in milliseconds.
+     * @param proactiveRefreshRatio Fraction of the token lifetime, after which it is renewed in the background.
+     */
+    public OAuthServerConfig(final String oAuthServerHost, final String oAuthServerApiPath, final String clientID,
+            final char[] clientSecret, final String oAuthHeaderKey, final long accessTokenExpiryMarginMillis,
+            final double proactiveRefreshRatio) {
         isNotEmptyOrNull(OAUTH_SERVER_HOST_DISPLAY_NAME, oAuthServerHost);
         isNotNull(OAUTH_SERVER_API_PATH_DISPLAY_NAME, oAuthServerApiPath);
         isNotEmptyOrNull(OAUTH_HEADER_KEY_DISPLAY_NAME, oAuthHeaderKey);
         isNotEmptyOrNull(CLIENT_ID_DISPLAY_NAME, clientID);
         isNotNull(CLIENT_SECRET_DISPLAY_NAME, clientSecret);
         isValidUrl(OAUTH_SERVER_HOST_DISPLAY_NAME, oAuthServerHost);
+        isNotNegative(ACCESS_TOKEN_EXPIRY_MARGIN_DISPLAY_NAME, accessTokenExpiryMarginMillis);
+        if (!(proactiveRefreshRatio >= 0 && proactiveRefreshRatio < 1)) {
+            throw new IllegalArgumentException(INVALID_PROACTIVE_REFRESH_RATIO_MSG);
+        }
 
         this.oAuthServerHost = oAuthServerHost;
         this.oAuthServerApiPath = oAuthServerApiPath;
         this.oAuthHeaderKey = oAuthHeaderKey;
         this.clientID = clientID;
         this.clientSecret = clientSecret;
+        this.accessTokenExpiryMarginMillis = accessTokenExpiryMarginMillis;
+        this.proactiveRefreshRatio = proactiveRefreshRatio;
     }
 
     public String getOAuthServerHost() {
@@ -109,4 +158,17 @@ public class OAuthServerConfig {
     public String getoAuthHeaderKey() {
         return oAuthHeaderKey;
     }
+
+    public long getAccessTokenExpiryMarginMillis() {
+        return accessTokenExpiryMarginMillis;
+    }
+
+    /**
+     * @return Returns the fraction of the access token lifetime, after which
+     *         the token is renewed in the background, or 0 if the background
+     *         renewal is disabled.
+     */
+    public double getProactiveRefreshRatio() {
+        return proactiveRefreshRatio;
+    }
 }
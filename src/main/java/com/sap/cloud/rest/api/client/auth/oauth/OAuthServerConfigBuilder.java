@@ -12,6 +12,8 @@ public class OAuthServerConfigBuilder {
     private String oAuthHeaderKey;
     private String clientID;
     private char[] clientSecret;
+    private Long accessTokenExpiryMarginMillis;
+    private double proactiveRefreshRatio = OAuthServerConfig.DISABLED_PROACTIVE_REFRESH_RATIO;
 
     /**
      * Attaches an OAuth Server Host to the builder.
@@ -80,24 +82,47 @@ public class OAuthServerConfigBuilder {
         return this;
     }
 
+    /**
+     * Attaches the margin before the expiration of an access token, after
+     * which the token is no longer reused, to the builder.
+     * @param accessTokenExpiryMarginMillis margin in milliseconds.
+     * @return {@link OAuthServerConfigBuilder} instance.
+     */
+    public OAuthServerConfigBuilder accessTokenExpiryMargin(long accessTokenExpiryMarginMillis) {
+        this.accessTokenExpiryMarginMillis = accessTokenExpiryMarginMillis;
+        return this;
+    }
+
+    /**
+     * Enables the background renewal of access tokens, after the given
+     * fraction of their lifetime has passed, e.g. 0.75 renews a token valid
+     * for one hour after 45 minutes.
+     * @param lifetimeRatio fraction of the token lifetime, between 0 and 1.
+     * @return {@link OAuthServerConfigBuilder} instance.
+     */
+    public OAuthServerConfigBuilder proactiveRefresh(double lifetimeRatio) {
+        this.proactiveRefreshRatio = lifetimeRatio;
+        return this;
+    }
+
     /**
      * Builds a {@link OAuthServerConfig} with the provided OAuth Server Host,
-     * OAuth Server API Path, client ID and client secret and OAuth Header key.
-     * If API path or OAuth Header key are not provided, the default ones from
-     * {@link OAuthServerConfig} are used.
+     * OAuth Server API Path, client ID and client secret, OAuth Header key,
+     * access token expiry margin and proactive refresh ratio. If API path,
+     * OAuth Header key or expiry margin are not provided, the default ones from
+     * {@link OAuthServerConfig} are used. Proactive refresh is disabled unless
+     * set.
      * @return {@link OAuthServerConfig} instance.
      */
     public OAuthServerConfig build() {
-        if (oAuthServerApiPath != null && oAuthHeaderKey != null) {
-            return new OAuthServerConfig(oAuthServerHost, oAuthServerApiPath, clientID, clientSecret, oAuthHeaderKey);
-        }
-        if (oAuthServerApiPath != null) {
-            return new OAuthServerConfig(oAuthServerHost, oAuthServerApiPath, clientID, clientSecret);
-        }
-        if (oAuthHeaderKey != null) {
-            return new OAuthServerConfig(oAuthServerHost, clientID, clientSecret, oAuthHeaderKey);
-        }
-        return new OAuthServerConfig(oAuthServerHost, clientID, clientSecret);
+        return new OAuthServerConfig(oAuthServerHost,
+                oAuthServerApiPath != null ? oAuthServerApiPath : OAuthServerConfig.DEFAULT_OAUTH_SERVER_API_PATH,
+                clientID,
+                clientSecret,
+                oAuthHeaderKey != null ? oAuthHeaderKey : OAuthServerConfig.DEFAULT_OAUTH_HEADER_KEY,
+                accessTokenExpiryMarginMillis != null ? accessTokenExpiryMarginMillis
+                        : OAuthServerConfig.DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS,
+                proactiveRefreshRatio);
     }
 
     /**
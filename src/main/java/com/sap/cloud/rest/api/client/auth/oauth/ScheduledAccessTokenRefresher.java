@@ -0,0 +1,200 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An {@link AccessTokenProvider} that renews the access token of a
+ * {@link CachingAccessTokenProvider} in the background, after a configured
+ * fraction of the token lifetime has passed. Callers keep getting the cached
+ * token while the renewal is in progress, so no request has to wait for the
+ * authorization server as long as the background renewal succeeds.
+ *
+ * The first renewal is scheduled after the first token with a lifetime is
+ * retrieved. Failed renewals are retried with exponential backoff. Tokens
+ * received without a lifetime are not renewed in the background. While no
+ * renewal is scheduled, e.g. because the last token had no lifetime, each
+ * retrieval checks again whether one can be scheduled.
+ *
+ * Closing the refresher cancels the scheduled renewal and closes the
+ * underlying {@link CachingAccessTokenProvider}.
+ */
+public class ScheduledAccessTokenRefresher implements AccessTokenProvider, Closeable {
+
+    static final String ACCESS_TOKEN_PROVIDER_DISPLAY_NAME = "Access token provider";
+    static final String EXECUTOR_DISPLAY_NAME = "Executor";
+    static final String INITIAL_BACKOFF_DISPLAY_NAME = "Initial backoff";
+    static final String MAX_BACKOFF_DISPLAY_NAME = "Maximum backoff";
+    static final String INVALID_REFRESH_RATIO_MSG = "Refresh ratio must be greater than 0 and less than 1.";
+
+    static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000;
+    static final long DEFAULT_MAX_BACKOFF_MILLIS = 60000;
+
+    private static final String THREAD_NAME = "access-token-refresher";
+
+    private final CachingAccessTokenProvider accessTokenProvider;
+    private final double refreshRatio;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Clock clock;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Creates a refresher running on its own daemon thread.
+     *
+     * @param accessTokenProvider
+     *            the provider, which token is renewed.
+     * @param refreshRatio
+     *            the fraction of the token lifetime, after which the token is
+     *            renewed. Must be greater than 0 and less than 1.
+     */
+    public ScheduledAccessTokenRefresher(CachingAccessTokenProvider accessTokenProvider, double refreshRatio) {
+        this(accessTokenProvider, refreshRatio, createExecutor(), true, DEFAULT_INITIAL_BACKOFF_MILLIS,
+                DEFAULT_MAX_BACKOFF_MILLIS, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a refresher running on the given executor. The executor is not
+     * shut down when the refresher is closed.
+     *
+     * @param accessTokenProvider
+     *            the provider, which token is renewed.
+     * @param refreshRatio
+     *            the fraction of the token lifetime, after which the token is
+     *            renewed. Must be greater than 0 and less than 1.
+     * @param executor
+     *            the executor used to schedule the renewals.
+     */
+    public ScheduledAccessTokenRefresher(CachingAccessTokenProvider accessTokenProvider, double refreshRatio,
+            ScheduledExecutorService executor) {
+        this(accessTokenProvider, refreshRatio, executor, false, DEFAULT_INITIAL_BACKOFF_MILLIS,
+                DEFAULT_MAX_BACKOFF_MILLIS, Clock.systemUTC());
+    }
+
+    ScheduledAccessTokenRefresher(CachingAccessTokenProvider accessTokenProvider, double refreshRatio,
+            ScheduledExecutorService executor, boolean ownsExecutor, long initialBackoffMillis,
+            long maxBackoffMillis, Clock clock) {
+        isNotNull(ACCESS_TOKEN_PROVIDER_DISPLAY_NAME, accessTokenProvider);
+        isNotNull(EXECUTOR_DISPLAY_NAME, executor);
+        isNotNegative(INITIAL_BACKOFF_DISPLAY_NAME, initialBackoffMillis);
+        isNotNegative(MAX_BACKOFF_DISPLAY_NAME, maxBackoffMillis);
+        if (!(refreshRatio > 0 && refreshRatio < 1)) {
+            throw new IllegalArgumentException(INVALID_REFRESH_RATIO_MSG);
+        }
+
+        this.accessTokenProvider = accessTokenProvider;
+        this.refreshRatio = refreshRatio;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public String retrieveAccessToken() {
+        String accessToken = accessTokenProvider.retrieveAccessToken();
+        if (!scheduled.get() && scheduled.compareAndSet(false, true) && !scheduleNextRefresh()) {
+            scheduled.set(false);
+        }
+        return accessToken;
+    }
+
+    public double getRefreshRatio() {
+        return refreshRatio;
+    }
+
+    /**
+     * Schedules the renewal of the current token. Returns false if it has no
+     * lifetime or the renewal cannot be scheduled.
+     */
+    private boolean scheduleNextRefresh() {
+        AccessToken accessToken = accessTokenProvider.getCurrentAccessToken();
+        if (accessToken == null || accessToken.getLifetimeMillis() <= 0) {
+            return false;
+        }
+
+        long refreshAtMillis = accessToken.getIssuedAtMillis()
+                + (long) (accessToken.getLifetimeMillis() * refreshRatio);
+        return schedule(() -> refresh(accessToken, 0), refreshAtMillis - clock.millis());
+    }
+
+    private void refresh(AccessToken staleAccessToken, int failedAttempts) {
+        if (closed) {
+            return;
+        }
+        try {
+            accessTokenProvider.refreshAccessToken(staleAccessToken);
+        } catch (RuntimeException e) {
+            if (!schedule(() -> refresh(staleAccessToken, failedAttempts + 1), getBackoffMillis(failedAttempts))) {
+                scheduled.set(false);
+            }
+            return;
+        }
+        if (!scheduleNextRefresh()) {
+            scheduled.set(false);
+        }
+    }
+
+    private long getBackoffMillis(int failedAttempts) {
+        int shift = Math.min(failedAttempts, 30);
+        return Math.min(maxBackoffMillis, initialBackoffMillis << shift);
+    }
+
+    private boolean schedule(Runnable refresh, long delayMillis) {
+        if (closed) {
+            return false;
+        }
+        try {
+            scheduledRefresh = executor.schedule(refresh, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // the executor has been shut down, no further renewals are
+            // scheduled
+            return false;
+        }
+    }
+
+    /**
+     * Cancels the scheduled renewal, shuts down the executor if it was
+     * created by the refresher, and closes the underlying
+     * {@link CachingAccessTokenProvider}.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        ScheduledFuture<?> refresh = scheduledRefresh;
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+        accessTokenProvider.close();
+    }
+
+    private static ScheduledExecutorService createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
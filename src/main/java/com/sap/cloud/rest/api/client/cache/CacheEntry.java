@@ -0,0 +1,280 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpMessage;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+
+/**
+ * A cached response. Holds the status line, the headers and the body of the
+ * response, the values of the request headers the response varies by, and
+ * how long the response is fresh according to its <b>Cache-Control</b>,
+ * <b>Expires</b>, <b>Date</b> and <b>Age</b> headers.
+ */
+class CacheEntry {
+
+    static final String NO_STORE = "no-store";
+    static final String NO_CACHE = "no-cache";
+    static final String MAX_AGE = "max-age";
+    static final String VARY_ANY = "*";
+
+    private static final Set<String> NOT_UPDATED_HEADERS = new HashSet<>(Arrays.asList(
+            "content-length", "content-encoding", "transfer-encoding"));
+
+    private final StatusLine statusLine;
+    private final Header[] headers;
+    private final byte[] body;
+    private final Map<String, String> varyingHeaders;
+    private final long storedAtMillis;
+    private final long initialAgeMillis;
+    private final long freshnessLifetimeMillis;
+
+    private CacheEntry(StatusLine statusLine, Header[] headers, byte[] body, Map<String, String> varyingHeaders,
+            long storedAtMillis) {
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body;
+        this.varyingHeaders = varyingHeaders;
+        this.storedAtMillis = storedAtMillis;
+        this.initialAgeMillis = getAgeMillis(headers);
+        this.freshnessLifetimeMillis = getFreshnessLifetimeMillis(headers, storedAtMillis);
+    }
+
+    /**
+     * @param request
+     *            the request of the response.
+     * @param response
+     *            the response, whose body has been read.
+     * @param body
+     *            the body of the response.
+     * @param nowMillis
+     *            the time the response was received.
+     * @return the entry.
+     */
+    static CacheEntry create(HttpRequest request, HttpResponse response, byte[] body, long nowMillis) {
+        Map<String, String> varyingHeaders = new LinkedHashMap<>();
+        for (String name : getVaryingHeaderNames(response)) {
+            varyingHeaders.put(name, getHeaderValues(request, name));
+        }
+        return new CacheEntry(response.getStatusLine(), response.getAllHeaders(), body,
+                Collections.unmodifiableMap(varyingHeaders), nowMillis);
+    }
+
+    /**
+     * Creates the entry revalidated by a <b>304 Not Modified</b> response. The
+     * headers of the 304 response replace the stored ones.
+     */
+    CacheEntry revalidate(HttpResponse notModified, long nowMillis) {
+        List<Header> mergedHeaders = new ArrayList<>();
+        for (Header header : headers) {
+            if (isNotUpdated(header.getName()) || !notModified.containsHeader(header.getName())) {
+                mergedHeaders.add(header);
+            }
+        }
+        for (Header header : notModified.getAllHeaders()) {
+            if (!isNotUpdated(header.getName())) {
+                mergedHeaders.add(header);
+            }
+        }
+        return new CacheEntry(statusLine, mergedHeaders.toArray(new Header[mergedHeaders.size()]), body,
+                varyingHeaders, nowMillis);
+    }
+
+    /**
+     * Checks if a response may be stored. A response may not be stored if it
+     * or its request has the <b>no-store</b> directive, or if it varies by
+     * all request headers.
+     */
+    static boolean isStorable(HttpRequest request, HttpResponse response) {
+        if (hasDirective(request, NO_STORE) || hasDirective(response, NO_STORE)) {
+            return false;
+        }
+        return !getVaryingHeaderNames(response).contains(VARY_ANY);
+    }
+
+    /**
+     * @return Returns whether the entry is fresh at the given time, so it can
+     *         be used without revalidation.
+     */
+    boolean isFresh(long nowMillis) {
+        long currentAgeMillis = initialAgeMillis + Math.max(0, nowMillis - storedAtMillis);
+        return freshnessLifetimeMillis > currentAgeMillis;
+    }
+
+    /**
+     * @return Returns whether the entry can be revalidated with a conditional
+     *         request, i.e. if it has an <b>ETag</b> or a <b>Last-Modified</b>
+     *         header.
+     */
+    boolean isRevalidatable() {
+        return getETag() != null || getLastModified() != null;
+    }
+
+    /**
+     * @return Returns whether the entry is a response to a request with the
+     *         same values of the headers the response varies by.
+     */
+    boolean matches(HttpRequest request) {
+        for (Map.Entry<String, String> varyingHeader : varyingHeaders.entrySet()) {
+            if (!Objects.equals(varyingHeader.getValue(), getHeaderValues(request, varyingHeader.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String getETag() {
+        return getHeaderValue(HttpHeaders.ETAG);
+    }
+
+    String getLastModified() {
+        return getHeaderValue(HttpHeaders.LAST_MODIFIED);
+    }
+
+    long getSize() {
+        return body.length;
+    }
+
+    /**
+     * @return Returns a new response with the status line, headers and body of
+     *         the entry.
+     */
+    HttpResponse toHttpResponse() {
+        BasicHttpResponse response = new BasicHttpResponse(statusLine);
+        response.setHeaders(headers);
+        ByteArrayEntity entity = new ByteArrayEntity(body);
+        entity.setContentType(response.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+        entity.setContentEncoding(response.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+        response.setEntity(entity);
+        return response;
+    }
+
+    private String getHeaderValue(String name) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    static boolean hasDirective(HttpMessage message, String directive) {
+        return getDirective(message.getHeaders(HttpHeaders.CACHE_CONTROL), directive) != null;
+    }
+
+    private static HeaderElement getDirective(Header[] cacheControlHeaders, String directive) {
+        for (Header header : cacheControlHeaders) {
+            for (HeaderElement element : header.getElements()) {
+                if (element.getName().equalsIgnoreCase(directive)) {
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines the freshness lifetime from the <b>no-cache</b> and
+     * <b>max-age</b> directives or else from the <b>Expires</b> and
+     * <b>Date</b> headers. A response without either is stale at once.
+     */
+    private static long getFreshnessLifetimeMillis(Header[] headers, long nowMillis) {
+        Header[] cacheControlHeaders = filter(headers, HttpHeaders.CACHE_CONTROL);
+        if (getDirective(cacheControlHeaders, NO_CACHE) != null) {
+            return 0;
+        }
+        HeaderElement maxAge = getDirective(cacheControlHeaders, MAX_AGE);
+        if (maxAge != null) {
+            return TimeUnit.SECONDS.toMillis(parseSeconds(maxAge.getValue()));
+        }
+        Header[] expiresHeaders = filter(headers, HttpHeaders.EXPIRES);
+        if (expiresHeaders.length == 0) {
+            return 0;
+        }
+        Date expires = DateUtils.parseDate(expiresHeaders[0].getValue());
+        if (expires == null) {
+            return 0;
+        }
+        Header[] dateHeaders = filter(headers, HttpHeaders.DATE);
+        Date date = dateHeaders.length == 0 ? null : DateUtils.parseDate(dateHeaders[0].getValue());
+        long dateMillis = date == null ? nowMillis : date.getTime();
+        return Math.max(0, expires.getTime() - dateMillis);
+    }
+
+    private static long getAgeMillis(Header[] headers) {
+        Header[] ageHeaders = filter(headers, HttpHeaders.AGE);
+        if (ageHeaders.length == 0) {
+            return 0;
+        }
+        return TimeUnit.SECONDS.toMillis(parseSeconds(ageHeaders[0].getValue()));
+    }
+
+    private static long parseSeconds(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Header[] filter(Header[] headers, String name) {
+        List<Header> filtered = new ArrayList<>();
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                filtered.add(header);
+            }
+        }
+        return filtered.toArray(new Header[filtered.size()]);
+    }
+
+    private static Set<String> getVaryingHeaderNames(HttpResponse response) {
+        Set<String> names = new HashSet<>();
+        for (Header header : response.getHeaders(HttpHeaders.VARY)) {
+            for (HeaderElement element : header.getElements()) {
+                names.add(element.getName().toLowerCase(Locale.ROOT));
+            }
+        }
+        return names;
+    }
+
+    private static String getHeaderValues(HttpRequest request, String name) {
+        Header[] values = request.getHeaders(name);
+        if (values.length == 0) {
+            return null;
+        }
+        StringBuilder joined = new StringBuilder();
+        for (Header value : values) {
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(value.getValue());
+        }
+        return joined.toString();
+    }
+
+    private static boolean isNotUpdated(String headerName) {
+        return NOT_UPDATED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * The result of looking up a request in a {@link ResponseCache}. Provides the
+ * fresh cached response, if there is one. Otherwise provides the headers,
+ * which turn the request into a conditional request revalidating a stale
+ * cached response, and handles the response received from the server.
+ */
+public class CacheLookup {
+
+    /**
+     * The lookup of a request, which bypasses the cache.
+     */
+    public static final CacheLookup NONE = new CacheLookup(Type.BYPASS, null, null, null, null);
+
+    /**
+     * How the request is served.
+     */
+    enum Type {
+        /** The request bypasses the cache. */
+        BYPASS,
+        /** The request is served from a fresh cached response. */
+        FRESH,
+        /** The response from the server is stored, after revalidating the cached response, if any. */
+        EXCHANGE,
+        /** A successful response from the server invalidates the cached response. */
+        INVALIDATE
+    }
+
+    private static final Header[] NO_HEADERS = new Header[0];
+
+    private final Type type;
+    private final ResponseCache cache;
+    private final HttpUriRequest request;
+    private final String key;
+    private final CacheEntry entry;
+
+    CacheLookup(Type type, ResponseCache cache, HttpUriRequest request, String key, CacheEntry entry) {
+        this.type = type;
+        this.cache = cache;
+        this.request = request;
+        this.key = key;
+        this.entry = entry;
+    }
+
+    /**
+     * @return Returns a new response built from the cached response, if it is
+     *         fresh, or null if the request has to be executed.
+     */
+    public HttpResponse getFreshResponse() {
+        if (type != Type.FRESH) {
+            return null;
+        }
+        return entry.toHttpResponse();
+    }
+
+    /**
+     * @return Returns the <b>If-None-Match</b> and <b>If-Modified-Since</b>
+     *         headers, which revalidate the stale cached response, or an empty
+     *         array if there is none.
+     */
+    public Header[] getConditionalHeaders() {
+        if (type != Type.EXCHANGE || entry == null) {
+            return NO_HEADERS;
+        }
+        List<Header> headers = new ArrayList<>();
+        if (entry.getETag() != null) {
+            headers.add(new BasicHeader(HttpHeaders.IF_NONE_MATCH, entry.getETag()));
+        }
+        if (entry.getLastModified() != null) {
+            headers.add(new BasicHeader(HttpHeaders.IF_MODIFIED_SINCE, entry.getLastModified()));
+        }
+        return headers.toArray(new Header[headers.size()]);
+    }
+
+    /**
+     * Handles the response received from the server. Answers a
+     * <b>304 Not Modified</b> to a conditional request with the cached
+     * response, stores a cacheable response and invalidates the cached
+     * response after a successful unsafe request.
+     *
+     * @param response
+     *            the response received from the server.
+     * @return the response to be used instead of the given one.
+     * @throws IOException
+     *             if reading the body of a response to be stored fails.
+     */
+    public HttpResponse onResponse(HttpResponse response) throws IOException {
+        if (type == Type.BYPASS || type == Type.FRESH) {
+            return response;
+        }
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (type == Type.INVALIDATE) {
+            if (statusCode < HttpStatus.SC_BAD_REQUEST) {
+                cache.invalidate(key);
+            }
+            return response;
+        }
+        if (statusCode == HttpStatus.SC_NOT_MODIFIED && entry != null) {
+            EntityUtils.consumeQuietly(response.getEntity());
+            return cache.revalidate(key, entry, response).toHttpResponse();
+        }
+        return cache.store(key, request, response);
+    }
+}
@@ -0,0 +1,330 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+
+/**
+ * A size-bounded cache of HTTP responses to GET requests, which can be
+ * attached to a client with
+ * {@link com.sap.cloud.rest.api.client.config.RestApiClientConfig}.
+ *
+ * A response is fresh as long as its <b>Cache-Control</b> max-age or its
+ * <b>Expires</b> header allows. A fresh response is served from the cache
+ * without a request. A stale response with an <b>ETag</b> or a
+ * <b>Last-Modified</b> header is revalidated with a conditional request and
+ * served from the cache if the server answers <b>304 Not Modified</b>. The
+ * directives <b>no-store</b> and <b>no-cache</b> are honoured for requests and
+ * responses, as is the <b>Vary</b> header. A successful POST, PUT, PATCH or
+ * DELETE request invalidates the cached response of its URI.
+ *
+ * The cache is private, i.e. it does not distinguish between users. It can be
+ * shared by several clients only if they act on behalf of the same identity.
+ * When one of the limits of the {@link ResponseCacheConfig} is reached, the
+ * least recently used responses are evicted.
+ */
+public class ResponseCache {
+
+    static final String RESPONSE_CACHE_CONFIG_DISPLAY_NAME = "Response cache config";
+    static final String CLOCK_DISPLAY_NAME = "Clock";
+    static final String REQUEST_DISPLAY_NAME = "Request";
+
+    static final Set<Integer> CACHEABLE_STATUS_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            HttpStatus.SC_OK, HttpStatus.SC_NON_AUTHORITATIVE_INFORMATION, HttpStatus.SC_NO_CONTENT,
+            HttpStatus.SC_MULTIPLE_CHOICES, HttpStatus.SC_MOVED_PERMANENTLY, HttpStatus.SC_NOT_FOUND,
+            HttpStatus.SC_METHOD_NOT_ALLOWED, HttpStatus.SC_GONE, HttpStatus.SC_REQUEST_URI_TOO_LONG,
+            HttpStatus.SC_NOT_IMPLEMENTED)));
+    static final Set<String> INVALIDATING_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "POST", "PUT", "PATCH", "DELETE")));
+    static final Set<String> CONDITIONAL_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.IF_RANGE)));
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final ResponseCacheConfig config;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSizeBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with the default limits.
+     */
+    public ResponseCache() {
+        this(new ResponseCacheConfig());
+    }
+
+    /**
+     * Creates a cache with the given limits.
+     *
+     * @param config
+     *            the limits of the cache.
+     */
+    public ResponseCache(ResponseCacheConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    ResponseCache(ResponseCacheConfig config, Clock clock) {
+        isNotNull(RESPONSE_CACHE_CONFIG_DISPLAY_NAME, config);
+        isNotNull(CLOCK_DISPLAY_NAME, clock);
+
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Looks up the cached response to the given request. The returned lookup
+     * provides the fresh cached response, or the headers of a conditional
+     * request to revalidate a stale one, and must be passed the response
+     * received from the server. GET requests with their own conditional
+     * headers or the <b>no-store</b> directive bypass the cache.
+     *
+     * @param request
+     *            the request to be executed.
+     * @return the lookup, or {@link CacheLookup#NONE} if the request bypasses
+     *         the cache.
+     */
+    public CacheLookup lookup(HttpUriRequest request) {
+        isNotNull(REQUEST_DISPLAY_NAME, request);
+
+        String method = request.getMethod();
+        String key = getKey(request);
+        if (INVALIDATING_METHODS.contains(method)) {
+            return new CacheLookup(CacheLookup.Type.INVALIDATE, this, request, key, null);
+        }
+        if (!HttpGet.METHOD_NAME.equals(method) || hasConditionalHeaders(request)
+                || CacheEntry.hasDirective(request, CacheEntry.NO_STORE)) {
+            return CacheLookup.NONE;
+        }
+
+        CacheEntry entry = get(key);
+        if (entry != null && !entry.matches(request)) {
+            entry = null;
+        }
+        if (entry != null && entry.isFresh(clock.millis())
+                && !CacheEntry.hasDirective(request, CacheEntry.NO_CACHE)) {
+            hits.increment();
+            return new CacheLookup(CacheLookup.Type.FRESH, this, request, key, entry);
+        }
+        if (entry != null && !entry.isRevalidatable()) {
+            entry = null;
+        }
+        return new CacheLookup(CacheLookup.Type.EXCHANGE, this, request, key, entry);
+    }
+
+    /**
+     * Stores the response, if it may be cached and its body does not exceed
+     * the maximum entry size. Buffers the body for that, so the returned
+     * response has to be used instead of the given one.
+     */
+    HttpResponse store(String key, HttpUriRequest request, HttpResponse response) throws IOException {
+        misses.increment();
+        if (!CACHEABLE_STATUS_CODES.contains(response.getStatusLine().getStatusCode())
+                || !CacheEntry.isStorable(request, response)) {
+            return response;
+        }
+        long nowMillis = clock.millis();
+        CacheEntry entry = CacheEntry.create(request, response, EMPTY_BODY, nowMillis);
+        if (!entry.isFresh(nowMillis) && !entry.isRevalidatable()) {
+            return response;
+        }
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            if (entity.getContentLength() > config.getMaxEntrySizeBytes()) {
+                return response;
+            }
+            byte[] body = readBody(response, entity);
+            if (body == null) {
+                return response;
+            }
+            entry = CacheEntry.create(request, response, body, nowMillis);
+        }
+        put(key, entry);
+        return response;
+    }
+
+    /**
+     * Reads the body of the response up to the maximum entry size and replaces
+     * the entity of the response with the read bytes. Returns null if the body
+     * is larger, in which case the entity is replaced with one, which returns
+     * the read bytes followed by the rest of the body.
+     */
+    private byte[] readBody(HttpResponse response, HttpEntity entity) throws IOException {
+        long maxSize = config.getMaxEntrySizeBytes();
+        InputStream content = entity.getContent();
+        if (content == null) {
+            return new byte[0];
+        }
+        long length = entity.getContentLength();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(length >= 0 ? (int) length : BUFFER_SIZE);
+        byte[] chunk = new byte[BUFFER_SIZE];
+        int read;
+        try {
+            while ((read = content.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+                if (buffer.size() > maxSize) {
+                    InputStreamEntity rest = new InputStreamEntity(new SequenceInputStream(
+                            new ByteArrayInputStream(buffer.toByteArray()), content), length);
+                    rest.setContentType(entity.getContentType());
+                    rest.setContentEncoding(entity.getContentEncoding());
+                    rest.setChunked(entity.isChunked());
+                    response.setEntity(rest);
+                    return null;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            content.close();
+            throw e;
+        }
+        content.close();
+
+        byte[] body = buffer.toByteArray();
+        ByteArrayEntity buffered = new ByteArrayEntity(body);
+        buffered.setContentType(entity.getContentType());
+        buffered.setContentEncoding(entity.getContentEncoding());
+        response.setEntity(buffered);
+        return body;
+    }
+
+    /**
+     * Replaces the entry with the one revalidated by a 304 response.
+     */
+    CacheEntry revalidate(String key, CacheEntry entry, HttpResponse notModified) {
+        hits.increment();
+        CacheEntry revalidated = entry.revalidate(notModified, clock.millis());
+        put(key, revalidated);
+        return revalidated;
+    }
+
+    private synchronized CacheEntry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, CacheEntry entry) {
+        CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalSizeBytes -= previous.getSize();
+        }
+        totalSizeBytes += entry.getSize();
+
+        Iterator<Map.Entry<String, CacheEntry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > config.getMaxEntries() || totalSizeBytes > config.getMaxTotalSizeBytes()) {
+            totalSizeBytes -= eldest.next().getValue().getSize();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    synchronized void invalidate(String key) {
+        CacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            totalSizeBytes -= removed.getSize();
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalSizeBytes = 0;
+    }
+
+    /**
+     * @return Returns the number of requests served from the cache, either
+     *         because the cached response was fresh or because the server
+     *         confirmed it with <b>304 Not Modified</b>.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Returns the number of cacheable requests whose response was
+     *         received from the server.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Returns the number of responses evicted to stay within the
+     *         limits.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Returns the number of cached responses.
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return Returns the total size in bytes of the cached response bodies.
+     */
+    public synchronized long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public ResponseCacheConfig getConfig() {
+        return config;
+    }
+
+    private static String getKey(HttpUriRequest request) {
+        return request.getURI().toString();
+    }
+
+    private static boolean hasConditionalHeaders(HttpUriRequest request) {
+        for (String header : CONDITIONAL_HEADERS) {
+            if (request.containsHeader(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(ResponseCache.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("config", config)
+                .append("entryCount", getEntryCount())
+                .append("totalSizeBytes", getTotalSizeBytes())
+                .append("hitCount", getHitCount())
+                .append("missCount", getMissCount())
+                .append("evictionCount", getEvictionCount())
+                .toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+import static java.text.MessageFormat.format;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Configuration of a {@link ResponseCache}. Limits the number of cached
+ * responses, the size of the body of a single cached response and the total
+ * size of all cached bodies. When a limit is reached, the least recently used
+ * responses are evicted.
+ */
+public class ResponseCacheConfig {
+
+    static final String MAX_ENTRIES_DISPLAY_NAME = "Max entries";
+    static final String MAX_ENTRY_SIZE_DISPLAY_NAME = "Max entry size";
+    static final String MAX_TOTAL_SIZE_DISPLAY_NAME = "Max total size";
+    static final String INVALID_MAX_ENTRY_SIZE_MSG = "Max entry size [{0}] must not be greater than the max total size [{1}].";
+
+    static final int DEFAULT_MAX_ENTRIES = 1000;
+    static final long DEFAULT_MAX_ENTRY_SIZE_BYTES = 1024 * 1024;
+    static final long DEFAULT_MAX_TOTAL_SIZE_BYTES = 32 * 1024 * 1024;
+
+    private final int maxEntries;
+    private final long maxEntrySizeBytes;
+    private final long maxTotalSizeBytes;
+
+    /**
+     * Creates a {@link ResponseCacheConfig} with the default limits: 1000
+     * responses with bodies of at most 1 MiB each and 32 MiB in total.
+     */
+    public ResponseCacheConfig() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_ENTRY_SIZE_BYTES, DEFAULT_MAX_TOTAL_SIZE_BYTES);
+    }
+
+    /**
+     * @param maxEntries
+     *            the maximum number of cached responses.
+     * @param maxEntrySizeBytes
+     *            the maximum size in bytes of the body of a cached response.
+     *            Larger responses are not cached.
+     * @param maxTotalSizeBytes
+     *            the maximum total size in bytes of the bodies of all cached
+     *            responses.
+     */
+    public ResponseCacheConfig(int maxEntries, long maxEntrySizeBytes, long maxTotalSizeBytes) {
+        isPositive(MAX_ENTRIES_DISPLAY_NAME, maxEntries);
+        isPositive(MAX_ENTRY_SIZE_DISPLAY_NAME, maxEntrySizeBytes);
+        isPositive(MAX_TOTAL_SIZE_DISPLAY_NAME, maxTotalSizeBytes);
+        if (maxEntrySizeBytes > maxTotalSizeBytes) {
+            throw new IllegalArgumentException(format(INVALID_MAX_ENTRY_SIZE_MSG,
+                    String.valueOf(maxEntrySizeBytes), String.valueOf(maxTotalSizeBytes)));
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+        this.maxTotalSizeBytes = maxTotalSizeBytes;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxEntrySizeBytes() {
+        return maxEntrySizeBytes;
+    }
+
+    public long getMaxTotalSizeBytes() {
+        return maxTotalSizeBytes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(ResponseCacheConfig.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("maxEntries", maxEntries)
+                .append("maxEntrySizeBytes", maxEntrySizeBytes)
+                .append("maxTotalSizeBytes", maxTotalSizeBytes)
+                .toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sap.cloud.rest.api.client.cache;
+
+/**
+ * A builder for {@link ResponseCacheConfig}.
+ */
+public class ResponseCacheConfigBuilder {
+
+    private int maxEntries = ResponseCacheConfig.DEFAULT_MAX_ENTRIES;
+    private long maxEntrySizeBytes = ResponseCacheConfig.DEFAULT_MAX_ENTRY_SIZE_BYTES;
+    private long maxTotalSizeBytes = ResponseCacheConfig.DEFAULT_MAX_TOTAL_SIZE_BYTES;
+
+    /**
+     * Attaches the maximum number of cached responses to the builder.
+     * @param maxEntries max number of cached responses.
+     * @return {@link ResponseCacheConfigBuilder} instance.
+     */
+    public ResponseCacheConfigBuilder maxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum size of the body of a cached response to the
+     * builder.
+     * @param maxEntrySizeBytes max size in bytes of a cached response body.
+     * @return {@link ResponseCacheConfigBuilder} instance.
+     */
+    public ResponseCacheConfigBuilder maxEntrySize(long maxEntrySizeBytes) {
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum total size of all cached response bodies to the
+     * builder.
+     * @param maxTotalSizeBytes max total size in bytes of the cached response bodies.
+     * @return {@link ResponseCacheConfigBuilder} instance.
+     */
+    public ResponseCacheConfigBuilder maxTotalSize(long maxTotalSizeBytes) {
+        this.maxTotalSizeBytes = maxTotalSizeBytes;
+        return this;
+    }
+
+    /**
+     * Builds a {@link ResponseCacheConfig} with the attached limits. Limits
+     * which were not attached keep their default values.
+     * @return {@link ResponseCacheConfig} instance.
+     */
+    public ResponseCacheConfig build() {
+        return new ResponseCacheConfig(maxEntries, maxEntrySizeBytes, maxTotalSizeBytes);
+    }
+
+    /**
+     * @return Returns an instance of {@link ResponseCacheConfigBuilder}.
+     */
+    public static ResponseCacheConfigBuilder getBuilder() {
+        return new ResponseCacheConfigBuilder();
+    }
+}
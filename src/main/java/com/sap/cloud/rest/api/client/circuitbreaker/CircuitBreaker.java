@@ -0,0 +1,207 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The circuit breaker of a single route. Before each request the client asks
+ * for a permission, which is denied while the circuit breaker is open, and
+ * afterwards records the outcome of the request.
+ *
+ * The state is an immutable snapshot held in an atomic reference. Transitions
+ * replace the snapshot with compare-and-set, so that concurrent requests
+ * never block each other and exactly one of them performs each transition.
+ * Only the recording of an outcome in the sliding window of the current state
+ * is synchronized.
+ *
+ * Each permission remembers the state it was granted in. Outcomes of requests,
+ * which were permitted before the latest transition, are dropped, so that
+ * e.g. a slow request sent while the circuit breaker was closed does not count
+ * as a probe of the half-open state.
+ */
+public class CircuitBreaker {
+
+    private final String route;
+    private final CircuitBreakerConfig config;
+    private final Clock clock;
+    private final AtomicReference<State> state;
+    private final Permission unguardedPermission;
+
+    CircuitBreaker(String route, CircuitBreakerConfig config, Clock clock) {
+        this.route = route;
+        this.config = config;
+        this.clock = clock;
+        this.state = new AtomicReference<>(closed());
+        this.unguardedPermission = new Permission(null);
+    }
+
+    /**
+     * Asks for the permission to execute a request. Once the wait duration of
+     * the open state has passed, the first caller moves the circuit breaker
+     * to the half-open state. A permission, which was granted, must be
+     * followed by {@link Permission#onResponse(int, long)},
+     * {@link Permission#onException(long)} or {@link Permission#release()}.
+     *
+     * @return the permission, or null if the request may not be executed.
+     */
+    public Permission tryAcquirePermission() {
+        if (!config.isEnabled()) {
+            return unguardedPermission;
+        }
+        while (true) {
+            State current = state.get();
+            switch (current.state) {
+            case CLOSED:
+                return current.permission;
+            case HALF_OPEN:
+                return current.tryAcquireProbe() ? current.permission : null;
+            default:
+                if (clock.millis() - current.openedAtMillis < config.getWaitDurationInOpenStateMillis()) {
+                    return null;
+                }
+                state.compareAndSet(current, halfOpen());
+            }
+        }
+    }
+
+    private void record(State acquired, boolean failed, long durationMillis) {
+        if (!config.isEnabled() || state.get() != acquired) {
+            return;
+        }
+        boolean slow = durationMillis >= config.getSlowCallDurationMillis();
+        boolean exceeded = acquired.window.record(failed, slow, acquired.minimumCalls,
+                config.getFailureRateThreshold(), config.getSlowCallRateThreshold());
+        if (exceeded) {
+            state.compareAndSet(acquired, open());
+        } else if (acquired.state == CircuitBreakerState.HALF_OPEN
+                && acquired.window.getCalls() >= config.getPermittedCallsInHalfOpenState()) {
+            state.compareAndSet(acquired, closed());
+        }
+    }
+
+    public CircuitBreakerState getState() {
+        return state.get().state;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    private State closed() {
+        return new State(CircuitBreakerState.CLOSED, new SlidingWindow(config.getSlidingWindowSize()),
+                config.getMinimumCalls(), 0, 0);
+    }
+
+    private State open() {
+        return new State(CircuitBreakerState.OPEN, null, 0, 0, clock.millis());
+    }
+
+    private State halfOpen() {
+        int permittedCalls = config.getPermittedCallsInHalfOpenState();
+        return new State(CircuitBreakerState.HALF_OPEN, new SlidingWindow(permittedCalls), permittedCalls,
+                permittedCalls, 0);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(CircuitBreaker.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("route", route)
+                .append("state", getState())
+                .toString();
+    }
+
+    /**
+     * The permission to execute one request, which was granted in a specific
+     * state of the circuit breaker.
+     */
+    public final class Permission {
+
+        private final State acquired;
+
+        private Permission(State acquired) {
+            this.acquired = acquired;
+        }
+
+        /**
+         * Records a request, which received a response.
+         *
+         * @param statusCode
+         *            the status code of the response.
+         * @param durationMillis
+         *            the duration of the request in milliseconds.
+         */
+        public void onResponse(int statusCode, long durationMillis) {
+            record(acquired, config.getFailureStatusCodes().contains(statusCode), durationMillis);
+        }
+
+        /**
+         * Records a request, which failed with an exception.
+         *
+         * @param durationMillis
+         *            the duration of the request in milliseconds.
+         */
+        public void onException(long durationMillis) {
+            record(acquired, true, durationMillis);
+        }
+
+        /**
+         * Gives back the permission, which was granted for a request that was
+         * not executed to its end, e.g. because it was cancelled.
+         */
+        public void release() {
+            if (acquired != null && acquired.state == CircuitBreakerState.HALF_OPEN) {
+                acquired.releaseProbe();
+            }
+        }
+    }
+
+    /**
+     * A state of the circuit breaker. The closed and the half-open state
+     * record outcomes in their own sliding window, the half-open state hands
+     * out a limited number of probe permissions and the open state remembers
+     * when it was entered. All permissions granted in a state are the same
+     * instance.
+     */
+    private class State {
+
+        private final CircuitBreakerState state;
+        private final SlidingWindow window;
+        private final int minimumCalls;
+        private final AtomicInteger probes;
+        private final long openedAtMillis;
+        private final Permission permission;
+
+        State(CircuitBreakerState state, SlidingWindow window, int minimumCalls, int probes, long openedAtMillis) {
+            this.state = state;
+            this.window = window;
+            this.minimumCalls = minimumCalls;
+            this.probes = new AtomicInteger(probes);
+            this.openedAtMillis = openedAtMillis;
+            this.permission = new Permission(this);
+        }
+
+        boolean tryAcquireProbe() {
+            while (true) {
+                int available = probes.get();
+                if (available == 0) {
+                    return false;
+                }
+                if (probes.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void releaseProbe() {
+            probes.incrementAndGet();
+        }
+    }
+}
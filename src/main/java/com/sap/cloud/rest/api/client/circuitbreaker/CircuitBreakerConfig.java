@@ -0,0 +1,203 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+import static java.text.MessageFormat.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpStatus;
+
+/**
+ * Configuration of the circuit breakers of a client. The client keeps one
+ * {@link CircuitBreaker} per route, i.e. per scheme, host and port.
+ *
+ * A circuit breaker records the outcomes of the last requests in a sliding
+ * window of a fixed number of calls. A request failed if it threw an
+ * {@link java.io.IOException} or received one of the failure status codes. It
+ * was slow if it took at least the slow call duration. Once the window holds
+ * the minimum number of calls and the rate of failed or of slow calls reaches
+ * its threshold, the circuit breaker opens and requests fail fast. After the
+ * wait duration it lets a number of probe requests through and closes again
+ * if their rates stay below the thresholds.
+ */
+public class CircuitBreakerConfig {
+
+    static final String FAILURE_RATE_THRESHOLD_DISPLAY_NAME = "Failure rate threshold";
+    static final String SLOW_CALL_RATE_THRESHOLD_DISPLAY_NAME = "Slow call rate threshold";
+    static final String SLOW_CALL_DURATION_DISPLAY_NAME = "Slow call duration";
+    static final String SLIDING_WINDOW_SIZE_DISPLAY_NAME = "Sliding window size";
+    static final String MINIMUM_CALLS_DISPLAY_NAME = "Minimum number of calls";
+    static final String WAIT_DURATION_IN_OPEN_STATE_DISPLAY_NAME = "Wait duration in open state";
+    static final String PERMITTED_CALLS_IN_HALF_OPEN_STATE_DISPLAY_NAME = "Permitted calls in half-open state";
+    static final String FAILURE_STATUS_CODES_DISPLAY_NAME = "Failure status codes";
+    static final String INVALID_RATE_THRESHOLD_MSG = "{0} [{1}] must be between 0 (exclusive) and 100 (inclusive).";
+    static final String INVALID_MINIMUM_CALLS_MSG = "Minimum number of calls [{0}] must not be greater than the sliding window size [{1}].";
+
+    static final float DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    static final float DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+    static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 60000;
+    static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    static final int DEFAULT_MINIMUM_CALLS = 20;
+    static final long DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS = 30000;
+    static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+    static final Set<Integer> DEFAULT_FAILURE_STATUS_CODES = Collections.unmodifiableSet(new LinkedHashSet<>(
+            Arrays.asList(HttpStatus.SC_INTERNAL_SERVER_ERROR, HttpStatus.SC_BAD_GATEWAY,
+                    HttpStatus.SC_SERVICE_UNAVAILABLE, HttpStatus.SC_GATEWAY_TIMEOUT)));
+
+    private static final CircuitBreakerConfig DISABLED = new CircuitBreakerConfig(false);
+
+    private final boolean enabled;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationMillis;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long waitDurationInOpenStateMillis;
+    private final int permittedCallsInHalfOpenState;
+    private final Set<Integer> failureStatusCodes;
+
+    /**
+     * Creates a {@link CircuitBreakerConfig} with the default settings: a
+     * sliding window of 100 calls, which opens at a failure rate of 50% once
+     * it holds 20 calls, no slow call rate threshold, a wait of 30 seconds in
+     * the open state and 5 probe requests in the half-open state. Responses
+     * with the status codes 500, 502, 503 and 504 are failures.
+     */
+    public CircuitBreakerConfig() {
+        this(DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_SLOW_CALL_RATE_THRESHOLD, DEFAULT_SLOW_CALL_DURATION_MILLIS,
+                DEFAULT_SLIDING_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS, DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS,
+                DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE, DEFAULT_FAILURE_STATUS_CODES);
+    }
+
+    /**
+     * @param failureRateThreshold
+     *            the percentage of failed calls, which opens the circuit
+     *            breaker.
+     * @param slowCallRateThreshold
+     *            the percentage of slow calls, which opens the circuit
+     *            breaker.
+     * @param slowCallDurationMillis
+     *            the duration in milliseconds from which on a call is slow.
+     * @param slidingWindowSize
+     *            the number of the last calls whose outcomes are recorded.
+     * @param minimumCalls
+     *            the number of calls the sliding window must hold before the
+     *            rates are evaluated.
+     * @param waitDurationInOpenStateMillis
+     *            the time in milliseconds the circuit breaker stays open before
+     *            it lets probe requests through.
+     * @param permittedCallsInHalfOpenState
+     *            the number of probe requests in the half-open state.
+     * @param failureStatusCodes
+     *            the status codes of responses, which are failures.
+     */
+    public CircuitBreakerConfig(float failureRateThreshold, float slowCallRateThreshold, long slowCallDurationMillis,
+            int slidingWindowSize, int minimumCalls, long waitDurationInOpenStateMillis,
+            int permittedCallsInHalfOpenState, Set<Integer> failureStatusCodes) {
+        validateRateThreshold(FAILURE_RATE_THRESHOLD_DISPLAY_NAME, failureRateThreshold);
+        validateRateThreshold(SLOW_CALL_RATE_THRESHOLD_DISPLAY_NAME, slowCallRateThreshold);
+        isNotNegative(SLOW_CALL_DURATION_DISPLAY_NAME, slowCallDurationMillis);
+        isPositive(SLIDING_WINDOW_SIZE_DISPLAY_NAME, slidingWindowSize);
+        isPositive(MINIMUM_CALLS_DISPLAY_NAME, minimumCalls);
+        if (minimumCalls > slidingWindowSize) {
+            throw new IllegalArgumentException(format(INVALID_MINIMUM_CALLS_MSG, minimumCalls, slidingWindowSize));
+        }
+        isNotNegative(WAIT_DURATION_IN_OPEN_STATE_DISPLAY_NAME, waitDurationInOpenStateMillis);
+        isPositive(PERMITTED_CALLS_IN_HALF_OPEN_STATE_DISPLAY_NAME, permittedCallsInHalfOpenState);
+        isNotNull(FAILURE_STATUS_CODES_DISPLAY_NAME, failureStatusCodes);
+
+        this.enabled = true;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.waitDurationInOpenStateMillis = waitDurationInOpenStateMillis;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.failureStatusCodes = Collections.unmodifiableSet(new LinkedHashSet<>(failureStatusCodes));
+    }
+
+    private CircuitBreakerConfig(boolean enabled) {
+        this.enabled = enabled;
+        this.failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        this.slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        this.slowCallDurationMillis = DEFAULT_SLOW_CALL_DURATION_MILLIS;
+        this.slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        this.minimumCalls = DEFAULT_MINIMUM_CALLS;
+        this.waitDurationInOpenStateMillis = DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS;
+        this.permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+        this.failureStatusCodes = DEFAULT_FAILURE_STATUS_CODES;
+    }
+
+    private static void validateRateThreshold(String displayName, float rateThreshold) {
+        if (!(rateThreshold > 0 && rateThreshold <= 100)) {
+            throw new IllegalArgumentException(format(INVALID_RATE_THRESHOLD_MSG, displayName, rateThreshold));
+        }
+    }
+
+    /**
+     * @return Returns a configuration without circuit breakers, which is used
+     *         by clients without a configured circuit breaker.
+     */
+    public static CircuitBreakerConfig disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+        return slowCallDurationMillis;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public long getWaitDurationInOpenStateMillis() {
+        return waitDurationInOpenStateMillis;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    public Set<Integer> getFailureStatusCodes() {
+        return failureStatusCodes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(CircuitBreakerConfig.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("enabled", enabled)
+                .append("failureRateThreshold", failureRateThreshold)
+                .append("slowCallRateThreshold", slowCallRateThreshold)
+                .append("slowCallDurationMillis", slowCallDurationMillis)
+                .append("slidingWindowSize", slidingWindowSize)
+                .append("minimumCalls", minimumCalls)
+                .append("waitDurationInOpenStateMillis", waitDurationInOpenStateMillis)
+                .append("permittedCallsInHalfOpenState", permittedCallsInHalfOpenState)
+                .append("failureStatusCodes", failureStatusCodes)
+                .toString();
+    }
+}
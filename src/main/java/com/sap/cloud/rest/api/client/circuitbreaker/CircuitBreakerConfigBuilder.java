@@ -0,0 +1,109 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A builder for {@link CircuitBreakerConfig}.
+ */
+public class CircuitBreakerConfigBuilder {
+
+    private float failureRateThreshold = CircuitBreakerConfig.DEFAULT_FAILURE_RATE_THRESHOLD;
+    private float slowCallRateThreshold = CircuitBreakerConfig.DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+    private long slowCallDurationMillis = CircuitBreakerConfig.DEFAULT_SLOW_CALL_DURATION_MILLIS;
+    private int slidingWindowSize = CircuitBreakerConfig.DEFAULT_SLIDING_WINDOW_SIZE;
+    private int minimumCalls = CircuitBreakerConfig.DEFAULT_MINIMUM_CALLS;
+    private long waitDurationInOpenStateMillis = CircuitBreakerConfig.DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS;
+    private int permittedCallsInHalfOpenState = CircuitBreakerConfig.DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+    private Set<Integer> failureStatusCodes = new LinkedHashSet<>(CircuitBreakerConfig.DEFAULT_FAILURE_STATUS_CODES);
+
+    /**
+     * Attaches the percentage of failed calls, which opens the circuit
+     * breaker, to the builder.
+     * @param failureRateThreshold failure rate threshold between 0 and 100.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder failureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Attaches the percentage of slow calls, which opens the circuit breaker,
+     * and the duration from which on a call is slow to the builder.
+     * @param slowCallRateThreshold slow call rate threshold between 0 and 100.
+     * @param slowCallDurationMillis slow call duration in milliseconds.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder slowCallRateThreshold(float slowCallRateThreshold,
+            long slowCallDurationMillis) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the size of the sliding window and the number of calls it must
+     * hold before the rates are evaluated to the builder.
+     * @param slidingWindowSize number of recorded calls.
+     * @param minimumCalls minimum number of calls.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder slidingWindow(int slidingWindowSize, int minimumCalls) {
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Attaches the time the circuit breaker stays open before it lets probe
+     * requests through to the builder.
+     * @param waitDurationInOpenStateMillis wait duration in milliseconds.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder waitDurationInOpenState(long waitDurationInOpenStateMillis) {
+        this.waitDurationInOpenStateMillis = waitDurationInOpenStateMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the number of probe requests in the half-open state to the
+     * builder.
+     * @param permittedCallsInHalfOpenState number of probe requests.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        return this;
+    }
+
+    /**
+     * Attaches the status codes of responses, which are failures, to the
+     * builder. They replace the default status codes 500, 502, 503 and 504.
+     * @param statusCodes failure status codes.
+     * @return {@link CircuitBreakerConfigBuilder} instance.
+     */
+    public CircuitBreakerConfigBuilder failureStatusCodes(Integer... statusCodes) {
+        this.failureStatusCodes = new LinkedHashSet<>(Arrays.asList(statusCodes));
+        return this;
+    }
+
+    /**
+     * Builds a {@link CircuitBreakerConfig} with the attached settings.
+     * Settings which were not attached keep their default values.
+     * @return {@link CircuitBreakerConfig} instance.
+     */
+    public CircuitBreakerConfig build() {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+                slidingWindowSize, minimumCalls, waitDurationInOpenStateMillis, permittedCallsInHalfOpenState,
+                failureStatusCodes);
+    }
+
+    /**
+     * @return Returns an instance of {@link CircuitBreakerConfigBuilder}.
+     */
+    public static CircuitBreakerConfigBuilder getBuilder() {
+        return new CircuitBreakerConfigBuilder();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URIUtils;
+
+/**
+ * Holds the circuit breakers of a client, one per route. A route is
+ * identified by the scheme, host and port of the request URI, so that a
+ * degraded host does not affect the requests to other hosts.
+ */
+public class CircuitBreakerRegistry {
+
+    static final String CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME = "Circuit breaker configuration";
+    static final String UNKNOWN_ROUTE = "";
+
+    private final CircuitBreakerConfig config;
+    private final Clock clock;
+    private final CircuitBreaker disabledCircuitBreaker;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * @param config
+     *            the configuration of the circuit breakers.
+     */
+    public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    CircuitBreakerRegistry(CircuitBreakerConfig config, Clock clock) {
+        isNotNull(CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME, config);
+
+        this.config = config;
+        this.clock = clock;
+        this.disabledCircuitBreaker = new CircuitBreaker(UNKNOWN_ROUTE, config, clock);
+    }
+
+    /**
+     * @param request
+     *            the request.
+     * @return Returns the circuit breaker of the route of the request, which
+     *         is created on first use. If circuit breakers are disabled, a
+     *         circuit breaker which always permits requests is returned.
+     */
+    public CircuitBreaker getCircuitBreaker(HttpUriRequest request) {
+        if (!config.isEnabled()) {
+            return disabledCircuitBreaker;
+        }
+        String route = getRoute(request.getURI());
+        CircuitBreaker circuitBreaker = circuitBreakers.get(route);
+        if (circuitBreaker == null) {
+            CircuitBreaker newCircuitBreaker = new CircuitBreaker(route, config, clock);
+            circuitBreaker = circuitBreakers.putIfAbsent(route, newCircuitBreaker);
+            if (circuitBreaker == null) {
+                circuitBreaker = newCircuitBreaker;
+            }
+        }
+        return circuitBreaker;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    static String getRoute(URI uri) {
+        HttpHost host = uri == null ? null : URIUtils.extractHost(uri);
+        if (host == null) {
+            return UNKNOWN_ROUTE;
+        }
+        StringBuilder route = new StringBuilder()
+                .append(host.getSchemeName())
+                .append("://")
+                .append(host.getHostName().toLowerCase(Locale.ROOT));
+        if (host.getPort() >= 0) {
+            route.append(':').append(host.getPort());
+        }
+        return route.toString();
+    }
+}
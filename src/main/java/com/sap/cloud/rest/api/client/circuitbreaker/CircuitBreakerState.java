@@ -0,0 +1,23 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+/**
+ * The states of a {@link CircuitBreaker}.
+ */
+public enum CircuitBreakerState {
+
+    /**
+     * Requests are executed and their outcomes are recorded.
+     */
+    CLOSED,
+
+    /**
+     * Requests fail fast without being executed.
+     */
+    OPEN,
+
+    /**
+     * A limited number of probe requests is executed to decide whether the
+     * circuit breaker closes again or stays open.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,53 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+/**
+ * Records the outcomes of the last calls in a ring buffer and keeps the
+ * numbers of failed and slow calls among them.
+ */
+class SlidingWindow {
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final byte[] outcomes;
+
+    private int position;
+    private int calls;
+    private int failedCalls;
+    private int slowCalls;
+
+    SlidingWindow(int size) {
+        this.outcomes = new byte[size];
+    }
+
+    /**
+     * Records the outcome of a call, replacing the oldest outcome if the
+     * window is full.
+     *
+     * @return whether the window holds the minimum number of calls and the
+     *         failure or the slow call rate reached its threshold.
+     */
+    synchronized boolean record(boolean failed, boolean slow, int minimumCalls, float failureRateThreshold,
+            float slowCallRateThreshold) {
+        if (calls == outcomes.length) {
+            byte oldest = outcomes[position];
+            failedCalls -= oldest & FAILED;
+            slowCalls -= (oldest & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+        byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        outcomes[position] = outcome;
+        failedCalls += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        position = (position + 1) % outcomes.length;
+
+        return calls >= minimumCalls
+                && (failedCalls * 100f >= failureRateThreshold * calls
+                        || slowCalls * 100f >= slowCallRateThreshold * calls);
+    }
+
+    synchronized int getCalls() {
+        return calls;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * An entity, which compresses the content of another entity with a
+ * {@link ContentEncoding} while it is sent. The content is compressed as a
+ * stream, without holding the compressed content in memory, so its length is
+ * unknown and it is sent in chunks. The <b>Content-Encoding</b> header of the
+ * request is set from the entity. The entity is repeatable if the wrapped one
+ * is, in which case the content is compressed again for each attempt.
+ */
+public class CompressingEntity extends HttpEntityWrapper {
+
+    static final String CONTENT_ENCODING_DISPLAY_NAME = "Content encoding";
+
+    private final ContentEncoding contentEncoding;
+
+    /**
+     * @param entity
+     *            the entity to compress.
+     * @param contentEncoding
+     *            the encoding to compress it with.
+     */
+    public CompressingEntity(HttpEntity entity, ContentEncoding contentEncoding) {
+        super(entity);
+        isNotNull(CONTENT_ENCODING_DISPLAY_NAME, contentEncoding);
+
+        this.contentEncoding = contentEncoding;
+    }
+
+    public ContentEncoding getEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return new BasicHeader(HTTP.CONTENT_ENCODING, contentEncoding.getName());
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new CompressingInputStream(wrappedEntity.getContent(), contentEncoding);
+    }
+
+    /**
+     * Writes the compressed content to the given stream and closes it, as the
+     * HTTP client does right after the entity is written.
+     */
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        try (DeflaterOutputStream compressingStream = contentEncoding.compress(outStream)) {
+            wrappedEntity.writeTo(compressingStream);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A stream, which reads the compressed content of another stream. Compresses
+ * one buffer of the content at a time, so that the compressed content is never
+ * held in memory as a whole. Used where the content of an entity is read
+ * rather than written, e.g. by the asynchronous HTTP client.
+ */
+class CompressingInputStream extends InputStream {
+
+    private static final byte OS_UNKNOWN = (byte) 0xff;
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0,
+            OS_UNKNOWN };
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final InputStream source;
+    private final Deflater deflater;
+    private final CRC32 checksum;
+    private final byte[] inputBuffer = new byte[ContentEncoding.BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+
+    private byte[] pending;
+    private int pendingOffset;
+    private boolean trailerWritten;
+    private boolean closed;
+
+    CompressingInputStream(InputStream source, ContentEncoding encoding) {
+        this.source = source;
+        if (encoding == ContentEncoding.GZIP) {
+            this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            this.checksum = new CRC32();
+            this.pending = GZIP_HEADER;
+        } else {
+            this.deflater = new Deflater();
+            this.checksum = null;
+            this.trailerWritten = true;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = read(singleByte, 0, 1);
+        return read < 0 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            if (pending != null) {
+                int count = Math.min(length, pending.length - pendingOffset);
+                System.arraycopy(pending, pendingOffset, buffer, offset, count);
+                pendingOffset += count;
+                if (pendingOffset == pending.length) {
+                    pending = null;
+                    pendingOffset = 0;
+                }
+                return count;
+            }
+            if (!deflater.finished()) {
+                int count = deflater.deflate(buffer, offset, length);
+                if (count > 0) {
+                    return count;
+                }
+                if (deflater.needsInput()) {
+                    fillInput();
+                }
+            } else if (!trailerWritten) {
+                pending = createGzipTrailer();
+                trailerWritten = true;
+            } else {
+                return -1;
+            }
+        }
+    }
+
+    private void fillInput() throws IOException {
+        int read = source.read(inputBuffer);
+        if (read < 0) {
+            deflater.finish();
+            return;
+        }
+        if (checksum != null) {
+            checksum.update(inputBuffer, 0, read);
+        }
+        deflater.setInput(inputBuffer, 0, read);
+    }
+
+    private byte[] createGzipTrailer() {
+        byte[] trailer = new byte[GZIP_TRAILER_LENGTH];
+        writeIntLittleEndian(trailer, 0, (int) checksum.getValue());
+        writeIntLittleEndian(trailer, 4, (int) deflater.getBytesRead());
+        return trailer;
+    }
+
+    private static void writeIntLittleEndian(byte[] buffer, int offset, int value) {
+        for (int i = 0; i < 4; i++) {
+            buffer[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            source.close();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * Configuration of the compression of the request bodies of a client. A
+ * request body is compressed with the configured {@link ContentEncoding} if
+ * its length is known and at least the minimum size, and it is not encoded
+ * already. Small bodies are sent as they are, since compressing them costs
+ * more time than sending the saved bytes takes.
+ *
+ * The server must accept the encoding, otherwise it usually responds with
+ * <b>415 Unsupported Media Type</b>.
+ */
+public class CompressionPolicy {
+
+    static final String CONTENT_ENCODING_DISPLAY_NAME = "Content encoding";
+    static final String MIN_SIZE_DISPLAY_NAME = "Minimum size";
+
+    static final ContentEncoding DEFAULT_CONTENT_ENCODING = ContentEncoding.GZIP;
+    static final long DEFAULT_MIN_SIZE_BYTES = 1024;
+
+    private static final CompressionPolicy DISABLED = new CompressionPolicy(false);
+
+    private final boolean enabled;
+    private final ContentEncoding contentEncoding;
+    private final long minSizeBytes;
+
+    /**
+     * Creates a {@link CompressionPolicy}, which compresses request bodies of
+     * at least 1 KiB with gzip.
+     */
+    public CompressionPolicy() {
+        this(DEFAULT_CONTENT_ENCODING, DEFAULT_MIN_SIZE_BYTES);
+    }
+
+    /**
+     * @param contentEncoding
+     *            the encoding to compress request bodies with.
+     * @param minSizeBytes
+     *            the minimum size in bytes of a compressed request body.
+     */
+    public CompressionPolicy(ContentEncoding contentEncoding, long minSizeBytes) {
+        isNotNull(CONTENT_ENCODING_DISPLAY_NAME, contentEncoding);
+        isNotNegative(MIN_SIZE_DISPLAY_NAME, minSizeBytes);
+
+        this.enabled = true;
+        this.contentEncoding = contentEncoding;
+        this.minSizeBytes = minSizeBytes;
+    }
+
+    private CompressionPolicy(boolean enabled) {
+        this.enabled = enabled;
+        this.contentEncoding = DEFAULT_CONTENT_ENCODING;
+        this.minSizeBytes = DEFAULT_MIN_SIZE_BYTES;
+    }
+
+    /**
+     * @return Returns a {@link CompressionPolicy}, which compresses no request
+     *         bodies.
+     */
+    public static CompressionPolicy disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ContentEncoding getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public long getMinSizeBytes() {
+        return minSizeBytes;
+    }
+
+    /**
+     * @param request
+     *            the request.
+     * @return Returns whether the body of the request is to be compressed.
+     */
+    public boolean shouldCompress(HttpRequest request) {
+        if (!enabled || !(request instanceof HttpEntityEnclosingRequest)
+                || request.containsHeader(HTTP.CONTENT_ENCODING)) {
+            return false;
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+        return entity != null && entity.getContentEncoding() == null
+                && entity.getContentLength() >= Math.max(minSizeBytes, 1);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(CompressionPolicy.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("enabled", enabled)
+                .append("contentEncoding", contentEncoding)
+                .append("minSizeBytes", minSizeBytes)
+                .toString();
+    }
+}
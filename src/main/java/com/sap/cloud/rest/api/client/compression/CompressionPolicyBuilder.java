@@ -0,0 +1,46 @@
+package com.sap.cloud.rest.api.client.compression;
+
+/**
+ * A builder for {@link CompressionPolicy}.
+ */
+public class CompressionPolicyBuilder {
+
+    private ContentEncoding contentEncoding = CompressionPolicy.DEFAULT_CONTENT_ENCODING;
+    private long minSizeBytes = CompressionPolicy.DEFAULT_MIN_SIZE_BYTES;
+
+    /**
+     * Attaches the encoding to compress request bodies with to the builder.
+     * @param contentEncoding content encoding.
+     * @return {@link CompressionPolicyBuilder} instance.
+     */
+    public CompressionPolicyBuilder contentEncoding(ContentEncoding contentEncoding) {
+        this.contentEncoding = contentEncoding;
+        return this;
+    }
+
+    /**
+     * Attaches the minimum size of a compressed request body to the builder.
+     * @param minSizeBytes min size in bytes of a compressed request body.
+     * @return {@link CompressionPolicyBuilder} instance.
+     */
+    public CompressionPolicyBuilder minSize(long minSizeBytes) {
+        this.minSizeBytes = minSizeBytes;
+        return this;
+    }
+
+    /**
+     * Builds a {@link CompressionPolicy} with the attached settings. Settings
+     * which were not attached keep their default values.
+     * @return {@link CompressionPolicy} instance.
+     */
+    public CompressionPolicy build() {
+        return new CompressionPolicy(contentEncoding, minSizeBytes);
+    }
+
+    /**
+     * @return Returns an instance of {@link CompressionPolicyBuilder}.
+     */
+    public static CompressionPolicyBuilder getBuilder() {
+        return new CompressionPolicyBuilder();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An enumerable that represents the supported content encodings of request
+ * and response bodies.
+ */
+public enum ContentEncoding {
+    /**
+     * The gzip format.
+     */
+    GZIP("gzip", "x-gzip") {
+        @Override
+        DeflaterOutputStream compress(OutputStream outStream) throws IOException {
+            return new GZIPOutputStream(outStream, BUFFER_SIZE);
+        }
+    },
+    /**
+     * The zlib format, which is what HTTP calls deflate.
+     */
+    DEFLATE("deflate") {
+        @Override
+        DeflaterOutputStream compress(OutputStream outStream) {
+            return new DeflaterOutputStream(outStream, new Deflater(), BUFFER_SIZE) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+    };
+
+    static final int BUFFER_SIZE = 8192;
+
+    private final String name;
+    private final String alias;
+
+    private ContentEncoding(String name) {
+        this(name, null);
+    }
+
+    private ContentEncoding(String name, String alias) {
+        this.name = name;
+        this.alias = alias;
+    }
+
+    /**
+     * @param name
+     *            the name of an encoding in a <b>Content-Encoding</b> header.
+     * @return Returns the encoding with the given name, ignoring its case, or
+     *         null if it is not supported.
+     */
+    static ContentEncoding forName(String name) {
+        for (ContentEncoding contentEncoding : values()) {
+            if (contentEncoding.name.equalsIgnoreCase(name) || (contentEncoding.alias != null
+                    && contentEncoding.alias.equalsIgnoreCase(name))) {
+                return contentEncoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Returns the name of the encoding in the <b>Content-Encoding</b>
+     *         header.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a stream, which compresses the data written to it into the
+     * given stream. Closing it finishes the compressed data, releases the
+     * native memory of its deflater and closes the given stream.
+     */
+    abstract DeflaterOutputStream compress(OutputStream outStream) throws IOException;
+}
@@ -0,0 +1,152 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * An entity, which decompresses the content of a compressed response entity
+ * while it is read, without buffering the content. Reading fails with an
+ * {@link IOException} once the decompressed content exceeds the maximum size.
+ * The entity counts the compressed and decompressed bytes read from its
+ * content, which are reported with the metrics of the request.
+ */
+public class DecompressingEntity extends HttpEntityWrapper {
+
+    /**
+     * The default maximum size in bytes of a decompressed response body,
+     * 256 MiB.
+     */
+    public static final long DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES = 256L * 1024 * 1024;
+
+    static final String CONTENT_ENCODING_DISPLAY_NAME = "Content encoding";
+    static final String MAX_DECOMPRESSED_SIZE_DISPLAY_NAME = "Maximum decompressed size";
+
+    private final ContentEncoding contentEncoding;
+    private final long maxDecompressedSizeBytes;
+
+    private DecompressingInputStream content;
+
+    /**
+     * @param entity
+     *            the compressed entity.
+     * @param contentEncoding
+     *            the encoding the entity is compressed with.
+     * @param maxDecompressedSizeBytes
+     *            the maximum size in bytes of the decompressed content.
+     */
+    public DecompressingEntity(HttpEntity entity, ContentEncoding contentEncoding, long maxDecompressedSizeBytes) {
+        super(entity);
+        isNotNull(CONTENT_ENCODING_DISPLAY_NAME, contentEncoding);
+        isPositive(MAX_DECOMPRESSED_SIZE_DISPLAY_NAME, maxDecompressedSizeBytes);
+
+        this.contentEncoding = contentEncoding;
+        this.maxDecompressedSizeBytes = maxDecompressedSizeBytes;
+    }
+
+    /**
+     * Replaces the entity of the given response by a {@link DecompressingEntity}
+     * if it is compressed with a supported {@link ContentEncoding}, and
+     * removes the headers, which describe the compressed entity. If the entity
+     * is a {@link DecompressingEntity} already, it is replaced by one with the
+     * given maximum size, unless its content has been read.
+     *
+     * @param response
+     *            the response.
+     * @param maxDecompressedSizeBytes
+     *            the maximum size in bytes of the decompressed content.
+     */
+    public static void decompress(HttpResponse response, long maxDecompressedSizeBytes) {
+        HttpEntity entity = response.getEntity();
+        if (entity instanceof DecompressingEntity) {
+            DecompressingEntity decompressingEntity = (DecompressingEntity) entity;
+            if (decompressingEntity.content == null
+                    && decompressingEntity.maxDecompressedSizeBytes != maxDecompressedSizeBytes) {
+                response.setEntity(new DecompressingEntity(decompressingEntity.wrappedEntity,
+                        decompressingEntity.contentEncoding, maxDecompressedSizeBytes));
+            }
+            return;
+        }
+        if (entity == null || entity.getContentLength() == 0) {
+            return;
+        }
+        Header contentEncodingHeader = entity.getContentEncoding();
+        if (contentEncodingHeader == null) {
+            return;
+        }
+        ContentEncoding contentEncoding = ContentEncoding.forName(contentEncodingHeader.getValue().trim());
+        if (contentEncoding == null) {
+            return;
+        }
+        response.setEntity(new DecompressingEntity(entity, contentEncoding, maxDecompressedSizeBytes));
+        response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+        response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+        response.removeHeaders(HttpHeaders.CONTENT_MD5);
+    }
+
+    public ContentEncoding getEncoding() {
+        return contentEncoding;
+    }
+
+    public long getMaxDecompressedSizeBytes() {
+        return maxDecompressedSizeBytes;
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return null;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Returns the decompressed content. The content of a streamed entity can
+     * only be read once, so the same stream is returned by every call.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        if (content == null || wrappedEntity.isRepeatable()) {
+            content = new DecompressingInputStream(wrappedEntity.getContent(), contentEncoding,
+                    maxDecompressedSizeBytes);
+        }
+        return content;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        try (InputStream inStream = getContent()) {
+            byte[] buffer = new byte[ContentEncoding.BUFFER_SIZE];
+            for (int read = inStream.read(buffer); read >= 0; read = inStream.read(buffer)) {
+                outStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * @return Returns the number of compressed bytes read from the content so
+     *         far.
+     */
+    public long getCompressedBytes() {
+        return content == null ? 0 : content.getCompressedBytes();
+    }
+
+    /**
+     * @return Returns the number of decompressed bytes read from the content
+     *         so far.
+     */
+    public long getDecompressedBytes() {
+        return content == null ? 0 : content.getDecompressedBytes();
+    }
+}
@@ -0,0 +1,185 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static java.text.MessageFormat.format;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A stream, which decompresses the content of another stream while it is
+ * read. The decompressing stream is created on the first read, so that
+ * closing an unread stream does not decompress anything. Counts the
+ * compressed and decompressed bytes and fails once more than the maximum
+ * number of bytes is decompressed, so that a small response cannot expand
+ * into an unbounded amount of memory.
+ */
+class DecompressingInputStream extends InputStream {
+
+    static final String MAX_DECOMPRESSED_SIZE_EXCEEDED_MSG = "The decompressed response body exceeds the maximum size of {0} bytes.";
+
+    private static final int ZLIB_HEADER_LENGTH = 2;
+
+    private final CountingInputStream source;
+    private final ContentEncoding contentEncoding;
+    private final long maxDecompressedSizeBytes;
+
+    private InputStream decompressed;
+    private Inflater inflater;
+    private long decompressedBytes;
+    private boolean closed;
+
+    DecompressingInputStream(InputStream source, ContentEncoding contentEncoding, long maxDecompressedSizeBytes) {
+        this.source = new CountingInputStream(source);
+        this.contentEncoding = contentEncoding;
+        this.maxDecompressedSizeBytes = maxDecompressedSizeBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        int read = getDecompressed().read();
+        if (read >= 0) {
+            countDecompressed(1);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        ensureOpen();
+        int read = getDecompressed().read(buffer, offset, length);
+        if (read > 0) {
+            countDecompressed(read);
+        }
+        return read;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void countDecompressed(int read) throws IOException {
+        decompressedBytes += read;
+        if (decompressedBytes > maxDecompressedSizeBytes) {
+            throw new IOException(format(MAX_DECOMPRESSED_SIZE_EXCEEDED_MSG,
+                    String.valueOf(maxDecompressedSizeBytes)));
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return decompressed == null ? 0 : decompressed.available();
+    }
+
+    private InputStream getDecompressed() throws IOException {
+        if (decompressed == null) {
+            decompressed = createDecompressed();
+        }
+        return decompressed;
+    }
+
+    /**
+     * Creates the decompressing stream. Deflate content is inflated from the
+     * zlib format or, since some servers send it instead, the raw deflate
+     * format, depending on whether it starts with a zlib header. Empty
+     * content stays empty.
+     */
+    private InputStream createDecompressed() throws IOException {
+        PushbackInputStream content = new PushbackInputStream(source, ZLIB_HEADER_LENGTH);
+        byte[] header = new byte[ZLIB_HEADER_LENGTH];
+        int headerLength = 0;
+        while (headerLength < ZLIB_HEADER_LENGTH) {
+            int read = content.read(header, headerLength, ZLIB_HEADER_LENGTH - headerLength);
+            if (read < 0) {
+                break;
+            }
+            headerLength += read;
+        }
+        if (headerLength == 0) {
+            return content;
+        }
+        content.unread(header, 0, headerLength);
+        if (contentEncoding == ContentEncoding.GZIP) {
+            return new GZIPInputStream(content, ContentEncoding.BUFFER_SIZE);
+        }
+        inflater = new Inflater(!hasZlibHeader(header, headerLength));
+        return new InflaterInputStream(content, inflater, ContentEncoding.BUFFER_SIZE);
+    }
+
+    private static boolean hasZlibHeader(byte[] header, int length) {
+        if (length < ZLIB_HEADER_LENGTH) {
+            return false;
+        }
+        int compressionMethod = header[0] & 0x0f;
+        int check = ((header[0] & 0xff) << 8) | (header[1] & 0xff);
+        return compressionMethod == Deflater.DEFLATED && check % 31 == 0;
+    }
+
+    long getCompressedBytes() {
+        return source.count;
+    }
+
+    long getDecompressedBytes() {
+        return decompressedBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (decompressed != null) {
+                decompressed.close();
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+            source.close();
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.compression.DecompressingEntity.MAX_DECOMPRESSED_SIZE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A response interceptor, which decompresses gzip and deflate response
+ * entities while they are read, up to a maximum decompressed size. Replaces
+ * the content decompression of the HTTP client, which has no such limit.
+ *
+ * @see DecompressingEntity#decompress(HttpResponse, long)
+ */
+public class ResponseDecompressionInterceptor implements HttpResponseInterceptor {
+
+    private final long maxDecompressedSizeBytes;
+
+    /**
+     * Creates an interceptor with the default maximum decompressed size of
+     * 256 MiB.
+     */
+    public ResponseDecompressionInterceptor() {
+        this(DecompressingEntity.DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES);
+    }
+
+    /**
+     * @param maxDecompressedSizeBytes
+     *            the maximum size in bytes of a decompressed response body.
+     */
+    public ResponseDecompressionInterceptor(long maxDecompressedSizeBytes) {
+        isPositive(MAX_DECOMPRESSED_SIZE_DISPLAY_NAME, maxDecompressedSizeBytes);
+
+        this.maxDecompressedSizeBytes = maxDecompressedSizeBytes;
+    }
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+        DecompressingEntity.decompress(response, maxDecompressedSizeBytes);
+    }
+}
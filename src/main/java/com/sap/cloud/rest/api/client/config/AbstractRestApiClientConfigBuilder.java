@@ -6,6 +6,8 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.sap.cloud.rest.api.client.auth.Authentication;
 import com.sap.cloud.rest.api.client.auth.basic.BasicAuthentication;
 import com.sap.cloud.rest.api.client.auth.cert.ClientCertAuthentication;
@@ -13,7 +15,16 @@ import com.sap.cloud.rest.api.client.auth.cert.KeystoreConfig;
 import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig;
+import com.sap.cloud.rest.api.client.cache.ResponseCache;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicy;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
+import com.sap.cloud.rest.api.client.http.HttpClientProvider;
 import com.sap.cloud.rest.api.client.http.Proxy;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.metrics.MetricsListener;
+import com.sap.cloud.rest.api.client.retry.RetryPolicy;
 
 /**
  * A builder for {@link RestApiClientConfig}.
@@ -23,6 +34,16 @@ public abstract class AbstractRestApiClientConfigBuilder<Builder extends Abstrac
     protected String host;
     protected Authentication authentication;
     protected HttpRoutePlanner routePlanner;
+    protected ConnectionPoolConfig connectionPoolConfig;
+    protected SharedConnectionPool sharedConnectionPool;
+    protected ObjectMapper objectMapper;
+    protected RetryPolicy retryPolicy;
+    protected CircuitBreakerConfig circuitBreakerConfig;
+    protected TimeoutConfig timeoutConfig;
+    protected ResponseCache responseCache;
+    protected MetricsListener metricsListener;
+    protected CompressionPolicy requestCompression;
+    protected Long maxDecompressedResponseSizeBytes;
 
     /**
      * Attaches the host for the configuration to the builder.
@@ -140,6 +161,126 @@ public abstract class AbstractRestApiClientConfigBuilder<Builder extends Abstrac
         return self();
     }
 
+    /**
+     * Attaches the configuration of the connection pool used by the
+     * {@link HttpClientProvider} to the builder.
+     * @param connectionPoolConfig Connection pool configuration.
+     * @return Builder instance.
+     */
+    public Builder connectionPool(ConnectionPoolConfig connectionPoolConfig) {
+        this.connectionPoolConfig = connectionPoolConfig;
+        return self();
+    }
+
+    /**
+     * Attaches a connection pool, which is shared with the other clients
+     * configured with the same pool, to the builder. It is used for blocking
+     * requests only, asynchronous requests use a pool of their own configured
+     * with the {@link ConnectionPoolConfig}. It cannot be combined
+     * with client certificate authentication, since those connections carry
+     * the identity of the client; building such a configuration fails with an
+     * {@link IllegalArgumentException}.
+     * @param sharedConnectionPool Shared connection pool.
+     * @return Builder instance.
+     */
+    public Builder sharedConnectionPool(SharedConnectionPool sharedConnectionPool) {
+        this.sharedConnectionPool = sharedConnectionPool;
+        return self();
+    }
+
+    /**
+     * Attaches the {@link ObjectMapper} used to serialize request entities and
+     * to deserialize responses to the builder. The mapper must be fully
+     * configured, since it is not reconfigured by the client.
+     * @param objectMapper Object mapper.
+     * @return Builder instance.
+     */
+    public Builder objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return self();
+    }
+
+    /**
+     * Attaches the policy for retrying failed requests to the builder.
+     * Requests are not retried by default.
+     * @param retryPolicy Retry policy.
+     * @return Builder instance.
+     */
+    public Builder retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return self();
+    }
+
+    /**
+     * Attaches the configuration of the circuit breakers, which guard the
+     * routes of the client, to the builder. Circuit breakers are disabled by
+     * default.
+     * @param circuitBreakerConfig Circuit breaker configuration.
+     * @return Builder instance.
+     */
+    public Builder circuitBreaker(CircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+        return self();
+    }
+
+    /**
+     * Attaches the timeouts of the requests of the client to the builder. By
+     * default connecting, waiting for data and leasing a pooled connection
+     * time out after 30 seconds each and requests have no deadline.
+     * @param timeoutConfig Timeout configuration.
+     * @return Builder instance.
+     */
+    public Builder timeouts(TimeoutConfig timeoutConfig) {
+        this.timeoutConfig = timeoutConfig;
+        return self();
+    }
+
+    /**
+     * Attaches the cache of the responses of the client to the builder. The
+     * cache can be shared with other clients acting on behalf of the same
+     * identity. Responses are not cached by default.
+     * @param responseCache Response cache.
+     * @return Builder instance.
+     */
+    public Builder responseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return self();
+    }
+
+    /**
+     * Attaches the listener, which receives the metrics of the requests of the
+     * client, to the builder. No metrics are measured by default.
+     * @param metricsListener Metrics listener.
+     * @return Builder instance.
+     */
+    public Builder metricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return self();
+    }
+
+    /**
+     * Attaches the compression of the request bodies of the client to the
+     * builder. Request bodies are not compressed by default.
+     * @param requestCompression Request compression policy.
+     * @return Builder instance.
+     */
+    public Builder requestCompression(CompressionPolicy requestCompression) {
+        this.requestCompression = requestCompression;
+        return self();
+    }
+
+    /**
+     * Attaches the maximum size of a decompressed response body to the
+     * builder. Reading a gzip or deflate encoded response body fails once it
+     * decompresses to more bytes. The default maximum size is 256 MiB.
+     * @param maxDecompressedResponseSizeBytes Max size in bytes of a decompressed response body.
+     * @return Builder instance.
+     */
+    public Builder maxDecompressedResponseSize(long maxDecompressedResponseSizeBytes) {
+        this.maxDecompressedResponseSizeBytes = maxDecompressedResponseSizeBytes;
+        return self();
+    }
+
     /**
      * Override to return an instance of {@link Configuration} with the attached
      * to the builder host, authentication and any subclass properties.
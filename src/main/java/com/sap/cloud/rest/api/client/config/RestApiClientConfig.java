@@ -2,14 +2,28 @@ package com.sap.cloud.rest.api.client.config;
 
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
 
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.sap.cloud.rest.api.client.RestApiClient;
 import com.sap.cloud.rest.api.client.auth.Authentication;
+import com.sap.cloud.rest.api.client.auth.AuthenticationType;
 import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
+import com.sap.cloud.rest.api.client.cache.ResponseCache;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicy;
+import com.sap.cloud.rest.api.client.compression.DecompressingEntity;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.metrics.MetricsListener;
+import com.sap.cloud.rest.api.client.retry.RetryPolicy;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
 
 /**
  * This class represents a configuration object used to configure the
@@ -21,10 +35,28 @@ public class RestApiClientConfig {
     static final String HOST_DISPLAY_NAME = "Host";
     static final String AUTHENTICATION_DISPLAY_NAME = "Authentication";
     static final String ROUTE_PLANNER_DISPLAY_NAME = "Route Planner";
+    static final String CONNECTION_POOL_CONFIG_DISPLAY_NAME = "Connection pool configuration";
+    static final String RETRY_POLICY_DISPLAY_NAME = "Retry policy";
+    static final String CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME = "Circuit breaker configuration";
+    static final String TIMEOUT_CONFIG_DISPLAY_NAME = "Timeout configuration";
+    static final String METRICS_LISTENER_DISPLAY_NAME = "Metrics listener";
+    static final String REQUEST_COMPRESSION_DISPLAY_NAME = "Request compression policy";
+    static final String MAX_DECOMPRESSED_RESPONSE_SIZE_DISPLAY_NAME = "Maximum decompressed response size";
+    static final String SHARED_CONNECTION_POOL_WITH_CLIENT_CERT_MSG = "A shared connection pool cannot be used with client certificate authentication.";
 
     private final String host;
     private final Authentication authentication;
     private final HttpRoutePlanner routePlanner;
+    private final ConnectionPoolConfig connectionPoolConfig;
+    private final SharedConnectionPool sharedConnectionPool;
+    private final ObjectMapperRegistry objectMapperRegistry;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final TimeoutConfig timeoutConfig;
+    private final ResponseCache responseCache;
+    private final MetricsListener metricsListener;
+    private final CompressionPolicy requestCompression;
+    private final long maxDecompressedResponseSizeBytes;
 
     /**
      * Creates a {@link RestApiClientConfig} instance with the given host,
@@ -52,7 +84,7 @@ public class RestApiClientConfig {
      * @param authentication Authentication configuration.
      */
     public RestApiClientConfig(String host, Authentication authentication) {
-        this(host, authentication, new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
+        this(host, authentication, createDefaultRoutePlanner());
     }
 
     /**
@@ -63,13 +95,86 @@ public class RestApiClientConfig {
      * @param routePlanner Route planner.
      */
     public RestApiClientConfig(String host, Authentication authentication, HttpRoutePlanner routePlanner) {
+        this(host, authentication, routePlanner, new ConnectionPoolConfig(), null, ObjectMapperRegistry.getDefault(),
+                RetryPolicy.noRetries(), CircuitBreakerConfig.disabled(), new TimeoutConfig(), null,
+                MetricsListener.NONE, CompressionPolicy.disabled(),
+                DecompressingEntity.DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES);
+    }
+
+    /**
+     * Creates a {@link RestApiClientConfig} instance with the settings attached
+     * to the given builder. Settings which were not attached get their default
+     * values: {@link NoAuthentication} for authentication, the default route
+     * planner and the default {@link ConnectionPoolConfig}. Without a
+     * {@link SharedConnectionPool} the client gets its own pool. Without an
+     * {@link ObjectMapper} the registry shared across the library is used.
+     * Without a {@link RetryPolicy} requests are not retried and without a
+     * {@link CircuitBreakerConfig} they are not guarded by circuit breakers.
+     * Without a {@link TimeoutConfig} the default timeouts are used, without
+     * a {@link ResponseCache} responses are not cached, without a
+     * {@link MetricsListener} no metrics are measured and without a
+     * {@link CompressionPolicy} request bodies are not compressed. Response
+     * bodies decompress to at most 256 MiB by default.
+     * @param builder Builder with the attached settings.
+     */
+    protected RestApiClientConfig(AbstractRestApiClientConfigBuilder<?, ?> builder) {
+        this(builder.host,
+                builder.authentication == null ? new NoAuthentication() : builder.authentication,
+                builder.routePlanner == null ? createDefaultRoutePlanner() : builder.routePlanner,
+                builder.connectionPoolConfig == null ? new ConnectionPoolConfig() : builder.connectionPoolConfig,
+                builder.sharedConnectionPool,
+                builder.objectMapper == null ? ObjectMapperRegistry.getDefault()
+                        : new ObjectMapperRegistry(builder.objectMapper),
+                builder.retryPolicy == null ? RetryPolicy.noRetries() : builder.retryPolicy,
+                builder.circuitBreakerConfig == null ? CircuitBreakerConfig.disabled()
+                        : builder.circuitBreakerConfig,
+                builder.timeoutConfig == null ? new TimeoutConfig() : builder.timeoutConfig,
+                builder.responseCache,
+                builder.metricsListener == null ? MetricsListener.NONE : builder.metricsListener,
+                builder.requestCompression == null ? CompressionPolicy.disabled() : builder.requestCompression,
+                builder.maxDecompressedResponseSizeBytes == null
+                        ? DecompressingEntity.DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES
+                        : builder.maxDecompressedResponseSizeBytes);
+    }
+
+    private RestApiClientConfig(String host, Authentication authentication, HttpRoutePlanner routePlanner,
+            ConnectionPoolConfig connectionPoolConfig, SharedConnectionPool sharedConnectionPool,
+            ObjectMapperRegistry objectMapperRegistry, RetryPolicy retryPolicy,
+            CircuitBreakerConfig circuitBreakerConfig, TimeoutConfig timeoutConfig, ResponseCache responseCache,
+            MetricsListener metricsListener, CompressionPolicy requestCompression,
+            long maxDecompressedResponseSizeBytes) {
         isNotEmptyOrNull(HOST_DISPLAY_NAME, host);
         isNotNull(AUTHENTICATION_DISPLAY_NAME, authentication);
         isNotNull(ROUTE_PLANNER_DISPLAY_NAME, routePlanner);
+        isNotNull(CONNECTION_POOL_CONFIG_DISPLAY_NAME, connectionPoolConfig);
+        isNotNull(RETRY_POLICY_DISPLAY_NAME, retryPolicy);
+        isNotNull(CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME, circuitBreakerConfig);
+        isNotNull(TIMEOUT_CONFIG_DISPLAY_NAME, timeoutConfig);
+        isNotNull(METRICS_LISTENER_DISPLAY_NAME, metricsListener);
+        isNotNull(REQUEST_COMPRESSION_DISPLAY_NAME, requestCompression);
+        isPositive(MAX_DECOMPRESSED_RESPONSE_SIZE_DISPLAY_NAME, maxDecompressedResponseSizeBytes);
+        if (sharedConnectionPool != null
+                && authentication.getAuthenticationType() == AuthenticationType.CLIENT_CERT) {
+            throw new IllegalArgumentException(SHARED_CONNECTION_POOL_WITH_CLIENT_CERT_MSG);
+        }
 
         this.host = host;
         this.authentication = authentication;
         this.routePlanner = routePlanner;
+        this.connectionPoolConfig = connectionPoolConfig;
+        this.sharedConnectionPool = sharedConnectionPool;
+        this.objectMapperRegistry = objectMapperRegistry;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreakerConfig = circuitBreakerConfig;
+        this.timeoutConfig = timeoutConfig;
+        this.responseCache = responseCache;
+        this.metricsListener = metricsListener;
+        this.requestCompression = requestCompression;
+        this.maxDecompressedResponseSizeBytes = maxDecompressedResponseSizeBytes;
+    }
+
+    private static HttpRoutePlanner createDefaultRoutePlanner() {
+        return new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     /**
@@ -92,4 +197,79 @@ public class RestApiClientConfig {
     public HttpRoutePlanner getRoutePlanner() {
         return routePlanner;
     }
+
+    /**
+     * @return Returns the configuration of the connection pool.
+     */
+    public ConnectionPoolConfig getConnectionPoolConfig() {
+        return connectionPoolConfig;
+    }
+
+    /**
+     * @return Returns the connection pool shared with other clients or null if
+     *         the client gets its own pool.
+     */
+    public SharedConnectionPool getSharedConnectionPool() {
+        return sharedConnectionPool;
+    }
+
+    /**
+     * @return Returns the registry of the {@link ObjectMapper} used to
+     *         serialize and deserialize JSON.
+     */
+    public ObjectMapperRegistry getObjectMapperRegistry() {
+        return objectMapperRegistry;
+    }
+
+    /**
+     * @return Returns the policy for retrying failed requests.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return Returns the configuration of the circuit breakers of the client.
+     */
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * @return Returns the timeouts of the requests of the client.
+     */
+    public TimeoutConfig getTimeoutConfig() {
+        return timeoutConfig;
+    }
+
+    /**
+     * @return Returns the cache of the responses of the client or null if
+     *         responses are not cached.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * @return Returns the listener, which receives the metrics of the requests
+     *         of the client.
+     */
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * @return Returns the compression of the request bodies of the client.
+     */
+    public CompressionPolicy getRequestCompression() {
+        return requestCompression;
+    }
+
+    /**
+     * @return Returns the maximum size in bytes of a decompressed response
+     *         body.
+     */
+    public long getMaxDecompressedResponseSizeBytes() {
+        return maxDecompressedResponseSizeBytes;
+    }
 }
\ No newline at end of file
@@ -8,16 +8,7 @@ public class RestApiClientConfigBuilder
 
     @Override
     public RestApiClientConfig build() {
-        if (authentication != null && routePlanner != null) {
-            return new RestApiClientConfig(host, authentication, routePlanner);
-        }
-        if (authentication != null) {
-            return new RestApiClientConfig(host, authentication);
-        }
-        if (routePlanner != null) {
-            return new RestApiClientConfig(host, routePlanner);
-        }
-        return new RestApiClientConfig(host);
+        return new RestApiClientConfig(this);
     }
 
     @Override
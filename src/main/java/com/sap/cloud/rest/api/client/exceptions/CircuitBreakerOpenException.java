@@ -0,0 +1,32 @@
+package com.sap.cloud.rest.api.client.exceptions;
+
+import com.sap.cloud.rest.api.client.model.Request;
+
+/**
+ * This exception is thrown instead of executing a request, while the circuit
+ * breaker of its route is open.
+ *
+ * It contains the route and the request, which was not executed.
+ */
+public class CircuitBreakerOpenException extends RestApiClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String route;
+    private final transient Request<String> request;
+
+    public CircuitBreakerOpenException(String message, String route, Request<String> request) {
+        super(message);
+
+        this.route = route;
+        this.request = request;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public Request<String> getRequest() {
+        return request;
+    }
+}
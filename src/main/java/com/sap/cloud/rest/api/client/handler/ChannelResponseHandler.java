@@ -0,0 +1,62 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link DownloadResponseHandler}, which streams the response body to a
+ * {@link WritableByteChannel}. A {@link FileChannel} is written with
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} from its
+ * current position, which must not be beyond the end of the file. The
+ * channel is not closed by the handler.
+ */
+public class ChannelResponseHandler extends DownloadResponseHandler {
+
+    static final String CHANNEL_DISPLAY_NAME = "Channel";
+
+    private final WritableByteChannel channel;
+
+    public ChannelResponseHandler(WritableByteChannel channel) {
+        this(channel, DownloadProgressListener.NONE);
+    }
+
+    /**
+     * @param channel
+     *            the channel to write the response body to.
+     * @param progressListener
+     *            the listener of the download progress.
+     */
+    public ChannelResponseHandler(WritableByteChannel channel, DownloadProgressListener progressListener) {
+        super(progressListener);
+        isNotNull(CHANNEL_DISPLAY_NAME, channel);
+
+        this.channel = channel;
+    }
+
+    @Override
+    void transfer(InputStream content, ProgressTracker tracker) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(content);
+        if (channel instanceof FileChannel) {
+            transferToFile(source, (FileChannel) channel, tracker);
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        while (source.read(buffer) >= 0) {
+            ((Buffer) buffer).flip();
+            int transferred = buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            ((Buffer) buffer).clear();
+            tracker.onTransferred(transferred);
+        }
+    }
+}
@@ -56,7 +56,7 @@ public class DefaultStatusCodeHandler implements StatusCodeHandler {
     }
 
     protected void defaultStatusCodeHandling(HttpExchangeContext context) {
-        if (context.getResponse().getStatusCode() >= 300) {
+        if (context.getStatusCode() >= 300) {
             throw new ResponseException(format(HTTP_RESPOSNE_EXCEPTION_MSG, context), context);
         }
     }
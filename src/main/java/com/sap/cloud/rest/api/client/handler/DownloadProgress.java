@@ -0,0 +1,88 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The progress of a download by a {@link DownloadResponseHandler}, i.e. the
+ * number of bytes transferred to the target so far and the transfer rate.
+ * The handler returns the progress of the complete download as the entity
+ * of the response.
+ */
+public class DownloadProgress {
+
+    private final long bytesTransferred;
+    private final long contentLength;
+    private final long elapsedNanos;
+    private final boolean complete;
+    private final String errorBody;
+
+    DownloadProgress(long bytesTransferred, long contentLength, long elapsedNanos, boolean complete,
+            String errorBody) {
+        this.bytesTransferred = bytesTransferred;
+        this.contentLength = contentLength;
+        this.elapsedNanos = elapsedNanos;
+        this.complete = complete;
+        this.errorBody = errorBody;
+    }
+
+    /**
+     * @return Returns the number of bytes of the response body transferred to
+     *         the target so far.
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * @return Returns the length of the response body in bytes or -1 if it is
+     *         not known, e.g. because the body is chunked or compressed.
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * @return Returns the time in nanoseconds since the handler started to
+     *         read the response body.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Returns the average transfer rate in bytes per second or 0 if no
+     *         time has elapsed.
+     */
+    public double getBytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (double) bytesTransferred * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @return Returns whether the whole response body has been transferred.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return Returns the body of a response with an error status code, which
+     *         is not transferred to the target, or null.
+     */
+    public String getErrorBody() {
+        return errorBody;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("bytesTransferred", bytesTransferred)
+                .append("contentLength", contentLength)
+                .append("elapsedNanos", elapsedNanos)
+                .append("complete", complete)
+                .append("errorBody", errorBody)
+                .toString();
+    }
+}
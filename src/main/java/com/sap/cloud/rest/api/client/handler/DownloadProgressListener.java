@@ -0,0 +1,25 @@
+package com.sap.cloud.rest.api.client.handler;
+
+/**
+ * Receives the progress of a download by a {@link DownloadResponseHandler}.
+ * It is called on the thread reading the response after each transferred
+ * chunk of the body, so it should return quickly.
+ */
+@FunctionalInterface
+public interface DownloadProgressListener {
+
+    /**
+     * A listener, which ignores the progress.
+     */
+    DownloadProgressListener NONE = progress -> {
+    };
+
+    /**
+     * Called after a chunk of the response body has been transferred and once
+     * more when the download is complete.
+     *
+     * @param progress
+     *            the progress of the download.
+     */
+    void onProgress(DownloadProgress progress);
+}
@@ -0,0 +1,119 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * A {@link ResponseHandler}, which streams the response body to a target in
+ * chunks instead of reading it into memory, so that the size of a download
+ * is not limited by the heap. Returns the {@link DownloadProgress} of the
+ * complete download and reports the progress after each chunk to a
+ * {@link DownloadProgressListener}.
+ *
+ * The body of a response with a status code of 300 or above is not
+ * transferred to the target. It is read as a String instead and returned as
+ * the error body of the progress, so that the status code handler can report
+ * it.
+ *
+ * The asynchronous HTTP client buffers the response body before the handler
+ * is called, so large downloads should be executed synchronously.
+ *
+ * @see PathResponseHandler
+ * @see ChannelResponseHandler
+ * @see OutputStreamResponseHandler
+ */
+public abstract class DownloadResponseHandler implements ResponseHandler<DownloadProgress> {
+
+    static final String PROGRESS_LISTENER_DISPLAY_NAME = "Progress listener";
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private final DownloadProgressListener progressListener;
+
+    DownloadResponseHandler(DownloadProgressListener progressListener) {
+        isNotNull(PROGRESS_LISTENER_DISPLAY_NAME, progressListener);
+
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public DownloadProgress handleResponse(HttpResponse response) throws IOException {
+        long start = System.nanoTime();
+        HttpEntity entity = response.getEntity();
+        if (response.getStatusLine().getStatusCode() >= HttpStatus.SC_MULTIPLE_CHOICES) {
+            String errorBody = entity == null ? "" : EntityUtils.toString(entity, StandardCharsets.UTF_8);
+            return new DownloadProgress(0, -1, System.nanoTime() - start, false, errorBody);
+        }
+        ProgressTracker tracker = new ProgressTracker(entity == null ? 0 : entity.getContentLength(), start);
+        if (entity != null) {
+            try (InputStream content = entity.getContent()) {
+                transfer(content, tracker);
+            }
+        }
+        return tracker.complete();
+    }
+
+    /**
+     * Transfers the content to the target and passes the number of bytes of
+     * each transferred chunk to the tracker.
+     */
+    abstract void transfer(InputStream content, ProgressTracker tracker) throws IOException;
+
+    /**
+     * Transfers the source to the file in chunks, starting at the position of
+     * the file, which is advanced by the number of transferred bytes. The file
+     * channel copies the bytes through a native buffer, without a copy on the
+     * heap.
+     */
+    static void transferToFile(ReadableByteChannel source, FileChannel file, ProgressTracker tracker)
+            throws IOException {
+        long position = file.position();
+        for (long transferred = file.transferFrom(source, position, CHUNK_SIZE); transferred > 0;
+                transferred = file.transferFrom(source, position, CHUNK_SIZE)) {
+            position += transferred;
+            file.position(position);
+            tracker.onTransferred(transferred);
+        }
+    }
+
+    /**
+     * Counts the transferred bytes and reports them to the progress listener.
+     */
+    class ProgressTracker {
+
+        private final long contentLength;
+        private final long start;
+        private long bytesTransferred;
+
+        ProgressTracker(long contentLength, long start) {
+            this.contentLength = contentLength;
+            this.start = start;
+        }
+
+        void onTransferred(long bytes) {
+            bytesTransferred += bytes;
+            progressListener.onProgress(createProgress(false));
+        }
+
+        DownloadProgress complete() {
+            DownloadProgress progress = createProgress(true);
+            progressListener.onProgress(progress);
+            return progress;
+        }
+
+        private DownloadProgress createProgress(boolean complete) {
+            return new DownloadProgress(bytesTransferred, contentLength, System.nanoTime() - start, complete, null);
+        }
+    }
+}
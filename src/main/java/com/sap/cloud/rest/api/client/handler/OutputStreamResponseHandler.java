@@ -0,0 +1,46 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link DownloadResponseHandler}, which streams the response body to an
+ * {@link OutputStream}. The stream is flushed when the download completes,
+ * but not closed by the handler.
+ */
+public class OutputStreamResponseHandler extends DownloadResponseHandler {
+
+    static final String OUTPUT_STREAM_DISPLAY_NAME = "Output stream";
+
+    private final OutputStream outStream;
+
+    public OutputStreamResponseHandler(OutputStream outStream) {
+        this(outStream, DownloadProgressListener.NONE);
+    }
+
+    /**
+     * @param outStream
+     *            the stream to write the response body to.
+     * @param progressListener
+     *            the listener of the download progress.
+     */
+    public OutputStreamResponseHandler(OutputStream outStream, DownloadProgressListener progressListener) {
+        super(progressListener);
+        isNotNull(OUTPUT_STREAM_DISPLAY_NAME, outStream);
+
+        this.outStream = outStream;
+    }
+
+    @Override
+    void transfer(InputStream content, ProgressTracker tracker) throws IOException {
+        byte[] buffer = new byte[CHUNK_SIZE];
+        for (int read = content.read(buffer); read >= 0; read = content.read(buffer)) {
+            outStream.write(buffer, 0, read);
+            tracker.onTransferred(read);
+        }
+        outStream.flush();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link DownloadResponseHandler}, which streams the response body to a
+ * file with {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}.
+ * The file is created or truncated, unless other open options are given, and
+ * closed when the download completes. A failed download leaves the part of
+ * the body transferred so far in the file.
+ */
+public class PathResponseHandler extends DownloadResponseHandler {
+
+    static final String PATH_DISPLAY_NAME = "Path";
+    static final String OPEN_OPTIONS_DISPLAY_NAME = "Open options";
+
+    private static final OpenOption[] DEFAULT_OPEN_OPTIONS = { StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE };
+
+    private final Path path;
+    private final OpenOption[] openOptions;
+
+    public PathResponseHandler(Path path) {
+        this(path, DownloadProgressListener.NONE);
+    }
+
+    public PathResponseHandler(Path path, DownloadProgressListener progressListener) {
+        this(path, progressListener, DEFAULT_OPEN_OPTIONS);
+    }
+
+    /**
+     * @param path
+     *            the file to write the response body to.
+     * @param progressListener
+     *            the listener of the download progress.
+     * @param openOptions
+     *            the options to open the file with, which must include
+     *            {@link StandardOpenOption#WRITE}.
+     */
+    public PathResponseHandler(Path path, DownloadProgressListener progressListener, OpenOption... openOptions) {
+        super(progressListener);
+        isNotNull(PATH_DISPLAY_NAME, path);
+        isNotNull(OPEN_OPTIONS_DISPLAY_NAME, (Object) openOptions);
+
+        this.path = path;
+        this.openOptions = openOptions.clone();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    void transfer(InputStream content, ProgressTracker tracker) throws IOException {
+        try (FileChannel file = FileChannel.open(path, openOptions)) {
+            transferToFile(Channels.newChannel(content), file, tracker);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sap.cloud.rest.api.client.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A keep-alive strategy, which honours the timeout of the <b>Keep-Alive</b>
+ * header of the server up to a maximum. Connections of responses without the
+ * header are kept alive for the maximum. Without a maximum, it behaves like
+ * the default strategy, i.e. such connections are kept alive indefinitely.
+ */
+class CappedKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+
+    private final long maxKeepAliveMillis;
+
+    /**
+     * @param maxKeepAliveMillis
+     *            the maximum keep-alive in milliseconds or 0 for no maximum.
+     */
+    CappedKeepAliveStrategy(long maxKeepAliveMillis) {
+        this.maxKeepAliveMillis = maxKeepAliveMillis;
+    }
+
+    @Override
+    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        if (maxKeepAliveMillis == ConnectionPoolConfig.UNLIMITED_KEEP_ALIVE) {
+            return keepAliveMillis;
+        }
+        return keepAliveMillis < 0 ? maxKeepAliveMillis : Math.min(keepAliveMillis, maxKeepAliveMillis);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Closes the expired and idle connections of connection pools in the
+ * background, so that connections closed by the server or by a load balancer
+ * in between are not leased. A single daemon thread serves all pools. The
+ * pools are referenced weakly, so that the eviction of the pool of an HTTP
+ * client, which was not closed, stops when the pool is garbage collected.
+ */
+final class ConnectionEvictor {
+
+    static final String THREAD_NAME = "rest-api-client-connection-evictor";
+    static final long MAX_EVICTION_INTERVAL_MILLIS = 5000;
+
+    private ConnectionEvictor() {
+    }
+
+    /**
+     * Evicts the connections of the given pool periodically, at least as
+     * often as the given idle timeout.
+     *
+     * @param pool
+     *            the pool.
+     * @param eviction
+     *            closes the expired and idle connections of the pool. It must
+     *            not hold a reference to the pool.
+     * @param idleConnectionTimeoutMillis
+     *            the idle connection timeout of the pool or 0.
+     * @return the future of the eviction, which is cancelled when the pool is
+     *         shut down.
+     */
+    static <T> Future<?> start(T pool, Consumer<T> eviction, long idleConnectionTimeoutMillis) {
+        long intervalMillis = idleConnectionTimeoutMillis == ConnectionPoolConfig.NO_IDLE_CONNECTION_TIMEOUT
+                ? MAX_EVICTION_INTERVAL_MILLIS
+                : Math.min(idleConnectionTimeoutMillis, MAX_EVICTION_INTERVAL_MILLIS);
+        EvictionTask<T> task = new EvictionTask<>(pool, eviction);
+        task.future = Scheduler.EXECUTOR.scheduleWithFixedDelay(task, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        return task.future;
+    }
+
+    private static class EvictionTask<T> implements Runnable {
+
+        private final WeakReference<T> pool;
+        private final Consumer<T> eviction;
+        private volatile Future<?> future;
+
+        EvictionTask(T pool, Consumer<T> eviction) {
+            this.pool = new WeakReference<>(pool);
+            this.eviction = eviction;
+        }
+
+        @Override
+        public void run() {
+            T referencedPool = pool.get();
+            if (referencedPool == null) {
+                Future<?> scheduledFuture = future;
+                if (scheduledFuture != null) {
+                    scheduledFuture.cancel(false);
+                }
+                return;
+            }
+            try {
+                eviction.accept(referencedPool);
+            } catch (RuntimeException e) {
+                // a failed eviction must not stop the periodic task, the next run evicts the connections
+            }
+        }
+    }
+
+    /**
+     * Holds the evictor thread, which is created when the first pool is
+     * created.
+     */
+    private static class Scheduler {
+
+        static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
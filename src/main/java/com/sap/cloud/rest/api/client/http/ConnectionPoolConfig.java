@@ -0,0 +1,191 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isValidUrl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Configuration of the connection pool used by the HTTP clients created by an
+ * {@link HttpClientProvider}. Consists of the maximum number of connections in
+ * total and per route, optional per host limits, the inactivity period after
+ * which a pooled connection is validated before reuse, the maximum time to
+ * live of a connection, the idle time after which a connection is evicted
+ * from the pool and the maximum time a connection is kept alive.
+ */
+public class ConnectionPoolConfig {
+
+    static final String MAX_TOTAL_DISPLAY_NAME = "Maximum total connections";
+    static final String MAX_PER_ROUTE_DISPLAY_NAME = "Maximum connections per route";
+    static final String MAX_PER_HOST_DISPLAY_NAME = "Maximum connections per host";
+    static final String HOST_DISPLAY_NAME = "Host";
+    static final String VALIDATE_AFTER_INACTIVITY_DISPLAY_NAME = "Validate after inactivity";
+    static final String CONNECTION_TIME_TO_LIVE_DISPLAY_NAME = "Connection time to live";
+    static final String IDLE_CONNECTION_TIMEOUT_DISPLAY_NAME = "Idle connection timeout";
+    static final String MAX_KEEP_ALIVE_DISPLAY_NAME = "Maximum keep-alive";
+
+    static final int DEFAULT_MAX_TOTAL = 200;
+    static final int DEFAULT_MAX_PER_ROUTE = 50;
+    static final int DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+    static final long UNLIMITED_CONNECTION_TIME_TO_LIVE = 0;
+    static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS = 30000;
+    static final long DEFAULT_MAX_KEEP_ALIVE_MILLIS = 30000;
+    static final long NO_IDLE_CONNECTION_TIMEOUT = 0;
+    static final long UNLIMITED_KEEP_ALIVE = 0;
+
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final Map<String, Integer> maxPerHost;
+    private final int validateAfterInactivityMillis;
+    private final long connectionTimeToLiveMillis;
+    private final long idleConnectionTimeoutMillis;
+    private final long maxKeepAliveMillis;
+
+    /**
+     * Creates a {@link ConnectionPoolConfig} with the default limits.
+     */
+    public ConnectionPoolConfig() {
+        this(DEFAULT_MAX_TOTAL, DEFAULT_MAX_PER_ROUTE, Collections.emptyMap(),
+                DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS, UNLIMITED_CONNECTION_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a {@link ConnectionPoolConfig} with the given limits and the
+     * default idle connection timeout and maximum keep-alive.
+     *
+     * @param maxTotal
+     *            the maximum number of connections in the pool.
+     * @param maxPerRoute
+     *            the maximum number of connections per route.
+     * @param maxPerHost
+     *            the maximum number of connections for specific hosts, which
+     *            override the maximum per route. The hosts are given as URLs,
+     *            e.g. <b>https://example.com</b>.
+     * @param validateAfterInactivityMillis
+     *            the period of inactivity in milliseconds after which a pooled
+     *            connection is validated before it is reused. 0 disables the
+     *            validation.
+     * @param connectionTimeToLiveMillis
+     *            the maximum time in milliseconds a connection is kept in the
+     *            pool. 0 means unlimited.
+     */
+    public ConnectionPoolConfig(int maxTotal, int maxPerRoute, Map<String, Integer> maxPerHost,
+            int validateAfterInactivityMillis, long connectionTimeToLiveMillis) {
+        this(maxTotal, maxPerRoute, maxPerHost, validateAfterInactivityMillis, connectionTimeToLiveMillis,
+                DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS, DEFAULT_MAX_KEEP_ALIVE_MILLIS);
+    }
+
+    /**
+     * @param maxTotal
+     *            the maximum number of connections in the pool.
+     * @param maxPerRoute
+     *            the maximum number of connections per route.
+     * @param maxPerHost
+     *            the maximum number of connections for specific hosts, which
+     *            override the maximum per route. The hosts are given as URLs,
+     *            e.g. <b>https://example.com</b>.
+     * @param validateAfterInactivityMillis
+     *            the period of inactivity in milliseconds after which a pooled
+     *            connection is validated before it is reused. 0 disables the
+     *            validation.
+     * @param connectionTimeToLiveMillis
+     *            the maximum time in milliseconds a connection is kept in the
+     *            pool. 0 means unlimited.
+     * @param idleConnectionTimeoutMillis
+     *            the time in milliseconds after which an idle connection is
+     *            closed in the background. 0 disables the eviction of idle
+     *            connections. Expired connections are always evicted.
+     * @param maxKeepAliveMillis
+     *            the maximum time in milliseconds an idle connection is kept
+     *            alive, even if the <b>Keep-Alive</b> header of the server
+     *            allows longer. It also applies to responses without the
+     *            header. 0 means that connections are kept alive as long as
+     *            the server allows.
+     */
+    public ConnectionPoolConfig(int maxTotal, int maxPerRoute, Map<String, Integer> maxPerHost,
+            int validateAfterInactivityMillis, long connectionTimeToLiveMillis, long idleConnectionTimeoutMillis,
+            long maxKeepAliveMillis) {
+        isPositive(MAX_TOTAL_DISPLAY_NAME, maxTotal);
+        isPositive(MAX_PER_ROUTE_DISPLAY_NAME, maxPerRoute);
+        isNotNull(MAX_PER_HOST_DISPLAY_NAME, maxPerHost);
+        for (Entry<String, Integer> hostLimit : maxPerHost.entrySet()) {
+            isValidUrl(HOST_DISPLAY_NAME, hostLimit.getKey());
+            isNotNull(MAX_PER_HOST_DISPLAY_NAME, hostLimit.getValue());
+            isPositive(MAX_PER_HOST_DISPLAY_NAME, hostLimit.getValue());
+        }
+        isNotNegative(VALIDATE_AFTER_INACTIVITY_DISPLAY_NAME, validateAfterInactivityMillis);
+        isNotNegative(CONNECTION_TIME_TO_LIVE_DISPLAY_NAME, connectionTimeToLiveMillis);
+        isNotNegative(IDLE_CONNECTION_TIMEOUT_DISPLAY_NAME, idleConnectionTimeoutMillis);
+        isNotNegative(MAX_KEEP_ALIVE_DISPLAY_NAME, maxKeepAliveMillis);
+
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+        this.maxPerHost = Collections.unmodifiableMap(new LinkedHashMap<>(maxPerHost));
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        this.connectionTimeToLiveMillis = connectionTimeToLiveMillis;
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        this.maxKeepAliveMillis = maxKeepAliveMillis;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * @return Returns the maximum number of connections for specific hosts,
+     *         keyed by host URL.
+     */
+    public Map<String, Integer> getMaxPerHost() {
+        return maxPerHost;
+    }
+
+    public int getValidateAfterInactivityMillis() {
+        return validateAfterInactivityMillis;
+    }
+
+    public long getConnectionTimeToLiveMillis() {
+        return connectionTimeToLiveMillis;
+    }
+
+    /**
+     * @return Returns the time in milliseconds after which an idle connection
+     *         is evicted or 0 if idle connections are not evicted.
+     */
+    public long getIdleConnectionTimeoutMillis() {
+        return idleConnectionTimeoutMillis;
+    }
+
+    /**
+     * @return Returns the maximum time in milliseconds an idle connection is
+     *         kept alive or 0 if it is kept alive as long as the server
+     *         allows.
+     */
+    public long getMaxKeepAliveMillis() {
+        return maxKeepAliveMillis;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(ConnectionPoolConfig.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("maxTotal", maxTotal)
+                .append("maxPerRoute", maxPerRoute)
+                .append("maxPerHost", maxPerHost)
+                .append("validateAfterInactivityMillis", validateAfterInactivityMillis)
+                .append("connectionTimeToLiveMillis", connectionTimeToLiveMillis)
+                .append("idleConnectionTimeoutMillis", idleConnectionTimeoutMillis)
+                .append("maxKeepAliveMillis", maxKeepAliveMillis)
+                .toString();
+    }
+}
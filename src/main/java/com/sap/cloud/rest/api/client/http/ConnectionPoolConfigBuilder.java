@@ -0,0 +1,115 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A builder for {@link ConnectionPoolConfig}.
+ */
+public class ConnectionPoolConfigBuilder {
+
+    private int maxTotal = ConnectionPoolConfig.DEFAULT_MAX_TOTAL;
+    private int maxPerRoute = ConnectionPoolConfig.DEFAULT_MAX_PER_ROUTE;
+    private final Map<String, Integer> maxPerHost = new LinkedHashMap<>();
+    private int validateAfterInactivityMillis = ConnectionPoolConfig.DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+    private long connectionTimeToLiveMillis = ConnectionPoolConfig.UNLIMITED_CONNECTION_TIME_TO_LIVE;
+    private long idleConnectionTimeoutMillis = ConnectionPoolConfig.DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS;
+    private long maxKeepAliveMillis = ConnectionPoolConfig.DEFAULT_MAX_KEEP_ALIVE_MILLIS;
+
+    /**
+     * Attaches the maximum number of connections in the pool to the builder.
+     * @param maxTotal maximum number of connections.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder maxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum number of connections per route to the builder.
+     * @param maxPerRoute maximum number of connections per route.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder maxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum number of connections to a specific host to the
+     * builder. It overrides the maximum per route for this host.
+     * @param hostUrl the host URL, e.g. <b>https://example.com</b>.
+     * @param maxConnections maximum number of connections to the host.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder maxPerHost(String hostUrl, int maxConnections) {
+        this.maxPerHost.put(hostUrl, maxConnections);
+        return this;
+    }
+
+    /**
+     * Attaches the period of inactivity after which a pooled connection is
+     * validated before reuse to the builder. 0 disables the validation.
+     * @param validateAfterInactivityMillis inactivity period in milliseconds.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder validateAfterInactivity(int validateAfterInactivityMillis) {
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum time a connection is kept in the pool to the
+     * builder. 0 means unlimited.
+     * @param connectionTimeToLiveMillis time to live in milliseconds.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder connectionTimeToLive(long connectionTimeToLiveMillis) {
+        this.connectionTimeToLiveMillis = connectionTimeToLiveMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the time after which an idle connection is closed in the
+     * background to the builder. It should be shorter than the idle timeout of
+     * the server and of any load balancer in between. 0 disables the eviction
+     * of idle connections.
+     * @param idleConnectionTimeoutMillis idle timeout in milliseconds.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder idleConnectionTimeout(long idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum time an idle connection is kept alive to the
+     * builder. The <b>Keep-Alive</b> header of the server is honoured up to
+     * this time. 0 means that connections are kept alive as long as the server
+     * allows.
+     * @param maxKeepAliveMillis maximum keep-alive in milliseconds.
+     * @return {@link ConnectionPoolConfigBuilder} instance.
+     */
+    public ConnectionPoolConfigBuilder maxKeepAlive(long maxKeepAliveMillis) {
+        this.maxKeepAliveMillis = maxKeepAliveMillis;
+        return this;
+    }
+
+    /**
+     * Builds a {@link ConnectionPoolConfig} with the attached settings.
+     * Settings which were not attached keep their default values.
+     * @return {@link ConnectionPoolConfig} instance.
+     */
+    public ConnectionPoolConfig build() {
+        return new ConnectionPoolConfig(maxTotal, maxPerRoute, maxPerHost, validateAfterInactivityMillis,
+                connectionTimeToLiveMillis, idleConnectionTimeoutMillis, maxKeepAliveMillis);
+    }
+
+    /**
+     * @return Returns an instance of {@link ConnectionPoolConfigBuilder}.
+     */
+    public static ConnectionPoolConfigBuilder getBuilder() {
+        return new ConnectionPoolConfigBuilder();
+    }
+}
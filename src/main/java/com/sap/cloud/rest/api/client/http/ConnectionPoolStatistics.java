@@ -0,0 +1,81 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * A snapshot of the connections of the pools of an {@link HttpClientProvider}
+ * in total and per route: the number of leased and available connections,
+ * the number of requests waiting for a connection and the maximum number of
+ * connections. The numbers of several pools, e.g. of the blocking and the
+ * asynchronous HTTP client of a client, are added up.
+ */
+public class ConnectionPoolStatistics {
+
+    private final PoolStats totalStats;
+    private final Map<HttpRoute, PoolStats> routeStats;
+
+    ConnectionPoolStatistics(PoolStats totalStats, Map<HttpRoute, PoolStats> routeStats) {
+        this.totalStats = totalStats;
+        this.routeStats = Collections.unmodifiableMap(routeStats);
+    }
+
+    static ConnectionPoolStatistics of(Collection<? extends RouteConnectionPool> pools) {
+        PoolStats totalStats = new PoolStats(0, 0, 0, 0);
+        Map<HttpRoute, PoolStats> routeStats = new LinkedHashMap<>();
+        for (RouteConnectionPool pool : pools) {
+            totalStats = add(totalStats, pool.getTotalStats());
+            for (HttpRoute route : pool.getRoutes()) {
+                routeStats.merge(route, pool.getStats(route), ConnectionPoolStatistics::add);
+            }
+        }
+        return new ConnectionPoolStatistics(totalStats, routeStats);
+    }
+
+    private static PoolStats add(PoolStats stats, PoolStats otherStats) {
+        return new PoolStats(stats.getLeased() + otherStats.getLeased(),
+                stats.getPending() + otherStats.getPending(),
+                stats.getAvailable() + otherStats.getAvailable(),
+                stats.getMax() + otherStats.getMax());
+    }
+
+    /**
+     * @return Returns the statistics of all connections.
+     */
+    public PoolStats getTotalStats() {
+        return totalStats;
+    }
+
+    /**
+     * @return Returns the statistics of the routes the pools hold or wait for
+     *         connections for.
+     */
+    public Map<HttpRoute, PoolStats> getRouteStats() {
+        return routeStats;
+    }
+
+    /**
+     * @param route
+     *            the route.
+     * @return Returns the statistics of the route or null if the pools hold
+     *         no connections for it.
+     */
+    public PoolStats getRouteStats(HttpRoute route) {
+        return routeStats.get(route);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(ConnectionPoolStatistics.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("totalStats", totalStats)
+                .append("routeStats", routeStats)
+                .toString();
+    }
+}
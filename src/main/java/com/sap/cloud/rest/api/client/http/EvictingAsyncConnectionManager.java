@@ -0,0 +1,63 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.config.Registry;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+
+/**
+ * A non-blocking pooling connection manager, which evicts its expired and
+ * idle connections with the {@link ConnectionEvictor} and registers itself in
+ * a set of active pools until it is shut down.
+ */
+class EvictingAsyncConnectionManager extends PoolingNHttpClientConnectionManager implements RouteConnectionPool {
+
+    private final long idleConnectionTimeoutMillis;
+    private final Set<RouteConnectionPool> activePools;
+    private final Future<?> eviction;
+
+    /**
+     * @param ioReactor
+     *            the I/O reactor of the pool.
+     * @param sessionStrategyRegistry
+     *            the session strategies by scheme.
+     * @param connectionPoolConfig
+     *            the configuration of the pool.
+     * @param activePools
+     *            the set of active pools to register in or null.
+     */
+    EvictingAsyncConnectionManager(ConnectingIOReactor ioReactor,
+            Registry<SchemeIOSessionStrategy> sessionStrategyRegistry, ConnectionPoolConfig connectionPoolConfig,
+            Set<RouteConnectionPool> activePools) {
+        super(ioReactor, null, sessionStrategyRegistry, null, null,
+                connectionPoolConfig.getConnectionTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        this.idleConnectionTimeoutMillis = connectionPoolConfig.getIdleConnectionTimeoutMillis();
+        this.activePools = activePools;
+        this.eviction = ConnectionEvictor.start(this, EvictingAsyncConnectionManager::evict,
+                idleConnectionTimeoutMillis);
+        if (activePools != null) {
+            activePools.add(this);
+        }
+    }
+
+    private void evict() {
+        closeExpiredConnections();
+        if (idleConnectionTimeoutMillis != ConnectionPoolConfig.NO_IDLE_CONNECTION_TIMEOUT) {
+            closeIdleConnections(idleConnectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown(long waitMillis) throws IOException {
+        eviction.cancel(false);
+        if (activePools != null) {
+            activePools.remove(this);
+        }
+        super.shutdown(waitMillis);
+    }
+}
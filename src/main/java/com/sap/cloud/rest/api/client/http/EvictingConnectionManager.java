@@ -0,0 +1,57 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.config.Registry;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * A pooling connection manager, which evicts its expired and idle connections
+ * with the {@link ConnectionEvictor} and registers itself in a set of active
+ * pools until it is shut down.
+ */
+class EvictingConnectionManager extends PoolingHttpClientConnectionManager implements RouteConnectionPool {
+
+    private final long idleConnectionTimeoutMillis;
+    private final Set<RouteConnectionPool> activePools;
+    private final Future<?> eviction;
+
+    /**
+     * @param socketFactoryRegistry
+     *            the socket factories by scheme.
+     * @param connectionPoolConfig
+     *            the configuration of the pool.
+     * @param activePools
+     *            the set of active pools to register in or null.
+     */
+    EvictingConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+            ConnectionPoolConfig connectionPoolConfig, Set<RouteConnectionPool> activePools) {
+        super(socketFactoryRegistry, null, null, null, connectionPoolConfig.getConnectionTimeToLiveMillis(),
+                TimeUnit.MILLISECONDS);
+        this.idleConnectionTimeoutMillis = connectionPoolConfig.getIdleConnectionTimeoutMillis();
+        this.activePools = activePools;
+        this.eviction = ConnectionEvictor.start(this, EvictingConnectionManager::evict, idleConnectionTimeoutMillis);
+        if (activePools != null) {
+            activePools.add(this);
+        }
+    }
+
+    private void evict() {
+        closeExpiredConnections();
+        if (idleConnectionTimeoutMillis != ConnectionPoolConfig.NO_IDLE_CONNECTION_TIMEOUT) {
+            closeIdleConnections(idleConnectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        eviction.cancel(false);
+        if (activePools != null) {
+            activePools.remove(this);
+        }
+        super.shutdown();
+    }
+}
@@ -0,0 +1,104 @@
+package com.sap.cloud.rest.api.client.http;
+
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Collects the timings of one attempt to execute a request with a blocking
+ * HTTP client. The client records them, if an instance is attached to the
+ * {@link HttpContext} the request is executed with. The HTTP clients created
+ * by the {@link HttpClientProvider} record the time it takes to connect and
+ * to complete the TLS handshake, when the connection is ready and when the
+ * response headers are received. Timestamps are values of
+ * {@link System#nanoTime()} or 0 if they were not recorded.
+ *
+ * An instance is used by the thread executing the request only.
+ */
+public final class ExchangeTimings {
+
+    static final String ATTRIBUTE_NAME = ExchangeTimings.class.getName();
+
+    private long authenticationNanos;
+    private long connectNanos;
+    private long tlsHandshakeNanos;
+    private long connectionReadyNanos;
+    private long responseHeadersNanos;
+
+    /**
+     * Attaches the timings to the context, so that the HTTP client records
+     * them.
+     *
+     * @param context
+     *            the context of the request.
+     */
+    public void attachTo(HttpContext context) {
+        context.setAttribute(ATTRIBUTE_NAME, this);
+    }
+
+    /**
+     * @param context
+     *            the context of the request or null.
+     * @return Returns the timings attached to the context or null.
+     */
+    public static ExchangeTimings get(HttpContext context) {
+        if (context == null) {
+            return null;
+        }
+        Object timings = context.getAttribute(ATTRIBUTE_NAME);
+        return timings instanceof ExchangeTimings ? (ExchangeTimings) timings : null;
+    }
+
+    /**
+     * Adds the time it took to retrieve the credentials of the request, e.g.
+     * an access token.
+     *
+     * @param durationNanos
+     *            the duration in nanoseconds.
+     */
+    public void addAuthenticationNanos(long durationNanos) {
+        authenticationNanos += durationNanos;
+    }
+
+    void addConnectNanos(long durationNanos) {
+        connectNanos += durationNanos;
+    }
+
+    void addTlsHandshakeNanos(long durationNanos) {
+        tlsHandshakeNanos += durationNanos;
+    }
+
+    void onConnectionReady() {
+        connectionReadyNanos = System.nanoTime();
+    }
+
+    void onResponseHeaders() {
+        responseHeadersNanos = System.nanoTime();
+    }
+
+    public long getAuthenticationNanos() {
+        return authenticationNanos;
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getTlsHandshakeNanos() {
+        return tlsHandshakeNanos;
+    }
+
+    /**
+     * @return Returns when the connection was ready to send the request, or 0
+     *         if the HTTP client does not record it.
+     */
+    public long getConnectionReadyNanos() {
+        return connectionReadyNanos;
+    }
+
+    /**
+     * @return Returns when the response headers were received, or 0 if the
+     *         HTTP client does not record it.
+     */
+    public long getResponseHeadersNanos() {
+        return responseHeadersNanos;
+    }
+}
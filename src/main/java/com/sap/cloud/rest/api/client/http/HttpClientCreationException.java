@@ -4,6 +4,10 @@ public class HttpClientCreationException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    public HttpClientCreationException(String message) {
+        super(message);
+    }
+
     public HttpClientCreationException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -1,15 +1,438 @@
 package com.sap.cloud.rest.api.client.http;
 
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static java.text.MessageFormat.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+
+import com.sap.cloud.rest.api.client.compression.ResponseDecompressionInterceptor;
+
+public abstract class HttpClientProvider implements Closeable {
+
+    static final String CONNECTION_POOL_CONFIG_DISPLAY_NAME = "Connection pool configuration";
+    static final String SHARED_CONNECTION_POOL_DISPLAY_NAME = "Shared connection pool";
+    static final String TIMEOUT_CONFIG_DISPLAY_NAME = "Timeout configuration";
+    static final String ROUTE_NOT_DETERMINED_MSG = "Could not determine the route to host [{0}].";
+    static final String ASYNC_CLIENT_NOT_SUPPORTED_MSG = "[{0}] does not override createHttpAsyncClient(HttpRoutePlanner), so it cannot create asynchronous HTTP clients.";
+    static final String IO_REACTOR_ERROR_MSG = "Could not create I/O reactor";
+
+    private static final String HTTP_SCHEME = "http";
+    private static final String HTTPS_SCHEME = "https";
+    private static final String HTTPS_PROTOCOLS_PROPERTY = "https.protocols";
+    private static final String HTTPS_CIPHER_SUITES_PROPERTY = "https.cipherSuites";
+
+    private final ConnectionPoolConfig connectionPoolConfig;
+    private final SharedConnectionPool sharedConnectionPool;
+    private final TimeoutConfig timeoutConfig;
+    private final Set<RouteConnectionPool> connectionPools = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Creates a provider, which HTTP clients use a connection pool with the
+     * default limits and the default timeouts.
+     */
+    protected HttpClientProvider() {
+        this(new ConnectionPoolConfig());
+    }
+
+    /**
+     * Creates a provider, which HTTP clients use a connection pool with the
+     * given limits and the default timeouts.
+     * @param connectionPoolConfig Connection pool configuration.
+     */
+    protected HttpClientProvider(ConnectionPoolConfig connectionPoolConfig) {
+        this(connectionPoolConfig, new TimeoutConfig());
+    }
+
+    /**
+     * Creates a provider, which HTTP clients use a connection pool with the
+     * given limits and the given timeouts.
+     * @param connectionPoolConfig Connection pool configuration.
+     * @param timeoutConfig Timeout configuration.
+     */
+    protected HttpClientProvider(ConnectionPoolConfig connectionPoolConfig, TimeoutConfig timeoutConfig) {
+        isNotNull(CONNECTION_POOL_CONFIG_DISPLAY_NAME, connectionPoolConfig);
+        isNotNull(TIMEOUT_CONFIG_DISPLAY_NAME, timeoutConfig);
+
+        this.connectionPoolConfig = connectionPoolConfig;
+        this.sharedConnectionPool = null;
+        this.timeoutConfig = timeoutConfig;
+    }
 
-public abstract class HttpClientProvider {
+    /**
+     * Creates a provider, which HTTP clients share the connections of the
+     * given pool and use the default timeouts.
+     * @param sharedConnectionPool Shared connection pool.
+     */
+    protected HttpClientProvider(SharedConnectionPool sharedConnectionPool) {
+        this(sharedConnectionPool, new TimeoutConfig());
+    }
+
+    /**
+     * Creates a provider, which HTTP clients share the connections of the
+     * given pool and use the given timeouts.
+     * @param sharedConnectionPool Shared connection pool.
+     * @param timeoutConfig Timeout configuration.
+     */
+    protected HttpClientProvider(SharedConnectionPool sharedConnectionPool, TimeoutConfig timeoutConfig) {
+        isNotNull(SHARED_CONNECTION_POOL_DISPLAY_NAME, sharedConnectionPool);
+        isNotNull(TIMEOUT_CONFIG_DISPLAY_NAME, timeoutConfig);
+
+        this.connectionPoolConfig = sharedConnectionPool.getConnectionPoolConfig();
+        this.sharedConnectionPool = sharedConnectionPool;
+        this.timeoutConfig = timeoutConfig;
+    }
 
     public HttpClient createHttpClient() throws HttpClientCreationException {
         return createHttpClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
     }
 
     public abstract HttpClient createHttpClient(HttpRoutePlanner proxyRouteHandler) throws HttpClientCreationException;
+
+    /**
+     * @return Returns the configuration of the connection pool.
+     */
+    public ConnectionPoolConfig getConnectionPoolConfig() {
+        return connectionPoolConfig;
+    }
+
+    /**
+     * @return Returns the shared connection pool or null if each HTTP client
+     *         gets its own pool.
+     */
+    public SharedConnectionPool getSharedConnectionPool() {
+        return sharedConnectionPool;
+    }
+
+    /**
+     * @return Returns the timeouts applied to the requests of the HTTP
+     *         clients, unless a request has its own timeouts.
+     */
+    public TimeoutConfig getTimeoutConfig() {
+        return timeoutConfig;
+    }
+
+    /**
+     * Returns the statistics of the connection pools of the HTTP clients
+     * created by the provider, which have neither been closed nor garbage
+     * collected yet, including the {@link SharedConnectionPool} of the
+     * provider, which may also be used by the clients of other providers.
+     *
+     * @return the statistics of the connection pools.
+     */
+    public ConnectionPoolStatistics getConnectionPoolStatistics() {
+        List<RouteConnectionPool> pools = new ArrayList<>(connectionPools);
+        if (sharedConnectionPool != null) {
+            RouteConnectionPool sharedPool = sharedConnectionPool.getConnectionManager();
+            if (sharedPool != null) {
+                pools.add(sharedPool);
+            }
+        }
+        return ConnectionPoolStatistics.of(pools);
+    }
+
+    /**
+     * Creates an {@link HttpClientBuilder} using the system properties, the
+     * given route planner, the {@link TimeoutConfig} of the provider and
+     * either the {@link SharedConnectionPool} of the provider or a new
+     * connection pool configured with its {@link ConnectionPoolConfig}. HTTPS
+     * connections use the system SSL socket factory. The client records the
+     * {@link ExchangeTimings} of requests executed with timings. Idle
+     * connections are kept alive and evicted as configured in the
+     * {@link ConnectionPoolConfig}. The client accepts gzip and deflate
+     * encoded responses and decompresses them up to the default maximum size
+     * of the {@link ResponseDecompressionInterceptor}.
+     *
+     * @param routePlanner
+     *            the route planner to be used.
+     * @return the HTTP client builder.
+     * @throws HttpClientCreationException
+     *             if the route to a host with a specific connection limit
+     *             cannot be determined.
+     */
+    protected HttpClientBuilder createHttpClientBuilder(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        if (sharedConnectionPool != null) {
+            return HttpClients.custom()
+                    .useSystemProperties()
+                    .setRoutePlanner(routePlanner)
+                    .setDefaultRequestConfig(timeoutConfig.toRequestConfig())
+                    .setRequestExecutor(new TimingHttpRequestExecutor())
+                    .setKeepAliveStrategy(createKeepAliveStrategy())
+                    .disableContentCompression()
+                    .addInterceptorLast(new RequestAcceptEncoding())
+                    .addInterceptorLast(new ResponseDecompressionInterceptor())
+                    .setConnectionManager(sharedConnectionPool.acquire(routePlanner));
+        }
+        return createHttpClientBuilder(routePlanner, SSLConnectionSocketFactory.getSystemSocketFactory());
+    }
+
+    /**
+     * Creates an {@link HttpClientBuilder} using the system properties, the
+     * given route planner, the {@link TimeoutConfig} of the provider and a
+     * connection pool configured with its {@link ConnectionPoolConfig}. HTTPS connections use the
+     * given SSL socket factory. The connection pool is never shared, since its
+     * connections depend on the SSL socket factory.
+     *
+     * @param routePlanner
+     *            the route planner to be used.
+     * @param sslSocketFactory
+     *            the socket factory for HTTPS connections.
+     * @return the HTTP client builder.
+     * @throws HttpClientCreationException
+     *             if the route to a host with a specific connection limit
+     *             cannot be determined.
+     */
+    protected HttpClientBuilder createHttpClientBuilder(HttpRoutePlanner routePlanner,
+            LayeredConnectionSocketFactory sslSocketFactory) throws HttpClientCreationException {
+        return HttpClients.custom()
+                .useSystemProperties()
+                .setRoutePlanner(routePlanner)
+                .setDefaultRequestConfig(timeoutConfig.toRequestConfig())
+                .setRequestExecutor(new TimingHttpRequestExecutor())
+                .setKeepAliveStrategy(createKeepAliveStrategy())
+                .disableContentCompression()
+                .addInterceptorLast(new RequestAcceptEncoding())
+                .addInterceptorLast(new ResponseDecompressionInterceptor())
+                .setConnectionManager(createConnectionManager(routePlanner, sslSocketFactory));
+    }
+
+    private ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        return new CappedKeepAliveStrategy(connectionPoolConfig.getMaxKeepAliveMillis());
+    }
+
+    PoolingHttpClientConnectionManager createConnectionManager(HttpRoutePlanner routePlanner,
+            LayeredConnectionSocketFactory sslSocketFactory) throws HttpClientCreationException {
+        PoolingHttpClientConnectionManager connectionManager = createConnectionManager(connectionPoolConfig,
+                sslSocketFactory, connectionPools);
+        applyHostLimits(connectionPoolConfig, routePlanner, connectionManager::setMaxPerRoute);
+        return connectionManager;
+    }
+
+    /**
+     * Creates a connection manager, which evicts its expired and idle
+     * connections in the background and registers itself in the given set of
+     * active pools until it is shut down. The set of a provider holds its
+     * pools weakly, so that the pool of an HTTP client, which was not closed,
+     * is garbage collected with the client.
+     */
+    static EvictingConnectionManager createConnectionManager(ConnectionPoolConfig connectionPoolConfig,
+            LayeredConnectionSocketFactory sslSocketFactory, Set<RouteConnectionPool> activePools) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+                .register(HTTP_SCHEME,
+                        new TimingConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory()))
+                .register(HTTPS_SCHEME, new TimingConnectionSocketFactory.Layered(sslSocketFactory))
+                .build();
+
+        EvictingConnectionManager connectionManager = new EvictingConnectionManager(socketFactoryRegistry,
+                connectionPoolConfig, activePools);
+        connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connectionPoolConfig.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(connectionPoolConfig.getValidateAfterInactivityMillis());
+        return connectionManager;
+    }
+
+    static void applyHostLimits(ConnectionPoolConfig connectionPoolConfig, HttpRoutePlanner routePlanner,
+            BiConsumer<HttpRoute, Integer> setMaxPerRoute) throws HttpClientCreationException {
+        for (Entry<String, Integer> hostLimit : connectionPoolConfig.getMaxPerHost().entrySet()) {
+            HttpRoute route = determineRoute(routePlanner, hostLimit.getKey());
+            setMaxPerRoute.accept(route, hostLimit.getValue());
+        }
+    }
+
+    private static HttpRoute determineRoute(HttpRoutePlanner routePlanner, String hostUrl) {
+        try {
+            HttpHost host = URIUtils.extractHost(new URI(hostUrl));
+            return routePlanner.determineRoute(host, new BasicHttpRequest("GET", "/"), HttpClientContext.create());
+        } catch (URISyntaxException | HttpException e) {
+            throw new HttpClientCreationException(format(ROUTE_NOT_DETERMINED_MSG, hostUrl), e);
+        }
+    }
+
+    /**
+     * Creates a started asynchronous HTTP client, which executes requests on a
+     * small number of non-blocking I/O threads. The client uses its own
+     * connection pool configured with the {@link ConnectionPoolConfig} of the
+     * provider, even if the provider uses a {@link SharedConnectionPool} for
+     * its blocking HTTP clients, since a shared pool holds blocking
+     * connections only.
+     *
+     * The default implementation throws an
+     * {@link HttpClientCreationException}, since it cannot know the
+     * authentication and SSL setup the provider applies to its blocking HTTP
+     * clients. Providers supporting asynchronous execution override it, e.g.
+     * with a client created from
+     * {@link #createHttpAsyncClientBuilder(HttpRoutePlanner)}, and apply the
+     * same authentication as to their blocking HTTP clients.
+     *
+     * @param routePlanner
+     *            the route planner to be used.
+     * @return the started asynchronous HTTP client.
+     * @throws HttpClientCreationException
+     *             if the client cannot be created.
+     */
+    public CloseableHttpAsyncClient createHttpAsyncClient(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        throw new HttpClientCreationException(format(ASYNC_CLIENT_NOT_SUPPORTED_MSG, getClass().getName()));
+    }
+
+    /**
+     * Creates an {@link HttpAsyncClientBuilder} using the system properties,
+     * the given route planner and a non-blocking connection pool configured
+     * with the {@link ConnectionPoolConfig} of the provider. HTTPS
+     * connections use the system SSL settings.
+     *
+     * @param routePlanner
+     *            the route planner to be used.
+     * @return the asynchronous HTTP client builder.
+     * @throws HttpClientCreationException
+     *             if the I/O reactor cannot be created or the route to a host
+     *             with a specific connection limit cannot be determined.
+     */
+    protected HttpAsyncClientBuilder createHttpAsyncClientBuilder(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        return createHttpAsyncClientBuilder(routePlanner, SSLIOSessionStrategy.getSystemDefaultStrategy());
+    }
+
+    /**
+     * Creates an {@link HttpAsyncClientBuilder} using the system properties,
+     * the given route planner, the {@link TimeoutConfig} of the provider and a
+     * non-blocking connection pool configured with its
+     * {@link ConnectionPoolConfig}. HTTPS connections use the given SSL
+     * strategy. The client accepts gzip and deflate encoded responses, but
+     * does not decompress them, since the entity of an asynchronous response
+     * is only complete after the response interceptors ran. The
+     * {@link com.sap.cloud.rest.api.client.RestApiClient} decompresses them.
+     *
+     * @param routePlanner
+     *            the route planner to be used.
+     * @param sslStrategy
+     *            the strategy used to establish HTTPS sessions.
+     * @return the asynchronous HTTP client builder.
+     * @throws HttpClientCreationException
+     *             if the I/O reactor cannot be created or the route to a host
+     *             with a specific connection limit cannot be determined.
+     */
+    protected HttpAsyncClientBuilder createHttpAsyncClientBuilder(HttpRoutePlanner routePlanner,
+            SchemeIOSessionStrategy sslStrategy) throws HttpClientCreationException {
+        return HttpAsyncClients.custom()
+                .useSystemProperties()
+                .setRoutePlanner(routePlanner)
+                .setDefaultRequestConfig(timeoutConfig.toRequestConfig())
+                .setKeepAliveStrategy(createKeepAliveStrategy())
+                .addInterceptorLast(new RequestAcceptEncoding())
+                .setConnectionManager(createAsyncConnectionManager(routePlanner, sslStrategy));
+    }
+
+    PoolingNHttpClientConnectionManager createAsyncConnectionManager(HttpRoutePlanner routePlanner,
+            SchemeIOSessionStrategy sslStrategy) throws HttpClientCreationException {
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy> create()
+                .register(HTTP_SCHEME, NoopIOSessionStrategy.INSTANCE)
+                .register(HTTPS_SCHEME, sslStrategy)
+                .build();
+
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new EvictingAsyncConnectionManager(
+                    new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), sessionStrategyRegistry,
+                    connectionPoolConfig, connectionPools);
+        } catch (IOReactorException e) {
+            throw new HttpClientCreationException(IO_REACTOR_ERROR_MSG, e);
+        }
+        connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connectionPoolConfig.getMaxPerRoute());
+        applyHostLimits(connectionPoolConfig, routePlanner, connectionManager::setMaxPerRoute);
+        return connectionManager;
+    }
+
+    /**
+     * Creates an SSL strategy for asynchronous HTTP clients for the given SSL
+     * context, which respects the <b>https.protocols</b> and
+     * <b>https.cipherSuites</b> system properties.
+     *
+     * @param sslContext
+     *            the SSL context to be used.
+     * @return the SSL strategy.
+     */
+    protected static SchemeIOSessionStrategy createSSLIOSessionStrategy(SSLContext sslContext) {
+        return new SSLIOSessionStrategy(sslContext,
+                splitSystemProperty(HTTPS_PROTOCOLS_PROPERTY),
+                splitSystemProperty(HTTPS_CIPHER_SUITES_PROPERTY),
+                SSLIOSessionStrategy.getDefaultHostnameVerifier());
+    }
+
+    /**
+     * Creates an SSL socket factory for the given SSL context, which respects
+     * the <b>https.protocols</b> and <b>https.cipherSuites</b> system
+     * properties.
+     *
+     * @param sslContext
+     *            the SSL context to be used.
+     * @return the SSL socket factory.
+     */
+    protected static LayeredConnectionSocketFactory createSSLSocketFactory(SSLContext sslContext) {
+        return new SSLConnectionSocketFactory(sslContext,
+                splitSystemProperty(HTTPS_PROTOCOLS_PROPERTY),
+                splitSystemProperty(HTTPS_CIPHER_SUITES_PROPERTY),
+                SSLConnectionSocketFactory.getDefaultHostnameVerifier());
+    }
+
+    private static String[] splitSystemProperty(String property) {
+        String value = System.getProperty(property);
+        return value == null || value.trim().isEmpty() ? null : value.split(" *, *");
+    }
+
+    /**
+     * Releases any resources held by the provider itself, e.g. background
+     * tasks. The HTTP clients created by the provider are closed separately.
+     * The default implementation does nothing.
+     */
+    @Override
+    public void close() throws IOException {
+        // nothing to release by default
+    }
 }
@@ -1,6 +1,6 @@
 package com.sap.cloud.rest.api.client.http;
 
-import static com.sap.cloud.rest.api.client.auth.oauth.AccessTokenProviderFactory.createClientCredentialsAccessTokenProvider;
+import static com.sap.cloud.rest.api.client.auth.oauth.AccessTokenProviderFactory.createAccessTokenProvider;
 
 import com.sap.cloud.rest.api.client.auth.Authentication;
 import com.sap.cloud.rest.api.client.auth.basic.BasicAuthentication;
@@ -16,19 +16,40 @@ public class HttpClientProviderFactory {
 
     public static HttpClientProvider createHttpClientProvider(RestApiClientConfig config) {
         Authentication authentication = config.getAuthentication();
+        ConnectionPoolConfig connectionPoolConfig = config.getConnectionPoolConfig();
+        SharedConnectionPool sharedConnectionPool = config.getSharedConnectionPool();
+        TimeoutConfig timeoutConfig = config.getTimeoutConfig();
         switch (authentication.getAuthenticationType()) {
         case BASIC:
-            return new BasicHttpClientProvider((BasicAuthentication) authentication);
+            if (sharedConnectionPool != null) {
+                return new BasicHttpClientProvider((BasicAuthentication) authentication, sharedConnectionPool,
+                        timeoutConfig);
+            }
+            return new BasicHttpClientProvider((BasicAuthentication) authentication, connectionPoolConfig,
+                    timeoutConfig);
         case CLIENT_CERT:
-            return new SSLHttpClientProvider((ClientCertAuthentication) authentication);
+            return new SSLHttpClientProvider((ClientCertAuthentication) authentication, connectionPoolConfig,
+                    timeoutConfig);
         case OAUTH:
             OAuthAuthentication oAuthAuthentication = (OAuthAuthentication) authentication;
+            if (sharedConnectionPool != null) {
+                return new OAuthHttpClientProvider(
+                        createAccessTokenProvider(config),
+                        oAuthAuthentication.getOAuthServerConfig().getoAuthHeaderKey(),
+                        sharedConnectionPool,
+                        timeoutConfig);
+            }
             return new OAuthHttpClientProvider(
-                    createClientCredentialsAccessTokenProvider(config),
-                    oAuthAuthentication.getOAuthServerConfig().getoAuthHeaderKey());
+                    createAccessTokenProvider(config),
+                    oAuthAuthentication.getOAuthServerConfig().getoAuthHeaderKey(),
+                    connectionPoolConfig,
+                    timeoutConfig);
         case NO_AUTH:
         default:
-            return new NoAuthHttpClientProvider();
+            if (sharedConnectionPool != null) {
+                return new NoAuthHttpClientProvider(sharedConnectionPool, timeoutConfig);
+            }
+            return new NoAuthHttpClientProvider(connectionPoolConfig, timeoutConfig);
         }
     }
 }
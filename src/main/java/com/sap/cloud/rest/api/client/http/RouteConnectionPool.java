@@ -0,0 +1,15 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.util.Set;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+
+/**
+ * A connection pool, which reports the routes it holds connections for, so
+ * that its {@link ConnectionPoolStatistics} can be collected per route.
+ */
+interface RouteConnectionPool extends ConnPoolControl<HttpRoute> {
+
+    Set<HttpRoute> getRoutes();
+}
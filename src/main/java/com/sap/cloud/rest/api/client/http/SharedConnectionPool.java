@@ -0,0 +1,194 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A connection pool, which can be shared by the HTTP clients of several
+ * {@link HttpClientProvider} instances, so that connections and TLS sessions
+ * to the same host are reused across clients.
+ *
+ * The pool is reference-counted. It is created when the first HTTP client
+ * acquires it and is shut down when the last HTTP client using it is closed.
+ * A client acquiring the pool afterwards gets a new pool.
+ *
+ * The pool holds the connections of blocking HTTP clients only; asynchronous
+ * HTTP clients always use their own pool.
+ *
+ * HTTPS connections use the system SSL socket factory. The pool cannot be
+ * used with client certificate authentication, since those connections carry
+ * the identity of the client.
+ */
+public class SharedConnectionPool {
+
+    static final String ROUTE_PLANNER_DISPLAY_NAME = "Route planner";
+
+    private final ConnectionPoolConfig connectionPoolConfig;
+
+    private EvictingConnectionManager connectionManager;
+    private int referenceCount;
+
+    /**
+     * Creates a shared pool with the default limits.
+     */
+    public SharedConnectionPool() {
+        this(new ConnectionPoolConfig());
+    }
+
+    /**
+     * Creates a shared pool with the given limits.
+     * @param connectionPoolConfig Connection pool configuration.
+     */
+    public SharedConnectionPool(ConnectionPoolConfig connectionPoolConfig) {
+        isNotNull(HttpClientProvider.CONNECTION_POOL_CONFIG_DISPLAY_NAME, connectionPoolConfig);
+
+        this.connectionPoolConfig = connectionPoolConfig;
+    }
+
+    /**
+     * Acquires a reference to the pool. The returned connection manager
+     * releases the reference when it is shut down, which happens when the
+     * HTTP client using it is closed. The underlying pool is shut down when
+     * its last reference is released.
+     *
+     * @param routePlanner
+     *            the route planner of the HTTP client, used to apply the per
+     *            host limits of the {@link ConnectionPoolConfig}.
+     * @return a connection manager backed by the shared pool.
+     * @throws HttpClientCreationException
+     *             if the route to a host with a specific connection limit
+     *             cannot be determined.
+     */
+    public synchronized HttpClientConnectionManager acquire(HttpRoutePlanner routePlanner)
+            throws HttpClientCreationException {
+        isNotNull(ROUTE_PLANNER_DISPLAY_NAME, routePlanner);
+
+        EvictingConnectionManager pool = connectionManager;
+        if (pool == null) {
+            pool = HttpClientProvider.createConnectionManager(connectionPoolConfig,
+                    SSLConnectionSocketFactory.getSystemSocketFactory(), null);
+        }
+        HttpClientProvider.applyHostLimits(connectionPoolConfig, routePlanner, pool::setMaxPerRoute);
+
+        connectionManager = pool;
+        referenceCount++;
+        return new SharedConnectionManager(pool);
+    }
+
+    private synchronized void release(PoolingHttpClientConnectionManager pool) {
+        if (pool != connectionManager) {
+            return;
+        }
+        referenceCount--;
+        if (referenceCount == 0) {
+            connectionManager = null;
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return Returns the statistics of the connections of the pool.
+     */
+    public ConnectionPoolStatistics getStatistics() {
+        RouteConnectionPool pool = getConnectionManager();
+        return ConnectionPoolStatistics.of(pool == null ? Collections.emptyList() : Collections.singleton(pool));
+    }
+
+    synchronized EvictingConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * @return Returns the number of HTTP clients currently using the pool.
+     */
+    public synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public ConnectionPoolConfig getConnectionPoolConfig() {
+        return connectionPoolConfig;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(SharedConnectionPool.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("connectionPoolConfig", connectionPoolConfig)
+                .append("referenceCount", getReferenceCount())
+                .toString();
+    }
+
+    /**
+     * Delegates to the shared pool and releases one reference to it on
+     * shutdown instead of shutting it down.
+     */
+    private class SharedConnectionManager implements HttpClientConnectionManager {
+
+        private final PoolingHttpClientConnectionManager pool;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SharedConnectionManager(PoolingHttpClientConnectionManager pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            return pool.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection connection, Object newState, long validDuration,
+                TimeUnit timeUnit) {
+            pool.releaseConnection(connection, newState, validDuration, timeUnit);
+        }
+
+        @Override
+        public void connect(HttpClientConnection connection, HttpRoute route, int connectTimeout,
+                HttpContext context) throws IOException {
+            pool.connect(connection, route, connectTimeout, context);
+        }
+
+        @Override
+        public void upgrade(HttpClientConnection connection, HttpRoute route, HttpContext context)
+                throws IOException {
+            pool.upgrade(connection, route, context);
+        }
+
+        @Override
+        public void routeComplete(HttpClientConnection connection, HttpRoute route, HttpContext context)
+                throws IOException {
+            pool.routeComplete(connection, route, context);
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            pool.closeIdleConnections(idleTime, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            pool.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            if (released.compareAndSet(false, true)) {
+                release(pool);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.client.config.RequestConfig;
+
+/**
+ * Configuration of the timeouts of requests. Consists of the timeout for
+ * establishing a connection, the timeout for waiting for data on an
+ * established connection, the timeout for leasing a connection from the pool
+ * and the deadline of the whole request, which includes all retries and
+ * reading the response. A timeout of 0 means unlimited.
+ */
+public class TimeoutConfig {
+
+    static final String CONNECT_TIMEOUT_DISPLAY_NAME = "Connect timeout";
+    static final String SOCKET_TIMEOUT_DISPLAY_NAME = "Socket timeout";
+    static final String CONNECTION_REQUEST_TIMEOUT_DISPLAY_NAME = "Connection request timeout";
+    static final String REQUEST_TIMEOUT_DISPLAY_NAME = "Request timeout";
+
+    public static final int DEFAULT_TIMEOUT_MILLIS = 30000;
+    static final long UNLIMITED_REQUEST_TIMEOUT = 0;
+
+    private final int connectTimeoutMillis;
+    private final int socketTimeoutMillis;
+    private final int connectionRequestTimeoutMillis;
+    private final long requestTimeoutMillis;
+
+    /**
+     * Creates a {@link TimeoutConfig} with connect, socket and connection
+     * request timeouts of 30 seconds each and no request deadline.
+     */
+    public TimeoutConfig() {
+        this(DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS, UNLIMITED_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param connectTimeoutMillis
+     *            the timeout in milliseconds for establishing a connection.
+     * @param socketTimeoutMillis
+     *            the maximum period of inactivity in milliseconds between two
+     *            data packets on an established connection.
+     * @param connectionRequestTimeoutMillis
+     *            the timeout in milliseconds for leasing a connection from the
+     *            connection pool.
+     * @param requestTimeoutMillis
+     *            the deadline of the whole request in milliseconds, including
+     *            all retries and reading the response.
+     */
+    public TimeoutConfig(int connectTimeoutMillis, int socketTimeoutMillis, int connectionRequestTimeoutMillis,
+            long requestTimeoutMillis) {
+        isNotNegative(CONNECT_TIMEOUT_DISPLAY_NAME, connectTimeoutMillis);
+        isNotNegative(SOCKET_TIMEOUT_DISPLAY_NAME, socketTimeoutMillis);
+        isNotNegative(CONNECTION_REQUEST_TIMEOUT_DISPLAY_NAME, connectionRequestTimeoutMillis);
+        isNotNegative(REQUEST_TIMEOUT_DISPLAY_NAME, requestTimeoutMillis);
+
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.socketTimeoutMillis = socketTimeoutMillis;
+        this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    public int getConnectionRequestTimeoutMillis() {
+        return connectionRequestTimeoutMillis;
+    }
+
+    public long getRequestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    /**
+     * @return Returns a {@link RequestConfig} with the connect, socket and
+     *         connection request timeouts.
+     */
+    public RequestConfig toRequestConfig() {
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setSocketTimeout(socketTimeoutMillis)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(TimeoutConfig.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("connectTimeoutMillis", connectTimeoutMillis)
+                .append("socketTimeoutMillis", socketTimeoutMillis)
+                .append("connectionRequestTimeoutMillis", connectionRequestTimeoutMillis)
+                .append("requestTimeoutMillis", requestTimeoutMillis)
+                .toString();
+    }
+}
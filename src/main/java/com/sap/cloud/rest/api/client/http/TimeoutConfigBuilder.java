@@ -0,0 +1,72 @@
+package com.sap.cloud.rest.api.client.http;
+
+/**
+ * A builder for {@link TimeoutConfig}.
+ */
+public class TimeoutConfigBuilder {
+
+    private int connectTimeoutMillis = TimeoutConfig.DEFAULT_TIMEOUT_MILLIS;
+    private int socketTimeoutMillis = TimeoutConfig.DEFAULT_TIMEOUT_MILLIS;
+    private int connectionRequestTimeoutMillis = TimeoutConfig.DEFAULT_TIMEOUT_MILLIS;
+    private long requestTimeoutMillis = TimeoutConfig.UNLIMITED_REQUEST_TIMEOUT;
+
+    /**
+     * Attaches the timeout for establishing a connection to the builder.
+     * @param connectTimeoutMillis connect timeout in milliseconds, 0 means unlimited.
+     * @return {@link TimeoutConfigBuilder} instance.
+     */
+    public TimeoutConfigBuilder connectTimeout(int connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum period of inactivity between two data packets to
+     * the builder.
+     * @param socketTimeoutMillis socket timeout in milliseconds, 0 means unlimited.
+     * @return {@link TimeoutConfigBuilder} instance.
+     */
+    public TimeoutConfigBuilder socketTimeout(int socketTimeoutMillis) {
+        this.socketTimeoutMillis = socketTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the timeout for leasing a connection from the pool to the
+     * builder.
+     * @param connectionRequestTimeoutMillis connection request timeout in milliseconds, 0 means unlimited.
+     * @return {@link TimeoutConfigBuilder} instance.
+     */
+    public TimeoutConfigBuilder connectionRequestTimeout(int connectionRequestTimeoutMillis) {
+        this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the deadline of the whole request, including all retries and
+     * reading the response, to the builder.
+     * @param requestTimeoutMillis request timeout in milliseconds, 0 means unlimited.
+     * @return {@link TimeoutConfigBuilder} instance.
+     */
+    public TimeoutConfigBuilder requestTimeout(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Builds a {@link TimeoutConfig} with the attached timeouts. Timeouts
+     * which were not attached keep their default values.
+     * @return {@link TimeoutConfig} instance.
+     */
+    public TimeoutConfig build() {
+        return new TimeoutConfig(connectTimeoutMillis, socketTimeoutMillis, connectionRequestTimeoutMillis,
+                requestTimeoutMillis);
+    }
+
+    /**
+     * @return Returns an instance of {@link TimeoutConfigBuilder}.
+     */
+    public static TimeoutConfigBuilder getBuilder() {
+        return new TimeoutConfigBuilder();
+    }
+}
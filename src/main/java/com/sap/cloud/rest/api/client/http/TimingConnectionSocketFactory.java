@@ -0,0 +1,111 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import javax.net.ssl.SSLSocket;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Records in the {@link ExchangeTimings} of the request how long it takes to
+ * open a connection. Connections of requests without timings are opened by
+ * the wrapped socket factory unchanged.
+ */
+class TimingConnectionSocketFactory implements ConnectionSocketFactory {
+
+    private final ConnectionSocketFactory socketFactory;
+
+    TimingConnectionSocketFactory(ConnectionSocketFactory socketFactory) {
+        this.socketFactory = socketFactory;
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) throws IOException {
+        return socketFactory.createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+            InetSocketAddress localAddress, HttpContext context) throws IOException {
+        ExchangeTimings timings = ExchangeTimings.get(context);
+        if (timings == null) {
+            return socketFactory.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        }
+        long start = System.nanoTime();
+        try {
+            return socketFactory.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        } finally {
+            timings.addConnectNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the TCP connect and the TLS handshake of HTTPS connections
+     * separately. The socket is connected like the SSL socket factories of
+     * Apache HttpClient do, before it is layered by the wrapped factory.
+     */
+    static class Layered extends TimingConnectionSocketFactory implements LayeredConnectionSocketFactory {
+
+        private final LayeredConnectionSocketFactory socketFactory;
+
+        Layered(LayeredConnectionSocketFactory socketFactory) {
+            super(socketFactory);
+            this.socketFactory = socketFactory;
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host,
+                InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context)
+                throws IOException {
+            ExchangeTimings timings = ExchangeTimings.get(context);
+            Socket plainSocket = socket != null ? socket : createSocket(context);
+            if (timings == null || plainSocket instanceof SSLSocket) {
+                return super.connectSocket(connectTimeout, plainSocket, host, remoteAddress, localAddress, context);
+            }
+            long start = System.nanoTime();
+            try {
+                if (localAddress != null) {
+                    plainSocket.bind(localAddress);
+                }
+                if (connectTimeout > 0 && plainSocket.getSoTimeout() == 0) {
+                    plainSocket.setSoTimeout(connectTimeout);
+                }
+                plainSocket.connect(remoteAddress, connectTimeout);
+            } catch (IOException e) {
+                closeQuietly(plainSocket);
+                throw e;
+            } finally {
+                timings.addConnectNanos(System.nanoTime() - start);
+            }
+            return createLayeredSocket(plainSocket, host.getHostName(), remoteAddress.getPort(), context);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+                throws IOException {
+            ExchangeTimings timings = ExchangeTimings.get(context);
+            if (timings == null) {
+                return socketFactory.createLayeredSocket(socket, target, port, context);
+            }
+            long start = System.nanoTime();
+            try {
+                return socketFactory.createLayeredSocket(socket, target, port, context);
+            } finally {
+                timings.addTlsHandshakeNanos(System.nanoTime() - start);
+            }
+        }
+
+        private static void closeQuietly(Socket socket) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // the connect failure is reported instead
+            }
+        }
+    }
+}
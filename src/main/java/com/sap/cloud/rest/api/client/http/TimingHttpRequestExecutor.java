@@ -0,0 +1,31 @@
+package com.sap.cloud.rest.api.client.http;
+
+import java.io.IOException;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Records in the {@link ExchangeTimings} of the request when the connection
+ * is ready to send it and when the response headers are received. Requests
+ * without timings are executed unchanged.
+ */
+class TimingHttpRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context)
+            throws IOException, HttpException {
+        ExchangeTimings timings = ExchangeTimings.get(context);
+        if (timings == null) {
+            return super.execute(request, connection, context);
+        }
+        timings.onConnectionReady();
+        HttpResponse response = super.execute(request, connection, context);
+        timings.onResponseHeaders();
+        return response;
+    }
+}
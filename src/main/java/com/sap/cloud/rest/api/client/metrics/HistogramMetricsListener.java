@@ -0,0 +1,94 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * A {@link MetricsListener}, which records the metrics of the requests in
+ * {@link LatencyHistogram latency histograms} and counters per
+ * {@link MetricTags}, without any dependency on a metrics library. The
+ * recorded metrics can be read at any time, e.g. to be exported periodically.
+ *
+ * The memory taken grows with the number of distinct tags, so requests should
+ * be built with a route template rather than being tagged with an unknown
+ * route. Each tag takes up to eight histograms of about 9 KB.
+ */
+public class HistogramMetricsListener implements MetricsListener {
+
+    private final ConcurrentHashMap<MetricTags, RequestStatistics> statistics = new ConcurrentHashMap<>();
+    private final LatencyHistogram tokenFetchLatency = new LatencyHistogram();
+    private final LongAdder tokenFetchFailures = new LongAdder();
+
+    @Override
+    public void onRequest(RequestMetrics metrics) {
+        getOrCreateStatistics(metrics.getTags()).record(metrics);
+    }
+
+    @Override
+    public void onRetry(MetricTags tags) {
+        getOrCreateStatistics(tags).recordRetry();
+    }
+
+    @Override
+    public void onTokenFetch(long durationNanos, Throwable failure) {
+        tokenFetchLatency.record(durationNanos);
+        if (failure != null) {
+            tokenFetchFailures.increment();
+        }
+    }
+
+    private RequestStatistics getOrCreateStatistics(MetricTags tags) {
+        RequestStatistics tagStatistics = statistics.get(tags);
+        if (tagStatistics == null) {
+            tagStatistics = statistics.computeIfAbsent(tags, key -> new RequestStatistics());
+        }
+        return tagStatistics;
+    }
+
+    /**
+     * @param tags
+     *            the tags.
+     * @return Returns the statistics of the requests with the given tags or
+     *         null if there were none.
+     */
+    public RequestStatistics getStatistics(MetricTags tags) {
+        return statistics.get(tags);
+    }
+
+    /**
+     * @return Returns a view of the statistics of the requests by their tags.
+     */
+    public Map<MetricTags, RequestStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * @return Returns the histogram of the durations of the access token
+     *         fetches, including the failed ones.
+     */
+    public LatencyHistogram getTokenFetchLatency() {
+        return tokenFetchLatency;
+    }
+
+    public long getTokenFetchCount() {
+        return tokenFetchLatency.getCount();
+    }
+
+    public long getTokenFetchFailureCount() {
+        return tokenFetchFailures.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(HistogramMetricsListener.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("statistics", statistics)
+                .append("tokenFetchLatency", tokenFetchLatency)
+                .append("tokenFetchFailureCount", getTokenFetchFailureCount())
+                .toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static java.text.MessageFormat.format;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * A histogram of durations in nanoseconds, which can be recorded concurrently
+ * without locking. The buckets grow exponentially, each power of two being
+ * divided into {@value #SUB_BUCKET_COUNT} linear sub-buckets, like in
+ * HdrHistogram. So percentiles are reported with a relative error of at most
+ * about 3%, for durations of up to about 18 minutes. Longer durations are
+ * counted in the highest bucket. A histogram takes about 9 KB of memory.
+ */
+public class LatencyHistogram {
+
+    static final String PERCENTILE_OUT_OF_RANGE_MSG = "Percentile [{0}] must be between 0 and 100.";
+    static final String DURATION_DISPLAY_NAME = "Duration";
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_VALUE_BITS = 40;
+    static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    private static final int BUCKET_COUNT = getBucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration.
+     *
+     * @param durationNanos
+     *            the duration in nanoseconds.
+     */
+    public void record(long durationNanos) {
+        isNotNegative(DURATION_DISPLAY_NAME, durationNanos);
+
+        counts.incrementAndGet(getBucketIndex(Math.min(durationNanos, MAX_TRACKABLE_VALUE)));
+        count.increment();
+        total.add(durationNanos);
+        max.accumulate(durationNanos);
+    }
+
+    /**
+     * @return Returns the number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Returns the sum of the recorded durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * @return Returns the longest recorded duration in nanoseconds or 0 if no
+     *         duration has been recorded.
+     */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * @return Returns the mean of the recorded durations in nanoseconds or 0
+     *         if no duration has been recorded.
+     */
+    public double getMeanNanos() {
+        long recorded = getCount();
+        return recorded == 0 ? 0 : (double) getTotalNanos() / recorded;
+    }
+
+    /**
+     * Returns the duration, which the given percentage of the recorded
+     * durations does not exceed. The duration is the upper bound of the bucket
+     * it falls into, but not more than the longest recorded duration.
+     *
+     * @param percentile
+     *            the percentile between 0 and 100, e.g. 99.9.
+     * @return the duration in nanoseconds or 0 if no duration has been
+     *         recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException(format(PERCENTILE_OUT_OF_RANGE_MSG, String.valueOf(percentile)));
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            recorded += snapshot[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Values below twice the sub-bucket count have a bucket each. Above, the
+     * bucket is determined by the position of the highest bit and the
+     * {@value #SUB_BUCKET_BITS} bits following it.
+     */
+    static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(LatencyHistogram.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("count", getCount())
+                .append("meanMillis", getMeanNanos() / TimeUnit.MILLISECONDS.toNanos(1))
+                .append("p50Millis", toMillis(getValueAtPercentile(50)))
+                .append("p99Millis", toMillis(getValueAtPercentile(99)))
+                .append("maxMillis", toMillis(getMaxNanos()))
+                .toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.util.Objects;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The tags metrics are recorded with: the HTTP method, the route template of
+ * the request and the class of the response status code. The route template is
+ * the path pattern the request was built from, e.g. <b>/entities/{0}</b>, so
+ * that requests to the same endpoint share their metrics whatever the values
+ * of their path parameters.
+ */
+public final class MetricTags {
+
+    /**
+     * The route of requests built without a route template.
+     */
+    public static final String UNKNOWN_ROUTE = "unknown";
+
+    /**
+     * The status class of requests, which did not receive a response.
+     */
+    public static final String NO_STATUS = "none";
+
+    static final String METHOD_DISPLAY_NAME = "Method";
+    static final String ROUTE_DISPLAY_NAME = "Route";
+    static final String STATUS_CLASS_DISPLAY_NAME = "Status class";
+
+    private static final String[] STATUS_CLASSES = { "1xx", "2xx", "3xx", "4xx", "5xx" };
+
+    private final String method;
+    private final String route;
+    private final String statusClass;
+
+    /**
+     * @param method
+     *            the HTTP method.
+     * @param route
+     *            the route template.
+     * @param statusClass
+     *            the status class, e.g. <b>2xx</b>, or {@link #NO_STATUS}.
+     */
+    public MetricTags(String method, String route, String statusClass) {
+        isNotNull(METHOD_DISPLAY_NAME, method);
+        isNotNull(ROUTE_DISPLAY_NAME, route);
+        isNotNull(STATUS_CLASS_DISPLAY_NAME, statusClass);
+
+        this.method = method;
+        this.route = route;
+        this.statusClass = statusClass;
+    }
+
+    /**
+     * Creates the tags of a request.
+     *
+     * @param method
+     *            the HTTP method.
+     * @param route
+     *            the route template or null if the request has none.
+     * @param statusCode
+     *            the status code of the response or -1 if no response was
+     *            received.
+     * @return the tags.
+     */
+    public static MetricTags of(String method, String route, int statusCode) {
+        return new MetricTags(method, route == null ? UNKNOWN_ROUTE : route, getStatusClass(statusCode));
+    }
+
+    /**
+     * @param statusCode
+     *            the status code or -1.
+     * @return Returns the class of the status code, e.g. <b>4xx</b>, or
+     *         {@link #NO_STATUS} if it is not a valid status code.
+     */
+    public static String getStatusClass(int statusCode) {
+        int statusClass = statusCode / 100;
+        if (statusCode < 0 || statusClass < 1 || statusClass > STATUS_CLASSES.length) {
+            return NO_STATUS;
+        }
+        return STATUS_CLASSES[statusClass - 1];
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getStatusClass() {
+        return statusClass;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MetricTags)) {
+            return false;
+        }
+        MetricTags other = (MetricTags) obj;
+        return method.equals(other.method) && route.equals(other.route) && statusClass.equals(other.statusClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, route, statusClass);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(MetricTags.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("method", method)
+                .append("route", route)
+                .append("statusClass", statusClass)
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+/**
+ * Receives the metrics of the requests executed by a client, e.g. to record
+ * them in a metrics library. The methods are called on the thread executing
+ * the request, or on an I/O thread for asynchronous requests, so they should
+ * return quickly and must not throw. {@link HistogramMetricsListener} is an
+ * implementation, which keeps latency histograms in memory.
+ */
+public interface MetricsListener {
+
+    /**
+     * A listener, which ignores all metrics. No metrics are measured for a
+     * client with this listener.
+     */
+    MetricsListener NONE = new MetricsListener() {
+    };
+
+    /**
+     * Called when a request has completed, successfully or not.
+     *
+     * @param metrics
+     *            the metrics of the request.
+     */
+    default void onRequest(RequestMetrics metrics) {
+    }
+
+    /**
+     * Called when a failed attempt to execute a request is going to be
+     * retried.
+     *
+     * @param tags
+     *            the tags of the request, with the status class of the failed
+     *            attempt.
+     */
+    default void onRetry(MetricTags tags) {
+    }
+
+    /**
+     * Called when an OAuth access token has been fetched from the
+     * authorization server, successfully or not.
+     *
+     * @param durationNanos
+     *            the duration of the fetch in nanoseconds.
+     * @param failure
+     *            the exception the fetch failed with or null if it succeeded.
+     */
+    default void onTokenFetch(long durationNanos, Throwable failure) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The metrics of a completed request: its tags, outcome, total duration and
+ * the durations of its {@link RequestPhase phases}. The total duration covers
+ * all attempts of a retried request, from the start of the execution until
+ * the response is handled or the request fails. For a compressed response,
+ * the metrics also hold the numbers of compressed and decompressed bytes
+ * read from its body.
+ */
+public class RequestMetrics {
+
+    static final long NOT_MEASURED = -1;
+
+    private final MetricTags tags;
+    private final int statusCode;
+    private final int attempts;
+    private final boolean cached;
+    private final Throwable failure;
+    private final long totalNanos;
+    private final long[] phaseNanos;
+    private final long compressedBytes;
+    private final long decompressedBytes;
+
+    RequestMetrics(MetricTags tags, int statusCode, int attempts, boolean cached, Throwable failure,
+            long totalNanos, long[] phaseNanos, long compressedBytes, long decompressedBytes) {
+        this.tags = tags;
+        this.statusCode = statusCode;
+        this.attempts = attempts;
+        this.cached = cached;
+        this.failure = failure;
+        this.totalNanos = totalNanos;
+        this.phaseNanos = phaseNanos;
+        this.compressedBytes = compressedBytes;
+        this.decompressedBytes = decompressedBytes;
+    }
+
+    public MetricTags getTags() {
+        return tags;
+    }
+
+    /**
+     * @return Returns the status code of the response or -1 if no response
+     *         was received.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Returns the number of attempts to execute the request, 0 if the
+     *         response was served from the cache.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Returns whether the response was served from the response cache
+     *         without a request.
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * @return Returns the exception the request failed with, e.g. thrown by
+     *         the status code handler, or null if it succeeded.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @param phase
+     *            the phase.
+     * @return Returns the duration of the phase in nanoseconds or -1 if it was
+     *         not measured.
+     */
+    public long getDurationNanos(RequestPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return Returns whether the response body was compressed.
+     */
+    public boolean isCompressed() {
+        return compressedBytes != NOT_MEASURED;
+    }
+
+    /**
+     * @return Returns the number of compressed bytes read from the response
+     *         body or -1 if it was not compressed.
+     */
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * @return Returns the number of bytes the compressed response body
+     *         decompressed to or -1 if it was not compressed.
+     */
+    public long getDecompressedBytes() {
+        return decompressedBytes;
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(RequestMetrics.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("tags", tags)
+                .append("statusCode", statusCode)
+                .append("attempts", attempts)
+                .append("cached", cached)
+                .append("failure", failure)
+                .append("totalMicros", TimeUnit.NANOSECONDS.toMicros(totalNanos));
+        for (RequestPhase phase : RequestPhase.values()) {
+            long duration = getDurationNanos(phase);
+            if (duration != NOT_MEASURED) {
+                builder.append(phase.name() + "Micros", TimeUnit.NANOSECONDS.toMicros(duration));
+            }
+        }
+        if (isCompressed()) {
+            builder.append("compressedBytes", compressedBytes)
+                    .append("decompressedBytes", decompressedBytes);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+/**
+ * The phases of the execution of a request, which are measured for
+ * {@link RequestMetrics}. The connection phases and the server time are
+ * measured only for the blocking HTTP clients created by the HTTP client
+ * providers of the library, and only for the last attempt of a retried
+ * request.
+ */
+public enum RequestPhase {
+
+    /**
+     * Retrieving the access token added to the request. The token is usually
+     * cached, so this is only long when a new token is fetched.
+     */
+    AUTHENTICATION,
+
+    /**
+     * Waiting for a connection from the connection pool, including the other
+     * request interceptors.
+     */
+    CONNECTION_LEASE,
+
+    /**
+     * Opening the TCP connection. Zero if a pooled connection is reused.
+     */
+    CONNECT,
+
+    /**
+     * The TLS handshake of a new HTTPS connection. Zero if a pooled connection
+     * is reused or the connection is not secured.
+     */
+    TLS_HANDSHAKE,
+
+    /**
+     * Sending the request and waiting for the response headers, i.e. mostly
+     * the time the server takes.
+     */
+    SERVER,
+
+    /**
+     * Reading the response body from the connection.
+     */
+    BODY_READ,
+
+    /**
+     * Handling the response apart from reading its body, e.g. deserializing
+     * it.
+     */
+    DESERIALIZATION
+}
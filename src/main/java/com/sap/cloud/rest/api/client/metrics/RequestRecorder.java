@@ -0,0 +1,274 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+
+import com.sap.cloud.rest.api.client.compression.DecompressingEntity;
+import com.sap.cloud.rest.api.client.http.ExchangeTimings;
+
+/**
+ * Measures the execution of one request and reports its
+ * {@link RequestMetrics} to the {@link MetricsListener} of the client when it
+ * completes. Used by the client, which calls the methods in the order the
+ * request is executed. If the listener is {@link MetricsListener#NONE}, a
+ * recorder, which measures nothing, is used instead.
+ */
+public class RequestRecorder {
+
+    private static final String HTTPS_SCHEME = "https";
+    private static final RequestRecorder DISABLED = new RequestRecorder(null, null, null, false);
+
+    private final MetricsListener listener;
+    private final String method;
+    private final String route;
+    private final boolean secure;
+    private final long startNanos = System.nanoTime();
+
+    private int attempts;
+    private long attemptStartNanos;
+    private ExchangeTimings timings;
+    private int statusCode = -1;
+    private boolean cached;
+    private long handlingStartNanos;
+    private long handlingEndNanos;
+    private long bodyReadNanos;
+    private DecompressingEntity decompressingEntity;
+    private boolean completed;
+
+    private RequestRecorder(MetricsListener listener, String method, String route, boolean secure) {
+        this.listener = listener;
+        this.method = method;
+        this.route = route;
+        this.secure = secure;
+    }
+
+    /**
+     * Starts to measure the execution of a request.
+     *
+     * @param listener
+     *            the listener of the client.
+     * @param request
+     *            the request.
+     * @param route
+     *            the route template of the request or null.
+     * @return the recorder.
+     */
+    public static RequestRecorder start(MetricsListener listener, HttpUriRequest request, String route) {
+        if (listener == MetricsListener.NONE) {
+            return DISABLED;
+        }
+        return new RequestRecorder(listener, request.getMethod(), route,
+                HTTPS_SCHEME.equalsIgnoreCase(request.getURI().getScheme()));
+    }
+
+    /**
+     * Starts to measure an attempt to execute the request with an HTTP client,
+     * which records its {@link ExchangeTimings} in the given context.
+     *
+     * @return Returns the context to execute the attempt with or null if
+     *         nothing is measured.
+     */
+    public HttpContext startAttempt() {
+        if (listener == null) {
+            return null;
+        }
+        onAttempt();
+        timings = new ExchangeTimings();
+        HttpClientContext context = HttpClientContext.create();
+        timings.attachTo(context);
+        return context;
+    }
+
+    /**
+     * Starts to measure an attempt to execute the request, without measuring
+     * the phases of the exchange.
+     */
+    public void onAttempt() {
+        if (listener != null) {
+            attempts++;
+            attemptStartNanos = System.nanoTime();
+            timings = null;
+        }
+    }
+
+    /**
+     * Reports that a failed attempt is going to be retried.
+     *
+     * @param attemptStatusCode
+     *            the status code of the failed attempt or -1 if it received
+     *            no response.
+     */
+    public void onRetry(int attemptStatusCode) {
+        if (listener != null) {
+            listener.onRetry(MetricTags.of(method, route, attemptStatusCode));
+        }
+    }
+
+    /**
+     * Marks the request as served from the response cache.
+     */
+    public void onCacheHit() {
+        cached = true;
+    }
+
+    /**
+     * Starts to measure the handling of the response. Wraps its entity, so
+     * that the time spent reading the body is measured. If the entity is
+     * decompressed, its compressed and decompressed bytes are counted.
+     *
+     * @param response
+     *            the received response.
+     * @return the response.
+     */
+    public HttpResponse onResponse(HttpResponse response) {
+        if (listener == null) {
+            return response;
+        }
+        statusCode = response.getStatusLine().getStatusCode();
+        handlingStartNanos = System.nanoTime();
+        HttpEntity entity = response.getEntity();
+        if (entity instanceof DecompressingEntity) {
+            decompressingEntity = (DecompressingEntity) entity;
+        }
+        if (entity != null) {
+            response.setEntity(new TimedEntity(entity));
+        }
+        return response;
+    }
+
+    /**
+     * Stops to measure the handling of the response.
+     *
+     * @param response
+     *            the handled response, which may differ from the received one,
+     *            e.g. if it was revalidated from the cache.
+     */
+    public void onResponseHandled(HttpResponse response) {
+        if (listener != null) {
+            statusCode = response.getStatusLine().getStatusCode();
+            handlingEndNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Reports the metrics of the request to the listener. Only the first call
+     * reports them.
+     *
+     * @param failure
+     *            the exception the request failed with or null if it
+     *            succeeded.
+     */
+    public void onCompleted(Throwable failure) {
+        if (listener == null || completed) {
+            return;
+        }
+        completed = true;
+        long endNanos = System.nanoTime();
+        long[] phaseNanos = new long[RequestPhase.values().length];
+        Arrays.fill(phaseNanos, RequestMetrics.NOT_MEASURED);
+        if (handlingStartNanos != 0) {
+            long handlingNanos = (handlingEndNanos != 0 ? handlingEndNanos : endNanos) - handlingStartNanos;
+            phaseNanos[RequestPhase.BODY_READ.ordinal()] = bodyReadNanos;
+            phaseNanos[RequestPhase.DESERIALIZATION.ordinal()] = Math.max(0, handlingNanos - bodyReadNanos);
+        }
+        if (timings != null && timings.getConnectionReadyNanos() != 0) {
+            long authenticationNanos = timings.getAuthenticationNanos();
+            if (authenticationNanos > 0) {
+                phaseNanos[RequestPhase.AUTHENTICATION.ordinal()] = authenticationNanos;
+            }
+            long connectionNanos = timings.getConnectionReadyNanos() - attemptStartNanos;
+            phaseNanos[RequestPhase.CONNECTION_LEASE.ordinal()] = Math.max(0, connectionNanos
+                    - authenticationNanos - timings.getConnectNanos() - timings.getTlsHandshakeNanos());
+            phaseNanos[RequestPhase.CONNECT.ordinal()] = timings.getConnectNanos();
+            if (secure) {
+                phaseNanos[RequestPhase.TLS_HANDSHAKE.ordinal()] = timings.getTlsHandshakeNanos();
+            }
+            if (timings.getResponseHeadersNanos() != 0) {
+                phaseNanos[RequestPhase.SERVER.ordinal()] = timings.getResponseHeadersNanos()
+                        - timings.getConnectionReadyNanos();
+            }
+        }
+        long compressedBytes = RequestMetrics.NOT_MEASURED;
+        long decompressedBytes = RequestMetrics.NOT_MEASURED;
+        if (decompressingEntity != null) {
+            compressedBytes = decompressingEntity.getCompressedBytes();
+            decompressedBytes = decompressingEntity.getDecompressedBytes();
+        }
+        listener.onRequest(new RequestMetrics(MetricTags.of(method, route, statusCode), statusCode, attempts,
+                cached, failure, endNanos - startNanos, phaseNanos, compressedBytes, decompressedBytes));
+    }
+
+    /**
+     * An entity, which adds the time spent reading its content to the body
+     * read time of the request.
+     */
+    private class TimedEntity extends HttpEntityWrapper {
+
+        TimedEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            InputStream content = super.getContent();
+            return content == null ? null : new TimedInputStream(content);
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.writeTo(outStream);
+            } finally {
+                bodyReadNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    private class TimedInputStream extends FilterInputStream {
+
+        TimedInputStream(InputStream content) {
+            super(content);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                bodyReadNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.read(buffer, offset, length);
+            } finally {
+                bodyReadNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.skip(count);
+            } finally {
+                bodyReadNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
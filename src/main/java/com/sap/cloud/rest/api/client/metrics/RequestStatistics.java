@@ -0,0 +1,137 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The statistics of the requests with the same {@link MetricTags}, recorded
+ * by a {@link HistogramMetricsListener}: the latency histograms of the
+ * requests and of their phases, the numbers of failures and retries and the
+ * numbers of bytes read from compressed response bodies. The histogram of a
+ * phase is created when the phase is first measured.
+ */
+public class RequestStatistics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicReferenceArray<LatencyHistogram> phaseLatencies = new AtomicReferenceArray<>(
+            RequestPhase.values().length);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder decompressedBytes = new LongAdder();
+
+    RequestStatistics() {
+    }
+
+    void record(RequestMetrics metrics) {
+        latency.record(metrics.getTotalNanos());
+        for (RequestPhase phase : RequestPhase.values()) {
+            long duration = metrics.getDurationNanos(phase);
+            if (duration != RequestMetrics.NOT_MEASURED) {
+                getOrCreatePhaseLatency(phase).record(duration);
+            }
+        }
+        if (metrics.isFailed()) {
+            failures.increment();
+        }
+        if (metrics.isCompressed()) {
+            compressedResponses.increment();
+            compressedBytes.add(metrics.getCompressedBytes());
+            decompressedBytes.add(metrics.getDecompressedBytes());
+        }
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    private LatencyHistogram getOrCreatePhaseLatency(RequestPhase phase) {
+        LatencyHistogram histogram = phaseLatencies.get(phase.ordinal());
+        if (histogram == null) {
+            phaseLatencies.compareAndSet(phase.ordinal(), null, new LatencyHistogram());
+            histogram = phaseLatencies.get(phase.ordinal());
+        }
+        return histogram;
+    }
+
+    /**
+     * @return Returns the histogram of the total durations of the requests.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @param phase
+     *            the phase.
+     * @return Returns the histogram of the durations of the phase or null if
+     *         the phase has not been measured.
+     */
+    public LatencyHistogram getLatency(RequestPhase phase) {
+        return phaseLatencies.get(phase.ordinal());
+    }
+
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * @return Returns the number of requests, which failed with an exception.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Returns the number of retried attempts.
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Returns the number of responses with a compressed body.
+     */
+    public long getCompressedResponseCount() {
+        return compressedResponses.sum();
+    }
+
+    /**
+     * @return Returns the total number of compressed bytes read from the
+     *         response bodies.
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * @return Returns the total number of bytes the compressed response
+     *         bodies decompressed to.
+     */
+    public long getDecompressedBytes() {
+        return decompressedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(RequestStatistics.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("latency", latency);
+        for (RequestPhase phase : RequestPhase.values()) {
+            LatencyHistogram histogram = getLatency(phase);
+            if (histogram != null) {
+                builder.append(phase.name(), histogram);
+            }
+        }
+        return builder
+                .append("failureCount", getFailureCount())
+                .append("retryCount", getRetryCount())
+                .append("compressedResponseCount", getCompressedResponseCount())
+                .append("compressedBytes", getCompressedBytes())
+                .append("decompressedBytes", getDecompressedBytes())
+                .toString();
+    }
+}
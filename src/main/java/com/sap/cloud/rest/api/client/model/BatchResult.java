@@ -0,0 +1,106 @@
+package com.sap.cloud.rest.api.client.model;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The result of one request of a batch. Holds the position of the request in
+ * the batch, the request and either its {@link Response} or the exception it
+ * failed with.
+ *
+ * @param <T>
+ *            the type of the response entity
+ */
+public class BatchResult<T> {
+
+    static final String INDEX_DISPLAY_NAME = "Index";
+    static final String FAILURE_DISPLAY_NAME = "Failure";
+
+    private final int index;
+    private final Request<?> request;
+    private final Response<T> response;
+    private final Throwable failure;
+
+    private BatchResult(int index, Request<?> request, Response<T> response, Throwable failure) {
+        isNotNegative(INDEX_DISPLAY_NAME, index);
+
+        this.index = index;
+        this.request = request;
+        this.response = response;
+        this.failure = failure;
+    }
+
+    /**
+     * @param index
+     *            the position of the request in the batch.
+     * @param request
+     *            the request.
+     * @param response
+     *            the response of the request.
+     * @return a successful result.
+     */
+    public static <T> BatchResult<T> success(int index, Request<?> request, Response<T> response) {
+        return new BatchResult<>(index, request, response, null);
+    }
+
+    /**
+     * @param index
+     *            the position of the request in the batch.
+     * @param request
+     *            the request.
+     * @param failure
+     *            the exception the request failed with.
+     * @return a failed result.
+     */
+    public static <T> BatchResult<T> failure(int index, Request<?> request, Throwable failure) {
+        isNotNull(FAILURE_DISPLAY_NAME, failure);
+
+        return new BatchResult<>(index, request, null, failure);
+    }
+
+    /**
+     * @return Returns the position of the request in the batch, starting at 0.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Request<?> getRequest() {
+        return request;
+    }
+
+    /**
+     * @return Returns whether the request completed with a {@link Response}.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return Returns the response, or null if the request failed.
+     */
+    public Response<T> getResponse() {
+        return response;
+    }
+
+    /**
+     * @return Returns the exception the request failed with, or null if it
+     *         was successful.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(BatchResult.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("index", index)
+                .append("request", request)
+                .append("response", response)
+                .append("failure", failure)
+                .toString();
+    }
+}
@@ -2,42 +2,97 @@ package com.sap.cloud.rest.api.client.model;
 
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
 
+import java.util.function.Supplier;
+
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpResponse;
 
 /**
  * Represents the context in which the exception was thrown, e.g the request
  * that was made and the response received.
  *
+ * The string representations of the request and the response can be created
+ * lazily, when they are first accessed, so that a context which is not used
+ * by any handler costs no serialization work. The status code is always
+ * available without creating them.
  */
 public class HttpExchangeContext {
 
     static final String REQUEST_DISPLAY_NAME = "Request";
     static final String RESPONSE_DISPLAY_NAME = "Response";
+    static final String RESPONSE_ENTITY_DISPLAY_NAME = "Response entity";
+
+    private final HttpResponse httpResponse;
+    private final Supplier<Request<String>> requestSupplier;
+    private final Supplier<String> responseEntitySupplier;
 
-    private final Request<String> request;
-    private final Response<String> response;
+    private volatile Request<String> request;
+    private volatile Response<String> response;
 
     public HttpExchangeContext(final Request<String> request, final Response<String> response) {
         isNotNull(REQUEST_DISPLAY_NAME, request);
         isNotNull(RESPONSE_DISPLAY_NAME, response);
 
+        this.httpResponse = response.getHttpResponse();
+        this.requestSupplier = null;
+        this.responseEntitySupplier = null;
         this.request = request;
         this.response = response;
     }
 
+    /**
+     * Creates a context, which creates its request and response on first
+     * access.
+     * 
+     * @param requestSupplier
+     *            creates the request with its entity as string.
+     * @param httpResponse
+     *            the received HTTP response.
+     * @param responseEntitySupplier
+     *            creates the response entity as string.
+     */
+    public HttpExchangeContext(final Supplier<Request<String>> requestSupplier, final HttpResponse httpResponse,
+            final Supplier<String> responseEntitySupplier) {
+        isNotNull(REQUEST_DISPLAY_NAME, requestSupplier);
+        isNotNull(RESPONSE_DISPLAY_NAME, httpResponse);
+        isNotNull(RESPONSE_ENTITY_DISPLAY_NAME, responseEntitySupplier);
+
+        this.httpResponse = httpResponse;
+        this.requestSupplier = requestSupplier;
+        this.responseEntitySupplier = responseEntitySupplier;
+    }
+
     public Request<String> getRequest() {
-        return request;
+        Request<String> result = request;
+        if (result == null) {
+            result = requestSupplier.get();
+            request = result;
+        }
+        return result;
     }
 
     public Response<String> getResponse() {
-        return response;
+        Response<String> result = response;
+        if (result == null) {
+            result = new Response<>(httpResponse, responseEntitySupplier.get());
+            response = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return Returns the status code of the response without creating the
+     *         response.
+     */
+    public int getStatusCode() {
+        return httpResponse.getStatusLine().getStatusCode();
     }
 
     public String toString() {
         return new ToStringBuilder(HttpExchangeContext.class.getName(), ToStringStyle.JSON_STYLE)
-                .append("request", request)
-                .append("response", response)
+                .append("request", getRequest())
+                .append("response", getResponse())
                 .toString();
     }
 }
@@ -16,9 +16,12 @@ import org.apache.http.Header;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.message.BasicHeader;
 
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+
 /**
- * Represents an HTTP request. Contains the {@link HttpUriRequest} and the
- * request body.
+ * Represents an HTTP request. Contains the {@link HttpUriRequest}, the
+ * request body and optionally the timeouts and the route template of the
+ * request.
  */
 public class Request<T> {
 
@@ -33,15 +36,51 @@ public class Request<T> {
 
     private final T entity;
 
+    private final TimeoutConfig timeoutConfig;
+
+    private final String route;
+
     public Request(HttpUriRequest httpUriRequest) {
         this(httpUriRequest, null);
     }
 
     public Request(HttpUriRequest httpUriRequest, T body) {
+        this(httpUriRequest, body, null);
+    }
+
+    /**
+     * @param httpUriRequest
+     *            the HTTP request.
+     * @param body
+     *            the request body.
+     * @param timeoutConfig
+     *            the timeouts of the request, or null if the timeouts of the
+     *            client apply.
+     */
+    public Request(HttpUriRequest httpUriRequest, T body, TimeoutConfig timeoutConfig) {
+        this(httpUriRequest, body, timeoutConfig, null);
+    }
+
+    /**
+     * @param httpUriRequest
+     *            the HTTP request.
+     * @param body
+     *            the request body.
+     * @param timeoutConfig
+     *            the timeouts of the request, or null if the timeouts of the
+     *            client apply.
+     * @param route
+     *            the route template the request path was built from, e.g.
+     *            <b>/entities/{0}</b>, which tags the metrics of the request,
+     *            or null.
+     */
+    public Request(HttpUriRequest httpUriRequest, T body, TimeoutConfig timeoutConfig, String route) {
         isNotNull(HTTP_URI_REQUEST_DISPLAY_NAME, httpUriRequest);
 
         this.httpUriRequest = httpUriRequest;
         this.entity = body;
+        this.timeoutConfig = timeoutConfig;
+        this.route = route;
     }
 
     public HttpUriRequest getHttpRequest() {
@@ -56,6 +95,22 @@ public class Request<T> {
         return entity;
     }
 
+    /**
+     * @return Returns the timeouts of the request, or null if the timeouts of
+     *         the client apply.
+     */
+    public TimeoutConfig getTimeoutConfig() {
+        return timeoutConfig;
+    }
+
+    /**
+     * @return Returns the route template the request path was built from or
+     *         null if it is not known.
+     */
+    public String getRoute() {
+        return route;
+    }
+
     /**
      * Returns a String representation of the {@link Request}. Hides the
      * Authorization header if existent.
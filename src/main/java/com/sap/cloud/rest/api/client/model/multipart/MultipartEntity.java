@@ -1,5 +1,7 @@
 package com.sap.cloud.rest.api.client.model.multipart;
 
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -7,7 +9,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
- * Represents a multipart entity. It consists of a list of {@link EntityPart}s.
+ * Represents a multipart entity. It consists of a list of {@link EntityPart}s
+ * and a list of file parts, which hold the paths of the files.
  *
  * @param <T>
  *            the type of the entity parts
@@ -15,15 +18,25 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 public class MultipartEntity<T> {
 
     private final List<EntityPart<T>> multipartEntity;
+    private final List<EntityPart<Path>> fileParts;
 
     public MultipartEntity(List<EntityPart<T>> parts) {
+        this(parts, Collections.emptyList());
+    }
+
+    public MultipartEntity(List<EntityPart<T>> parts, List<EntityPart<Path>> fileParts) {
         this.multipartEntity = parts;
+        this.fileParts = fileParts;
     }
 
     public List<EntityPart<T>> getParts() {
         return multipartEntity;
     }
 
+    public List<EntityPart<Path>> getFileParts() {
+        return fileParts;
+    }
+
     public List<EntityPart<T>> getPartsByName(String name) {
         return multipartEntity.stream()
                 .filter(x -> x.getName().equals(name))
@@ -31,9 +44,12 @@ public class MultipartEntity<T> {
     }
 
     public String toString() {
-        return new ToStringBuilder(MultipartEntity.class.getName(), ToStringStyle.JSON_STYLE)
-                .append("multipartEntity", multipartEntity)
-                .toString();
+        ToStringBuilder builder = new ToStringBuilder(MultipartEntity.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("multipartEntity", multipartEntity);
+        if (fileParts != null && !fileParts.isEmpty()) {
+            builder.append("fileParts", fileParts);
+        }
+        return builder.toString();
     }
 
     @Override
@@ -41,6 +57,7 @@ public class MultipartEntity<T> {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((multipartEntity == null) ? 0 : multipartEntity.hashCode());
+        result = prime * result + ((fileParts == null) ? 0 : fileParts.hashCode());
         return result;
     }
 
@@ -53,6 +70,9 @@ public class MultipartEntity<T> {
         if (multipartEntity == null) {
             if (other.multipartEntity != null) return false;
         } else if (!multipartEntity.equals(other.multipartEntity)) return false;
+        if (fileParts == null) {
+            if (other.fileParts != null) return false;
+        } else if (!fileParts.equals(other.fileParts)) return false;
         return true;
     }
 }
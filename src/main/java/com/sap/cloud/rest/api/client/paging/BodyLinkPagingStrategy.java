@@ -0,0 +1,69 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.net.URI;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpResponse;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Takes the next page from a value in the response body, which is either a
+ * link to the next page or a token, which is set as a query parameter of the
+ * current page URI. The current page is the last one if the value is
+ * missing, null or empty.
+ */
+class BodyLinkPagingStrategy implements PagingStrategy {
+
+    static final String SKIP_TOKEN_PARAMETER = "$skiptoken";
+
+    static final String JSON_POINTER_DISPLAY_NAME = "JSON pointer";
+    static final String PARAMETER_NAME_DISPLAY_NAME = "Parameter name";
+
+    private final JsonPointer jsonPointer;
+    private final String parameterName;
+
+    /**
+     * @param jsonPointer
+     *            the JSON pointer of the value in the response body.
+     * @param parameterName
+     *            the name of the query parameter to set the value as, or null
+     *            if the value is a link.
+     * @throws IllegalArgumentException
+     *             if the pointer is not valid.
+     */
+    BodyLinkPagingStrategy(String jsonPointer, String parameterName) {
+        isNotNull(JSON_POINTER_DISPLAY_NAME, jsonPointer);
+        if (parameterName != null) {
+            isNotEmptyOrNull(PARAMETER_NAME_DISPLAY_NAME, parameterName);
+        }
+
+        this.jsonPointer = JsonPointer.compile(jsonPointer);
+        this.parameterName = parameterName;
+    }
+
+    @Override
+    public URI getNextPageUri(URI pageUri, HttpResponse response, JsonNode body, int itemCount) {
+        JsonNode value = body.at(jsonPointer);
+        if (!value.isValueNode() || value.isNull() || value.asText().isEmpty()) {
+            return null;
+        }
+        if (parameterName == null) {
+            return pageUri.resolve(value.asText());
+        }
+        return QueryParameters.set(pageUri, parameterName, value.asText());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("jsonPointer", jsonPointer.toString())
+                .append("parameterName", parameterName)
+                .toString();
+    }
+}
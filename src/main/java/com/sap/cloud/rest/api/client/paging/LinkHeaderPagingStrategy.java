@@ -0,0 +1,104 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import java.net.URI;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Follows the link with the relation type <b>next</b> in the <b>Link</b>
+ * headers of a response, e.g.
+ * <b>Link: &lt;https://host/api/items?page=2&gt;; rel="next"</b>.
+ */
+class LinkHeaderPagingStrategy implements PagingStrategy {
+
+    static final LinkHeaderPagingStrategy INSTANCE = new LinkHeaderPagingStrategy();
+
+    static final String LINK_HEADER = "Link";
+    static final String NEXT_RELATION = "next";
+
+    private static final String RELATION_PARAMETER = "rel";
+
+    @Override
+    public URI getNextPageUri(URI pageUri, HttpResponse response, JsonNode body, int itemCount) {
+        for (Header header : response.getHeaders(LINK_HEADER)) {
+            String nextLink = findNextLink(header.getValue());
+            if (nextLink != null) {
+                return pageUri.resolve(nextLink);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the target of the first link with the relation type
+     * <b>next</b> in the value of a <b>Link</b> header or null. Commas and
+     * semicolons in the link targets and in quoted parameter values are not
+     * taken as separators.
+     */
+    static String findNextLink(String headerValue) {
+        int position = 0;
+        while (true) {
+            int targetStart = headerValue.indexOf('<', position);
+            if (targetStart < 0) {
+                return null;
+            }
+            int targetEnd = headerValue.indexOf('>', targetStart);
+            if (targetEnd < 0) {
+                return null;
+            }
+            int linkEnd = findUnquoted(headerValue, ',', targetEnd + 1);
+            if (hasNextRelation(headerValue, targetEnd + 1, linkEnd)) {
+                return headerValue.substring(targetStart + 1, targetEnd).trim();
+            }
+            position = linkEnd;
+        }
+    }
+
+    private static boolean hasNextRelation(String headerValue, int start, int end) {
+        int parameterStart = findUnquoted(headerValue, ';', start);
+        while (parameterStart < end) {
+            int parameterEnd = Math.min(findUnquoted(headerValue, ';', parameterStart + 1), end);
+            String parameter = headerValue.substring(parameterStart + 1, parameterEnd);
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && RELATION_PARAMETER.equalsIgnoreCase(parameter.substring(0, separator).trim())) {
+                String relations = parameter.substring(separator + 1).trim();
+                if (relations.length() >= 2 && relations.startsWith("\"") && relations.endsWith("\"")) {
+                    relations = relations.substring(1, relations.length() - 1);
+                }
+                for (String relation : relations.trim().split("\\s+")) {
+                    if (NEXT_RELATION.equalsIgnoreCase(relation)) {
+                        return true;
+                    }
+                }
+            }
+            parameterStart = parameterEnd;
+        }
+        return false;
+    }
+
+    private static int findUnquoted(String value, char character, int start) {
+        boolean quoted = false;
+        for (int i = start; i < value.length(); i++) {
+            char current = value.charAt(i);
+            if (current == '"') {
+                quoted = !quoted;
+            } else if (current == character && !quoted) {
+                return i;
+            }
+        }
+        return value.length();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("header", LINK_HEADER)
+                .append("relation", NEXT_RELATION)
+                .toString();
+    }
+}
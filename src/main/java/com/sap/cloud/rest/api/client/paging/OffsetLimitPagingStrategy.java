@@ -0,0 +1,67 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+
+import java.net.URI;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Requests pages with a limit query parameter and advances an offset query
+ * parameter by the number of items of each page. The offset of the first page
+ * is taken from the request URI, or 0 if it has none. The first page with
+ * fewer items than the limit is the last one.
+ */
+class OffsetLimitPagingStrategy implements PagingStrategy {
+
+    static final String OFFSET_PARAMETER_DISPLAY_NAME = "Offset parameter";
+    static final String LIMIT_PARAMETER_DISPLAY_NAME = "Limit parameter";
+    static final String LIMIT_DISPLAY_NAME = "Limit";
+
+    private final String offsetParameter;
+    private final String limitParameter;
+    private final int limit;
+
+    OffsetLimitPagingStrategy(String offsetParameter, String limitParameter, int limit) {
+        isNotEmptyOrNull(OFFSET_PARAMETER_DISPLAY_NAME, offsetParameter);
+        isNotEmptyOrNull(LIMIT_PARAMETER_DISPLAY_NAME, limitParameter);
+        isPositive(LIMIT_DISPLAY_NAME, limit);
+
+        this.offsetParameter = offsetParameter;
+        this.limitParameter = limitParameter;
+        this.limit = limit;
+    }
+
+    @Override
+    public URI getFirstPageUri(URI requestUri) {
+        return QueryParameters.set(requestUri, limitParameter, String.valueOf(limit));
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the offset of the current page is not a number.
+     */
+    @Override
+    public URI getNextPageUri(URI pageUri, HttpResponse response, JsonNode body, int itemCount) {
+        if (itemCount < limit) {
+            return null;
+        }
+        String offset = QueryParameters.get(pageUri, offsetParameter);
+        long nextOffset = (offset == null ? 0 : Long.parseLong(offset)) + itemCount;
+        return QueryParameters.set(pageUri, offsetParameter, String.valueOf(nextOffset));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("offsetParameter", offsetParameter)
+                .append("limitParameter", limitParameter)
+                .append("limit", limit)
+                .toString();
+    }
+}
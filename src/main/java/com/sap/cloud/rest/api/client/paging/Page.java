@@ -0,0 +1,74 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import java.net.URI;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * A page of a paginated list API, i.e. its items and the URI of the next
+ * page. Returned by the response handler of each page request of a
+ * {@link PageIterator}.
+ *
+ * @param <T>
+ *            the type of the items.
+ */
+public class Page<T> {
+
+    private final URI uri;
+    private final List<T> items;
+    private final URI nextPageUri;
+    private final long bodySizeBytes;
+    private final String errorBody;
+
+    Page(URI uri, List<T> items, URI nextPageUri, long bodySizeBytes, String errorBody) {
+        this.uri = uri;
+        this.items = items;
+        this.nextPageUri = nextPageUri;
+        this.bodySizeBytes = bodySizeBytes;
+        this.errorBody = errorBody;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Returns the URI of the next page or null if this page is the
+     *         last one.
+     */
+    public URI getNextPageUri() {
+        return nextPageUri;
+    }
+
+    /**
+     * @return Returns the size in bytes of the response body of the page.
+     */
+    public long getBodySizeBytes() {
+        return bodySizeBytes;
+    }
+
+    /**
+     * @return Returns the body of a response with an error status code, which
+     *         is not parsed into items, or null.
+     */
+    public String getErrorBody() {
+        return errorBody;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("uri", uri)
+                .append("itemCount", items.size())
+                .append("nextPageUri", nextPageUri)
+                .append("bodySizeBytes", bodySizeBytes)
+                .append("errorBody", errorBody)
+                .toString();
+    }
+}
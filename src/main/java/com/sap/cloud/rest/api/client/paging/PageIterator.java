@@ -0,0 +1,286 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.client.ResponseHandler;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sap.cloud.rest.api.client.exceptions.RestApiClientException;
+import com.sap.cloud.rest.api.client.model.Response;
+
+/**
+ * An iterator over the items of all pages of a paginated list API. The first
+ * page is requested when the iterator is created. Each following page is
+ * requested as soon as the response of the previous one has been handled, as
+ * long as fewer pages than the prefetch depth of the {@link PagingConfig} are
+ * waiting to be consumed and their response bodies do not exceed its maximum
+ * prefetched size. The caller thus consumes the items of a page while the
+ * next ones are on their way, instead of waiting for each page in turn. A page
+ * is always requested when the caller needs it, whatever its size.
+ *
+ * The pages are requested one after the other, since the URI of a page is
+ * only known from the response of the previous one. The iterator is not
+ * thread safe, it is meant to be consumed by one thread.
+ *
+ * A failed page request, e.g. because the status code handler rejects the
+ * response, is thrown by {@link #hasNext()} or {@link #next()} when the items
+ * of the pages before it have been consumed. The iterator is closed then.
+ * Closing the iterator cancels the page request in flight and discards the
+ * prefetched pages.
+ *
+ * @param <T>
+ *            the type of the items.
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+
+    static final String PAGING_INTERRUPTED_MSG = "Interrupted while waiting for the next page.";
+    static final String PAGE_REQUEST_FAILED_MSG = "Requesting a page failed.";
+
+    static final String REQUEST_URI_DISPLAY_NAME = "Request URI";
+    static final String READER_DISPLAY_NAME = "Reader";
+    static final String PAGING_CONFIG_DISPLAY_NAME = "Paging config";
+    static final String EXECUTOR_DISPLAY_NAME = "Executor";
+
+    private final ObjectReader reader;
+    private final PagingConfig pagingConfig;
+    private final BiFunction<URI, ResponseHandler<Page<T>>, CompletableFuture<Response<Page<T>>>> executor;
+
+    private final Object lock = new Object();
+    private final Deque<Page<T>> prefetched = new ArrayDeque<>();
+    private long prefetchedSizeBytes;
+    private CompletableFuture<Response<Page<T>>> inFlight;
+    private URI nextPageUri;
+    private Throwable failure;
+    private boolean closed;
+    private int pageCount;
+
+    private Iterator<T> items = Collections.emptyIterator();
+
+    /**
+     * Creates the iterator and requests the first page.
+     *
+     * @param requestUri
+     *            the URI of the request, from which the
+     *            {@link PagingStrategy} derives the URI of the first page.
+     * @param reader
+     *            the reader of the items.
+     * @param pagingConfig
+     *            the paging configuration.
+     * @param executor
+     *            starts the asynchronous execution of the request of a page
+     *            with the given URI and response handler.
+     */
+    public PageIterator(URI requestUri, ObjectReader reader, PagingConfig pagingConfig,
+            BiFunction<URI, ResponseHandler<Page<T>>, CompletableFuture<Response<Page<T>>>> executor) {
+        isNotNull(REQUEST_URI_DISPLAY_NAME, requestUri);
+        isNotNull(READER_DISPLAY_NAME, reader);
+        isNotNull(PAGING_CONFIG_DISPLAY_NAME, pagingConfig);
+        isNotNull(EXECUTOR_DISPLAY_NAME, executor);
+
+        this.reader = reader;
+        this.pagingConfig = pagingConfig;
+        this.executor = executor;
+        synchronized (lock) {
+            nextPageUri = pagingConfig.getStrategy().getFirstPageUri(requestUri);
+            requestNextPage();
+        }
+    }
+
+    /**
+     * Waits for the next page if the items of the current one are consumed.
+     *
+     * @throws RestApiClientException
+     *             if the request of the next page failed or the calling thread
+     *             is interrupted. The iterator is closed then.
+     */
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            Page<T> page = takePage();
+            if (page == null) {
+                return false;
+            }
+            items = page.getItems().iterator();
+        }
+        return true;
+    }
+
+    /**
+     * @throws RestApiClientException
+     *             if the request of the next page failed or the calling thread
+     *             is interrupted. The iterator is closed then.
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+
+    /**
+     * @return Returns a sequential stream over the remaining items, which
+     *         closes this iterator when it is closed.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED
+                | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * @return Returns the number of pages received so far.
+     */
+    public int getPageCount() {
+        synchronized (lock) {
+            return pageCount;
+        }
+    }
+
+    private Page<T> takePage() {
+        synchronized (lock) {
+            try {
+                while (!closed) {
+                    Page<T> page = prefetched.poll();
+                    if (page != null) {
+                        prefetchedSizeBytes -= page.getBodySizeBytes();
+                        prefetchNextPage();
+                        return page;
+                    }
+                    if (failure != null) {
+                        throw failure instanceof RuntimeException ? (RuntimeException) failure
+                                : new RestApiClientException(PAGE_REQUEST_FAILED_MSG, failure);
+                    }
+                    if (inFlight == null) {
+                        if (nextPageUri == null) {
+                            return null;
+                        }
+                        requestNextPage();
+                        continue;
+                    }
+                    lock.wait();
+                }
+                return null;
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new RestApiClientException(PAGING_INTERRUPTED_MSG, e);
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Requests the next page if fewer pages than the prefetch depth are
+     * waiting to be consumed and their size is below the maximum.
+     */
+    private void prefetchNextPage() {
+        if (inFlight == null && failure == null && nextPageUri != null
+                && prefetched.size() < pagingConfig.getPrefetchDepth()
+                && prefetchedSizeBytes < pagingConfig.getMaxPrefetchedSizeBytes()) {
+            requestNextPage();
+        }
+    }
+
+    private void requestNextPage() {
+        URI pageUri = nextPageUri;
+        nextPageUri = null;
+        CompletableFuture<Response<Page<T>>> future = execute(pageUri);
+        inFlight = future;
+        future.whenComplete((response, e) -> onPageCompleted(future, response, e));
+    }
+
+    private CompletableFuture<Response<Page<T>>> execute(URI pageUri) {
+        try {
+            return executor.apply(pageUri, new PageResponseHandler<>(pageUri, reader, pagingConfig));
+        } catch (RuntimeException e) {
+            CompletableFuture<Response<Page<T>>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private void onPageCompleted(CompletableFuture<Response<Page<T>>> future, Response<Page<T>> response,
+            Throwable e) {
+        synchronized (lock) {
+            if (inFlight != future || closed) {
+                return;
+            }
+            inFlight = null;
+            if (e != null) {
+                failure = unwrap(e);
+            } else {
+                Page<T> page = response.getEntity();
+                pageCount++;
+                prefetched.add(page);
+                prefetchedSizeBytes += page.getBodySizeBytes();
+                nextPageUri = page.getNextPageUri();
+                prefetchNextPage();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Closes the iterator. The page request in flight is cancelled and the
+     * prefetched pages are discarded.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<Response<Page<T>>> future;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            future = inFlight;
+            inFlight = null;
+            nextPageUri = null;
+            prefetched.clear();
+            prefetchedSizeBytes = 0;
+            items = Collections.emptyIterator();
+            lock.notifyAll();
+        }
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                    .append("pageCount", pageCount)
+                    .append("prefetchedPages", prefetched.size())
+                    .append("prefetchedSizeBytes", prefetchedSizeBytes)
+                    .append("nextPageUri", nextPageUri)
+                    .append("closed", closed)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static java.text.MessageFormat.format;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * This implementation of {@link ResponseHandler} parses the response body of
+ * a page into a {@link Page}. The items are the elements of the JSON array at
+ * the items pointer of the {@link PagingConfig}, deserialized to type T, and
+ * the next page is determined by its {@link PagingStrategy}. Unknown
+ * properties in the JSON are ignored. A page without an array at the items
+ * pointer has no items.
+ *
+ * The body of a response with a status code of 300 or above is not parsed.
+ * It is read as a String instead and returned as the error body of the page,
+ * so that the status code handler can report it.
+ *
+ * @param <T>
+ *            the type of the items.
+ */
+class PageResponseHandler<T> implements ResponseHandler<Page<T>> {
+
+    static final String ITEMS_NOT_AN_ARRAY_MSG = "The value at [{0}] in the response body of page [{1}] is not an array.";
+    static final String NEXT_PAGE_URI_NOT_VALID_MSG = "The URI of the page after [{0}] is not valid.";
+
+    private final URI pageUri;
+    private final ObjectReader reader;
+    private final PagingConfig pagingConfig;
+
+    PageResponseHandler(URI pageUri, ObjectReader reader, PagingConfig pagingConfig) {
+        this.pageUri = pageUri;
+        this.reader = reader.without(FAIL_ON_UNKNOWN_PROPERTIES);
+        this.pagingConfig = pagingConfig;
+    }
+
+    @Override
+    public Page<T> handleResponse(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        byte[] body = entity == null ? new byte[0] : EntityUtils.toByteArray(entity);
+        if (response.getStatusLine().getStatusCode() >= HttpStatus.SC_MULTIPLE_CHOICES) {
+            return new Page<>(pageUri, Collections.emptyList(), null, body.length,
+                    new String(body, StandardCharsets.UTF_8));
+        }
+
+        JsonNode tree = readTree(entity, body);
+        List<T> items = readItems(tree);
+        return new Page<>(pageUri, items, getNextPageUri(response, tree, items.size()), body.length, null);
+    }
+
+    private JsonNode readTree(HttpEntity entity, byte[] body) throws IOException {
+        if (body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        Charset charset = ContentType.getOrDefault(entity).getCharset();
+        JsonNode tree = charset == null || StandardCharsets.UTF_8.equals(charset) ? reader.readTree(body)
+                : reader.readTree(new String(body, charset));
+        return tree == null ? MissingNode.getInstance() : tree;
+    }
+
+    private List<T> readItems(JsonNode tree) throws IOException {
+        JsonNode itemsNode = tree.at(pagingConfig.getItemsPointer());
+        if (itemsNode.isMissingNode() || itemsNode.isNull()) {
+            return Collections.emptyList();
+        }
+        if (!itemsNode.isArray()) {
+            throw new IOException(format(ITEMS_NOT_AN_ARRAY_MSG, pagingConfig.getItemsPointer(), pageUri));
+        }
+        List<T> items = new ArrayList<>(itemsNode.size());
+        for (JsonNode itemNode : itemsNode) {
+            items.add(reader.readValue(itemNode));
+        }
+        return items;
+    }
+
+    /**
+     * Returns the URI of the next page, or null if the page is the last one.
+     * A next page with the URI of the current page is taken as the end of the
+     * pages, so that a misbehaving API cannot make the iteration loop.
+     */
+    private URI getNextPageUri(HttpResponse response, JsonNode tree, int itemCount) throws IOException {
+        URI nextPageUri;
+        try {
+            nextPageUri = pagingConfig.getStrategy().getNextPageUri(pageUri, response, tree, itemCount);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(format(NEXT_PAGE_URI_NOT_VALID_MSG, pageUri), e);
+        }
+        return pageUri.equals(nextPageUri) ? null : nextPageUri;
+    }
+}
@@ -0,0 +1,102 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * Configuration of the iteration over the pages of a paginated list API. The
+ * items of a page are the elements of the JSON array at the items pointer in
+ * the response body, and the next page is determined by the
+ * {@link PagingStrategy}.
+ *
+ * While the caller consumes the items of a page, up to the prefetch depth of
+ * the following pages are requested in the background. Prefetching pauses
+ * while the response bodies of the pages fetched ahead exceed the maximum
+ * prefetched size, which bounds the memory used by large pages.
+ */
+public class PagingConfig {
+
+    static final String STRATEGY_DISPLAY_NAME = "Paging strategy";
+    static final String ITEMS_POINTER_DISPLAY_NAME = "Items pointer";
+    static final String PREFETCH_DEPTH_DISPLAY_NAME = "Prefetch depth";
+    static final String MAX_PREFETCHED_SIZE_DISPLAY_NAME = "Maximum prefetched size";
+
+    static final String DEFAULT_ITEMS_POINTER = "";
+    static final int DEFAULT_PREFETCH_DEPTH = 1;
+    static final long DEFAULT_MAX_PREFETCHED_SIZE_BYTES = 16L * 1024 * 1024;
+
+    private final PagingStrategy strategy;
+    private final JsonPointer itemsPointer;
+    private final int prefetchDepth;
+    private final long maxPrefetchedSizeBytes;
+
+    /**
+     * Creates a {@link PagingConfig}, which takes the items from a JSON array
+     * response body and follows the <b>next</b> link of the <b>Link</b>
+     * header, prefetching one page of at most 16 MiB.
+     */
+    public PagingConfig() {
+        this(PagingStrategy.linkHeader(), DEFAULT_ITEMS_POINTER, DEFAULT_PREFETCH_DEPTH,
+                DEFAULT_MAX_PREFETCHED_SIZE_BYTES);
+    }
+
+    /**
+     * @param strategy
+     *            the strategy determining the next page.
+     * @param itemsPointer
+     *            the JSON pointer of the array of items in the response body,
+     *            e.g. <b>/value</b>. The empty pointer stands for the whole
+     *            body.
+     * @param prefetchDepth
+     *            the maximum number of pages fetched ahead of the page being
+     *            consumed. With 0, a page is requested only when the items of
+     *            the previous one are consumed.
+     * @param maxPrefetchedSizeBytes
+     *            the size in bytes of the response bodies of the pages fetched
+     *            ahead, from which on prefetching pauses.
+     */
+    public PagingConfig(PagingStrategy strategy, String itemsPointer, int prefetchDepth,
+            long maxPrefetchedSizeBytes) {
+        isNotNull(STRATEGY_DISPLAY_NAME, strategy);
+        isNotNull(ITEMS_POINTER_DISPLAY_NAME, itemsPointer);
+        isNotNegative(PREFETCH_DEPTH_DISPLAY_NAME, prefetchDepth);
+        isPositive(MAX_PREFETCHED_SIZE_DISPLAY_NAME, maxPrefetchedSizeBytes);
+
+        this.strategy = strategy;
+        this.itemsPointer = JsonPointer.compile(itemsPointer);
+        this.prefetchDepth = prefetchDepth;
+        this.maxPrefetchedSizeBytes = maxPrefetchedSizeBytes;
+    }
+
+    public PagingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public JsonPointer getItemsPointer() {
+        return itemsPointer;
+    }
+
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    public long getMaxPrefetchedSizeBytes() {
+        return maxPrefetchedSizeBytes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(PagingConfig.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("strategy", strategy)
+                .append("itemsPointer", itemsPointer.toString())
+                .append("prefetchDepth", prefetchDepth)
+                .append("maxPrefetchedSizeBytes", maxPrefetchedSizeBytes)
+                .toString();
+    }
+}
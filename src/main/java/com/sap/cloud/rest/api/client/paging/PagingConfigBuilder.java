@@ -0,0 +1,71 @@
+package com.sap.cloud.rest.api.client.paging;
+
+/**
+ * A builder for {@link PagingConfig}.
+ */
+public class PagingConfigBuilder {
+
+    private PagingStrategy strategy = PagingStrategy.linkHeader();
+    private String itemsPointer = PagingConfig.DEFAULT_ITEMS_POINTER;
+    private int prefetchDepth = PagingConfig.DEFAULT_PREFETCH_DEPTH;
+    private long maxPrefetchedSizeBytes = PagingConfig.DEFAULT_MAX_PREFETCHED_SIZE_BYTES;
+
+    /**
+     * Attaches the strategy determining the next page to the builder.
+     * @param strategy paging strategy.
+     * @return {@link PagingConfigBuilder} instance.
+     */
+    public PagingConfigBuilder strategy(PagingStrategy strategy) {
+        this.strategy = strategy;
+        return this;
+    }
+
+    /**
+     * Attaches the JSON pointer of the array of items in the response body to
+     * the builder.
+     * @param itemsPointer JSON pointer, e.g. <b>/value</b>.
+     * @return {@link PagingConfigBuilder} instance.
+     */
+    public PagingConfigBuilder itemsPointer(String itemsPointer) {
+        this.itemsPointer = itemsPointer;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum number of pages fetched ahead to the builder.
+     * @param prefetchDepth prefetch depth, 0 to disable prefetching.
+     * @return {@link PagingConfigBuilder} instance.
+     */
+    public PagingConfigBuilder prefetchDepth(int prefetchDepth) {
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * Attaches the size of the pages fetched ahead, from which on prefetching
+     * pauses, to the builder.
+     * @param maxPrefetchedSizeBytes max size in bytes of the prefetched
+     *            response bodies.
+     * @return {@link PagingConfigBuilder} instance.
+     */
+    public PagingConfigBuilder maxPrefetchedSize(long maxPrefetchedSizeBytes) {
+        this.maxPrefetchedSizeBytes = maxPrefetchedSizeBytes;
+        return this;
+    }
+
+    /**
+     * Builds a {@link PagingConfig} with the attached settings. Settings which
+     * were not attached keep their default values.
+     * @return {@link PagingConfig} instance.
+     */
+    public PagingConfig build() {
+        return new PagingConfig(strategy, itemsPointer, prefetchDepth, maxPrefetchedSizeBytes);
+    }
+
+    /**
+     * @return Returns an instance of {@link PagingConfigBuilder}.
+     */
+    public static PagingConfigBuilder getBuilder() {
+        return new PagingConfigBuilder();
+    }
+}
@@ -0,0 +1,119 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import java.net.URI;
+
+import org.apache.http.HttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Determines the URI of the next page of a paginated list API from the
+ * response of the current page. Implementations are called on the I/O
+ * threads of the asynchronous HTTP client, so they must not block.
+ *
+ * The library provides strategies for the common conventions:
+ * <ul>
+ * <li>{@link #linkHeader()} follows the <b>next</b> link of the <b>Link</b>
+ * header.</li>
+ * <li>{@link #nextLink(String)} follows a link in the response body, e.g.
+ * <b>@odata.nextLink</b>.</li>
+ * <li>{@link #skipToken(String)} sets a token from the response body as the
+ * <b>$skiptoken</b> query parameter.</li>
+ * <li>{@link #offsetLimit(String, String, int)} advances an offset query
+ * parameter by the number of items of the page.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface PagingStrategy {
+
+    /**
+     * @param pageUri
+     *            the URI of the current page.
+     * @param response
+     *            the response of the current page. Its entity has been read.
+     * @param body
+     *            the parsed body of the response, which is a missing node if
+     *            the response has no body.
+     * @param itemCount
+     *            the number of items of the current page.
+     * @return Returns the URI of the next page or null if the current page is
+     *         the last one.
+     * @throws IllegalArgumentException
+     *             if the URI of the next page is not valid.
+     */
+    URI getNextPageUri(URI pageUri, HttpResponse response, JsonNode body, int itemCount);
+
+    /**
+     * @param requestUri
+     *            the URI of the request passed by the caller.
+     * @return Returns the URI of the first page. Returns the URI of the
+     *         request by default.
+     */
+    default URI getFirstPageUri(URI requestUri) {
+        return requestUri;
+    }
+
+    /**
+     * @return Returns a strategy, which follows the link with the relation
+     *         type <b>next</b> in the <b>Link</b> headers of the response, as
+     *         defined by RFC 8288.
+     */
+    static PagingStrategy linkHeader() {
+        return LinkHeaderPagingStrategy.INSTANCE;
+    }
+
+    /**
+     * @param jsonPointer
+     *            the JSON pointer of the link in the response body, e.g.
+     *            <b>/@odata.nextLink</b> or <b>/d/__next</b>.
+     * @return Returns a strategy, which follows the link at the given pointer
+     *         in the response body. Relative links are resolved against the
+     *         URI of the current page.
+     */
+    static PagingStrategy nextLink(String jsonPointer) {
+        return new BodyLinkPagingStrategy(jsonPointer, null);
+    }
+
+    /**
+     * @param jsonPointer
+     *            the JSON pointer of the token in the response body.
+     * @return Returns a strategy, which requests the next page with the token
+     *         at the given pointer in the response body as the
+     *         <b>$skiptoken</b> query parameter.
+     */
+    static PagingStrategy skipToken(String jsonPointer) {
+        return skipToken(jsonPointer, BodyLinkPagingStrategy.SKIP_TOKEN_PARAMETER);
+    }
+
+    /**
+     * @param jsonPointer
+     *            the JSON pointer of the token in the response body.
+     * @param parameterName
+     *            the name of the query parameter, e.g. <b>cursor</b>, which is
+     *            used as it is.
+     * @return Returns a strategy, which requests the next page with the token
+     *         at the given pointer in the response body as the given query
+     *         parameter.
+     */
+    static PagingStrategy skipToken(String jsonPointer, String parameterName) {
+        return new BodyLinkPagingStrategy(jsonPointer, parameterName);
+    }
+
+    /**
+     * @param offsetParameter
+     *            the name of the offset query parameter, e.g. <b>offset</b> or
+     *            <b>$skip</b>, which is used as it is.
+     * @param limitParameter
+     *            the name of the limit query parameter, e.g. <b>limit</b> or
+     *            <b>$top</b>, which is used as it is.
+     * @param limit
+     *            the number of items per page.
+     * @return Returns a strategy, which requests pages of the given number of
+     *         items and advances the offset by the number of items of each
+     *         page. The first page with fewer items than the limit is the last
+     *         one.
+     */
+    static PagingStrategy offsetLimit(String offsetParameter, String limitParameter, int limit) {
+        return new OffsetLimitPagingStrategy(offsetParameter, limitParameter, limit);
+    }
+}
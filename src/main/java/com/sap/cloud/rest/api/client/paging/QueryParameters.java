@@ -0,0 +1,83 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and replaces query parameters of a URI, keeping the encoding of the
+ * other parameters as it is.
+ */
+final class QueryParameters {
+
+    private static final String PARAMETER_SEPARATOR = "&";
+    private static final char NAME_VALUE_SEPARATOR = '=';
+
+    private QueryParameters() {
+    }
+
+    /**
+     * @return Returns the decoded value of the first query parameter with the
+     *         given name or null if the URI has no such parameter.
+     */
+    static String get(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split(PARAMETER_SEPARATOR)) {
+            int separator = parameter.indexOf(NAME_VALUE_SEPARATOR);
+            String parameterName = separator < 0 ? parameter : parameter.substring(0, separator);
+            if (name.equals(decode(parameterName))) {
+                return separator < 0 ? "" : decode(parameter.substring(separator + 1));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Returns a copy of the URI, in which the query parameters with
+     *         the given name are replaced by one with the given value. The
+     *         name is used as it is, the value is encoded.
+     */
+    static URI set(URI uri, String name, String value) {
+        StringBuilder query = new StringBuilder();
+        String rawQuery = uri.getRawQuery();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split(PARAMETER_SEPARATOR)) {
+                int separator = parameter.indexOf(NAME_VALUE_SEPARATOR);
+                String parameterName = separator < 0 ? parameter : parameter.substring(0, separator);
+                if (!parameter.isEmpty() && !name.equals(decode(parameterName))) {
+                    query.append(parameter).append(PARAMETER_SEPARATOR);
+                }
+            }
+        }
+        query.append(name).append(NAME_VALUE_SEPARATOR).append(encode(value));
+
+        String uriString = uri.toString();
+        int fragmentStart = uriString.indexOf('#');
+        String fragment = fragmentStart < 0 ? "" : uriString.substring(fragmentStart);
+        String withoutFragment = fragmentStart < 0 ? uriString : uriString.substring(0, fragmentStart);
+        int queryStart = withoutFragment.indexOf('?');
+        String base = queryStart < 0 ? withoutFragment : withoutFragment.substring(0, queryStart);
+        return URI.create(base + "?" + query + fragment);
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
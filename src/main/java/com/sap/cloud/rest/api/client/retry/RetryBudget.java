@@ -0,0 +1,39 @@
+package com.sap.cloud.rest.api.client.retry;
+
+/**
+ * Limits the retries of a client to a ratio of its requests, so that retries
+ * do not multiply the load on a server which is already overloaded.
+ *
+ * The budget is a token bucket. Each request deposits the retry ratio in
+ * tokens and each retry withdraws one token. The bucket starts full and holds
+ * at most the given capacity, which allows short bursts of retries.
+ */
+class RetryBudget {
+
+    private final double retryRatio;
+    private final double capacity;
+
+    private double tokens;
+
+    RetryBudget(double retryRatio, int capacity) {
+        this.retryRatio = retryRatio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(capacity, tokens + retryRatio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Describes a failed attempt to execute a request. The attempt failed either
+ * with an {@link IOException} or with a status code which is retryable.
+ */
+public class RetryEvent {
+
+    static final int NO_STATUS_CODE = -1;
+
+    private final HttpUriRequest request;
+    private final int attempt;
+    private final int statusCode;
+    private final IOException exception;
+    private final long delayMillis;
+
+    RetryEvent(HttpUriRequest request, int attempt, int statusCode, IOException exception, long delayMillis) {
+        this.request = request;
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.exception = exception;
+        this.delayMillis = delayMillis;
+    }
+
+    public HttpUriRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return Returns the number of the failed attempt, starting with 1.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * @return Returns the status code of the response or -1 if the attempt
+     *         failed with an exception.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Returns the exception of the attempt or null if a response was
+     *         received.
+     */
+    public IOException getException() {
+        return exception;
+    }
+
+    /**
+     * @return Returns the delay in milliseconds before the next attempt or -1
+     *         if the request is not retried.
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(RetryEvent.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("request", request.getRequestLine())
+                .append("attempt", attempt)
+                .append("statusCode", statusCode)
+                .append("exception", exception)
+                .append("delayMillis", delayMillis)
+                .toString();
+    }
+}
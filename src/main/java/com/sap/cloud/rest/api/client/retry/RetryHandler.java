@@ -0,0 +1,274 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import javax.net.ssl.SSLException;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+
+/**
+ * Applies a {@link RetryPolicy} to the requests of a client. Decides whether a
+ * failed attempt is retried and after which delay, keeps the retry budget of
+ * the client and notifies the {@link RetryListener} of the policy.
+ *
+ * Delayed asynchronous retries are scheduled on a daemon thread, which is
+ * started on the first asynchronous retry and stopped when the handler is
+ * closed.
+ */
+public class RetryHandler implements Closeable {
+
+    static final String RETRY_POLICY_DISPLAY_NAME = "Retry policy";
+    static final String RETRY_HANDLER_CLOSED_MSG = "The retry handler has been closed.";
+
+    static final long NO_RETRY = -1;
+
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(
+            Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE", "PUT", "DELETE"));
+    private static final String THREAD_NAME = "rest-api-client-retry";
+
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    private final Object schedulerLock = new Object();
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    /**
+     * @param retryPolicy
+     *            the policy to apply.
+     */
+    public RetryHandler(RetryPolicy retryPolicy) {
+        this(retryPolicy, Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RetryHandler(RetryPolicy retryPolicy, Clock clock, DoubleSupplier random) {
+        isNotNull(RETRY_POLICY_DISPLAY_NAME, retryPolicy);
+
+        this.retryPolicy = retryPolicy;
+        this.retryBudget = new RetryBudget(retryPolicy.getRetryBudgetRatio(), retryPolicy.getRetryBudgetCapacity());
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Called once per request, before its first attempt. Deposits the share
+     * of the request in the retry budget.
+     */
+    public void onRequest() {
+        if (retryPolicy.getMaxAttempts() > 1) {
+            retryBudget.deposit();
+        }
+    }
+
+    /**
+     * Called before each attempt to execute a request.
+     *
+     * @param request
+     *            the request.
+     * @param attempt
+     *            the number of the attempt, starting with 1.
+     */
+    public void onAttempt(HttpUriRequest request, int attempt) {
+        retryPolicy.getRetryListener().onAttempt(request, attempt);
+    }
+
+    /**
+     * Decides whether an attempt, which received a response, is retried.
+     *
+     * @param request
+     *            the request.
+     * @param attempt
+     *            the number of the attempt, starting with 1.
+     * @param response
+     *            the received response.
+     * @return the delay in milliseconds before the next attempt or a negative
+     *         value if the response is to be handled.
+     */
+    public long getRetryDelay(HttpUriRequest request, int attempt, HttpResponse response) {
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (!retryPolicy.getRetryableStatusCodes().contains(statusCode)) {
+            return NO_RETRY;
+        }
+
+        long retryAfterMillis = getRetryAfterMillis(response);
+        if (retryAfterMillis > retryPolicy.getMaxRetryAfterMillis()) {
+            return abandon(request, attempt, statusCode, null);
+        }
+        long delayMillis = retryAfterMillis >= 0 ? retryAfterMillis : getBackoffMillis(attempt);
+        return decide(request, attempt, statusCode, null, delayMillis);
+    }
+
+    /**
+     * Decides whether an attempt, which failed with an exception, is retried.
+     *
+     * @param request
+     *            the request.
+     * @param attempt
+     *            the number of the attempt, starting with 1.
+     * @param exception
+     *            the exception of the attempt.
+     * @return the delay in milliseconds before the next attempt or a negative
+     *         value if the exception is to be thrown.
+     */
+    public long getRetryDelay(HttpUriRequest request, int attempt, IOException exception) {
+        if (exception instanceof UnknownHostException || exception instanceof SSLException) {
+            return abandon(request, attempt, RetryEvent.NO_STATUS_CODE, exception);
+        }
+        return decide(request, attempt, RetryEvent.NO_STATUS_CODE, exception, getBackoffMillis(attempt));
+    }
+
+    /**
+     * Blocks the calling thread until the next attempt.
+     *
+     * @param delayMillis
+     *            the delay returned by {@code getRetryDelay}.
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting.
+     */
+    public void awaitRetry(long delayMillis) throws InterruptedException {
+        if (delayMillis > 0) {
+            Thread.sleep(delayMillis);
+        }
+    }
+
+    /**
+     * Schedules the next attempt of an asynchronous request.
+     *
+     * @param retry
+     *            executes the next attempt.
+     * @param delayMillis
+     *            the delay returned by {@code getRetryDelay}.
+     * @return the scheduled retry, which can be cancelled.
+     * @throws IllegalStateException
+     *             if the handler has been closed.
+     */
+    public ScheduledFuture<?> scheduleRetry(Runnable retry, long delayMillis) {
+        return getScheduler().schedule(retry, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        synchronized (schedulerLock) {
+            if (closed) {
+                throw new IllegalStateException(RETRY_HANDLER_CLOSED_MSG);
+            }
+            if (scheduler == null) {
+                ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.setRemoveOnCancelPolicy(true);
+                scheduler = executor;
+            }
+            return scheduler;
+        }
+    }
+
+    /**
+     * Stops the thread of the scheduled asynchronous retries. Retries which
+     * are still scheduled are not executed.
+     */
+    @Override
+    public void close() {
+        synchronized (schedulerLock) {
+            closed = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    private long decide(HttpUriRequest request, int attempt, int statusCode, IOException exception,
+            long delayMillis) {
+        if (attempt >= retryPolicy.getMaxAttempts() || !isRetryable(request) || !retryBudget.tryWithdraw()) {
+            return abandon(request, attempt, statusCode, exception);
+        }
+        retryPolicy.getRetryListener().onRetry(new RetryEvent(request, attempt, statusCode, exception, delayMillis));
+        return delayMillis;
+    }
+
+    private long abandon(HttpUriRequest request, int attempt, int statusCode, IOException exception) {
+        retryPolicy.getRetryListener().onRetryAbandoned(
+                new RetryEvent(request, attempt, statusCode, exception, NO_RETRY));
+        return NO_RETRY;
+    }
+
+    private boolean isRetryable(HttpUriRequest request) {
+        if (request.isAborted()) {
+            return false;
+        }
+        if (!retryPolicy.isRetryNonIdempotentRequests() && !IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+            return entity == null || entity.isRepeatable();
+        }
+        return true;
+    }
+
+    /**
+     * Returns a random delay between 0 and the exponential backoff of the
+     * attempt, which is capped by the maximum backoff.
+     */
+    long getBackoffMillis(int attempt) {
+        long backoff = retryPolicy.getInitialBackoffMillis();
+        for (int i = 1; i < attempt && backoff < retryPolicy.getMaxBackoffMillis(); i++) {
+            backoff *= 2;
+        }
+        backoff = Math.min(backoff, retryPolicy.getMaxBackoffMillis());
+        return (long) (random.getAsDouble() * backoff);
+    }
+
+    /**
+     * Returns the delay requested by the Retry-After header of the response,
+     * given either in seconds or as an HTTP date, or a negative value if the
+     * response has no valid Retry-After header.
+     */
+    long getRetryAfterMillis(HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (header == null || header.getValue() == null) {
+            return NO_RETRY;
+        }
+        String value = header.getValue().trim();
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+        Date date = DateUtils.parseDate(value);
+        if (date == null) {
+            return NO_RETRY;
+        }
+        return Math.max(0, date.getTime() - clock.millis());
+    }
+}
@@ -0,0 +1,47 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Receives the attempts and retries of the requests executed by a client, e.g.
+ * to record them as metrics. The methods are called on the thread executing
+ * the request and should return quickly.
+ */
+public interface RetryListener {
+
+    /**
+     * A listener, which ignores all events.
+     */
+    RetryListener NONE = new RetryListener() {
+    };
+
+    /**
+     * Called before each attempt to execute a request, including the first one.
+     *
+     * @param request
+     *            the request.
+     * @param attempt
+     *            the number of the attempt, starting with 1.
+     */
+    default void onAttempt(HttpUriRequest request, int attempt) {
+    }
+
+    /**
+     * Called when a failed attempt is going to be retried.
+     *
+     * @param event
+     *            describes the failed attempt and the delay before the retry.
+     */
+    default void onRetry(RetryEvent event) {
+    }
+
+    /**
+     * Called when a failed attempt is not retried, because the request is not
+     * retryable, all attempts are used up or the retry budget is exhausted.
+     *
+     * @param event
+     *            describes the failed attempt. The delay is negative.
+     */
+    default void onRetryAbandoned(RetryEvent event) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
+import static java.text.MessageFormat.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.http.HttpStatus;
+
+/**
+ * Configuration of the retries of a client. A request is retried if an
+ * attempt fails with an {@link java.io.IOException} or receives one of the
+ * retryable status codes, and
+ * <ul>
+ * <li>the maximum number of attempts is not reached,</li>
+ * <li>the request method is idempotent or retrying non-idempotent requests is
+ * enabled and the request entity, if any, is repeatable,</li>
+ * <li>the retry budget of the client is not exhausted.</li>
+ * </ul>
+ *
+ * The delay before a retry is chosen randomly between 0 and the exponential
+ * backoff, i.e. the initial backoff doubled with each attempt, but at most
+ * the maximum backoff ("full jitter"). A delay given by the server in a
+ * <b>Retry-After</b> header is used instead, unless it exceeds the maximum
+ * Retry-After delay, in which case the request is not retried.
+ *
+ * The retry budget limits the retries to a ratio of the requests of the
+ * client, with a reserve for bursts of retries given by its capacity.
+ */
+public class RetryPolicy {
+
+    static final String MAX_ATTEMPTS_DISPLAY_NAME = "Maximum attempts";
+    static final String INITIAL_BACKOFF_DISPLAY_NAME = "Initial backoff";
+    static final String MAX_BACKOFF_DISPLAY_NAME = "Maximum backoff";
+    static final String RETRYABLE_STATUS_CODES_DISPLAY_NAME = "Retryable status codes";
+    static final String MAX_RETRY_AFTER_DISPLAY_NAME = "Maximum Retry-After delay";
+    static final String RETRY_BUDGET_RATIO_DISPLAY_NAME = "Retry budget ratio";
+    static final String RETRY_BUDGET_CAPACITY_DISPLAY_NAME = "Retry budget capacity";
+    static final String RETRY_LISTENER_DISPLAY_NAME = "Retry listener";
+    static final String INVALID_MAX_BACKOFF_MSG = "Maximum backoff [{0}] must not be less than the initial backoff [{1}].";
+
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+    static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 100;
+    static final long DEFAULT_MAX_BACKOFF_MILLIS = 10000;
+    static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Collections.unmodifiableSet(new LinkedHashSet<>(
+            Arrays.asList(HttpStatus.SC_TOO_MANY_REQUESTS, HttpStatus.SC_SERVICE_UNAVAILABLE)));
+    static final long DEFAULT_MAX_RETRY_AFTER_MILLIS = 60000;
+    static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+    static final int DEFAULT_RETRY_BUDGET_CAPACITY = 10;
+
+    private static final RetryPolicy NO_RETRIES = new RetryPolicy(1, DEFAULT_INITIAL_BACKOFF_MILLIS,
+            DEFAULT_MAX_BACKOFF_MILLIS, DEFAULT_RETRYABLE_STATUS_CODES, false, DEFAULT_MAX_RETRY_AFTER_MILLIS,
+            DEFAULT_RETRY_BUDGET_RATIO, DEFAULT_RETRY_BUDGET_CAPACITY, RetryListener.NONE);
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryNonIdempotentRequests;
+    private final long maxRetryAfterMillis;
+    private final double retryBudgetRatio;
+    private final int retryBudgetCapacity;
+    private final RetryListener retryListener;
+
+    /**
+     * Creates a {@link RetryPolicy} with the default settings: 3 attempts, a
+     * backoff between 100 milliseconds and 10 seconds, retries on 429 and 503
+     * for idempotent requests, Retry-After delays of up to a minute and a
+     * retry budget of 20% of the requests with a capacity of 10 retries.
+     */
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS,
+                DEFAULT_RETRYABLE_STATUS_CODES, false, DEFAULT_MAX_RETRY_AFTER_MILLIS, DEFAULT_RETRY_BUDGET_RATIO,
+                DEFAULT_RETRY_BUDGET_CAPACITY, RetryListener.NONE);
+    }
+
+    /**
+     * @param maxAttempts
+     *            the maximum number of attempts per request, including the
+     *            first one. 1 disables the retries.
+     * @param initialBackoffMillis
+     *            the backoff before the first retry in milliseconds.
+     * @param maxBackoffMillis
+     *            the maximum backoff in milliseconds.
+     * @param retryableStatusCodes
+     *            the status codes of responses which are retried.
+     * @param retryNonIdempotentRequests
+     *            whether requests with non-idempotent methods, e.g. POST and
+     *            PATCH, are retried.
+     * @param maxRetryAfterMillis
+     *            the maximum delay in milliseconds requested by a Retry-After
+     *            header, which is honoured.
+     * @param retryBudgetRatio
+     *            the ratio of retries to requests allowed by the retry budget.
+     * @param retryBudgetCapacity
+     *            the maximum number of retries the budget saves up for bursts.
+     * @param retryListener
+     *            the listener notified about attempts and retries.
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis,
+            Set<Integer> retryableStatusCodes, boolean retryNonIdempotentRequests, long maxRetryAfterMillis,
+            double retryBudgetRatio, int retryBudgetCapacity, RetryListener retryListener) {
+        isPositive(MAX_ATTEMPTS_DISPLAY_NAME, maxAttempts);
+        isNotNegative(INITIAL_BACKOFF_DISPLAY_NAME, initialBackoffMillis);
+        isNotNegative(MAX_BACKOFF_DISPLAY_NAME, maxBackoffMillis);
+        if (maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException(format(INVALID_MAX_BACKOFF_MSG, maxBackoffMillis,
+                    initialBackoffMillis));
+        }
+        isNotNull(RETRYABLE_STATUS_CODES_DISPLAY_NAME, retryableStatusCodes);
+        isNotNegative(MAX_RETRY_AFTER_DISPLAY_NAME, maxRetryAfterMillis);
+        if (!(retryBudgetRatio >= 0)) {
+            throw new IllegalArgumentException(RETRY_BUDGET_RATIO_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+        }
+        isNotNegative(RETRY_BUDGET_CAPACITY_DISPLAY_NAME, retryBudgetCapacity);
+        isNotNull(RETRY_LISTENER_DISPLAY_NAME, retryListener);
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retryableStatusCodes = Collections.unmodifiableSet(new LinkedHashSet<>(retryableStatusCodes));
+        this.retryNonIdempotentRequests = retryNonIdempotentRequests;
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+        this.retryBudgetRatio = retryBudgetRatio;
+        this.retryBudgetCapacity = retryBudgetCapacity;
+        this.retryListener = retryListener;
+    }
+
+    /**
+     * @return Returns a policy with a single attempt per request, which is
+     *         used by clients without a configured policy.
+     */
+    public static RetryPolicy noRetries() {
+        return NO_RETRIES;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    public boolean isRetryNonIdempotentRequests() {
+        return retryNonIdempotentRequests;
+    }
+
+    public long getMaxRetryAfterMillis() {
+        return maxRetryAfterMillis;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public int getRetryBudgetCapacity() {
+        return retryBudgetCapacity;
+    }
+
+    public RetryListener getRetryListener() {
+        return retryListener;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(RetryPolicy.class.getName(), ToStringStyle.JSON_STYLE)
+                .append("maxAttempts", maxAttempts)
+                .append("initialBackoffMillis", initialBackoffMillis)
+                .append("maxBackoffMillis", maxBackoffMillis)
+                .append("retryableStatusCodes", retryableStatusCodes)
+                .append("retryNonIdempotentRequests", retryNonIdempotentRequests)
+                .append("maxRetryAfterMillis", maxRetryAfterMillis)
+                .append("retryBudgetRatio", retryBudgetRatio)
+                .append("retryBudgetCapacity", retryBudgetCapacity)
+                .toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A builder for {@link RetryPolicy}.
+ */
+public class RetryPolicyBuilder {
+
+    private int maxAttempts = RetryPolicy.DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoffMillis = RetryPolicy.DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = RetryPolicy.DEFAULT_MAX_BACKOFF_MILLIS;
+    private Set<Integer> retryableStatusCodes = new LinkedHashSet<>(RetryPolicy.DEFAULT_RETRYABLE_STATUS_CODES);
+    private boolean retryNonIdempotentRequests;
+    private long maxRetryAfterMillis = RetryPolicy.DEFAULT_MAX_RETRY_AFTER_MILLIS;
+    private double retryBudgetRatio = RetryPolicy.DEFAULT_RETRY_BUDGET_RATIO;
+    private int retryBudgetCapacity = RetryPolicy.DEFAULT_RETRY_BUDGET_CAPACITY;
+    private RetryListener retryListener = RetryListener.NONE;
+
+    /**
+     * Attaches the maximum number of attempts per request, including the first
+     * one, to the builder.
+     * @param maxAttempts maximum number of attempts.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder maxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Attaches the backoff before the first retry to the builder. It doubles
+     * with each further retry.
+     * @param initialBackoffMillis initial backoff in milliseconds.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder initialBackoff(long initialBackoffMillis) {
+        this.initialBackoffMillis = initialBackoffMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum backoff to the builder.
+     * @param maxBackoffMillis maximum backoff in milliseconds.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder maxBackoff(long maxBackoffMillis) {
+        this.maxBackoffMillis = maxBackoffMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the status codes of responses which are retried to the
+     * builder. They replace the default status codes 429 and 503.
+     * @param statusCodes retryable status codes.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder retryOnStatusCodes(Integer... statusCodes) {
+        this.retryableStatusCodes = new LinkedHashSet<>(Arrays.asList(statusCodes));
+        return this;
+    }
+
+    /**
+     * Attaches whether requests with non-idempotent methods, e.g. POST and
+     * PATCH, are retried to the builder. They are not retried by default.
+     * @param retryNonIdempotentRequests whether to retry non-idempotent requests.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder retryNonIdempotentRequests(boolean retryNonIdempotentRequests) {
+        this.retryNonIdempotentRequests = retryNonIdempotentRequests;
+        return this;
+    }
+
+    /**
+     * Attaches the maximum delay requested by a Retry-After header, which is
+     * honoured, to the builder. Requests with a longer delay are not retried.
+     * @param maxRetryAfterMillis maximum Retry-After delay in milliseconds.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder maxRetryAfter(long maxRetryAfterMillis) {
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+        return this;
+    }
+
+    /**
+     * Attaches the retry budget to the builder.
+     * @param retryRatio ratio of retries to requests, e.g. 0.2 for 20%.
+     * @param capacity maximum number of retries saved up for bursts.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder retryBudget(double retryRatio, int capacity) {
+        this.retryBudgetRatio = retryRatio;
+        this.retryBudgetCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Attaches the listener notified about attempts and retries to the
+     * builder.
+     * @param retryListener retry listener.
+     * @return {@link RetryPolicyBuilder} instance.
+     */
+    public RetryPolicyBuilder retryListener(RetryListener retryListener) {
+        this.retryListener = retryListener;
+        return this;
+    }
+
+    /**
+     * Builds a {@link RetryPolicy} with the attached settings. Settings which
+     * were not attached keep their default values.
+     * @return {@link RetryPolicy} instance.
+     */
+    public RetryPolicy build() {
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, retryableStatusCodes,
+                retryNonIdempotentRequests, maxRetryAfterMillis, retryBudgetRatio, retryBudgetCapacity,
+                retryListener);
+    }
+
+    /**
+     * @return Returns an instance of {@link RetryPolicyBuilder}.
+     */
+    public static RetryPolicyBuilder getBuilder() {
+        return new RetryPolicyBuilder();
+    }
+}
@@ -3,47 +3,96 @@ package com.sap.cloud.rest.api.client.utils;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.ParseException;
 import org.apache.http.client.ResponseHandler;
+import org.apache.http.entity.ContentType;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sap.cloud.rest.api.client.handler.DefaultResponseHandler;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * This implementation of {@link ResponseHandler} expects that the received HTTP
  * response body is in JSON format.
  *
  * The received JSON is parsed using the Jackson library and returned as an
- * object of type T.
+ * object of type T. The JSON is parsed directly from the content stream of the
+ * response entity, without reading the whole body into memory first. The
+ * stream is closed after parsing, also in case of an error. A response without
+ * a body is returned as null. Unknown properties in the JSON are ignored.
+ *
+ * The reader for type T is taken from an {@link ObjectMapperRegistry}, by
+ * default the one shared across the library.
  *
  * @param <T>
  *            type of the object, the JSON needs to be parsed to.
  */
 public class JacksonJsonResponseHandler<T> implements ResponseHandler<T> {
 
-    private Class<T> clazz;
-    private TypeReference<T> type;
-
-    private ObjectMapper objectMapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ObjectReader reader;
 
     public JacksonJsonResponseHandler(Class<T> clazz) {
-        this.clazz = clazz;
+        this(clazz, ObjectMapperRegistry.getDefault());
     }
 
     public JacksonJsonResponseHandler(TypeReference<T> type) {
-        this.type = type;
+        this(type, ObjectMapperRegistry.getDefault());
+    }
+
+    public JacksonJsonResponseHandler(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
+        this(objectMapperRegistry.getReader(clazz));
+    }
+
+    public JacksonJsonResponseHandler(TypeReference<T> type, ObjectMapperRegistry objectMapperRegistry) {
+        this(objectMapperRegistry.getReader(type));
+    }
+
+    private JacksonJsonResponseHandler(ObjectReader reader) {
+        this.reader = reader.without(FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
     @Override
     public T handleResponse(HttpResponse response) throws IOException {
-        ResponseHandler<String> handler = new DefaultResponseHandler();
-        String body = handler.handleResponse(response);
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return null;
+        }
+
+        try (PushbackInputStream content = new PushbackInputStream(entity.getContent())) {
+            int firstByte = content.read();
+            if (firstByte == -1) {
+                return null;
+            }
+            content.unread(firstByte);
+
+            try (JsonParser parser = createParser(content, getCharset(entity))) {
+                return reader.readValue(parser);
+            }
+        }
+    }
+
+    private JsonParser createParser(InputStream content, Charset charset) throws IOException {
+        if (charset == null || charset.equals(StandardCharsets.UTF_8)) {
+            return reader.createParser(content);
+        }
+        return reader.createParser(new InputStreamReader(content, charset));
+    }
 
-        if (type != null) {
-            return body.isEmpty() ? null : objectMapper.readValue(body, type);
+    static Charset getCharset(HttpEntity entity) {
+        try {
+            ContentType contentType = ContentType.get(entity);
+            return contentType == null ? null : contentType.getCharset();
+        } catch (ParseException | UnsupportedCharsetException e) {
+            return null;
         }
-        return body.isEmpty() ? null : objectMapper.readValue(body, clazz);
     }
 }
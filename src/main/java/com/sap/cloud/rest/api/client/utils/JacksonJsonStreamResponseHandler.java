@@ -0,0 +1,91 @@
+package com.sap.cloud.rest.api.client.utils;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static com.sap.cloud.rest.api.client.utils.JacksonJsonResponseHandler.getCharset;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.util.EntityUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * This implementation of {@link ResponseHandler} expects that the received
+ * HTTP response body is a JSON array or newline delimited JSON, i.e. a
+ * sequence of JSON values, and returns a {@link JsonRecordIterator} over its
+ * records of type T.
+ *
+ * The records are parsed one at a time with a Jackson {@link MappingIterator}
+ * while the caller iterates over them, so that the memory used does not grow
+ * with the number of records. The response stays open until the iterator is
+ * closed. Unknown properties in the JSON are ignored.
+ *
+ * The body of a response with a status code of 300 or above is not parsed.
+ * It is read as a String instead and returned as the error body of the
+ * iterator, so that the status code handler can report it.
+ *
+ * The asynchronous HTTP client buffers the response body before the handler
+ * is called, so large responses should be executed synchronously.
+ *
+ * @param <T>
+ *            type of the records, the JSON needs to be parsed to.
+ */
+public class JacksonJsonStreamResponseHandler<T> implements ResponseHandler<JsonRecordIterator<T>> {
+
+    private final ObjectReader reader;
+
+    public JacksonJsonStreamResponseHandler(Class<T> clazz) {
+        this(clazz, ObjectMapperRegistry.getDefault());
+    }
+
+    public JacksonJsonStreamResponseHandler(TypeReference<T> type) {
+        this(type, ObjectMapperRegistry.getDefault());
+    }
+
+    public JacksonJsonStreamResponseHandler(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
+        this(objectMapperRegistry.getReader(clazz));
+    }
+
+    public JacksonJsonStreamResponseHandler(TypeReference<T> type, ObjectMapperRegistry objectMapperRegistry) {
+        this(objectMapperRegistry.getReader(type));
+    }
+
+    private JacksonJsonStreamResponseHandler(ObjectReader reader) {
+        this.reader = reader.without(FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public JsonRecordIterator<T> handleResponse(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (response.getStatusLine().getStatusCode() >= HttpStatus.SC_MULTIPLE_CHOICES) {
+            return JsonRecordIterator.ofErrorBody(entity == null ? ""
+                    : EntityUtils.toString(entity, StandardCharsets.UTF_8));
+        }
+        if (entity == null) {
+            return JsonRecordIterator.empty();
+        }
+
+        InputStream content = entity.getContent();
+        try {
+            Charset charset = getCharset(entity);
+            MappingIterator<T> records = charset == null || charset.equals(StandardCharsets.UTF_8)
+                    ? reader.readValues(content)
+                    : reader.readValues(new InputStreamReader(content, charset));
+            return new JsonRecordIterator<>(records, response instanceof Closeable ? (Closeable) response : null);
+        } catch (IOException | RuntimeException e) {
+            content.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.sap.cloud.rest.api.client.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+/**
+ * An iterator over the records of a JSON array or of newline delimited JSON
+ * in a response body, which parses one record at a time from the content
+ * stream of the response entity. Returned by
+ * {@link JacksonJsonStreamResponseHandler}.
+ *
+ * The iterator must be closed, e.g. with a try-with-resources statement or
+ * by closing its {@link #stream()}. It is closed automatically once all
+ * records have been read, which releases the connection to the pool.
+ * Closing it before closes the connection instead of reading the remaining
+ * records, so that its place in the pool is freed immediately.
+ *
+ * @param <T>
+ *            the type of the records.
+ */
+public class JsonRecordIterator<T> implements Iterator<T>, Closeable {
+
+    private final MappingIterator<T> records;
+    private final Closeable connection;
+    private final String errorBody;
+
+    private boolean closed;
+
+    JsonRecordIterator(MappingIterator<T> records, Closeable connection) {
+        this(records, connection, null);
+    }
+
+    private JsonRecordIterator(MappingIterator<T> records, Closeable connection, String errorBody) {
+        this.records = records;
+        this.connection = connection;
+        this.errorBody = errorBody;
+        this.closed = records == null;
+    }
+
+    /**
+     * Creates an iterator without records for a response without a body.
+     */
+    static <T> JsonRecordIterator<T> empty() {
+        return new JsonRecordIterator<>(null, null, null);
+    }
+
+    /**
+     * Creates an iterator without records for a response with an error status
+     * code, which holds the response body instead.
+     */
+    static <T> JsonRecordIterator<T> ofErrorBody(String errorBody) {
+        return new JsonRecordIterator<>(null, null, errorBody);
+    }
+
+    /**
+     * @throws RuntimeException
+     *             if reading or parsing the next record fails. The iterator is
+     *             closed then.
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        boolean hasNext;
+        try {
+            hasNext = records.hasNext();
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+        if (!hasNext) {
+            closed = true;
+            closeRecords();
+        }
+        return hasNext;
+    }
+
+    /**
+     * @throws RuntimeException
+     *             if reading or parsing the record fails. The iterator is
+     *             closed then.
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return records.next();
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Returns a sequential stream over the remaining records, which
+     *         closes this iterator when it is closed.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED
+                | Spliterator.NONNULL), false).onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * @return Returns the body of a response with an error status code, which
+     *         is not parsed into records, or null.
+     */
+    public String getErrorBody() {
+        return errorBody;
+    }
+
+    /**
+     * Closes the iterator. If records are left, the connection of the response
+     * is closed, without reading them.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } finally {
+            closeRecords();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            // The exception of the failed read is thrown instead.
+        }
+    }
+
+    private void closeRecords() {
+        try {
+            records.close();
+        } catch (IOException e) {
+            // The connection is discarded by the HTTP client.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.JSON_STYLE)
+                .append("closed", closed)
+                .append("errorBody", errorBody)
+                .toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.sap.cloud.rest.api.client.utils;
+
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Holds an {@link ObjectMapper} together with the {@link ObjectReader}s and
+ * {@link ObjectWriter}s created from it, cached per type. Creating a mapper
+ * and resolving the (de)serializers of a type are expensive, so the library
+ * shares one registry instead of creating a new mapper for every request and
+ * response.
+ *
+ * The readers and writers are created on first use and are thread-safe. The
+ * mapper must be fully configured before it is passed to the registry and must
+ * not be reconfigured afterwards, since the cached readers and writers keep
+ * the configuration they were created with.
+ */
+public class ObjectMapperRegistry {
+
+    static final String OBJECT_MAPPER_DISPLAY_NAME = "Object mapper";
+    static final String TYPE_DISPLAY_NAME = "Type";
+
+    private static final ObjectMapperRegistry DEFAULT_REGISTRY = new ObjectMapperRegistry(new ObjectMapper());
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper
+     *            the fully configured mapper to create the readers and writers
+     *            from.
+     */
+    public ObjectMapperRegistry(ObjectMapper objectMapper) {
+        isNotNull(OBJECT_MAPPER_DISPLAY_NAME, objectMapper);
+
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return Returns the registry shared across the library, which is backed
+     *         by an {@link ObjectMapper} with the default configuration.
+     */
+    public static ObjectMapperRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * @param clazz
+     *            the type to read.
+     * @return Returns the cached reader for the given type.
+     */
+    public ObjectReader getReader(Class<?> clazz) {
+        isNotNull(TYPE_DISPLAY_NAME, clazz);
+
+        return getReader(objectMapper.constructType(clazz));
+    }
+
+    /**
+     * @param type
+     *            the type to read.
+     * @return Returns the cached reader for the given type.
+     */
+    public ObjectReader getReader(TypeReference<?> type) {
+        isNotNull(TYPE_DISPLAY_NAME, type);
+
+        return getReader(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private ObjectReader getReader(JavaType javaType) {
+        ObjectReader reader = readers.get(javaType);
+        if (reader == null) {
+            ObjectReader newReader = objectMapper.readerFor(javaType);
+            reader = readers.putIfAbsent(javaType, newReader);
+            if (reader == null) {
+                reader = newReader;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * @param clazz
+     *            the type to write.
+     * @return Returns the cached writer for the given type.
+     */
+    public ObjectWriter getWriter(Class<?> clazz) {
+        isNotNull(TYPE_DISPLAY_NAME, clazz);
+
+        ObjectWriter writer = writers.get(clazz);
+        if (writer == null) {
+            ObjectWriter newWriter = objectMapper.writerFor(clazz);
+            writer = writers.putIfAbsent(clazz, newWriter);
+            if (writer == null) {
+                writer = newWriter;
+            }
+        }
+        return writer;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -9,7 +9,6 @@ import org.apache.http.HttpResponse;
 import org.apache.http.client.ResponseHandler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.cloud.rest.api.client.handler.DefaultResponseHandler;
 
 /**
@@ -18,7 +17,8 @@ import com.sap.cloud.rest.api.client.handler.DefaultResponseHandler;
  * 
  * The received body is stored in {@link Properties} object and serialized to
  * JSON format. After that the JSON is parsed using the Jackson library and
- * returned as an object of type T.
+ * returned as an object of type T. The readers and writers are taken from an
+ * {@link ObjectMapperRegistry}, by default the one shared across the library.
  *
  * @param <T>
  *            type of the object, the {@link Properties} needs to be parsed to.
@@ -27,10 +27,15 @@ public class PropertiesResponseHandler<T> implements ResponseHandler<T> {
 
     private Class<T> clazz;
 
-    private ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectMapperRegistry objectMapperRegistry;
 
     public PropertiesResponseHandler(Class<T> clazz) {
+        this(clazz, ObjectMapperRegistry.getDefault());
+    }
+
+    public PropertiesResponseHandler(Class<T> clazz, ObjectMapperRegistry objectMapperRegistry) {
         this.clazz = clazz;
+        this.objectMapperRegistry = objectMapperRegistry;
     }
 
     @Override
@@ -38,7 +43,7 @@ public class PropertiesResponseHandler<T> implements ResponseHandler<T> {
         ResponseHandler<String> handler = new DefaultResponseHandler();
         String body = handler.handleResponse(response);
 
-        return body.isEmpty() ? null : objectMapper.readValue(convertPropertiesToJson(body), clazz);
+        return body.isEmpty() ? null : objectMapperRegistry.getReader(clazz).readValue(convertPropertiesToJson(body));
     }
 
     private String convertPropertiesToJson(String body) throws IOException, JsonProcessingException {
@@ -48,7 +53,7 @@ public class PropertiesResponseHandler<T> implements ResponseHandler<T> {
             props.load(inputStream);
         }
 
-        return objectMapper.writeValueAsString(props);
+        return objectMapperRegistry.getWriter(Properties.class).writeValueAsString(props);
     }
 
 }
\ No newline at end of file
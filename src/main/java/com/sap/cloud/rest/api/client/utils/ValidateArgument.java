@@ -13,6 +13,8 @@ public class ValidateArgument {
     public static final String CANNOT_BE_NULL_MSG = " cannot be null.";
     public static final String CANNOT_BE_BLANK_MSG = " cannot be blank.";
     public static final String NOT_VALID_URL_MSG = " is not a vlaid URL.";
+    public static final String CANNOT_BE_NEGATIVE_MSG = " cannot be negative.";
+    public static final String MUST_BE_POSITIVE_MSG = " must be positive.";
 
     /**
      * Validates that the strings are not null or empty.
@@ -70,6 +72,38 @@ public class ValidateArgument {
         }
     }
 
+    /**
+     * Validates that the number is not negative.
+     * 
+     * If the number is negative - throws IllegalArgumentException.
+     * 
+     * @param messagePrefix
+     *            a display message for the tested number.
+     * @param number
+     *            the number that will be validated.
+     */
+    public static void isNotNegative(String messagePrefix, long number) {
+        if (number < 0) {
+            throw new IllegalArgumentException(messagePrefix + CANNOT_BE_NEGATIVE_MSG);
+        }
+    }
+
+    /**
+     * Validates that the number is positive.
+     * 
+     * If the number is zero or negative - throws IllegalArgumentException.
+     * 
+     * @param messagePrefix
+     *            a display message for the tested number.
+     * @param number
+     *            the number that will be validated.
+     */
+    public static void isPositive(String messagePrefix, long number) {
+        if (number <= 0) {
+            throw new IllegalArgumentException(messagePrefix + MUST_BE_POSITIVE_MSG);
+        }
+    }
+
     /**
      * Validates that the object is a correct URL
      * 
@@ -0,0 +1,196 @@
+package com.sap.cloud.rest.api.client;
+
+import static com.sap.cloud.rest.api.client.BatchExecution.BATCH_INTERRUPTED_MSG;
+import static com.sap.cloud.rest.api.client.BatchExecution.MAX_CONCURRENCY_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.http.client.methods.RequestBuilder;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.sap.cloud.rest.api.client.exceptions.ConnectionException;
+import com.sap.cloud.rest.api.client.exceptions.RestApiClientException;
+import com.sap.cloud.rest.api.client.model.BatchResult;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+
+public class BatchExecutionTest {
+
+    private static final String TEST_HOST = "https://example.com/entities/";
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void executeInOrderTest() {
+        List<Request<String>> requests = createRequests(20);
+        BatchExecution<String, String> batch = new BatchExecution<>(completeAfterRandomDelay(), 5);
+
+        List<BatchResult<String>> results = batch.executeInOrder(requests.iterator());
+
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertSame(requests.get(i), results.get(i).getRequest());
+            assertTrue(results.get(i).isSuccessful());
+            assertEquals(requests.get(i).getHttpRequest().getURI().toString(),
+                    results.get(i).getResponse().getEntity());
+        }
+    }
+
+    @Test
+    public void executeRespectsMaxConcurrencyTest() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Function<Request<String>, CompletableFuture<Response<String>>> delayed = completeAfterRandomDelay();
+        BatchExecution<String, String> batch = new BatchExecution<>(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return delayed.apply(request).whenComplete((response, e) -> inFlight.decrementAndGet());
+        }, 3);
+        List<BatchResult<String>> results = new ArrayList<>();
+
+        batch.execute(createRequests(30).iterator(), results::add);
+
+        assertEquals(30, results.size());
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void executeTakesRequestsLazilyTest() {
+        AtomicInteger taken = new AtomicInteger();
+        Iterator<Request<String>> requests = new Iterator<Request<String>>() {
+
+            @Override
+            public boolean hasNext() {
+                return taken.get() < 1000;
+            }
+
+            @Override
+            public Request<String> next() {
+                return createRequest(taken.getAndIncrement());
+            }
+        };
+        BatchExecution<String, String> batch = new BatchExecution<>(
+                request -> CompletableFuture.completedFuture(
+                        new Response<>(makeMockedResponseWithStatusCode(200), "ok")), 2);
+        AtomicInteger consumed = new AtomicInteger();
+
+        batch.execute(requests, result -> {
+            assertTrue(taken.get() - consumed.getAndIncrement() <= 2);
+        });
+
+        assertEquals(1000, consumed.get());
+    }
+
+    @Test
+    public void executeCapturesFailuresTest() {
+        ConnectionException failure = new ConnectionException("failed", null, null);
+        BatchExecution<String, String> batch = new BatchExecution<>(request -> {
+            CompletableFuture<Response<String>> future = new CompletableFuture<>();
+            if (request.getHttpRequest().getURI().toString().endsWith("1")) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(new Response<>(makeMockedResponseWithStatusCode(200), "ok"));
+            }
+            return future;
+        }, 2);
+
+        List<BatchResult<String>> results = batch.executeInOrder(createRequests(3).iterator());
+
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertSame(failure, results.get(1).getFailure());
+        assertTrue(results.get(2).isSuccessful());
+    }
+
+    @Test
+    public void executeCapturesExecutorExceptionsTest() {
+        IllegalStateException failure = new IllegalStateException();
+        BatchExecution<String, String> batch = new BatchExecution<>(request -> {
+            throw failure;
+        }, 2);
+
+        List<BatchResult<String>> results = batch.executeInOrder(createRequests(2).iterator());
+
+        assertSame(failure, results.get(0).getFailure());
+        assertSame(failure, results.get(1).getFailure());
+    }
+
+    @Test
+    public void executeCancelsRequestsInFlightWhenInterruptedTest() {
+        List<CompletableFuture<Response<String>>> pending = new ArrayList<>();
+        BatchExecution<String, String> batch = new BatchExecution<>(request -> {
+            CompletableFuture<Response<String>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }, 2);
+        Thread.currentThread().interrupt();
+
+        try {
+            batch.execute(createRequests(5).iterator(), result -> {
+            });
+            fail("Expected the batch to be interrupted");
+        } catch (RestApiClientException e) {
+            assertEquals(BATCH_INTERRUPTED_MSG, e.getMessage());
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(2, pending.size());
+        assertTrue(pending.get(0).isCancelled());
+        assertTrue(pending.get(1).isCancelled());
+    }
+
+    @Test
+    public void createWithZeroMaxConcurrencyTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_CONCURRENCY_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        new BatchExecution<String, String>(request -> null, 0);
+    }
+
+    private Function<Request<String>, CompletableFuture<Response<String>>> completeAfterRandomDelay() {
+        return request -> {
+            CompletableFuture<Response<String>> future = new CompletableFuture<>();
+            executor.schedule(() -> future.complete(new Response<>(makeMockedResponseWithStatusCode(200),
+                    request.getHttpRequest().getURI().toString())), (long) (Math.random() * 10),
+                    TimeUnit.MILLISECONDS);
+            return future;
+        };
+    }
+
+    private static List<Request<String>> createRequests(int count) {
+        List<Request<String>> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(createRequest(i));
+        }
+        return requests;
+    }
+
+    private static Request<String> createRequest(int id) {
+        return new Request<>(RequestBuilder.get(TEST_HOST + id).build());
+    }
+}
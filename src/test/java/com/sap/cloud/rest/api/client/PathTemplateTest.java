@@ -0,0 +1,122 @@
+package com.sap.cloud.rest.api.client;
+
+import static com.sap.cloud.rest.api.client.PathTemplate.ARGUMENT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.PathTemplate.INVALID_PLACEHOLDER_MSG;
+import static com.sap.cloud.rest.api.client.PathTemplate.MISSING_ARGUMENT_MSG;
+import static com.sap.cloud.rest.api.client.PathTemplate.PATH_PATTERN_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PathTemplateTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void testExpandWithoutPlaceholders() {
+        assertEquals("/entities", PathTemplate.compile("/entities").expand());
+    }
+
+    @Test
+    public void testExpandPlaceholders() {
+        PathTemplate template = PathTemplate.compile("/accounts/{0}/entities/{1}");
+
+        assertEquals("/accounts/account/entities/entity", template.expand("account", "entity"));
+        assertEquals("/accounts/other/entities/42", template.expand("other", 42));
+    }
+
+    @Test
+    public void testExpandRepeatedAndReorderedPlaceholders() {
+        assertEquals("/b/a/b", PathTemplate.compile("/{1}/{0}/{1}").expand("a", "b"));
+    }
+
+    @Test
+    public void testExpandDoesNotFormatNumbers() {
+        assertEquals("/entities/12345", PathTemplate.compile("/entities/{0}").expand(12345));
+    }
+
+    @Test
+    public void testExpandEncodesArgumentsAsSegments() {
+        assertEquals("/entities/a%2Fb%3Fc%23d%20e%25", PathTemplate.compile("/entities/{0}").expand("a/b?c#d e%"));
+    }
+
+    @Test
+    public void testExpandEncodesDotSegmentArguments() {
+        PathTemplate template = PathTemplate.compile("/accounts/{0}/entities");
+
+        assertEquals("/accounts/%2E%2E/entities", template.expand(".."));
+        assertEquals("/accounts/%2E/entities", template.expand("."));
+        assertEquals("/accounts/.../entities", template.expand("..."));
+        assertEquals("/accounts/%2E%2E/entities", URI.create(template.expand("..")).normalize().getRawPath());
+    }
+
+    @Test
+    public void testExpandEncodesNonAsciiArgumentsAsUtf8() {
+        assertEquals("/entities/%C3%A4%E2%82%AC", PathTemplate.compile("/entities/{0}").expand("ä€"));
+    }
+
+    @Test
+    public void testExpandKeepsSegmentCharactersOfArguments() {
+        assertEquals("/entities/a-b.c_d~e:f@g;h=i", PathTemplate.compile("/entities/{0}").expand("a-b.c_d~e:f@g;h=i"));
+    }
+
+    @Test
+    public void testCompileEncodesInvalidCharactersOfPattern() {
+        assertEquals("/my%20entities/it's", PathTemplate.compile("/my entities/it's").expand());
+    }
+
+    @Test
+    public void testExpandWithMissingArgument() {
+        String pattern = "/{0}/{1}";
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(MISSING_ARGUMENT_MSG, pattern, 2, 1));
+
+        PathTemplate.compile(pattern).expand("a");
+    }
+
+    @Test
+    public void testExpandWithNullArgument() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ARGUMENT_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        PathTemplate.compile("/{0}").expand((Object) null);
+    }
+
+    @Test
+    public void testCompileWithUnclosedPlaceholder() {
+        String pattern = "/entities/{0";
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_PLACEHOLDER_MSG, pattern, 10));
+
+        PathTemplate.compile(pattern);
+    }
+
+    @Test
+    public void testCompileWithNonNumericPlaceholder() {
+        String pattern = "/entities/{id}";
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_PLACEHOLDER_MSG, pattern, 10));
+
+        PathTemplate.compile(pattern);
+    }
+
+    @Test
+    public void testCompileWithNullPattern() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(PATH_PATTERN_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        PathTemplate.compile(null);
+    }
+
+    @Test
+    public void testToStringReturnsPattern() {
+        assertEquals("/entities/{0}", PathTemplate.compile("/entities/{0}").toString());
+    }
+}
@@ -0,0 +1,64 @@
+package com.sap.cloud.rest.api.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.junit.Test;
+
+public class PropertiesBodyTest {
+
+    private static final String FILENAME = "part";
+
+    @Test
+    public void writeToTest() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("name", "value with = and :");
+        properties.setProperty("ümlaut", "ü");
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        new PropertiesBody(properties, FILENAME).writeTo(outStream);
+
+        Properties written = new Properties();
+        written.load(new ByteArrayInputStream(outStream.toByteArray()));
+        assertEquals(properties, written);
+    }
+
+    @Test
+    public void writeToMatchesPropertiesStoreTest() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(" key with spaces", " value with spaces ");
+        properties.setProperty("special=:#!", "=:#!\\\t\n\r\f");
+        properties.setProperty("unicode\u20ac", "\u00e4\u0001\u007f");
+        properties.setProperty("", "");
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        properties.store(expected, null);
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        new PropertiesBody(properties, FILENAME).writeTo(outStream);
+
+        assertEquals(withoutDateLine(expected.toString("ISO-8859-1")), withoutDateLine(outStream.toString(
+                "ISO-8859-1")));
+        assertTrue(outStream.toString("ISO-8859-1").startsWith("#"));
+    }
+
+    @Test
+    public void headersTest() {
+        PropertiesBody body = new PropertiesBody(new Properties(), FILENAME);
+
+        assertEquals(FILENAME, body.getFilename());
+        assertEquals(ContentType.DEFAULT_BINARY.getMimeType(), body.getMimeType());
+        assertEquals(MIME.ENC_BINARY, body.getTransferEncoding());
+        assertEquals(-1, body.getContentLength());
+    }
+
+    private static String withoutDateLine(String stored) {
+        return stored.substring(stored.indexOf(System.lineSeparator()));
+    }
+}
@@ -4,17 +4,32 @@ import static com.sap.cloud.rest.api.client.RequestBuilder.*;
 import static java.text.MessageFormat.format;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.FileEntity;
 import org.apache.http.ParseException;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicNameValuePair;
@@ -22,12 +37,19 @@ import org.apache.http.util.EntityUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.sap.cloud.rest.api.client.RequestBuilder;
+import com.sap.cloud.rest.api.client.compression.CompressingEntity;
+import com.sap.cloud.rest.api.client.compression.ContentEncoding;
 import com.sap.cloud.rest.api.client.exceptions.RequestBuilderException;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.http.TimeoutConfigBuilder;
 import com.sap.cloud.rest.api.client.model.Request;
 import com.sap.cloud.rest.api.client.model.multipart.MultipartEntity;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
 import com.sap.cloud.rest.api.client.utils.ValidateArgument;
 
 public class RequestBuilderTest {
@@ -58,6 +80,9 @@ public class RequestBuilderTest {
     @Rule
     public ExpectedException expected = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private class TestEntity {
 
         public String field;
@@ -175,6 +200,18 @@ public class RequestBuilderTest {
         assertEquals(new ObjectMapper().writeValueAsString(testEntity), deserializedEntity);
     }
 
+    @Test
+    public void buildTestEntityRequestWithCustomObjectMapperTest() throws ParseException, IOException {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(
+                new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE));
+        Request<TestEntity> request = postRequest(TestEntity.class, registry).uri(VALID_URL)
+                .entity(new TestEntity(TEST_VALUE_ONE)).build();
+
+        HttpEntityEnclosingRequest httpRequest = (HttpEntityEnclosingRequest) request.getHttpRequest();
+
+        assertEquals("{\"Field\":\"" + TEST_VALUE_ONE + "\"}", EntityUtils.toString(httpRequest.getEntity()));
+    }
+
     @Test
     public void buildTestEntityRequestWithEntitySetTest() {
         TestEntity entity = new TestEntity(TEST_VALUE_ONE);
@@ -204,6 +241,152 @@ public class RequestBuilderTest {
         assertEquals(null, request.getEntity());
     }
 
+    @Test
+    public void buildRequestWithPathEntityTest() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, TEST_VALUE_ONE.getBytes(StandardCharsets.UTF_8));
+
+        Request<String> request = postRequest().uri(VALID_URL).fileEntity(path).build();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        assertTrue(entity instanceof FileEntity);
+        assertEquals(TEST_VALUE_ONE.length(), entity.getContentLength());
+        assertFalse(entity.isChunked());
+        assertTrue(entity.isRepeatable());
+        assertEquals(ContentType.APPLICATION_OCTET_STREAM.toString(), entity.getContentType().getValue());
+        assertEquals(TEST_VALUE_ONE, EntityUtils.toString(entity));
+        assertNull(request.getEntity());
+    }
+
+    @Test
+    public void buildRequestWithPathEntityAndContentTypeTest() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        Request<String> request = putRequest().uri(VALID_URL).fileEntity(path, ContentType.APPLICATION_JSON).build();
+
+        assertEquals(ContentType.APPLICATION_JSON.toString(), ((HttpEntityEnclosingRequest) request
+                .getHttpRequest()).getEntity().getContentType().getValue());
+    }
+
+    @Test
+    public void buildRequestWithMissingPathEntityTest() {
+        Path path = folder.getRoot().toPath().resolve("missing.json");
+
+        expected.expect(RequestBuilderException.class);
+        expected.expectMessage(format(FILE_NOT_READABLE_MSG, path));
+
+        postRequest().uri(VALID_URL).fileEntity(path);
+    }
+
+    @Test
+    public void buildRequestWithDirectoryPathEntityTest() {
+        Path path = folder.getRoot().toPath();
+
+        expected.expect(RequestBuilderException.class);
+        expected.expectMessage(format(FILE_NOT_READABLE_MSG, path));
+
+        postRequest().uri(VALID_URL).fileEntity(path);
+    }
+
+    @Test
+    public void buildRequestWithStreamEntityTest() throws IOException {
+        byte[] content = TEST_VALUE_ONE.getBytes(StandardCharsets.UTF_8);
+
+        Request<String> request = postRequest().uri(VALID_URL)
+                .streamEntity(new ByteArrayInputStream(content), content.length)
+                .build();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        assertEquals(content.length, entity.getContentLength());
+        assertFalse(entity.isChunked());
+        assertFalse(entity.isRepeatable());
+        assertEquals(TEST_VALUE_ONE, EntityUtils.toString(entity));
+    }
+
+    @Test
+    public void buildRequestWithStreamEntityOfUnknownLengthTest() {
+        Request<String> request = postRequest().uri(VALID_URL)
+                .streamEntity(new ByteArrayInputStream(new byte[10]), -5, ContentType.TEXT_PLAIN)
+                .build();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        assertEquals(-1, entity.getContentLength());
+        assertEquals(ContentType.TEXT_PLAIN.toString(), entity.getContentType().getValue());
+    }
+
+    @Test
+    public void buildRequestWithHeapByteBufferEntityTest() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(("xx" + TEST_VALUE_ONE + "yy").getBytes(StandardCharsets.UTF_8));
+        buffer.position(2).limit(2 + TEST_VALUE_ONE.length());
+
+        Request<String> request = postRequest().uri(VALID_URL).bufferEntity(buffer.slice()).build();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        assertEquals(TEST_VALUE_ONE.length(), entity.getContentLength());
+        assertEquals(TEST_VALUE_ONE, EntityUtils.toString(entity));
+    }
+
+    @Test
+    public void buildRequestWithDirectByteBufferEntityTest() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put(TEST_VALUE_ONE.getBytes(StandardCharsets.UTF_8)).flip();
+
+        Request<String> request = postRequest().uri(VALID_URL).bufferEntity(buffer).build();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        assertEquals(0, buffer.position());
+        assertEquals(TEST_VALUE_ONE, EntityUtils.toString(entity));
+    }
+
+    @Test
+    public void buildRequestWithBodyEntityReplacingEntityTest() throws IOException {
+        Request<String> request = postRequest().uri(VALID_URL)
+                .entity(TEST_VALUE_ONE)
+                .bufferEntity(ByteBuffer.wrap(TEST_VALUE_TWO.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        assertNull(request.getEntity());
+        assertEquals(TEST_VALUE_TWO, EntityUtils.toString(((HttpEntityEnclosingRequest) request.getHttpRequest())
+                .getEntity()));
+    }
+
+    @Test
+    public void buildRequestWithEntityReplacingBodyEntityTest() throws IOException {
+        Request<String> request = postRequest().uri(VALID_URL)
+                .bufferEntity(ByteBuffer.wrap(TEST_VALUE_TWO.getBytes(StandardCharsets.UTF_8)))
+                .entity(TEST_VALUE_ONE)
+                .build();
+
+        assertEquals(TEST_VALUE_ONE, request.getEntity());
+        assertEquals(TEST_VALUE_ONE, EntityUtils.toString(((HttpEntityEnclosingRequest) request.getHttpRequest())
+                .getEntity()));
+    }
+
+    @Test
+    public void buildCompressedRequestWithPathEntityTest() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        Request<String> request = postRequest().uri(VALID_URL).fileEntity(path).compress().build();
+
+        assertTrue(((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity() instanceof CompressingEntity);
+    }
+
+    @Test
+    public void buildRequestWithNullPathEntityTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ENTITY_DISPLAY_NAME + ValidateArgument.CANNOT_BE_NULL_MSG);
+
+        postRequest().uri(VALID_URL).fileEntity(null);
+    }
+
+    @Test
+    public void buildRequestWithNullContentTypeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CONTENT_TYPE_DISPLAY_NAME + ValidateArgument.CANNOT_BE_NULL_MSG);
+
+        postRequest().uri(VALID_URL).bufferEntity(ByteBuffer.allocate(0), null);
+    }
+
     @Test
     public void buildRequestWithHeaderObjectTest() {
         Request<String> request = getRequest().uri(VALID_URL).addHeader(TEST_HEADER_ONE).build();
@@ -291,6 +474,81 @@ public class RequestBuilderTest {
         postRequest(TestEntity.class).uri(VALID_URL).multipartEntity(FIRST_PART_NAME, entity).buildMultipart();
     }
 
+    @Test
+    public void buildTestEntityMultipartRequestWritesPropertiesPartTest() throws IOException {
+        Request<MultipartEntity<TestEntity>> request = postRequest(TestEntity.class)
+                .uri(VALID_URL)
+                .multipartEntity(FIRST_PART_NAME, new TestEntity(TEST_VALUE_ONE))
+                .buildMultipart();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        String body = writeToString(entity);
+        assertEquals(-1, entity.getContentLength());
+        assertTrue(body.contains("Content-Disposition: form-data; name=\"" + FIRST_PART_NAME + "\"; filename=\""
+                + FIRST_PART_NAME + "\""));
+        assertTrue(body.contains("Content-Type: application/octet-stream"));
+        Properties properties = new Properties();
+        properties.load(new StringReader(body.substring(body.indexOf("\r\n\r\n") + 4)));
+        assertEquals(TEST_VALUE_ONE, properties.getProperty("field"));
+    }
+
+    @Test
+    public void buildMultipartRequestWithFilePartTest() throws IOException {
+        Path path = folder.newFile("upload.json").toPath();
+        Files.write(path, TEST_VALUE_TWO.getBytes(StandardCharsets.UTF_8));
+
+        Request<MultipartEntity<String>> request = postRequest()
+                .uri(VALID_URL)
+                .multipartEntity(FIRST_PART_NAME, TEST_VALUE_ONE)
+                .multipartFile(SECOND_PART_NAME, path, ContentType.APPLICATION_JSON)
+                .buildMultipart();
+
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity();
+        String body = writeToString(entity);
+        assertTrue(entity.getContentLength() > 0);
+        assertTrue(body.contains("Content-Disposition: form-data; name=\"" + SECOND_PART_NAME
+                + "\"; filename=\"upload.json\"\r\nContent-Type: application/json"));
+        assertTrue(body.contains("\r\n\r\n" + TEST_VALUE_TWO + "\r\n"));
+        assertEquals(1, request.getEntity().getParts().size());
+        assertEquals(1, request.getEntity().getFileParts().size());
+        assertEquals(path, request.getEntity().getFileParts().get(0).getEntity());
+        assertEquals(SECOND_PART_NAME, request.getEntity().getFileParts().get(0).getName());
+    }
+
+    @Test
+    public void buildMultipartRequestWithOnlyFilePartTest() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        Request<MultipartEntity<String>> request = postRequest()
+                .uri(VALID_URL)
+                .multipartFile(FIRST_PART_NAME, path)
+                .buildMultipart();
+
+        assertTrue(request.getHttpRequest() instanceof HttpEntityEnclosingRequest);
+        assertTrue(writeToString(((HttpEntityEnclosingRequest) request.getHttpRequest()).getEntity())
+                .contains("Content-Type: application/octet-stream"));
+    }
+
+    @Test
+    public void buildMultipartRequestWithMissingFilePartTest() {
+        Path path = folder.getRoot().toPath().resolve("missing.json");
+
+        expected.expect(RequestBuilderException.class);
+        expected.expectMessage(format(FILE_NOT_READABLE_MSG, path));
+
+        postRequest().uri(VALID_URL).multipartFile(FIRST_PART_NAME, path);
+    }
+
+    @Test
+    public void buildMultipartRequestWithFilePartNameIsEmptyTest() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RequestBuilder.NAME_DISPLAY_NAME);
+
+        postRequest().uri(VALID_URL).multipartFile("", path);
+    }
+
     @Test
     public void buildMultipartRequestWithUriSetTest() {
         Request<MultipartEntity<String>> request = getRequest().uri(VALID_URL).buildMultipart();
@@ -426,6 +684,106 @@ public class RequestBuilderTest {
         assertTrue(request.getEntity().getParts().isEmpty());
     }
 
+    @Test
+    public void buildRequestWithTimeoutsTest() {
+        TimeoutConfig timeoutConfig = TimeoutConfigBuilder.getBuilder()
+                .connectTimeout(1000)
+                .socketTimeout(2000)
+                .requestTimeout(5000)
+                .build();
+
+        Request<String> request = getRequest().uri(VALID_URL).timeouts(timeoutConfig).build();
+
+        assertSame(timeoutConfig, request.getTimeoutConfig());
+        RequestConfig requestConfig = ((Configurable) request.getHttpRequest()).getConfig();
+        assertEquals(1000, requestConfig.getConnectTimeout());
+        assertEquals(2000, requestConfig.getSocketTimeout());
+    }
+
+    @Test
+    public void buildRequestWithoutTimeoutsTest() {
+        Request<String> request = getRequest().uri(VALID_URL).build();
+
+        assertNull(request.getTimeoutConfig());
+        assertNull(((Configurable) request.getHttpRequest()).getConfig());
+    }
+
+    @Test
+    public void buildRequestWithRouteTest() {
+        Request<String> request = getRequest().uri(VALID_URL).route("/entities/{0}").build();
+
+        assertEquals("/entities/{0}", request.getRoute());
+    }
+
+    @Test
+    public void buildRequestWithPathTemplateRouteTest() {
+        Request<String> request = getRequest().uri(VALID_URL).route(PathTemplate.compile("/entities/{0}")).build();
+
+        assertEquals("/entities/{0}", request.getRoute());
+    }
+
+    @Test
+    public void buildRequestWithoutRouteTest() {
+        assertNull(getRequest().uri(VALID_URL).build().getRoute());
+    }
+
+    @Test
+    public void buildRequestWithNullRouteTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RequestBuilder.ROUTE_DISPLAY_NAME + ValidateArgument.CANNOT_BE_NULL_MSG);
+
+        getRequest().uri(VALID_URL).route((String) null);
+    }
+
+    @Test
+    public void buildCompressedRequestTest() {
+        Request<TestEntity> request = postRequest(TestEntity.class)
+                .uri(VALID_URL)
+                .entity(new TestEntity(TEST_VALUE_ONE))
+                .compress()
+                .build();
+
+        HttpEntityEnclosingRequest httpRequest = (HttpEntityEnclosingRequest) request.getHttpRequest();
+        assertTrue(httpRequest.getEntity() instanceof CompressingEntity);
+        assertEquals(ContentEncoding.GZIP, ((CompressingEntity) httpRequest.getEntity()).getEncoding());
+        assertEquals("gzip", httpRequest.getEntity().getContentEncoding().getValue());
+    }
+
+    @Test
+    public void buildCompressedMultipartRequestTest() {
+        Request<MultipartEntity<String>> request = postRequest()
+                .uri(VALID_URL)
+                .multipartEntity(FIRST_PART_NAME, TEST_VALUE_ONE)
+                .compress(ContentEncoding.DEFLATE)
+                .buildMultipart();
+
+        HttpEntityEnclosingRequest httpRequest = (HttpEntityEnclosingRequest) request.getHttpRequest();
+        assertEquals("deflate", httpRequest.getEntity().getContentEncoding().getValue());
+    }
+
+    @Test
+    public void buildCompressedRequestWithoutEntityTest() {
+        Request<String> request = postRequest().uri(VALID_URL).compress().build();
+
+        assertFalse(request.getHttpRequest() instanceof HttpEntityEnclosingRequest);
+    }
+
+    @Test
+    public void buildRequestWithNullContentEncodingTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RequestBuilder.CONTENT_ENCODING_DISPLAY_NAME + ValidateArgument.CANNOT_BE_NULL_MSG);
+
+        postRequest().uri(VALID_URL).compress(null);
+    }
+
+    @Test
+    public void buildRequestWithNullTimeoutsTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RequestBuilder.TIMEOUT_CONFIG_DISPLAY_NAME + ValidateArgument.CANNOT_BE_NULL_MSG);
+
+        getRequest().uri(VALID_URL).timeouts(null);
+    }
+
     private Header findHeader(Header[] headers, String name) {
         for (Header header : headers) {
             if (header.getName().equals(name)) {
@@ -435,4 +793,9 @@ public class RequestBuilderTest {
         return null;
     }
 
-}
\ No newline at end of file
+    private static String writeToString(HttpEntity entity) throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        entity.writeTo(outStream);
+        return new String(outStream.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+}
@@ -1,54 +1,126 @@
 package com.sap.cloud.rest.api.client;
 
+import static com.sap.cloud.rest.api.client.RestApiClient.CLIENT_CLOSED_MSG;
 import static com.sap.cloud.rest.api.client.RestApiClient.CONFIG_DISPLAY_NAME;
 import static com.sap.cloud.rest.api.client.RestApiClient.HOST_NOT_VALID_MSG;
 import static com.sap.cloud.rest.api.client.RestApiClient.HTTP_CLIENT_PROVIDER_DISPLAY_NAME;
 import static com.sap.cloud.rest.api.client.RestApiClient.IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG;
 import static com.sap.cloud.rest.api.client.RestApiClient.IO_EXCEPTION_WHILE_HANDLING_RESPONSE_MSG;
+import static com.sap.cloud.rest.api.client.RestApiClient.REQUEST_TIMEOUT_EXCEEDED_MSG;
+import static com.sap.cloud.rest.api.client.RestApiClient.REQUEST_TIMEOUT_MSG;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
 import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusAndEntity;
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
 import static java.text.MessageFormat.format;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyStore;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpServer;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.cloud.rest.api.client.RestApiClient;
 import com.sap.cloud.rest.api.client.auth.cert.ClientCertAuthentication;
 import com.sap.cloud.rest.api.client.auth.cert.KeystoreConfig;
 import com.sap.cloud.rest.api.client.auth.cert.KeystoreConfigBuilder;
 import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
+import com.sap.cloud.rest.api.client.cache.ResponseCache;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfigBuilder;
+import com.sap.cloud.rest.api.client.compression.CompressingEntity;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicyBuilder;
 import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfigBuilder;
+import com.sap.cloud.rest.api.client.exceptions.CircuitBreakerOpenException;
 import com.sap.cloud.rest.api.client.exceptions.ConnectionException;
 import com.sap.cloud.rest.api.client.exceptions.ResponseException;
 import com.sap.cloud.rest.api.client.handler.DefaultResponseHandler;
 import com.sap.cloud.rest.api.client.handler.DefaultStatusCodeHandler;
+import com.sap.cloud.rest.api.client.handler.DownloadProgress;
+import com.sap.cloud.rest.api.client.handler.PathResponseHandler;
 import com.sap.cloud.rest.api.client.handler.StatusCodeHandler;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolStatistics;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.http.TimeoutConfigBuilder;
+import com.sap.cloud.rest.api.client.metrics.HistogramMetricsListener;
+import com.sap.cloud.rest.api.client.metrics.MetricTags;
+import com.sap.cloud.rest.api.client.metrics.RequestPhase;
+import com.sap.cloud.rest.api.client.metrics.RequestStatistics;
+import com.sap.cloud.rest.api.client.model.BatchResult;
 import com.sap.cloud.rest.api.client.model.HttpExchangeContext;
 import com.sap.cloud.rest.api.client.model.Request;
 import com.sap.cloud.rest.api.client.model.Response;
+import com.sap.cloud.rest.api.client.paging.PageIterator;
+import com.sap.cloud.rest.api.client.paging.PagingConfigBuilder;
+import com.sap.cloud.rest.api.client.retry.RetryPolicyBuilder;
+import com.sap.cloud.rest.api.client.utils.JacksonJsonStreamResponseHandler;
+import com.sap.cloud.rest.api.client.utils.JsonRecordIterator;
 
 public class RestApiClientTest {
 
@@ -58,6 +130,9 @@ public class RestApiClientTest {
     private static final String VALID_HOST = "https://example.com";
     private static final String VALID_HOST_WITH_PATH = "https://example.com/path";
     private static final String INVALID_HOST = "asd://example.com";
+    private static final CircuitBreakerConfig CIRCUIT_BREAKER_CONFIG = CircuitBreakerConfigBuilder.getBuilder()
+            .slidingWindow(2, 2)
+            .build();
 
     private static final char[] TEST_PASSWORD = "password".toCharArray();
     private static final String TEST_ALIAS = "alias";
@@ -70,6 +145,7 @@ public class RestApiClientTest {
 
     private HttpClientProvider httpClientProvider = mock(HttpClientProvider.class);
     private HttpClient httpClient = mock(HttpClient.class);
+    private CloseableHttpAsyncClient httpAsyncClient = mock(CloseableHttpAsyncClient.class);
     private HttpResponse httpResponse = makeMockedResponseWithStatusAndEntity(TEST_SUCCESS_CODE, TEST_RESPONSE_BODY);
     private ResponseHandler<String> responseHandler = mock(DefaultResponseHandler.class);
     private StatusCodeHandler statusCodeHandler = DefaultStatusCodeHandler.create();
@@ -80,6 +156,9 @@ public class RestApiClientTest {
     @Rule
     public ExpectedException expected = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private class DefaultRestApiClient extends RestApiClient {
 
         private static final String API_PATH = "/api";
@@ -178,6 +257,34 @@ public class RestApiClientTest {
         assertEquals(TEST_RESPONSE_BODY, response.getEntity());
     }
 
+    @Test
+    public void executeRequestSuccessStatusCodeDoesNotSerializeEntitiesTest() throws Exception {
+        CountingEntity requestEntity = new CountingEntity();
+        CountingEntity responseEntity = new CountingEntity();
+        ResponseHandler<CountingEntity> countingResponseHandler = response -> responseEntity;
+
+        client.execute(new Request<>(RequestBuilder.post().build(), requestEntity), countingResponseHandler);
+
+        assertEquals(0, requestEntity.serializations);
+        assertEquals(0, responseEntity.toStringCalls);
+    }
+
+    @Test
+    public void executeRequestErrorStatusCodeSerializesEntitiesTest() throws Exception {
+        CountingEntity requestEntity = new CountingEntity();
+        CountingEntity responseEntity = new CountingEntity();
+        ResponseHandler<CountingEntity> countingResponseHandler = response -> responseEntity;
+        mockHttpResponseCode(TEST_ERROR_CODE);
+
+        try {
+            client.execute(new Request<>(RequestBuilder.post().build(), requestEntity), countingResponseHandler);
+            fail("Expected the error status code to be handled");
+        } catch (ResponseException e) {
+            assertEquals(1, requestEntity.serializations);
+            assertEquals(1, responseEntity.toStringCalls);
+        }
+    }
+
     @Test
     public void executeRequestErrorStatusCodeTest() {
         expected.expect(ResponseException.class);
@@ -275,6 +382,23 @@ public class RestApiClientTest {
         }
     }
 
+    private static class CountingEntity {
+
+        private int serializations;
+        private int toStringCalls;
+
+        public String getField() {
+            serializations++;
+            return "value";
+        }
+
+        @Override
+        public String toString() {
+            toStringCalls++;
+            return "CountingEntity";
+        }
+    }
+
     private class TestEntity {
 
         public String field;
@@ -285,6 +409,713 @@ public class RestApiClientTest {
 
     }
 
+    @Test
+    public void executeRequestRetriesRetryableStatusCodeTest() throws Exception {
+        HttpResponse unavailableResponse = makeMockedResponseWithStatusCode(503);
+        doReturn(unavailableResponse).doReturn(httpResponse).when(httpClient).execute(any());
+        client = createRetryingClient();
+
+        Response<String> response = client.execute(request);
+
+        assertEquals(TEST_RESPONSE_BODY, response.getEntity());
+        verify(httpClient, times(2)).execute(any());
+    }
+
+    @Test
+    public void executeRequestRetriesIOExceptionTest() throws Exception {
+        doThrow(new IOException()).doReturn(httpResponse).when(httpClient).execute(any());
+        client = createRetryingClient();
+
+        Response<String> response = client.execute(request);
+
+        assertEquals(TEST_RESPONSE_BODY, response.getEntity());
+        verify(httpClient, times(2)).execute(any());
+    }
+
+    @Test
+    public void executeRequestRetriesUpToMaxAttemptsTest() throws Exception {
+        IOException cause = new IOException();
+        doThrow(cause).when(httpClient).execute(any());
+        client = createRetryingClient();
+
+        try {
+            client.execute(request);
+            fail("Expected the request to fail");
+        } catch (ConnectionException e) {
+            assertEquals(cause, e.getCause());
+        }
+        verify(httpClient, times(3)).execute(any());
+    }
+
+    @Test
+    public void executeRequestDoesNotRetryPostTest() throws Exception {
+        doThrow(new IOException()).doReturn(httpResponse).when(httpClient).execute(any());
+        client = createRetryingClient();
+        request = new Request<>(RequestBuilder.post().build());
+
+        try {
+            client.execute(request);
+            fail("Expected the request to fail");
+        } catch (ConnectionException e) {
+            verify(httpClient, times(1)).execute(any());
+        }
+    }
+
+    @Test
+    public void executeRequestDoesNotRetryWithoutRetryPolicyTest() throws Exception {
+        doReturn(makeMockedResponseWithStatusCode(503)).when(httpClient).execute(any());
+
+        expected.expect(ResponseException.class);
+
+        try {
+            client.execute(request);
+        } finally {
+            verify(httpClient, times(1)).execute(any());
+        }
+    }
+
+    @Test
+    public void executeAsyncRequestRetriesRetryableStatusCodeTest() throws Exception {
+        HttpResponse unavailableResponse = makeMockedResponseWithStatusCode(503);
+        int[] attempts = new int[1];
+        mockAsyncExchange(callback -> callback.completed(attempts[0]++ == 0 ? unavailableResponse : httpResponse));
+        client = createRetryingClient();
+
+        Response<String> response = client.executeAsync(request).get();
+
+        assertEquals(TEST_RESPONSE_BODY, response.getEntity());
+        assertEquals(2, attempts[0]);
+    }
+
+    @Test
+    public void executeRequestFailsFastWhenCircuitBreakerIsOpenTest() throws Exception {
+        mockHttpResponseCode(503);
+        client = createClientWithCircuitBreaker(CIRCUIT_BREAKER_CONFIG);
+        request = new Request<>(RequestBuilder.get(VALID_HOST).build());
+        executeExpectingResponseException();
+        executeExpectingResponseException();
+
+        try {
+            client.execute(request);
+            fail("Expected the circuit breaker to be open");
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(VALID_HOST, e.getRoute());
+        }
+        verify(httpClient, times(2)).execute(any());
+    }
+
+    @Test
+    public void executeAsyncRequestFailsFastWhenCircuitBreakerIsOpenTest() throws Exception {
+        mockAsyncExchange(callback -> callback.failed(new IOException()));
+        client = createClientWithCircuitBreaker(CIRCUIT_BREAKER_CONFIG);
+        request = new Request<>(RequestBuilder.get(VALID_HOST).build());
+        for (int i = 0; i < 2; i++) {
+            try {
+                client.executeAsync(request).get();
+                fail("Expected the request to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ConnectionException);
+            }
+        }
+
+        try {
+            client.executeAsync(request).get();
+            fail("Expected the circuit breaker to be open");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+        }
+        verify(httpAsyncClient, times(2)).execute(any(HttpUriRequest.class), any(FutureCallback.class));
+    }
+
+    @Test
+    public void circuitBreakerWithStubServerTest() throws Exception {
+        AtomicInteger statusCode = new AtomicInteger(503);
+        AtomicInteger exchanges = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchanges.incrementAndGet();
+            exchange.sendResponseHeaders(statusCode.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .circuitBreaker(CircuitBreakerConfigBuilder.getBuilder()
+                        .slidingWindow(4, 4)
+                        .waitDurationInOpenState(100)
+                        .permittedCallsInHalfOpenState(1)
+                        .build())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/entities")).build());
+            for (int i = 0; i < 10; i++) {
+                try {
+                    stubClient.execute(request);
+                    fail("Expected the request to fail");
+                } catch (CircuitBreakerOpenException | ResponseException e) {
+                    // the server is unavailable
+                }
+            }
+            assertEquals(4, exchanges.get());
+
+            statusCode.set(200);
+            Thread.sleep(150);
+
+            assertEquals(200, stubClient.execute(request).getStatusCode());
+            assertEquals(200, stubClient.execute(request).getStatusCode());
+            assertEquals(6, exchanges.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void requestTimeoutWithStubServerTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .timeouts(TimeoutConfigBuilder.getBuilder().requestTimeout(100).build())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/entities")).build());
+
+            long start = System.nanoTime();
+            try {
+                stubClient.execute(request);
+                fail("Expected the request to time out");
+            } catch (ConnectionException e) {
+                assertEquals(format(REQUEST_TIMEOUT_EXCEEDED_MSG, request, "100"), e.getMessage());
+                assertThat(e.getCause(), instanceOf(InterruptedIOException.class));
+                assertEquals(format(REQUEST_TIMEOUT_MSG, "100"), e.getCause().getMessage());
+            }
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        } finally {
+            release.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void responseCacheWithStubServerTest() throws Exception {
+        List<String> conditions = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String condition = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+            conditions.add(exchange.getRequestURI().getPath() + " " + condition);
+            exchange.getResponseHeaders().add(HttpHeaders.ETAG, "\"v1\"");
+            exchange.getResponseHeaders().add(HttpHeaders.CACHE_CONTROL,
+                    exchange.getRequestURI().getPath().endsWith("fresh") ? "max-age=60" : "max-age=0");
+            if ("\"v1\"".equals(condition)) {
+                exchange.sendResponseHeaders(HttpStatus.SC_NOT_MODIFIED, -1);
+            } else {
+                byte[] body = TEST_RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(HttpStatus.SC_OK, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        ResponseCache responseCache = new ResponseCache();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .responseCache(responseCache)
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            Request<String> staleRequest = new Request<>(
+                    RequestBuilder.get(stubClient.buildRequestUri("/stale")).build());
+            Request<String> freshRequest = new Request<>(
+                    RequestBuilder.get(stubClient.buildRequestUri("/fresh")).build());
+
+            for (int i = 0; i < 2; i++) {
+                assertEquals(TEST_RESPONSE_BODY, stubClient.execute(staleRequest).getEntity());
+                assertEquals(TEST_RESPONSE_BODY, stubClient.executeAsync(freshRequest).get().getEntity());
+            }
+            Response<String> revalidated = stubClient.execute(staleRequest);
+
+            assertEquals(HttpStatus.SC_OK, revalidated.getStatusCode());
+            assertEquals(TEST_RESPONSE_BODY, revalidated.getEntity());
+            assertEquals(Arrays.asList("/api/stale null", "/api/fresh null", "/api/stale \"v1\"",
+                    "/api/stale \"v1\""), conditions);
+            assertFalse(staleRequest.getHttpRequest().containsHeader(HttpHeaders.IF_NONE_MATCH));
+            assertEquals(3, responseCache.getHitCount());
+            assertEquals(2, responseCache.getMissCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void metricsWithStubServerTest() throws Exception {
+        AtomicInteger exchanges = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            if (exchanges.getAndIncrement() == 0) {
+                exchange.sendResponseHeaders(HttpStatus.SC_SERVICE_UNAVAILABLE, -1);
+            } else {
+                byte[] body = TEST_RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(HttpStatus.SC_OK, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .retryPolicy(RetryPolicyBuilder.getBuilder()
+                        .initialBackoff(1)
+                        .maxBackoff(1)
+                        .build())
+                .metricsListener(metricsListener)
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            PathTemplate route = PathTemplate.compile("/entities/{0}");
+            Request<String> syncRequest = new Request<>(RequestBuilder.get(stubClient.buildRequestUri(route, 1))
+                    .build(), null, null, route.getPattern());
+            Request<String> asyncRequest = new Request<>(RequestBuilder.get(stubClient.buildRequestUri(route, 2))
+                    .build(), null, null, route.getPattern());
+
+            assertEquals(TEST_RESPONSE_BODY, stubClient.execute(syncRequest).getEntity());
+            assertEquals(TEST_RESPONSE_BODY, stubClient.executeAsync(asyncRequest).get().getEntity());
+
+            RequestStatistics statistics = metricsListener.getStatistics(
+                    MetricTags.of("GET", "/entities/{0}", HttpStatus.SC_OK));
+            assertEquals(2, statistics.getRequestCount());
+            assertEquals(0, statistics.getFailureCount());
+            assertEquals(1, statistics.getLatency(RequestPhase.CONNECTION_LEASE).getCount());
+            assertEquals(1, statistics.getLatency(RequestPhase.CONNECT).getCount());
+            assertEquals(1, statistics.getLatency(RequestPhase.SERVER).getCount());
+            assertEquals(2, statistics.getLatency(RequestPhase.BODY_READ).getCount());
+            assertEquals(2, statistics.getLatency(RequestPhase.DESERIALIZATION).getCount());
+            assertNull(statistics.getLatency(RequestPhase.TLS_HANDSHAKE));
+            assertNull(statistics.getLatency(RequestPhase.AUTHENTICATION));
+            assertEquals(1, metricsListener.getStatistics(
+                    MetricTags.of("GET", "/entities/{0}", HttpStatus.SC_SERVICE_UNAVAILABLE)).getRetryCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void connectionPoolStatisticsWithStubServerTest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(HttpStatus.SC_NO_CONTENT, -1);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            stubClient.execute(new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/")).build()));
+
+            ConnectionPoolStatistics statistics = stubClient.getConnectionPoolStatistics();
+            assertEquals(0, statistics.getTotalStats().getLeased());
+            assertEquals(1, statistics.getTotalStats().getAvailable());
+            assertEquals(1, statistics.getRouteStats().size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void requestCompressionWithStubServerTest() throws Exception {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String contentEncoding = exchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            InputStream body = "gzip".equals(contentEncoding) ? new GZIPInputStream(exchange.getRequestBody())
+                    : exchange.getRequestBody();
+            bodies.add(contentEncoding + " "
+                    + EntityUtils.toString(new InputStreamEntity(body), StandardCharsets.UTF_8).length());
+            exchange.sendResponseHeaders(HttpStatus.SC_NO_CONTENT, -1);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .requestCompression(CompressionPolicyBuilder.getBuilder().minSize(1000).build())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            String largeBody = String.join(",", Collections.nCopies(500, TEST_RESPONSE_BODY));
+            Request<String> largeRequest = new Request<>(RequestBuilder.post(stubClient.buildRequestUri("/"))
+                    .setEntity(new StringEntity(largeBody, StandardCharsets.UTF_8)).build());
+            Request<String> smallRequest = new Request<>(RequestBuilder.post(stubClient.buildRequestUri("/"))
+                    .setEntity(new StringEntity(TEST_RESPONSE_BODY, StandardCharsets.UTF_8)).build());
+
+            stubClient.execute(largeRequest);
+            stubClient.execute(smallRequest);
+            stubClient.executeAsync(largeRequest).get();
+
+            assertEquals(Arrays.asList("gzip " + largeBody.length(), "null " + TEST_RESPONSE_BODY.length(),
+                    "gzip " + largeBody.length()), bodies);
+            assertFalse(((HttpEntityEnclosingRequest) largeRequest.getHttpRequest())
+                    .getEntity() instanceof CompressingEntity);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void responseDecompressionWithStubServerTest() throws Exception {
+        String largeBody = String.join(",", Collections.nCopies(500, TEST_RESPONSE_BODY));
+        List<String> acceptEncodings = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            acceptEncodings.add(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_ENCODING, "gzip");
+            exchange.sendResponseHeaders(HttpStatus.SC_OK, 0);
+            try (OutputStream body = new GZIPOutputStream(exchange.getResponseBody())) {
+                body.write(largeBody.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.close();
+        });
+        server.start();
+        HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .metricsListener(metricsListener)
+                .build();
+        RestApiClientConfig limitedConfig = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .maxDecompressedResponseSize(100)
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config);
+                RestApiClient limitedClient = new DefaultRestApiClient(limitedConfig)) {
+            Request<String> request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/"))
+                    .build(), null, null, "/");
+
+            assertEquals(largeBody, stubClient.execute(request).getEntity());
+            assertEquals(largeBody, stubClient.executeAsync(request).get().getEntity());
+
+            assertEquals(Arrays.asList("gzip,deflate", "gzip,deflate"), acceptEncodings);
+            RequestStatistics statistics = metricsListener.getStatistics(
+                    MetricTags.of("GET", "/", HttpStatus.SC_OK));
+            assertEquals(2, statistics.getCompressedResponseCount());
+            assertTrue(statistics.getCompressedBytes() < statistics.getDecompressedBytes());
+            assertEquals(2L * largeBody.length(), statistics.getDecompressedBytes());
+
+            try {
+                limitedClient.execute(request);
+                fail("Expected the decompressed response to exceed the maximum size");
+            } catch (ResponseException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+            try {
+                limitedClient.executeAsync(request).get();
+                fail("Expected the decompressed response to exceed the maximum size");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(ResponseException.class));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void downloadToPathWithStubServerTest() throws Exception {
+        byte[] body = new byte[4 * 1024 * 1024];
+        new Random(42).nextBytes(body);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            boolean found = exchange.getRequestURI().getPath().endsWith("/export");
+            byte[] responseBody = found ? body : "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(found ? HttpStatus.SC_OK : HttpStatus.SC_NOT_FOUND, responseBody.length);
+            exchange.getResponseBody().write(responseBody);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            Path path = folder.newFile().toPath();
+            Request<String> request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/export"))
+                    .build());
+
+            Response<DownloadProgress> response = stubClient.execute(request, new PathResponseHandler(path),
+                    DefaultStatusCodeHandler.create());
+
+            assertTrue(response.getEntity().isComplete());
+            assertEquals(body.length, response.getEntity().getBytesTransferred());
+            assertTrue(Arrays.equals(body, Files.readAllBytes(path)));
+
+            try {
+                stubClient.execute(new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/missing"))
+                        .build()), new PathResponseHandler(path), DefaultStatusCodeHandler.create());
+                fail("Expected the status code handler to reject the response");
+            } catch (ResponseException e) {
+                assertTrue(e.getResponse().getEntity().contains("not found"));
+            }
+            assertEquals(body.length, Files.size(path));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void streamJsonRecordsWithStubServerTest() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            body.append("{\"id\":").append(i).append("}\n");
+        }
+        byte[] responseBody = body.toString().getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/x-ndjson");
+            exchange.sendResponseHeaders(HttpStatus.SC_OK, responseBody.length);
+            exchange.getResponseBody().write(responseBody);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            Request<String> request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/records"))
+                    .build());
+            JacksonJsonStreamResponseHandler<Map<String, Integer>> handler = new JacksonJsonStreamResponseHandler<>(
+                    new TypeReference<Map<String, Integer>>() {
+                    });
+
+            try (JsonRecordIterator<Map<String, Integer>> records = stubClient
+                    .execute(request, handler, DefaultStatusCodeHandler.create()).getEntity()) {
+                assertEquals(0, records.next().get("id").intValue());
+                assertEquals(1, stubClient.getConnectionPoolStatistics().getTotalStats().getLeased());
+            }
+            assertEquals(0, stubClient.getConnectionPoolStatistics().getTotalStats().getLeased());
+            assertEquals(0, stubClient.getConnectionPoolStatistics().getTotalStats().getAvailable());
+
+            try (Stream<Map<String, Integer>> records = stubClient
+                    .execute(request, handler, DefaultStatusCodeHandler.create()).getEntity().stream()) {
+                assertEquals(10000, records.count());
+            }
+            assertEquals(0, stubClient.getConnectionPoolStatistics().getTotalStats().getLeased());
+            assertEquals(1, stubClient.getConnectionPoolStatistics().getTotalStats().getAvailable());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void executePagedWithStubServerTest() throws Exception {
+        List<String> requestedQueries = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch secondPageRequested = new CountDownLatch(2);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            requestedQueries.add(query);
+            secondPageRequested.countDown();
+            int page = query == null ? 1 : Integer.parseInt(query.substring("page=".length()));
+            if (page < 3) {
+                exchange.getResponseHeaders().add("Link", "<" + exchange.getRequestURI().getPath() + "?page="
+                        + (page + 1) + ">; rel=\"next\"");
+            }
+            byte[] responseBody = page > 3 ? "{\"error\":\"gone\"}".getBytes(StandardCharsets.UTF_8)
+                    : ("[" + (page * 10) + "," + (page * 10 + 1) + "]").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(page > 3 ? HttpStatus.SC_GONE : HttpStatus.SC_OK, responseBody.length);
+            exchange.getResponseBody().write(responseBody);
+            exchange.close();
+        });
+        server.start();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        try (RestApiClient stubClient = new DefaultRestApiClient(config)) {
+            Request<String> request = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/items"))
+                    .build());
+
+            try (PageIterator<Integer> items = stubClient.executePaged(request, Integer.class,
+                    PagingConfigBuilder.getBuilder().build())) {
+                assertEquals(10, items.next().intValue());
+                assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+                List<Integer> remaining = new ArrayList<>();
+                items.forEachRemaining(remaining::add);
+                assertEquals(Arrays.asList(11, 20, 21, 30, 31), remaining);
+                assertEquals(3, items.getPageCount());
+            }
+            assertEquals(Arrays.asList(null, "page=2", "page=3"), requestedQueries);
+
+            Request<String> failingRequest = new Request<>(RequestBuilder.get(stubClient.buildRequestUri("/items"))
+                    .addParameter("page", "4")
+                    .build());
+            try (PageIterator<Integer> items = stubClient.executePaged(failingRequest, Integer.class,
+                    PagingConfigBuilder.getBuilder().build())) {
+                items.hasNext();
+                fail("Expected the status code handler to reject the page");
+            } catch (ResponseException e) {
+                assertTrue(e.getResponse().getEntity().contains("gone"));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void executeAsyncRequestTimeoutTest() throws Exception {
+        Future<HttpResponse> exchange = mockAsyncExchange(callback -> {
+        });
+        TimeoutConfig timeoutConfig = TimeoutConfigBuilder.getBuilder().requestTimeout(50).build();
+        request = new Request<>(RequestBuilder.get(VALID_HOST).build(), null, timeoutConfig);
+
+        try {
+            client.executeAsync(request).get();
+            fail("Expected the request to time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ConnectionException.class));
+            assertEquals(format(REQUEST_TIMEOUT_EXCEEDED_MSG, request, "50"), e.getCause().getMessage());
+        }
+        verify(exchange, timeout(1000)).cancel(true);
+    }
+
+    @Test
+    public void executeAsyncRequestTest() throws Exception {
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+
+        Response<String> response = client.executeAsync(request).get();
+
+        assertEquals(httpResponse, response.getHttpResponse());
+        assertEquals(TEST_RESPONSE_BODY, response.getEntity());
+    }
+
+    @Test
+    public void executeAsyncRequestErrorStatusCodeTest() throws Exception {
+        mockHttpResponseCode(TEST_ERROR_CODE);
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+
+        expected.expectCause(instanceOf(ResponseException.class));
+
+        client.executeAsync(request).get();
+    }
+
+    @Test
+    public void executeAsyncRequestErrorStatusCodeCustomHandlerTest() throws Exception {
+        mockHttpResponseCode(TEST_ERROR_CODE);
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+        statusCodeHandler.addHandler(TEST_ERROR_CODE, context -> {
+        });
+
+        Response<String> response = client.executeAsync(request, statusCodeHandler).get();
+
+        assertEquals(httpResponse, response.getHttpResponse());
+    }
+
+    @Test
+    public void executeAsyncRequestIOExceptionTest() throws Exception {
+        IOException cause = new IOException();
+        mockAsyncExchange(callback -> callback.failed(cause));
+
+        try {
+            client.executeAsync(request).get();
+            fail("Expected the request to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ConnectionException);
+            assertEquals(format(IO_EXCEPTION_WHILE_EXECUTING_REQUEST_MSG, request), e.getCause().getMessage());
+            assertEquals(cause, e.getCause().getCause());
+        }
+    }
+
+    @Test
+    public void executeAsyncRequestIOExceptionWhileHandlingResponseTest() throws Exception {
+        IOException cause = new IOException();
+        doThrow(cause).when(responseHandler).handleResponse(httpResponse);
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+
+        expected.expectCause(instanceOf(ResponseException.class));
+
+        client.executeAsync(request, responseHandler).get();
+    }
+
+    @Test
+    public void executeAsyncRequestCancelTest() throws Exception {
+        Future<HttpResponse> exchange = mockAsyncExchange(callback -> {
+        });
+
+        CompletableFuture<Response<String>> response = client.executeAsync(request);
+        response.cancel(true);
+
+        verify(exchange).cancel(true);
+    }
+
+    @Test
+    public void executeBatchTest() {
+        IOException cause = new IOException();
+        AtomicInteger exchanges = new AtomicInteger();
+        mockAsyncExchange(callback -> {
+            if (exchanges.incrementAndGet() == 2) {
+                callback.failed(cause);
+            } else {
+                callback.completed(httpResponse);
+            }
+        });
+
+        List<BatchResult<String>> results = client.executeBatch(Arrays.asList(request, request, request), 2);
+
+        assertEquals(3, results.size());
+        assertEquals(TEST_RESPONSE_BODY, results.get(0).getResponse().getEntity());
+        assertThat(results.get(1).getFailure(), instanceOf(ConnectionException.class));
+        assertEquals(cause, results.get(1).getFailure().getCause());
+        assertEquals(TEST_RESPONSE_BODY, results.get(2).getResponse().getEntity());
+    }
+
+    @Test
+    public void executeBatchStreamTest() {
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+        AtomicInteger successful = new AtomicInteger();
+
+        client.executeBatch(Arrays.asList(request, request, request).stream(), 2, result -> {
+            if (result.isSuccessful()) {
+                successful.incrementAndGet();
+            }
+        });
+
+        assertEquals(3, successful.get());
+    }
+
+    @Test
+    public void executeAsyncAfterCloseTest() throws IOException {
+        client.close();
+
+        expected.expect(IllegalStateException.class);
+        expected.expectMessage(CLIENT_CLOSED_MSG);
+
+        client.executeAsync(request);
+    }
+
+    @Test
+    public void closeClosesHttpAsyncClientTest() throws IOException {
+        mockAsyncExchange(callback -> callback.completed(httpResponse));
+        client.executeAsync(request);
+
+        client.close();
+
+        verify(httpAsyncClient).close();
+    }
+
+    @Test
+    public void closeClosesHttpClientButNotProvidedHttpClientProviderTest() throws IOException {
+        CloseableHttpClient closeableHttpClient = mock(CloseableHttpClient.class);
+        doReturn(closeableHttpClient).when(httpClientProvider).createHttpClient(any());
+        client = new DefaultRestApiClient(restApiClientConfig, httpClientProvider);
+
+        client.close();
+
+        verify(closeableHttpClient).close();
+        verify(httpClientProvider, never()).close();
+    }
+
     @Test
     public void getApiPathTest() {
         assertEquals(DefaultRestApiClient.API_PATH, client.getApiPath());
@@ -309,6 +1140,25 @@ public class RestApiClientTest {
         assertEquals(VALID_HOST + DefaultRestApiClient.API_PATH + "/v1/endpoint", uri.toString());
     }
 
+    @Test
+    public void buildRequestUriWithTemplateTest() {
+        PathTemplate template = PathTemplate.compile("/entities/{0}/parts/{1}");
+
+        URI uri = client.buildRequestUri(template, 12345, "a/b c");
+
+        assertEquals(VALID_HOST + DefaultRestApiClient.API_PATH + "/entities/12345/parts/a%2Fb%20c", uri.toString());
+        assertEquals("/api/entities/12345/parts/a/b c", uri.getPath());
+    }
+
+    @Test
+    public void buildRequestUriWithHostPathTest() {
+        client = new DefaultRestApiClient(new RestApiClientConfig(VALID_HOST_WITH_PATH), httpClientProvider);
+
+        URI uri = client.buildRequestUri("/{0}", "v1");
+
+        assertEquals(VALID_HOST_WITH_PATH + DefaultRestApiClient.API_PATH + "/v1", uri.toString());
+    }
+
     @Test
     public void buildRequestUriNoPatternTest() {
         URI uri = client.buildRequestUri();
@@ -316,6 +1166,45 @@ public class RestApiClientTest {
         assertEquals(VALID_HOST + DefaultRestApiClient.API_PATH, uri.toString());
     }
 
+    private RestApiClient createClientWithCircuitBreaker(CircuitBreakerConfig circuitBreakerConfig) {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(VALID_HOST)
+                .circuitBreaker(circuitBreakerConfig)
+                .build();
+        return new DefaultRestApiClient(config, httpClientProvider);
+    }
+
+    private void executeExpectingResponseException() {
+        try {
+            client.execute(request);
+            fail("Expected the request to fail");
+        } catch (ResponseException e) {
+            // the response has an error status code
+        }
+    }
+
+    private RestApiClient createRetryingClient() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(VALID_HOST)
+                .retryPolicy(RetryPolicyBuilder.getBuilder()
+                        .initialBackoff(1)
+                        .maxBackoff(1)
+                        .build())
+                .build();
+        return new DefaultRestApiClient(config, httpClientProvider);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<HttpResponse> mockAsyncExchange(Consumer<FutureCallback<HttpResponse>> exchange) {
+        Future<HttpResponse> future = mock(Future.class);
+        doReturn(httpAsyncClient).when(httpClientProvider).createHttpAsyncClient(any());
+        doAnswer(invocation -> {
+            exchange.accept((FutureCallback<HttpResponse>) invocation.getArguments()[1]);
+            return future;
+        }).when(httpAsyncClient).execute(any(HttpUriRequest.class), any(FutureCallback.class));
+        return future;
+    }
+
     private void mockHttpResponseCode(int statusCode) {
         StatusLine statusLine = mock(StatusLine.class);
         doReturn(statusCode).when(statusLine).getStatusCode();
@@ -5,6 +5,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import org.apache.http.client.HttpClient;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.Test;
 
 import com.sap.cloud.rest.api.client.auth.Authentication;
@@ -29,4 +32,15 @@ public class BasicHttpClientProviderTest {
         HttpClient httpClient = httpClientProvider.createHttpClient();
         assertNotNull(httpClient);
     }
+
+    @Test
+    public void createHttpAsyncClient() throws Exception {
+        HttpClientProvider httpClientProvider = getHttpClientProviderForAuthentication(
+                new BasicAuthentication(USERNAME, PASSWORD));
+
+        try (CloseableHttpAsyncClient httpAsyncClient = httpClientProvider
+                .createHttpAsyncClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE))) {
+            assertTrue(httpAsyncClient.isRunning());
+        }
+    }
 }
@@ -14,6 +14,9 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 
 import org.apache.http.client.HttpClient;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -70,6 +73,21 @@ public class SSLHttpClientProviderTest {
         httpClientProvider.createHttpClient();
     }
 
+    @Test
+    public void createHttpAsyncClient() throws Exception {
+        ClientCertAuthentication authentication = new ClientCertAuthentication(KeystoreConfigBuilder.getBuilder()
+                .keystore(keystore)
+                .keystorePassword(KEYSTORE_PASSWORD)
+                .keyAlias(KEY_ALIAS)
+                .build());
+        HttpClientProvider httpClientProvider = getHttpClientProviderForAuthentication(authentication);
+
+        try (CloseableHttpAsyncClient httpAsyncClient = httpClientProvider
+                .createHttpAsyncClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE))) {
+            assertTrue(httpAsyncClient.isRunning());
+        }
+    }
+
     private static KeyStore loadKeystore(String path)
             throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException {
         KeyStore keystore = KeyStore.getInstance(KEYSTORE_TYPE);
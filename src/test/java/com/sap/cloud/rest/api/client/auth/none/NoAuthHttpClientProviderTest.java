@@ -1,16 +1,26 @@
 package com.sap.cloud.rest.api.client.auth.none;
 
 import static com.sap.cloud.rest.api.client.utils.test.HttpClientProviderUtils.getHttpClientProviderForAuthentication;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.Test;
 
 import com.sap.cloud.rest.api.client.auth.none.NoAuthHttpClientProvider;
 import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
 import com.sap.cloud.rest.api.client.http.HttpClientCreationException;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
+import com.sun.net.httpserver.HttpServer;
 
 public class NoAuthHttpClientProviderTest {
 
@@ -23,4 +33,26 @@ public class NoAuthHttpClientProviderTest {
         HttpClient httpClient = httpClientProvider.createHttpClient();
         assertNotNull(httpClient);
     }
+
+    @Test
+    public void createHttpAsyncClientExecutesRequest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        HttpClientProvider httpClientProvider = getHttpClientProviderForAuthentication(new NoAuthentication());
+        try (CloseableHttpAsyncClient httpAsyncClient = httpClientProvider
+                .createHttpAsyncClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE))) {
+            HttpGet request = new HttpGet("http://localhost:" + server.getAddress().getPort() + "/");
+
+            HttpResponse response = httpAsyncClient.execute(request, null).get(10, TimeUnit.SECONDS);
+
+            assertEquals(204, response.getStatusLine().getStatusCode());
+        } finally {
+            server.stop(0);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static com.sap.cloud.rest.api.client.auth.oauth.AccessTokenProviderFactor
 import static java.text.MessageFormat.format;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -76,6 +77,50 @@ public class AccessTokenProviderFactoryTest {
         assertEquals(TEST_API_PATH, createClientCredentialsAccessTokenProvider.getApiPath());
     }
 
+    @Test
+    public void testCreateCachingAccessTokenProvider() {
+        CachingAccessTokenProvider cachingAccessTokenProvider = AccessTokenProviderFactory
+                .createCachingAccessTokenProvider(oAuthRestApiClientConfig, httpClientProviderMock);
+
+        assertNotNull(cachingAccessTokenProvider);
+        assertEquals(OAuthServerConfig.DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS,
+                cachingAccessTokenProvider.getExpiryMarginMillis());
+    }
+
+    @Test
+    public void testCreateAccessTokenProvider() {
+        assertTrue(AccessTokenProviderFactory
+                .createAccessTokenProvider(oAuthRestApiClientConfig) instanceof CachingAccessTokenProvider);
+    }
+
+    @Test
+    public void testCreateAccessTokenProvider_withProactiveRefresh() throws Exception {
+        OAuthServerConfig oAuthServerConfig = OAuthServerConfigBuilder.getBuilder()
+                .oAuthServerHost(TEST_HOST)
+                .clientID(TEST_CLIENT_ID)
+                .clientSecret(TEST_CLIENT_SECRET)
+                .proactiveRefresh(0.5)
+                .build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .oAuthAuthentication(oAuthServerConfig)
+                .host(TEST_HOST)
+                .build();
+
+        AccessTokenProvider accessTokenProvider = AccessTokenProviderFactory.createAccessTokenProvider(config);
+
+        assertTrue(accessTokenProvider instanceof ScheduledAccessTokenRefresher);
+        assertEquals(0.5, ((ScheduledAccessTokenRefresher) accessTokenProvider).getRefreshRatio(), 0);
+        ((ScheduledAccessTokenRefresher) accessTokenProvider).close();
+    }
+
+    @Test
+    public void testCreateCachingAccessTokenProvider_withNonOAuthAuthentication() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(NON_OAUTH_AUTHENTICATION_MSG, AuthenticationType.NO_AUTH));
+
+        AccessTokenProviderFactory.createCachingAccessTokenProvider(invalidRestApiClientConfig);
+    }
+
     @Test
     public void testCreateClientCredentialsAccessTokenProvider_withNonOAuthAuthentication() {
         expected.expect(IllegalArgumentException.class);
@@ -0,0 +1,169 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.auth.oauth.AccessTokenRefreshCoordinator.ACCESS_TOKEN_SUPPLIER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class AccessTokenRefreshCoordinatorTest {
+
+    private static final int THREAD_COUNT = 500;
+    private static final long TOKEN_LIFETIME_MILLIS = 60000;
+    private static final long TOKEN_REQUEST_DURATION_MILLIS = 100;
+
+    private MutableClock clock;
+    private AtomicInteger tokenRequestCount;
+    private ExecutorService executor;
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Before
+    public void before() {
+        clock = new MutableClock(0);
+        tokenRequestCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneTokenRequestPerExpiry() throws Exception {
+        AccessTokenRefreshCoordinator coordinator = new AccessTokenRefreshCoordinator(slowTokenSupplier());
+
+        List<AccessToken> firstTokens = getAccessTokenConcurrently(coordinator);
+
+        assertEquals(1, tokenRequestCount.get());
+        assertAllSame(firstTokens);
+
+        clock.advance(TOKEN_LIFETIME_MILLIS);
+        List<AccessToken> secondTokens = getAccessTokenConcurrently(coordinator);
+
+        assertEquals(2, tokenRequestCount.get());
+        assertAllSame(secondTokens);
+        assertEquals(TOKEN_LIFETIME_MILLIS, secondTokens.get(0).getIssuedAtMillis());
+    }
+
+    @Test
+    public void testUsableTokenIsReturnedWithoutRequest() {
+        AccessTokenRefreshCoordinator coordinator = new AccessTokenRefreshCoordinator(slowTokenSupplier());
+
+        AccessToken first = coordinator.getAccessToken(this::isValid);
+        AccessToken second = coordinator.getAccessToken(this::isValid);
+
+        assertSame(first, second);
+        assertSame(first, coordinator.getCurrentAccessToken());
+        assertEquals(1, tokenRequestCount.get());
+    }
+
+    @Test
+    public void testRefreshReturnsTokenPublishedMeanwhile() {
+        AccessTokenRefreshCoordinator coordinator = new AccessTokenRefreshCoordinator(slowTokenSupplier());
+        AccessToken first = coordinator.getAccessToken(this::isValid);
+
+        assertSame(first, coordinator.refresh(this::isValid));
+        assertEquals(1, tokenRequestCount.get());
+    }
+
+    @Test
+    public void testFailedRefreshIsPropagatedAndRetriedByNextCaller() {
+        RuntimeException failure = new IllegalStateException("Token endpoint unavailable");
+        AccessTokenRefreshCoordinator coordinator = new AccessTokenRefreshCoordinator(() -> {
+            if (tokenRequestCount.incrementAndGet() == 1) {
+                throw failure;
+            }
+            return new AccessToken("token", clock.millis(), clock.millis() + TOKEN_LIFETIME_MILLIS);
+        });
+
+        try {
+            coordinator.getAccessToken(this::isValid);
+            fail("Expected the token request failure to be propagated");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        assertNull(coordinator.getCurrentAccessToken());
+
+        assertEquals("token", coordinator.getAccessToken(this::isValid).getValue());
+        assertEquals(2, tokenRequestCount.get());
+    }
+
+    @Test
+    public void testCreateWithNullSupplier() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ACCESS_TOKEN_SUPPLIER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new AccessTokenRefreshCoordinator(null);
+    }
+
+    private List<AccessToken> getAccessTokenConcurrently(AccessTokenRefreshCoordinator coordinator)
+            throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AccessToken>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return coordinator.getAccessToken(this::isValid);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<AccessToken> tokens = new ArrayList<>();
+        for (Future<AccessToken> future : futures) {
+            tokens.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return tokens;
+    }
+
+    private boolean isValid(AccessToken accessToken) {
+        return accessToken.isValidAt(clock.millis());
+    }
+
+    private Supplier<AccessToken> slowTokenSupplier() {
+        return () -> {
+            int count = tokenRequestCount.incrementAndGet();
+            sleep(TOKEN_REQUEST_DURATION_MILLIS);
+            return new AccessToken("token" + count, clock.millis(), clock.millis() + TOKEN_LIFETIME_MILLIS);
+        };
+    }
+
+    private static void assertAllSame(List<AccessToken> tokens) {
+        for (AccessToken token : tokens) {
+            assertSame(tokens.get(0), token);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("Interrupted while requesting a token");
+        }
+    }
+}
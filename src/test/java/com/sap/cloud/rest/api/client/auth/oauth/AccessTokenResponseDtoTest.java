@@ -1,6 +1,7 @@
 package com.sap.cloud.rest.api.client.auth.oauth;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
@@ -14,6 +15,9 @@ public class AccessTokenResponseDtoTest {
 
     private static final String ACCESS_TOKEN = "dummyAccessToken";
     private static final String ACCESS_TOKEN_RESPONSE_JSON = "{\"access_token\":\"" + ACCESS_TOKEN + "\"}";
+    private static final long EXPIRES_IN = 43199;
+    private static final String ACCESS_TOKEN_RESPONSE_WITH_EXPIRES_IN_JSON = "{\"access_token\":\"" + ACCESS_TOKEN
+            + "\",\"expires_in\":" + EXPIRES_IN + "}";
     private static final AccessTokenResponseDto ACCESS_TOKEN_RESPONSE_DTO = new AccessTokenResponseDto(ACCESS_TOKEN);
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -35,6 +39,27 @@ public class AccessTokenResponseDtoTest {
         assertEquals(ACCESS_TOKEN, accessTokenResponse.getAccessToken());
     }
 
+    @Test
+    public void deserializeAccessTokenResponseDtoWithExpiresInTest() throws Exception {
+        AccessTokenResponseDto accessTokenResponse = objectMapper.readValue(ACCESS_TOKEN_RESPONSE_WITH_EXPIRES_IN_JSON,
+                AccessTokenResponseDto.class);
+        assertEquals(ACCESS_TOKEN, accessTokenResponse.getAccessToken());
+        assertEquals(Long.valueOf(EXPIRES_IN), accessTokenResponse.getExpiresIn());
+    }
+
+    @Test
+    public void deserializeAccessTokenResponseDtoWithoutExpiresInTest() throws Exception {
+        AccessTokenResponseDto accessTokenResponse = objectMapper.readValue(ACCESS_TOKEN_RESPONSE_JSON,
+                AccessTokenResponseDto.class);
+        assertNull(accessTokenResponse.getExpiresIn());
+    }
+
+    @Test
+    public void serializeAccessTokenDtoWithExpiresInTest() throws JsonProcessingException {
+        String serialized = objectMapper.writeValueAsString(new AccessTokenResponseDto(ACCESS_TOKEN, EXPIRES_IN));
+        assertEquals(ACCESS_TOKEN_RESPONSE_WITH_EXPIRES_IN_JSON, serialized);
+    }
+
     @Test
     public void equalsTest() {
         EqualsVerifier.forClass(AccessTokenResponseDto.class).verify();
@@ -0,0 +1,123 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.auth.oauth.CachingAccessTokenProvider.ACCESS_TOKEN_PROVIDER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.auth.oauth.CachingAccessTokenProvider.EXPIRY_MARGIN_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class CachingAccessTokenProviderTest {
+
+    private static final String FIRST_ACCESS_TOKEN = "firstAccessToken";
+    private static final String SECOND_ACCESS_TOKEN = "secondAccessToken";
+    private static final long EXPIRES_IN_SECONDS = 3600;
+    private static final long EXPIRY_MARGIN_MILLIS = 60000;
+
+    private ClientCredentialsAccessTokenProvider accessTokenProviderMock;
+    private MutableClock clock;
+    private CachingAccessTokenProvider cachingAccessTokenProvider;
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Before
+    public void before() {
+        accessTokenProviderMock = mock(ClientCredentialsAccessTokenProvider.class);
+        when(accessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        clock = new MutableClock(0);
+        cachingAccessTokenProvider = new CachingAccessTokenProvider(accessTokenProviderMock, EXPIRY_MARGIN_MILLIS,
+                clock);
+    }
+
+    @Test
+    public void testAccessTokenIsReusedBeforeExpiryMargin() {
+        assertEquals(FIRST_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+
+        clock.advance(EXPIRES_IN_SECONDS * 1000 - EXPIRY_MARGIN_MILLIS - 1);
+
+        assertEquals(FIRST_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        verify(accessTokenProviderMock, times(1)).retrieveAccessTokenResponse();
+    }
+
+    @Test
+    public void testAccessTokenIsRenewedAfterExpiryMargin() {
+        assertEquals(FIRST_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+
+        clock.advance(EXPIRES_IN_SECONDS * 1000 - EXPIRY_MARGIN_MILLIS);
+
+        assertEquals(SECOND_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        assertEquals(SECOND_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        verify(accessTokenProviderMock, times(2)).retrieveAccessTokenResponse();
+    }
+
+    @Test
+    public void testAccessTokenWithoutLifetimeIsNotReused() {
+        when(accessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN));
+
+        assertEquals(FIRST_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        assertEquals(SECOND_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+    }
+
+    @Test
+    public void testAccessTokenWithLifetimeShorterThanMarginIsNotReused() {
+        when(accessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, 30L),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN, 30L));
+
+        assertEquals(FIRST_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        assertEquals(SECOND_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+    }
+
+    @Test
+    public void testRefreshAccessTokenReplacesOnlyStaleToken() {
+        cachingAccessTokenProvider.retrieveAccessToken();
+        AccessToken first = cachingAccessTokenProvider.getCurrentAccessToken();
+
+        AccessToken second = cachingAccessTokenProvider.refreshAccessToken(first);
+        AccessToken unchanged = cachingAccessTokenProvider.refreshAccessToken(first);
+
+        assertEquals(SECOND_ACCESS_TOKEN, second.getValue());
+        assertEquals(second, unchanged);
+        assertEquals(SECOND_ACCESS_TOKEN, cachingAccessTokenProvider.retrieveAccessToken());
+        verify(accessTokenProviderMock, times(2)).retrieveAccessTokenResponse();
+    }
+
+    @Test
+    public void testCloseClosesAccessTokenProvider() throws Exception {
+        cachingAccessTokenProvider.close();
+
+        verify(accessTokenProviderMock).close();
+    }
+
+    @Test
+    public void testCreateWithNullAccessTokenProvider() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ACCESS_TOKEN_PROVIDER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new CachingAccessTokenProvider(null, EXPIRY_MARGIN_MILLIS);
+    }
+
+    @Test
+    public void testCreateWithNegativeExpiryMargin() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(EXPIRY_MARGIN_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        new CachingAccessTokenProvider(accessTokenProviderMock, -1);
+    }
+}
@@ -4,6 +4,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import org.apache.http.client.HttpClient;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.Test;
 
 import com.sap.cloud.rest.api.client.auth.Authentication;
@@ -34,4 +37,17 @@ public class OAuthHttpClientProviderTest {
         HttpClient httpClient = httpClientProvider.createHttpClient();
         assertNotNull(httpClient);
     }
+
+    @Test
+    public void createHttpAsyncClient() throws Exception {
+        OAuthServerConfig oAuthServerConfig = new OAuthServerConfig(TEST_OAUTH_SERVER_URL, TEST_CLIENT_ID,
+                TEST_CLIENT_SECRET);
+        HttpClientProvider httpClientProvider = HttpClientProviderUtils
+                .getHttpClientProviderForAuthentication(new OAuthAuthentication(oAuthServerConfig));
+
+        try (CloseableHttpAsyncClient httpAsyncClient = httpClientProvider
+                .createHttpAsyncClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE))) {
+            assertTrue(httpAsyncClient.isRunning());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.sap.cloud.rest.api.client.auth.oauth;
 
+import static com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig.DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS;
 import static com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig.DEFAULT_OAUTH_HEADER_KEY;
 import static com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig.DEFAULT_OAUTH_SERVER_API_PATH;
 import static org.junit.Assert.assertArrayEquals;
@@ -21,6 +22,7 @@ public class OAuthServerConfigBuilderTest {
     private static final char[] TEST_CLIENT_SECRET = "testClientSecret".toCharArray();
     private static final String TEST_CLIENT_ID = "testClientID";
     private static final String TEST_OAUTH_HEADER_KEY = HttpHeaders.PROXY_AUTHORIZATION;
+    private static final long TEST_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS = 5000;
 
     @Test
     public void testBuildWithValidData() {
@@ -35,6 +37,8 @@ public class OAuthServerConfigBuilderTest {
         assertEquals(DEFAULT_OAUTH_HEADER_KEY, config.getoAuthHeaderKey());
         assertEquals(TEST_CLIENT_ID, config.getClientID());
         assertArrayEquals(TEST_CLIENT_SECRET, config.getClientSecret());
+        assertEquals(DEFAULT_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS, config.getAccessTokenExpiryMarginMillis());
+        assertEquals(0, config.getProactiveRefreshRatio(), 0);
     }
 
     @Test
@@ -86,6 +90,42 @@ public class OAuthServerConfigBuilderTest {
         assertArrayEquals(TEST_CLIENT_SECRET, config.getClientSecret());
     }
 
+    @Test
+    public void testBuildWithValidDataProvidedAccessTokenExpiryMargin() {
+        OAuthServerConfig config = OAuthServerConfigBuilder.getBuilder()
+                .oAuthServerHost(TEST_OAUTH_SERVER_HOST)
+                .accessTokenExpiryMargin(TEST_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS)
+                .clientSecret(TEST_CLIENT_SECRET)
+                .clientID(TEST_CLIENT_ID)
+                .build();
+
+        assertEquals(DEFAULT_OAUTH_SERVER_API_PATH, config.getoAuthServerApiPath());
+        assertEquals(DEFAULT_OAUTH_HEADER_KEY, config.getoAuthHeaderKey());
+        assertEquals(TEST_ACCESS_TOKEN_EXPIRY_MARGIN_MILLIS, config.getAccessTokenExpiryMarginMillis());
+    }
+
+    @Test
+    public void testBuildWithProactiveRefresh() {
+        OAuthServerConfig config = OAuthServerConfigBuilder.getBuilder()
+                .oAuthServerHost(TEST_OAUTH_SERVER_HOST)
+                .proactiveRefresh(0.75)
+                .clientSecret(TEST_CLIENT_SECRET)
+                .clientID(TEST_CLIENT_ID)
+                .build();
+
+        assertEquals(0.75, config.getProactiveRefreshRatio(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildWithInvalidProactiveRefresh() {
+        OAuthServerConfigBuilder.getBuilder()
+                .oAuthServerHost(TEST_OAUTH_SERVER_HOST)
+                .proactiveRefresh(1.5)
+                .clientSecret(TEST_CLIENT_SECRET)
+                .clientID(TEST_CLIENT_ID)
+                .build();
+    }
+
     @Test
     public void testHostFromUrlWithoutPort() throws Exception {
         final OAuthServerConfig config = OAuthServerConfigBuilder.getBuilder()
@@ -0,0 +1,179 @@
+package com.sap.cloud.rest.api.client.auth.oauth;
+
+import static com.sap.cloud.rest.api.client.auth.oauth.ScheduledAccessTokenRefresher.INVALID_REFRESH_RATIO_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class ScheduledAccessTokenRefresherTest {
+
+    private static final String FIRST_ACCESS_TOKEN = "firstAccessToken";
+    private static final String SECOND_ACCESS_TOKEN = "secondAccessToken";
+    private static final long EXPIRES_IN_SECONDS = 1000;
+    private static final long EXPIRY_MARGIN_MILLIS = 0;
+    private static final double REFRESH_RATIO = 0.75;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 300;
+
+    private ClientCredentialsAccessTokenProvider clientCredentialsAccessTokenProviderMock;
+    private ScheduledExecutorService executorMock;
+    private MutableClock clock;
+    private ScheduledAccessTokenRefresher refresher;
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Before
+    public void before() {
+        clientCredentialsAccessTokenProviderMock = mock(ClientCredentialsAccessTokenProvider.class);
+        executorMock = mock(ScheduledExecutorService.class);
+        clock = new MutableClock(0);
+
+        CachingAccessTokenProvider cachingAccessTokenProvider = new CachingAccessTokenProvider(
+                clientCredentialsAccessTokenProviderMock, EXPIRY_MARGIN_MILLIS, clock);
+        refresher = new ScheduledAccessTokenRefresher(cachingAccessTokenProvider, REFRESH_RATIO, executorMock, false,
+                INITIAL_BACKOFF_MILLIS, MAX_BACKOFF_MILLIS, clock);
+    }
+
+    @Test
+    public void testRefreshIsScheduledAtRatioOfLifetime() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        assertEquals(FIRST_ACCESS_TOKEN, refresher.retrieveAccessToken());
+        refresher.retrieveAccessToken();
+
+        verify(executorMock, times(1)).schedule(any(Runnable.class), eq(750000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testOldTokenIsServedUntilScheduledRefreshCompletes() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        refresher.retrieveAccessToken();
+        Runnable scheduledRefresh = captureScheduledRefresh(1);
+
+        clock.advance(750000);
+        assertEquals(FIRST_ACCESS_TOKEN, refresher.retrieveAccessToken());
+
+        scheduledRefresh.run();
+
+        assertEquals(SECOND_ACCESS_TOKEN, refresher.retrieveAccessToken());
+        verify(clientCredentialsAccessTokenProviderMock, times(2)).retrieveAccessTokenResponse();
+        verify(executorMock, times(2)).schedule(any(Runnable.class), eq(750000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFailedRefreshIsRetriedWithBackoff() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse())
+                .thenReturn(new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS))
+                .thenThrow(new IllegalStateException())
+                .thenThrow(new IllegalStateException())
+                .thenThrow(new IllegalStateException());
+
+        refresher.retrieveAccessToken();
+        clock.advance(750000);
+
+        captureScheduledRefresh(1).run();
+        verify(executorMock).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+        captureScheduledRefresh(2).run();
+        verify(executorMock).schedule(any(Runnable.class), eq(200L), eq(TimeUnit.MILLISECONDS));
+
+        captureScheduledRefresh(3).run();
+        verify(executorMock).schedule(any(Runnable.class), eq(300L), eq(TimeUnit.MILLISECONDS));
+
+        assertEquals(FIRST_ACCESS_TOKEN, refresher.retrieveAccessToken());
+    }
+
+    @Test
+    public void testTokenWithoutLifetimeIsNotScheduled() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN));
+
+        refresher.retrieveAccessToken();
+
+        verify(executorMock, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testTokenWithLifetimeAfterTokenWithoutLifetimeIsScheduled() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        assertEquals(FIRST_ACCESS_TOKEN, refresher.retrieveAccessToken());
+        verify(executorMock, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        assertEquals(SECOND_ACCESS_TOKEN, refresher.retrieveAccessToken());
+        refresher.retrieveAccessToken();
+
+        verify(executorMock, times(1)).schedule(any(Runnable.class), eq(750000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRefreshedTokenWithoutLifetimeIsScheduledAgainLater() {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS),
+                new AccessTokenResponseDto(SECOND_ACCESS_TOKEN),
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        refresher.retrieveAccessToken();
+        clock.advance(750000);
+        captureScheduledRefresh(1).run();
+        verify(executorMock, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        assertEquals(FIRST_ACCESS_TOKEN, refresher.retrieveAccessToken());
+
+        verify(executorMock, times(2)).schedule(any(Runnable.class), eq(750000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testNoRefreshAfterClose() throws Exception {
+        when(clientCredentialsAccessTokenProviderMock.retrieveAccessTokenResponse()).thenReturn(
+                new AccessTokenResponseDto(FIRST_ACCESS_TOKEN, EXPIRES_IN_SECONDS));
+
+        refresher.retrieveAccessToken();
+        Runnable scheduledRefresh = captureScheduledRefresh(1);
+
+        refresher.close();
+        scheduledRefresh.run();
+
+        verify(clientCredentialsAccessTokenProviderMock, times(1)).retrieveAccessTokenResponse();
+        verify(clientCredentialsAccessTokenProviderMock).close();
+        verify(executorMock, never()).shutdownNow();
+    }
+
+    @Test
+    public void testCreateWithInvalidRatio() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(INVALID_REFRESH_RATIO_MSG);
+
+        new ScheduledAccessTokenRefresher(mock(CachingAccessTokenProvider.class), 1, executorMock);
+    }
+
+    private Runnable captureScheduledRefresh(int scheduleCount) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorMock, times(scheduleCount)).schedule(captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        return captor.getValue();
+    }
+}
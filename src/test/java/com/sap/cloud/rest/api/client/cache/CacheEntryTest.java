@@ -0,0 +1,158 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+public class CacheEntryTest {
+
+    private static final long NOW = 1600000000000L;
+    private static final byte[] BODY = "body".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void maxAgeTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        assertTrue(entry.isFresh(NOW + 59999));
+        assertFalse(entry.isFresh(NOW + 60000));
+    }
+
+    @Test
+    public void maxAgeWithAgeTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CACHE_CONTROL, "public, max-age=60",
+                HttpHeaders.AGE, "50"));
+
+        assertTrue(entry.isFresh(NOW + 9999));
+        assertFalse(entry.isFresh(NOW + 10000));
+    }
+
+    @Test
+    public void expiresTest() {
+        CacheEntry entry = createEntry(createResponse(
+                HttpHeaders.DATE, DateUtils.formatDate(new Date(NOW - 5000)),
+                HttpHeaders.EXPIRES, DateUtils.formatDate(new Date(NOW + 25000))));
+
+        assertTrue(entry.isFresh(NOW + 29000));
+        assertFalse(entry.isFresh(NOW + 30000));
+    }
+
+    @Test
+    public void invalidExpiresTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.EXPIRES, "0"));
+
+        assertFalse(entry.isFresh(NOW));
+    }
+
+    @Test
+    public void maxAgeTakesPrecedenceOverExpiresTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.EXPIRES, DateUtils.formatDate(new Date(NOW - 1000))));
+
+        assertTrue(entry.isFresh(NOW + 1000));
+    }
+
+    @Test
+    public void noCacheTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CACHE_CONTROL, "no-cache, max-age=60",
+                HttpHeaders.ETAG, "\"v1\""));
+
+        assertFalse(entry.isFresh(NOW));
+        assertTrue(entry.isRevalidatable());
+    }
+
+    @Test
+    public void noExplicitFreshnessTest() {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.LAST_MODIFIED,
+                DateUtils.formatDate(new Date(NOW - 1000))));
+
+        assertFalse(entry.isFresh(NOW));
+        assertTrue(entry.isRevalidatable());
+    }
+
+    @Test
+    public void noStoreIsNotStorableTest() {
+        HttpGet request = new HttpGet("https://example.com");
+
+        assertFalse(CacheEntry.isStorable(request, createResponse(HttpHeaders.CACHE_CONTROL, "no-store")));
+        assertFalse(CacheEntry.isStorable(request, createResponse(HttpHeaders.VARY, "*")));
+        request.addHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        assertFalse(CacheEntry.isStorable(request, createResponse(HttpHeaders.CACHE_CONTROL, "max-age=60")));
+    }
+
+    @Test
+    public void varyTest() {
+        HttpGet request = new HttpGet("https://example.com");
+        request.addHeader(HttpHeaders.ACCEPT, "application/json");
+        CacheEntry entry = CacheEntry.create(request, createResponse(HttpHeaders.VARY, "Accept, Accept-Language"),
+                BODY, NOW);
+
+        HttpGet sameRequest = new HttpGet("https://example.com");
+        sameRequest.addHeader("accept", "application/json");
+        HttpGet otherRequest = new HttpGet("https://example.com");
+        otherRequest.addHeader(HttpHeaders.ACCEPT, "application/xml");
+
+        assertTrue(entry.matches(sameRequest));
+        assertFalse(entry.matches(otherRequest));
+    }
+
+    @Test
+    public void revalidateTest() throws IOException {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CACHE_CONTROL, "max-age=10",
+                HttpHeaders.ETAG, "\"v1\"", HttpHeaders.CONTENT_TYPE, "text/plain"));
+        HttpResponse notModified = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_NOT_MODIFIED,
+                "Not Modified");
+        notModified.addHeader(HttpHeaders.CACHE_CONTROL, "max-age=60");
+        notModified.addHeader(HttpHeaders.CONTENT_LENGTH, "0");
+
+        CacheEntry revalidated = entry.revalidate(notModified, NOW + 20000);
+
+        assertTrue(revalidated.isFresh(NOW + 79999));
+        assertFalse(revalidated.isFresh(NOW + 80000));
+        HttpResponse response = revalidated.toHttpResponse();
+        assertEquals(HttpStatus.SC_OK, response.getStatusLine().getStatusCode());
+        assertEquals("\"v1\"", response.getFirstHeader(HttpHeaders.ETAG).getValue());
+        assertEquals("max-age=60", response.getFirstHeader(HttpHeaders.CACHE_CONTROL).getValue());
+        assertEquals(1, response.getHeaders(HttpHeaders.CACHE_CONTROL).length);
+        assertEquals(0, response.getHeaders(HttpHeaders.CONTENT_LENGTH).length);
+        assertArrayEquals(BODY, EntityUtils.toByteArray(response.getEntity()));
+    }
+
+    @Test
+    public void toHttpResponseTest() throws IOException {
+        CacheEntry entry = createEntry(createResponse(HttpHeaders.CONTENT_TYPE, "application/json"));
+
+        HttpResponse first = entry.toHttpResponse();
+        HttpResponse second = entry.toHttpResponse();
+
+        assertEquals("application/json", first.getEntity().getContentType().getValue());
+        assertArrayEquals(BODY, EntityUtils.toByteArray(first.getEntity()));
+        assertArrayEquals(BODY, EntityUtils.toByteArray(second.getEntity()));
+    }
+
+    private static CacheEntry createEntry(HttpResponse response) {
+        return CacheEntry.create(new HttpGet("https://example.com"), response, BODY, NOW);
+    }
+
+    private static HttpResponse createResponse(String... headers) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        for (int i = 0; i < headers.length; i += 2) {
+            response.addHeader(headers[i], headers[i + 1]);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import static com.sap.cloud.rest.api.client.cache.ResponseCacheConfig.DEFAULT_MAX_ENTRIES;
+import static com.sap.cloud.rest.api.client.cache.ResponseCacheConfig.DEFAULT_MAX_ENTRY_SIZE_BYTES;
+import static com.sap.cloud.rest.api.client.cache.ResponseCacheConfig.DEFAULT_MAX_TOTAL_SIZE_BYTES;
+import static com.sap.cloud.rest.api.client.cache.ResponseCacheConfig.INVALID_MAX_ENTRY_SIZE_MSG;
+import static com.sap.cloud.rest.api.client.cache.ResponseCacheConfig.MAX_ENTRIES_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ResponseCacheConfigBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        ResponseCacheConfig config = ResponseCacheConfigBuilder.getBuilder().build();
+
+        assertEquals(DEFAULT_MAX_ENTRIES, config.getMaxEntries());
+        assertEquals(DEFAULT_MAX_ENTRY_SIZE_BYTES, config.getMaxEntrySizeBytes());
+        assertEquals(DEFAULT_MAX_TOTAL_SIZE_BYTES, config.getMaxTotalSizeBytes());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        ResponseCacheConfig config = ResponseCacheConfigBuilder.getBuilder()
+                .maxEntries(10)
+                .maxEntrySize(100)
+                .maxTotalSize(500)
+                .build();
+
+        assertEquals(10, config.getMaxEntries());
+        assertEquals(100, config.getMaxEntrySizeBytes());
+        assertEquals(500, config.getMaxTotalSizeBytes());
+    }
+
+    @Test
+    public void buildWithZeroMaxEntriesTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_ENTRIES_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        ResponseCacheConfigBuilder.getBuilder().maxEntries(0).build();
+    }
+
+    @Test
+    public void buildWithEntrySizeGreaterThanTotalSizeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_MAX_ENTRY_SIZE_MSG, "200", "100"));
+
+        ResponseCacheConfigBuilder.getBuilder().maxEntrySize(200).maxTotalSize(100).build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.sap.cloud.rest.api.client.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class ResponseCacheTest {
+
+    private static final String TEST_URI = "https://example.com/entities";
+    private static final String TEST_BODY = "body";
+    private static final String TEST_ETAG = "\"v1\"";
+
+    private MutableClock clock;
+    private ResponseCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock(1600000000000L);
+        cache = new ResponseCache(ResponseCacheConfigBuilder.getBuilder()
+                .maxEntries(3)
+                .maxEntrySize(10)
+                .maxTotalSize(20)
+                .build(), clock);
+    }
+
+    @Test
+    public void freshResponseIsServedFromCacheTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        clock.advance(59000);
+
+        CacheLookup lookup = cache.lookup(new HttpGet(TEST_URI));
+
+        HttpResponse cached = lookup.getFreshResponse();
+        assertNotNull(cached);
+        assertEquals(TEST_BODY, EntityUtils.toString(cached.getEntity()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void staleResponseIsRevalidatedTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.ETAG, TEST_ETAG, HttpHeaders.LAST_MODIFIED, "Tue, 15 Nov 1994 12:45:26 GMT"));
+        clock.advance(60000);
+
+        CacheLookup lookup = cache.lookup(new HttpGet(TEST_URI));
+
+        assertNull(lookup.getFreshResponse());
+        Header[] conditionalHeaders = lookup.getConditionalHeaders();
+        assertEquals(2, conditionalHeaders.length);
+        assertEquals(HttpHeaders.IF_NONE_MATCH, conditionalHeaders[0].getName());
+        assertEquals(TEST_ETAG, conditionalHeaders[0].getValue());
+        assertEquals(HttpHeaders.IF_MODIFIED_SINCE, conditionalHeaders[1].getName());
+
+        HttpResponse response = lookup.onResponse(createResponse(null, HttpStatus.SC_NOT_MODIFIED));
+
+        assertEquals(HttpStatus.SC_OK, response.getStatusLine().getStatusCode());
+        assertEquals(TEST_BODY, EntityUtils.toString(response.getEntity()));
+        assertEquals(1, cache.getHitCount());
+        assertNotNull(cache.lookup(new HttpGet(TEST_URI)).getFreshResponse());
+    }
+
+    @Test
+    public void changedResponseReplacesCachedResponseTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.ETAG, TEST_ETAG));
+
+        CacheLookup lookup = cache.lookup(new HttpGet(TEST_URI));
+        HttpResponse response = lookup.onResponse(createResponse("changed", HttpHeaders.ETAG, "\"v2\""));
+
+        assertEquals("changed", EntityUtils.toString(response.getEntity()));
+        assertEquals("\"v2\"", cache.lookup(new HttpGet(TEST_URI)).getConditionalHeaders()[0].getValue());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void responseWithoutFreshnessAndValidatorsIsNotStoredTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY));
+
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void noStoreResponseIsNotStoredTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void errorResponseIsNotStoredTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpStatus.SC_INTERNAL_SERVER_ERROR,
+                HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void noCacheRequestRevalidatesFreshResponseTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.ETAG, TEST_ETAG));
+        HttpGet request = new HttpGet(TEST_URI);
+        request.addHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        CacheLookup lookup = cache.lookup(request);
+
+        assertNull(lookup.getFreshResponse());
+        assertEquals(1, lookup.getConditionalHeaders().length);
+    }
+
+    @Test
+    public void requestsWhichBypassTheCacheTest() {
+        HttpGet conditionalRequest = new HttpGet(TEST_URI);
+        conditionalRequest.addHeader(HttpHeaders.IF_NONE_MATCH, TEST_ETAG);
+        HttpGet noStoreRequest = new HttpGet(TEST_URI);
+        noStoreRequest.addHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        assertSame(CacheLookup.NONE, cache.lookup(conditionalRequest));
+        assertSame(CacheLookup.NONE, cache.lookup(noStoreRequest));
+        assertSame(CacheLookup.NONE, cache.lookup(new HttpHead(TEST_URI)));
+    }
+
+    @Test
+    public void successfulUnsafeRequestInvalidatesTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        exchange(new HttpPut(TEST_URI), createResponse(null, HttpStatus.SC_BAD_REQUEST));
+        assertEquals(1, cache.getEntryCount());
+
+        exchange(new HttpPut(TEST_URI), createResponse(null, HttpStatus.SC_NO_CONTENT));
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getTotalSizeBytes());
+    }
+
+    @Test
+    public void leastRecentlyUsedResponsesAreEvictedTest() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            exchange(new HttpGet(TEST_URI + i), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        }
+        cache.lookup(new HttpGet(TEST_URI + 0));
+
+        exchange(new HttpGet(TEST_URI + 3), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        assertEquals(3, cache.getEntryCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.lookup(new HttpGet(TEST_URI + 0)).getFreshResponse());
+        assertNull(cache.lookup(new HttpGet(TEST_URI + 1)).getFreshResponse());
+    }
+
+    @Test
+    public void totalSizeIsBoundedTest() throws IOException {
+        exchange(new HttpGet(TEST_URI + 0), createResponse("0123456789", HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        exchange(new HttpGet(TEST_URI + 1), createResponse("0123456789", HttpHeaders.CACHE_CONTROL, "max-age=60"));
+        exchange(new HttpGet(TEST_URI + 2), createResponse("01234", HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(15, cache.getTotalSizeBytes());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void largeResponseIsNotStoredTest() throws IOException {
+        String body = "0123456789ABCDEF";
+        HttpResponse response = createResponse(null, HttpHeaders.CACHE_CONTROL, "max-age=60");
+        response.setEntity(new InputStreamEntity(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+
+        HttpResponse handled = cache.lookup(new HttpGet(TEST_URI)).onResponse(response);
+
+        assertEquals(body, EntityUtils.toString(handled.getEntity()));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void clearTest() throws IOException {
+        exchange(new HttpGet(TEST_URI), createResponse(TEST_BODY, HttpHeaders.CACHE_CONTROL, "max-age=60"));
+
+        cache.clear();
+
+        assertEquals(0, cache.getEntryCount());
+        assertTrue(cache.lookup(new HttpGet(TEST_URI)).getFreshResponse() == null);
+    }
+
+    private HttpResponse exchange(HttpUriRequest request, HttpResponse response) throws IOException {
+        return cache.lookup(request).onResponse(response);
+    }
+
+    private static HttpResponse createResponse(String body, String... headers) {
+        return createResponse(body, HttpStatus.SC_OK, headers);
+    }
+
+    private static HttpResponse createResponse(String body, int statusCode, String... headers) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, null);
+        for (int i = 0; i < headers.length; i += 2) {
+            response.addHeader(headers[i], headers[i + 1]);
+        }
+        if (body != null) {
+            response.setEntity(new StringEntity(body, StandardCharsets.UTF_8));
+        }
+        return response;
+    }
+}
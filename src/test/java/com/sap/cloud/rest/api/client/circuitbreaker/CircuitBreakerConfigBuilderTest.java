@@ -0,0 +1,97 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_FAILURE_RATE_THRESHOLD;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_FAILURE_STATUS_CODES;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_MINIMUM_CALLS;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_SLIDING_WINDOW_SIZE;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_SLOW_CALL_DURATION_MILLIS;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.FAILURE_RATE_THRESHOLD_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.INVALID_MINIMUM_CALLS_MSG;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.INVALID_RATE_THRESHOLD_MSG;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig.PERMITTED_CALLS_IN_HALF_OPEN_STATE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CircuitBreakerConfigBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        CircuitBreakerConfig config = CircuitBreakerConfigBuilder.getBuilder().build();
+
+        assertTrue(config.isEnabled());
+        assertEquals(DEFAULT_FAILURE_RATE_THRESHOLD, config.getFailureRateThreshold(), 0);
+        assertEquals(DEFAULT_SLOW_CALL_RATE_THRESHOLD, config.getSlowCallRateThreshold(), 0);
+        assertEquals(DEFAULT_SLOW_CALL_DURATION_MILLIS, config.getSlowCallDurationMillis());
+        assertEquals(DEFAULT_SLIDING_WINDOW_SIZE, config.getSlidingWindowSize());
+        assertEquals(DEFAULT_MINIMUM_CALLS, config.getMinimumCalls());
+        assertEquals(DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MILLIS, config.getWaitDurationInOpenStateMillis());
+        assertEquals(DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE, config.getPermittedCallsInHalfOpenState());
+        assertEquals(DEFAULT_FAILURE_STATUS_CODES, config.getFailureStatusCodes());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        CircuitBreakerConfig config = CircuitBreakerConfigBuilder.getBuilder()
+                .failureRateThreshold(25)
+                .slowCallRateThreshold(80, 2000)
+                .slidingWindow(50, 10)
+                .waitDurationInOpenState(5000)
+                .permittedCallsInHalfOpenState(3)
+                .failureStatusCodes(503)
+                .build();
+
+        assertEquals(25, config.getFailureRateThreshold(), 0);
+        assertEquals(80, config.getSlowCallRateThreshold(), 0);
+        assertEquals(2000, config.getSlowCallDurationMillis());
+        assertEquals(50, config.getSlidingWindowSize());
+        assertEquals(10, config.getMinimumCalls());
+        assertEquals(5000, config.getWaitDurationInOpenStateMillis());
+        assertEquals(3, config.getPermittedCallsInHalfOpenState());
+        assertEquals(new HashSet<>(Arrays.asList(503)), config.getFailureStatusCodes());
+    }
+
+    @Test
+    public void disabledTest() {
+        assertFalse(CircuitBreakerConfig.disabled().isEnabled());
+    }
+
+    @Test
+    public void buildWithInvalidFailureRateThresholdTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_RATE_THRESHOLD_MSG, FAILURE_RATE_THRESHOLD_DISPLAY_NAME, 101));
+
+        CircuitBreakerConfigBuilder.getBuilder().failureRateThreshold(101).build();
+    }
+
+    @Test
+    public void buildWithMinimumCallsGreaterThanWindowTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_MINIMUM_CALLS_MSG, 20, 10));
+
+        CircuitBreakerConfigBuilder.getBuilder().slidingWindow(10, 20).build();
+    }
+
+    @Test
+    public void buildWithZeroPermittedCallsInHalfOpenStateTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(PERMITTED_CALLS_IN_HALF_OPEN_STATE_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        CircuitBreakerConfigBuilder.getBuilder().permittedCallsInHalfOpenState(0).build();
+    }
+}
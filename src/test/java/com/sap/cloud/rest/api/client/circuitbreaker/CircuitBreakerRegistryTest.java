@@ -0,0 +1,63 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerRegistry.CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerRegistry.UNKNOWN_ROUTE;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URI;
+
+import org.apache.http.client.methods.RequestBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CircuitBreakerRegistryTest {
+
+    private final CircuitBreakerRegistry registry = new CircuitBreakerRegistry(
+            CircuitBreakerConfigBuilder.getBuilder().build());
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void sameRouteSharesCircuitBreakerTest() {
+        CircuitBreaker circuitBreaker = registry.getCircuitBreaker(RequestBuilder.get("https://example.com/a").build());
+
+        assertSame(circuitBreaker, registry.getCircuitBreaker(RequestBuilder.post("https://EXAMPLE.com/b").build()));
+        assertEquals("https://example.com", circuitBreaker.getRoute());
+    }
+
+    @Test
+    public void differentRoutesHaveOwnCircuitBreakersTest() {
+        CircuitBreaker circuitBreaker = registry.getCircuitBreaker(RequestBuilder.get("https://example.com").build());
+
+        assertNotSame(circuitBreaker, registry.getCircuitBreaker(RequestBuilder.get("https://example.org").build()));
+        assertNotSame(circuitBreaker,
+                registry.getCircuitBreaker(RequestBuilder.get("https://example.com:8443").build()));
+    }
+
+    @Test
+    public void disabledRegistryReturnsSharedCircuitBreakerTest() {
+        CircuitBreakerRegistry disabledRegistry = new CircuitBreakerRegistry(CircuitBreakerConfig.disabled());
+
+        assertSame(disabledRegistry.getCircuitBreaker(RequestBuilder.get("https://example.com").build()),
+                disabledRegistry.getCircuitBreaker(RequestBuilder.get("https://example.org").build()));
+    }
+
+    @Test
+    public void getRouteTest() {
+        assertEquals("http://example.com:8080", CircuitBreakerRegistry.getRoute(URI.create("http://example.com:8080/a?b")));
+        assertEquals(UNKNOWN_ROUTE, CircuitBreakerRegistry.getRoute(URI.create("/relative")));
+    }
+
+    @Test
+    public void createWithNullConfigTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CIRCUIT_BREAKER_CONFIG_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new CircuitBreakerRegistry(null);
+    }
+}
@@ -0,0 +1,230 @@
+package com.sap.cloud.rest.api.client.circuitbreaker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreaker.Permission;
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class CircuitBreakerTest {
+
+    private static final String TEST_ROUTE = "https://example.com";
+    private static final long WAIT_DURATION_MILLIS = 1000;
+
+    private final MutableClock clock = new MutableClock(0);
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(TEST_ROUTE, CircuitBreakerConfigBuilder
+            .getBuilder()
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(50, 100)
+            .slidingWindow(10, 4)
+            .waitDurationInOpenState(WAIT_DURATION_MILLIS)
+            .permittedCallsInHalfOpenState(2)
+            .build(), clock);
+
+    @Test
+    public void closedByDefaultTest() {
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertNotNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void opensOnFailureRateTest() {
+        recordSuccesses(2);
+        circuitBreaker.tryAcquirePermission().onResponse(503, 0);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.tryAcquirePermission().onException(0);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void opensOnSlowCallRateTest() {
+        recordSuccesses(2);
+        circuitBreaker.tryAcquirePermission().onResponse(200, 100);
+        circuitBreaker.tryAcquirePermission().onResponse(200, 150);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void staysClosedBelowMinimumCallsTest() {
+        recordFailures(3);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void staysClosedOnOtherStatusCodesTest() {
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.tryAcquirePermission().onResponse(404, 0);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void slidingWindowForgetsOldestCallsTest() {
+        recordSuccesses(6);
+        recordFailures(4);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+
+        recordFailures(1);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void halfOpensAfterWaitDurationTest() {
+        open();
+
+        clock.advance(WAIT_DURATION_MILLIS - 1);
+        assertNull(circuitBreaker.tryAcquirePermission());
+
+        clock.advance(1);
+        assertNotNull(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void halfOpenPermitsLimitedProbesTest() {
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+
+        Permission permission = circuitBreaker.tryAcquirePermission();
+        assertNotNull(permission);
+        assertNotNull(circuitBreaker.tryAcquirePermission());
+        assertNull(circuitBreaker.tryAcquirePermission());
+
+        permission.release();
+
+        assertNotNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void closesAfterSuccessfulProbesTest() {
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+
+        Permission first = circuitBreaker.tryAcquirePermission();
+        Permission second = circuitBreaker.tryAcquirePermission();
+        first.onResponse(200, 0);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+        second.onResponse(200, 0);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        recordFailures(3);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void reopensAfterFailedProbesTest() {
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+
+        Permission first = circuitBreaker.tryAcquirePermission();
+        Permission second = circuitBreaker.tryAcquirePermission();
+        first.onResponse(200, 0);
+        second.onException(0);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertNull(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void dropsOutcomesPermittedBeforeOpeningTest() {
+        Permission slowCall = circuitBreaker.tryAcquirePermission();
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+        Permission probe = circuitBreaker.tryAcquirePermission();
+
+        slowCall.onException(0);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+
+        slowCall.release();
+        assertNotNull(circuitBreaker.tryAcquirePermission());
+        assertNull(circuitBreaker.tryAcquirePermission());
+
+        probe.onResponse(200, 0);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void dropsOutcomesPermittedBeforeClosingTest() {
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+        Permission first = circuitBreaker.tryAcquirePermission();
+        Permission second = circuitBreaker.tryAcquirePermission();
+        first.onResponse(200, 0);
+        second.onResponse(200, 0);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+
+        first.onException(0);
+        second.onException(0);
+        recordFailures(3);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void disabledCircuitBreakerAlwaysPermitsTest() {
+        CircuitBreaker disabled = new CircuitBreaker(TEST_ROUTE, CircuitBreakerConfig.disabled(), clock);
+
+        for (int i = 0; i < 1000; i++) {
+            disabled.tryAcquirePermission().onException(0);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, disabled.getState());
+        assertNotNull(disabled.tryAcquirePermission());
+    }
+
+    @Test
+    public void concurrentProbesTest() throws Exception {
+        open();
+        clock.advance(WAIT_DURATION_MILLIS);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> permissions = new ArrayList<>();
+            Callable<Boolean> acquire = () -> circuitBreaker.tryAcquirePermission() != null;
+            for (int i = 0; i < 100; i++) {
+                permissions.add(executor.submit(acquire));
+            }
+
+            int granted = 0;
+            for (Future<Boolean> permission : permissions) {
+                granted += permission.get() ? 1 : 0;
+            }
+            assertEquals(2, granted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void open() {
+        recordFailures(4);
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+    }
+
+    private void recordSuccesses(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.tryAcquirePermission().onResponse(200, 0);
+        }
+    }
+
+    private void recordFailures(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.tryAcquirePermission().onException(0);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.compression.CompressingEntity.CONTENT_ENCODING_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompressingEntityTest {
+
+    private static final String CONTENT = "{\"name\":\"value\"}";
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void headersTest() {
+        HttpEntity entity = new CompressingEntity(new StringEntity(CONTENT, ContentType.APPLICATION_JSON),
+                ContentEncoding.GZIP);
+
+        assertEquals(HTTP.CONTENT_ENCODING, entity.getContentEncoding().getName());
+        assertEquals("gzip", entity.getContentEncoding().getValue());
+        assertEquals(ContentType.APPLICATION_JSON.toString(), entity.getContentType().getValue());
+        assertEquals(-1, entity.getContentLength());
+        assertTrue(entity.isChunked());
+        assertTrue(entity.isRepeatable());
+    }
+
+    @Test
+    public void writeToWithGzipTest() throws IOException {
+        byte[] content = createContent(100_000);
+
+        byte[] compressed = writeTo(new CompressingEntity(new ByteArrayEntity(content), ContentEncoding.GZIP));
+
+        assertTrue(compressed.length < content.length);
+        assertArrayEquals(content, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void writeToWithDeflateTest() throws IOException {
+        byte[] content = createContent(100_000);
+
+        byte[] compressed = writeTo(new CompressingEntity(new ByteArrayEntity(content), ContentEncoding.DEFLATE));
+
+        assertTrue(compressed.length < content.length);
+        assertArrayEquals(content, readAll(new InflaterInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void writeToRepeatedlyTest() throws IOException {
+        HttpEntity entity = new CompressingEntity(new StringEntity(CONTENT, StandardCharsets.UTF_8),
+                ContentEncoding.GZIP);
+
+        assertArrayEquals(writeTo(entity), writeTo(entity));
+    }
+
+    @Test
+    public void getContentWithGzipTest() throws IOException {
+        byte[] content = createContent(100_000);
+
+        byte[] compressed = EntityUtils.toByteArray(new CompressingEntity(new ByteArrayEntity(content),
+                ContentEncoding.GZIP));
+
+        assertArrayEquals(content, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void getContentWithDeflateTest() throws IOException {
+        byte[] content = createContent(100_000);
+
+        byte[] compressed = EntityUtils.toByteArray(new CompressingEntity(new ByteArrayEntity(content),
+                ContentEncoding.DEFLATE));
+
+        assertArrayEquals(content, readAll(new InflaterInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void getContentOfEmptyEntityTest() throws IOException {
+        byte[] compressed = EntityUtils.toByteArray(new CompressingEntity(new ByteArrayEntity(new byte[0]),
+                ContentEncoding.GZIP));
+
+        assertArrayEquals(new byte[0], readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void getContentReadBytewiseTest() throws IOException {
+        HttpEntity entity = new CompressingEntity(new StringEntity(CONTENT, StandardCharsets.UTF_8),
+                ContentEncoding.GZIP);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (InputStream content = entity.getContent()) {
+            for (int b = content.read(); b >= 0; b = content.read()) {
+                compressed.write(b);
+            }
+        }
+
+        assertArrayEquals(CONTENT.getBytes(StandardCharsets.UTF_8),
+                readAll(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+    }
+
+    @Test
+    public void createWithNullEncodingTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CONTENT_ENCODING_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new CompressingEntity(new StringEntity(CONTENT, StandardCharsets.UTF_8), null);
+    }
+
+    private static byte[] createContent(int length) {
+        StringBuilder content = new StringBuilder(length);
+        Random random = new Random(42);
+        while (content.length() < length) {
+            content.append("{\"id\":").append(random.nextInt(1000)).append(",\"name\":\"entity\"},");
+        }
+        return content.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] writeTo(HttpEntity entity) throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        entity.writeTo(outStream);
+        return outStream.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream inStream) throws IOException {
+        try (InputStream content = inStream) {
+            ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = content.read(buffer); read >= 0; read = content.read(buffer)) {
+                outStream.write(buffer, 0, read);
+            }
+            return outStream.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.compression.CompressionPolicy.CONTENT_ENCODING_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.compression.CompressionPolicy.DEFAULT_CONTENT_ENCODING;
+import static com.sap.cloud.rest.api.client.compression.CompressionPolicy.DEFAULT_MIN_SIZE_BYTES;
+import static com.sap.cloud.rest.api.client.compression.CompressionPolicy.MIN_SIZE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompressionPolicyBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        CompressionPolicy policy = CompressionPolicyBuilder.getBuilder().build();
+
+        assertTrue(policy.isEnabled());
+        assertEquals(DEFAULT_CONTENT_ENCODING, policy.getContentEncoding());
+        assertEquals(DEFAULT_MIN_SIZE_BYTES, policy.getMinSizeBytes());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        CompressionPolicy policy = CompressionPolicyBuilder.getBuilder()
+                .contentEncoding(ContentEncoding.DEFLATE)
+                .minSize(10)
+                .build();
+
+        assertEquals(ContentEncoding.DEFLATE, policy.getContentEncoding());
+        assertEquals(10, policy.getMinSizeBytes());
+    }
+
+    @Test
+    public void buildWithNullEncodingTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CONTENT_ENCODING_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        CompressionPolicyBuilder.getBuilder().contentEncoding(null).build();
+    }
+
+    @Test
+    public void buildWithNegativeMinSizeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MIN_SIZE_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        CompressionPolicyBuilder.getBuilder().minSize(-1).build();
+    }
+
+    @Test
+    public void shouldCompressTest() {
+        CompressionPolicy policy = CompressionPolicyBuilder.getBuilder().minSize(5).build();
+
+        assertTrue(policy.shouldCompress(createPost("12345")));
+        assertFalse(policy.shouldCompress(createPost("1234")));
+        assertFalse(policy.shouldCompress(new HttpPost("http://localhost")));
+        assertFalse(policy.shouldCompress(new HttpGet("http://localhost")));
+        assertFalse(CompressionPolicy.disabled().shouldCompress(createPost("12345")));
+    }
+
+    @Test
+    public void shouldNotCompressEncodedEntityTest() {
+        CompressionPolicy policy = CompressionPolicyBuilder.getBuilder().minSize(0).build();
+        HttpPost compressed = new HttpPost("http://localhost");
+        compressed.setEntity(new CompressingEntity(new StringEntity("12345", StandardCharsets.UTF_8),
+                ContentEncoding.GZIP));
+        HttpPost encoded = createPost("12345");
+        encoded.addHeader(HttpHeaders.CONTENT_ENCODING, "br");
+        HttpPost streamed = new HttpPost("http://localhost");
+        streamed.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[10])));
+
+        assertFalse(policy.shouldCompress(compressed));
+        assertFalse(policy.shouldCompress(encoded));
+        assertFalse(policy.shouldCompress(streamed));
+        assertFalse(policy.shouldCompress(createPost("")));
+    }
+
+    private static HttpPost createPost(String body) {
+        HttpPost post = new HttpPost("http://localhost");
+        post.setEntity(new StringEntity(body, StandardCharsets.UTF_8));
+        return post;
+    }
+}
@@ -0,0 +1,260 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.compression.DecompressingEntity.CONTENT_ENCODING_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.compression.DecompressingEntity.MAX_DECOMPRESSED_SIZE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.compression.DecompressingInputStream.MAX_DECOMPRESSED_SIZE_EXCEEDED_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DecompressingEntityTest {
+
+    private static final String CONTENT = "{\"name\":\"value\"}";
+    private static final long MAX_SIZE = 1_000_000;
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void decompressGzipTest() throws IOException {
+        byte[] content = createContent(100_000);
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(compress(content, ContentEncoding.GZIP)),
+                ContentEncoding.GZIP, MAX_SIZE);
+
+        assertNull(entity.getContentEncoding());
+        assertEquals(-1, entity.getContentLength());
+        assertArrayEquals(content, EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    public void decompressDeflateTest() throws IOException {
+        byte[] content = createContent(100_000);
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(compress(content, ContentEncoding.DEFLATE)),
+                ContentEncoding.DEFLATE, MAX_SIZE);
+
+        assertArrayEquals(content, EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    public void decompressRawDeflateTest() throws IOException {
+        byte[] content = createContent(100_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (DeflaterOutputStream outStream = new DeflaterOutputStream(compressed, deflater)) {
+            outStream.write(content);
+        } finally {
+            deflater.end();
+        }
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(compressed.toByteArray()),
+                ContentEncoding.DEFLATE, MAX_SIZE);
+
+        assertArrayEquals(content, EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    public void decompressEmptyContentTest() throws IOException {
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(new byte[0]), ContentEncoding.GZIP,
+                MAX_SIZE);
+
+        assertArrayEquals(new byte[0], EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    public void writeToTest() throws IOException {
+        byte[] content = createContent(10_000);
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(compress(content, ContentEncoding.GZIP)),
+                ContentEncoding.GZIP, MAX_SIZE);
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        entity.writeTo(outStream);
+
+        assertArrayEquals(content, outStream.toByteArray());
+    }
+
+    @Test
+    public void streamedContentIsReturnedOnceTest() throws IOException {
+        byte[] compressed = compress(CONTENT.getBytes(StandardCharsets.UTF_8), ContentEncoding.GZIP);
+        HttpEntity entity = new DecompressingEntity(new InputStreamEntity(new ByteArrayInputStream(compressed)),
+                ContentEncoding.GZIP, MAX_SIZE);
+
+        assertSame(entity.getContent(), entity.getContent());
+    }
+
+    @Test
+    public void byteCountsTest() throws IOException {
+        byte[] content = createContent(100_000);
+        byte[] compressed = compress(content, ContentEncoding.GZIP);
+        DecompressingEntity entity = new DecompressingEntity(new ByteArrayEntity(compressed), ContentEncoding.GZIP,
+                MAX_SIZE);
+
+        assertEquals(0, entity.getCompressedBytes());
+        assertEquals(0, entity.getDecompressedBytes());
+
+        EntityUtils.toByteArray(entity);
+
+        assertEquals(compressed.length, entity.getCompressedBytes());
+        assertEquals(content.length, entity.getDecompressedBytes());
+    }
+
+    @Test
+    public void maxDecompressedSizeExceededTest() throws IOException {
+        byte[] compressed = compress(new byte[10_000_000], ContentEncoding.GZIP);
+        DecompressingEntity entity = new DecompressingEntity(new ByteArrayEntity(compressed), ContentEncoding.GZIP,
+                MAX_SIZE);
+
+        expected.expect(IOException.class);
+        expected.expectMessage(format(MAX_DECOMPRESSED_SIZE_EXCEEDED_MSG, String.valueOf(MAX_SIZE)));
+
+        try (InputStream content = entity.getContent()) {
+            byte[] buffer = new byte[4096];
+            while (content.read(buffer) >= 0) {
+                assertTrue(entity.getDecompressedBytes() <= MAX_SIZE);
+            }
+        }
+    }
+
+    @Test
+    public void maxDecompressedSizeExceededReadBytewiseTest() throws IOException {
+        byte[] content = createContent(1000);
+        DecompressingEntity entity = new DecompressingEntity(
+                new ByteArrayEntity(compress(content, ContentEncoding.GZIP)), ContentEncoding.GZIP,
+                content.length - 1);
+
+        expected.expect(IOException.class);
+        expected.expectMessage(format(MAX_DECOMPRESSED_SIZE_EXCEEDED_MSG, String.valueOf(content.length - 1)));
+
+        try (InputStream stream = entity.getContent()) {
+            for (int i = 0; i < content.length - 1; i++) {
+                assertEquals(content[i] & 0xff, stream.read());
+            }
+            stream.read();
+        }
+    }
+
+    @Test
+    public void maxDecompressedSizeReachedTest() throws IOException {
+        byte[] content = createContent(1000);
+        HttpEntity entity = new DecompressingEntity(new ByteArrayEntity(compress(content, ContentEncoding.GZIP)),
+                ContentEncoding.GZIP, content.length);
+
+        assertArrayEquals(content, EntityUtils.toByteArray(entity));
+    }
+
+    @Test
+    public void decompressResponseTest() throws IOException {
+        byte[] compressed = compress(CONTENT.getBytes(StandardCharsets.UTF_8), ContentEncoding.GZIP);
+        HttpResponse response = createResponse(new ByteArrayEntity(compressed), "x-gzip");
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(compressed.length));
+
+        DecompressingEntity.decompress(response, MAX_SIZE);
+
+        assertTrue(response.getEntity() instanceof DecompressingEntity);
+        assertEquals(ContentEncoding.GZIP, ((DecompressingEntity) response.getEntity()).getEncoding());
+        assertFalse(response.containsHeader(HttpHeaders.CONTENT_ENCODING));
+        assertFalse(response.containsHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals(CONTENT, EntityUtils.toString(response.getEntity()));
+    }
+
+    @Test
+    public void decompressResponseWithNewMaxSizeTest() throws IOException {
+        byte[] compressed = compress(CONTENT.getBytes(StandardCharsets.UTF_8), ContentEncoding.DEFLATE);
+        HttpResponse response = createResponse(new ByteArrayEntity(compressed), "deflate");
+
+        DecompressingEntity.decompress(response, MAX_SIZE);
+        DecompressingEntity.decompress(response, 100);
+
+        assertEquals(100, ((DecompressingEntity) response.getEntity()).getMaxDecompressedSizeBytes());
+        assertEquals(CONTENT, EntityUtils.toString(response.getEntity()));
+    }
+
+    @Test
+    public void decompressResponseWithUnsupportedEncodingTest() {
+        StringEntity entity = new StringEntity(CONTENT, StandardCharsets.UTF_8);
+        HttpResponse response = createResponse(entity, "br");
+
+        DecompressingEntity.decompress(response, MAX_SIZE);
+
+        assertSame(entity, response.getEntity());
+        assertTrue(response.containsHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void decompressUncompressedResponseTest() {
+        HttpEntity entity = new StringEntity(CONTENT, StandardCharsets.UTF_8);
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setEntity(entity);
+
+        DecompressingEntity.decompress(response, MAX_SIZE);
+
+        assertSame(entity, response.getEntity());
+    }
+
+    @Test
+    public void createWithNullEncodingTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CONTENT_ENCODING_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new DecompressingEntity(new ByteArrayEntity(new byte[0]), null, MAX_SIZE);
+    }
+
+    @Test
+    public void createWithZeroMaxSizeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_DECOMPRESSED_SIZE_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        new DecompressingEntity(new ByteArrayEntity(new byte[0]), ContentEncoding.GZIP, 0);
+    }
+
+    private static HttpResponse createResponse(AbstractHttpEntity entity, String contentEncoding) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        entity.setContentEncoding(contentEncoding);
+        response.setEntity(entity);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        return response;
+    }
+
+    private static byte[] compress(byte[] content, ContentEncoding contentEncoding) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new CompressingEntity(new ByteArrayEntity(content), contentEncoding).writeTo(compressed);
+        return compressed.toByteArray();
+    }
+
+    private static byte[] createContent(int length) {
+        StringBuilder content = new StringBuilder(length);
+        Random random = new Random(42);
+        while (content.length() < length) {
+            content.append("{\"id\":").append(random.nextInt(1000)).append(",\"name\":\"entity\"},");
+        }
+        return content.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sap.cloud.rest.api.client.compression;
+
+import static com.sap.cloud.rest.api.client.compression.DecompressingEntity.MAX_DECOMPRESSED_SIZE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ResponseDecompressionInterceptorTest {
+
+    private static final String CONTENT = "{\"name\":\"value\"}";
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void processTest() throws IOException {
+        HttpResponse response = createGzipResponse();
+
+        new ResponseDecompressionInterceptor(100).process(response, new BasicHttpContext());
+
+        DecompressingEntity entity = (DecompressingEntity) response.getEntity();
+        assertEquals(100, entity.getMaxDecompressedSizeBytes());
+        assertEquals(CONTENT, EntityUtils.toString(entity));
+    }
+
+    @Test
+    public void processWithDefaultMaxSizeTest() throws IOException {
+        HttpResponse response = createGzipResponse();
+
+        new ResponseDecompressionInterceptor().process(response, new BasicHttpContext());
+
+        assertTrue(response.getEntity() instanceof DecompressingEntity);
+        assertEquals(DecompressingEntity.DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES,
+                ((DecompressingEntity) response.getEntity()).getMaxDecompressedSizeBytes());
+    }
+
+    @Test
+    public void createWithNegativeMaxSizeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_DECOMPRESSED_SIZE_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        new ResponseDecompressionInterceptor(-1);
+    }
+
+    private static HttpResponse createGzipResponse() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new CompressingEntity(new StringEntity(CONTENT, StandardCharsets.UTF_8), ContentEncoding.GZIP)
+                .writeTo(compressed);
+        ByteArrayEntity entity = new ByteArrayEntity(compressed.toByteArray());
+        entity.setContentEncoding(ContentEncoding.GZIP.getName());
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setEntity(entity);
+        return response;
+    }
+}
@@ -2,6 +2,9 @@ package com.sap.cloud.rest.api.client.config;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -17,6 +20,7 @@ import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.protocol.BasicHttpContext;
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.cloud.rest.api.client.auth.AuthenticationType;
 import com.sap.cloud.rest.api.client.auth.basic.BasicAuthentication;
 import com.sap.cloud.rest.api.client.auth.cert.ClientCertAuthentication;
@@ -25,9 +29,25 @@ import com.sap.cloud.rest.api.client.auth.cert.KeystoreConfigBuilder;
 import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig;
+import com.sap.cloud.rest.api.client.cache.ResponseCache;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfig;
+import com.sap.cloud.rest.api.client.circuitbreaker.CircuitBreakerConfigBuilder;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicy;
+import com.sap.cloud.rest.api.client.compression.CompressionPolicyBuilder;
+import com.sap.cloud.rest.api.client.compression.DecompressingEntity;
 import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
 import com.sap.cloud.rest.api.client.config.RestApiClientConfigBuilder;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfig;
+import com.sap.cloud.rest.api.client.http.ConnectionPoolConfigBuilder;
 import com.sap.cloud.rest.api.client.http.Proxy;
+import com.sap.cloud.rest.api.client.http.SharedConnectionPool;
+import com.sap.cloud.rest.api.client.http.TimeoutConfig;
+import com.sap.cloud.rest.api.client.http.TimeoutConfigBuilder;
+import com.sap.cloud.rest.api.client.metrics.HistogramMetricsListener;
+import com.sap.cloud.rest.api.client.metrics.MetricsListener;
+import com.sap.cloud.rest.api.client.retry.RetryPolicy;
+import com.sap.cloud.rest.api.client.retry.RetryPolicyBuilder;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
 
 public class RestApiClientConfigBuilderTest {
 
@@ -104,6 +124,15 @@ public class RestApiClientConfigBuilderTest {
         assertEquals(AuthenticationType.CLIENT_CERT, authentication.getAuthenticationType());
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void buildWithClientCertAuthAndSharedConnectionPoolTest() {
+        RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .clientCertAuthentication(TEST_KEYSTORE_CONFIG)
+                .sharedConnectionPool(new SharedConnectionPool())
+                .build();
+    }
+
     @Test
     public void buildWithOAuthTest() {
         OAuthServerConfig oAuthServerConfig = new OAuthServerConfig(TEST_OAUTH_SERVER_URL, TEST_CLIENT_ID,
@@ -226,6 +255,197 @@ public class RestApiClientConfigBuilderTest {
         assertEquals(TEST_HOST_WITH_PORT, config.getHost());
     }
 
+    @Test
+    public void buildWithConnectionPoolTest() {
+        ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfigBuilder.getBuilder()
+                .maxTotal(500)
+                .build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .connectionPool(connectionPoolConfig)
+                .build();
+
+        assertEquals(connectionPoolConfig, config.getConnectionPoolConfig());
+    }
+
+    @Test
+    public void buildWithDefaultConnectionPoolTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertEquals(new ConnectionPoolConfig().getMaxTotal(), config.getConnectionPoolConfig().getMaxTotal());
+    }
+
+    @Test
+    public void buildWithObjectMapperTest() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .objectMapper(objectMapper)
+                .build();
+
+        assertSame(objectMapper, config.getObjectMapperRegistry().getObjectMapper());
+    }
+
+    @Test
+    public void buildWithDefaultObjectMapperTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertSame(ObjectMapperRegistry.getDefault(), config.getObjectMapperRegistry());
+    }
+
+    @Test
+    public void buildWithRetryPolicyTest() {
+        RetryPolicy retryPolicy = RetryPolicyBuilder.getBuilder().build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .retryPolicy(retryPolicy)
+                .build();
+
+        assertSame(retryPolicy, config.getRetryPolicy());
+    }
+
+    @Test
+    public void buildWithDefaultRetryPolicyTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertEquals(1, config.getRetryPolicy().getMaxAttempts());
+    }
+
+    @Test
+    public void buildWithCircuitBreakerTest() {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfigBuilder.getBuilder().build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .circuitBreaker(circuitBreakerConfig)
+                .build();
+
+        assertSame(circuitBreakerConfig, config.getCircuitBreakerConfig());
+    }
+
+    @Test
+    public void buildWithDefaultCircuitBreakerTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertFalse(config.getCircuitBreakerConfig().isEnabled());
+    }
+
+    @Test
+    public void buildWithTimeoutsTest() {
+        TimeoutConfig timeoutConfig = TimeoutConfigBuilder.getBuilder().requestTimeout(5000).build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .timeouts(timeoutConfig)
+                .build();
+
+        assertSame(timeoutConfig, config.getTimeoutConfig());
+    }
+
+    @Test
+    public void buildWithDefaultTimeoutsTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertEquals(TimeoutConfig.DEFAULT_TIMEOUT_MILLIS, config.getTimeoutConfig().getSocketTimeoutMillis());
+        assertEquals(0, config.getTimeoutConfig().getRequestTimeoutMillis());
+    }
+
+    @Test
+    public void buildWithResponseCacheTest() {
+        ResponseCache responseCache = new ResponseCache();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .responseCache(responseCache)
+                .build();
+
+        assertSame(responseCache, config.getResponseCache());
+    }
+
+    @Test
+    public void buildWithoutResponseCacheTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertNull(config.getResponseCache());
+    }
+
+    @Test
+    public void buildWithMetricsListenerTest() {
+        MetricsListener metricsListener = new HistogramMetricsListener();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .metricsListener(metricsListener)
+                .build();
+
+        assertSame(metricsListener, config.getMetricsListener());
+    }
+
+    @Test
+    public void buildWithoutMetricsListenerTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertSame(MetricsListener.NONE, config.getMetricsListener());
+    }
+
+    @Test
+    public void buildWithRequestCompressionTest() {
+        CompressionPolicy requestCompression = CompressionPolicyBuilder.getBuilder().minSize(100).build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .requestCompression(requestCompression)
+                .build();
+
+        assertSame(requestCompression, config.getRequestCompression());
+    }
+
+    @Test
+    public void buildWithoutRequestCompressionTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertFalse(config.getRequestCompression().isEnabled());
+    }
+
+    @Test
+    public void buildWithMaxDecompressedResponseSizeTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .maxDecompressedResponseSize(1024)
+                .build();
+
+        assertEquals(1024, config.getMaxDecompressedResponseSizeBytes());
+    }
+
+    @Test
+    public void buildWithoutMaxDecompressedResponseSizeTest() {
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .build();
+
+        assertEquals(DecompressingEntity.DEFAULT_MAX_DECOMPRESSED_SIZE_BYTES,
+                config.getMaxDecompressedResponseSizeBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildWithZeroMaxDecompressedResponseSizeTest() {
+        RestApiClientConfigBuilder.getBuilder()
+                .host(TEST_HOST)
+                .maxDecompressedResponseSize(0)
+                .build();
+    }
+
     @Test
     public void getRestApiClientBuilderTest() {
         assertTrue(RestApiClientConfigBuilder.getBuilder() instanceof RestApiClientConfigBuilder);
@@ -0,0 +1,24 @@
+package com.sap.cloud.rest.api.client.exceptions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.client.methods.RequestBuilder;
+import org.junit.Test;
+
+import com.sap.cloud.rest.api.client.model.Request;
+
+public class CircuitBreakerOpenExceptionTest {
+
+    private static final String TEST_MESSAGE = "test_message";
+    private static final String TEST_ROUTE = "https://example.com";
+    private static final Request<String> TEST_REQUEST = new Request<>(RequestBuilder.get().build());
+
+    @Test
+    public void testGetRouteAndRequest() {
+        CircuitBreakerOpenException ex = new CircuitBreakerOpenException(TEST_MESSAGE, TEST_ROUTE, TEST_REQUEST);
+
+        assertEquals(TEST_MESSAGE, ex.getMessage());
+        assertEquals(TEST_ROUTE, ex.getRoute());
+        assertEquals(TEST_REQUEST, ex.getRequest());
+    }
+}
@@ -0,0 +1,234 @@
+package com.sap.cloud.rest.api.client.handler;
+
+import static com.sap.cloud.rest.api.client.handler.ChannelResponseHandler.CHANNEL_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.handler.DownloadResponseHandler.CHUNK_SIZE;
+import static com.sap.cloud.rest.api.client.handler.DownloadResponseHandler.PROGRESS_LISTENER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.handler.OutputStreamResponseHandler.OUTPUT_STREAM_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.handler.PathResponseHandler.PATH_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class DownloadResponseHandlerTest {
+
+    private static final int CONTENT_LENGTH = 3 * CHUNK_SIZE + 100;
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<DownloadProgress> progresses = new ArrayList<>();
+
+    @Test
+    public void downloadToPathTest() throws IOException {
+        byte[] content = createContent(CONTENT_LENGTH);
+        Path path = folder.getRoot().toPath().resolve("download.bin");
+
+        DownloadProgress progress = new PathResponseHandler(path, progresses::add)
+                .handleResponse(createResponse(HttpStatus.SC_OK, content));
+
+        assertArrayEquals(content, Files.readAllBytes(path));
+        assertCompleted(progress, CONTENT_LENGTH, CONTENT_LENGTH);
+    }
+
+    @Test
+    public void downloadToExistingPathTruncatesFileTest() throws IOException {
+        byte[] content = createContent(100);
+        Path path = folder.newFile().toPath();
+        Files.write(path, createContent(1000));
+
+        new PathResponseHandler(path).handleResponse(createResponse(HttpStatus.SC_OK, content));
+
+        assertArrayEquals(content, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void downloadToPathWithOpenOptionsTest() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[] { 1, 2 });
+
+        new PathResponseHandler(path, DownloadProgressListener.NONE, StandardOpenOption.APPEND)
+                .handleResponse(createResponse(HttpStatus.SC_OK, new byte[] { 3 }));
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void downloadToFileChannelTest() throws IOException {
+        byte[] content = createContent(CONTENT_LENGTH);
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[] { 1, 2 });
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.position(2);
+            DownloadProgress progress = new ChannelResponseHandler(channel, progresses::add)
+                    .handleResponse(createStreamedResponse(content));
+
+            assertEquals(2 + CONTENT_LENGTH, channel.position());
+            assertCompleted(progress, CONTENT_LENGTH, -1);
+        }
+        byte[] written = Files.readAllBytes(path);
+        assertEquals(2 + CONTENT_LENGTH, written.length);
+        assertEquals(1, written[0]);
+        assertEquals(content[CONTENT_LENGTH - 1], written[written.length - 1]);
+    }
+
+    @Test
+    public void downloadToChannelTest() throws IOException {
+        byte[] content = createContent(CONTENT_LENGTH);
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        DownloadProgress progress = new ChannelResponseHandler(Channels.newChannel(outStream), progresses::add)
+                .handleResponse(createResponse(HttpStatus.SC_OK, content));
+
+        assertArrayEquals(content, outStream.toByteArray());
+        assertCompleted(progress, CONTENT_LENGTH, CONTENT_LENGTH);
+    }
+
+    @Test
+    public void downloadToOutputStreamTest() throws IOException {
+        byte[] content = createContent(CONTENT_LENGTH);
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        DownloadProgress progress = new OutputStreamResponseHandler(outStream, progresses::add)
+                .handleResponse(createStreamedResponse(content));
+
+        assertArrayEquals(content, outStream.toByteArray());
+        assertCompleted(progress, CONTENT_LENGTH, -1);
+    }
+
+    @Test
+    public void downloadWithoutEntityTest() throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+
+        DownloadProgress progress = new OutputStreamResponseHandler(outStream, progresses::add)
+                .handleResponse(new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_NO_CONTENT, "No Content"));
+
+        assertEquals(0, outStream.size());
+        assertCompleted(progress, 0, 0);
+    }
+
+    @Test
+    public void downloadErrorResponseTest() throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_NOT_FOUND, "Not Found");
+        response.setEntity(new StringEntity("{\"error\":\"not found\"}", "UTF-8"));
+
+        DownloadProgress progress = new OutputStreamResponseHandler(outStream, progresses::add)
+                .handleResponse(response);
+
+        assertEquals(0, outStream.size());
+        assertFalse(progress.isComplete());
+        assertEquals(0, progress.getBytesTransferred());
+        assertEquals("{\"error\":\"not found\"}", progress.getErrorBody());
+        assertTrue(progress.toString().contains("not found"));
+        assertTrue(progresses.isEmpty());
+    }
+
+    @Test
+    public void bytesPerSecondTest() {
+        DownloadProgress progress = new DownloadProgress(1000, 1000, 500_000_000, true, null);
+
+        assertEquals(2000, progress.getBytesPerSecond(), 0);
+        assertEquals(0, new DownloadProgress(0, 0, 0, true, null).getBytesPerSecond(), 0);
+    }
+
+    @Test
+    public void createWithNullPathTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(PATH_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new PathResponseHandler(null);
+    }
+
+    @Test
+    public void createWithNullChannelTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CHANNEL_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new ChannelResponseHandler(null);
+    }
+
+    @Test
+    public void createWithNullOutputStreamTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(OUTPUT_STREAM_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new OutputStreamResponseHandler(null);
+    }
+
+    @Test
+    public void createWithNullProgressListenerTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(PROGRESS_LISTENER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new OutputStreamResponseHandler(new ByteArrayOutputStream(), null);
+    }
+
+    private void assertCompleted(DownloadProgress progress, long bytesTransferred, long contentLength) {
+        assertTrue(progress.isComplete());
+        assertNull(progress.getErrorBody());
+        assertEquals(bytesTransferred, progress.getBytesTransferred());
+        assertEquals(contentLength, progress.getContentLength());
+        assertTrue(progress.getElapsedNanos() > 0);
+        DownloadProgress last = progresses.get(progresses.size() - 1);
+        assertTrue(last.isComplete());
+        assertEquals(bytesTransferred, last.getBytesTransferred());
+        long previous = 0;
+        for (DownloadProgress reported : progresses) {
+            assertTrue(reported.getBytesTransferred() >= previous);
+            assertTrue(reported.getBytesTransferred() - previous <= CHUNK_SIZE);
+            previous = reported.getBytesTransferred();
+        }
+        if (bytesTransferred > CHUNK_SIZE) {
+            assertTrue(progresses.size() > bytesTransferred / CHUNK_SIZE);
+        }
+    }
+
+    private static HttpResponse createResponse(int statusCode, byte[] content) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "OK");
+        response.setEntity(new ByteArrayEntity(content));
+        return response;
+    }
+
+    private static HttpResponse createStreamedResponse(byte[] content) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setEntity(new InputStreamEntity(new ByteArrayInputStream(content)));
+        return response;
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
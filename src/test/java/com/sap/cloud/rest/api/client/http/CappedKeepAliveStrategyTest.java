@@ -0,0 +1,45 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+public class CappedKeepAliveStrategyTest {
+
+    private static final String KEEP_ALIVE_HEADER = "Keep-Alive";
+
+    @Test
+    public void keepAliveHeaderBelowMaximumTest() {
+        assertEquals(5000, getKeepAliveDuration(30000, "timeout=5, max=100"));
+    }
+
+    @Test
+    public void keepAliveHeaderAboveMaximumTest() {
+        assertEquals(30000, getKeepAliveDuration(30000, "timeout=300"));
+    }
+
+    @Test
+    public void noKeepAliveHeaderTest() {
+        assertEquals(30000, getKeepAliveDuration(30000, null));
+    }
+
+    @Test
+    public void unlimitedKeepAliveTest() {
+        assertEquals(300000, getKeepAliveDuration(ConnectionPoolConfig.UNLIMITED_KEEP_ALIVE, "timeout=300"));
+        assertEquals(-1, getKeepAliveDuration(ConnectionPoolConfig.UNLIMITED_KEEP_ALIVE, null));
+    }
+
+    private static long getKeepAliveDuration(long maxKeepAliveMillis, String keepAliveHeader) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, null);
+        if (keepAliveHeader != null) {
+            response.addHeader(KEEP_ALIVE_HEADER, keepAliveHeader);
+        }
+        return new CappedKeepAliveStrategy(maxKeepAliveMillis).getKeepAliveDuration(response,
+                HttpClientContext.create());
+    }
+}
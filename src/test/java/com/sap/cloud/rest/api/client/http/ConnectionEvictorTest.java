@@ -0,0 +1,52 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ConnectionEvictorTest {
+
+    @Test
+    public void evictsPeriodicallyTest() throws Exception {
+        CountDownLatch evictions = new CountDownLatch(3);
+
+        Future<?> eviction = ConnectionEvictor.start(new Object(), pool -> evictions.countDown(), 10);
+        try {
+            assertTrue(evictions.await(5, TimeUnit.SECONDS));
+        } finally {
+            eviction.cancel(false);
+        }
+    }
+
+    @Test
+    public void failedEvictionDoesNotStopEvictingTest() throws Exception {
+        CountDownLatch evictions = new CountDownLatch(2);
+
+        Future<?> eviction = ConnectionEvictor.start(new Object(), pool -> {
+            evictions.countDown();
+            throw new IllegalStateException();
+        }, 10);
+        try {
+            assertTrue(evictions.await(5, TimeUnit.SECONDS));
+        } finally {
+            eviction.cancel(false);
+        }
+    }
+
+    @Test
+    public void evictionStopsWhenPoolIsCollectedTest() throws Exception {
+        Future<?> eviction = ConnectionEvictor.start(new Object(), pool -> {
+        }, 10);
+
+        for (int i = 0; i < 100 && !eviction.isCancelled(); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertTrue(eviction.isCancelled());
+    }
+}
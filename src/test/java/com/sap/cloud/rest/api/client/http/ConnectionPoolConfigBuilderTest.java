@@ -0,0 +1,115 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.DEFAULT_MAX_KEEP_ALIVE_MILLIS;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.DEFAULT_MAX_PER_ROUTE;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.DEFAULT_MAX_TOTAL;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.HOST_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.IDLE_CONNECTION_TIMEOUT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.MAX_KEEP_ALIVE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.MAX_PER_HOST_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.MAX_TOTAL_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.UNLIMITED_CONNECTION_TIME_TO_LIVE;
+import static com.sap.cloud.rest.api.client.http.ConnectionPoolConfig.VALIDATE_AFTER_INACTIVITY_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.NOT_VALID_URL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ConnectionPoolConfigBuilderTest {
+
+    private static final String TEST_HOST = "https://example.com";
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        ConnectionPoolConfig config = ConnectionPoolConfigBuilder.getBuilder().build();
+
+        assertEquals(DEFAULT_MAX_TOTAL, config.getMaxTotal());
+        assertEquals(DEFAULT_MAX_PER_ROUTE, config.getMaxPerRoute());
+        assertTrue(config.getMaxPerHost().isEmpty());
+        assertEquals(DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS, config.getValidateAfterInactivityMillis());
+        assertEquals(UNLIMITED_CONNECTION_TIME_TO_LIVE, config.getConnectionTimeToLiveMillis());
+        assertEquals(DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS, config.getIdleConnectionTimeoutMillis());
+        assertEquals(DEFAULT_MAX_KEEP_ALIVE_MILLIS, config.getMaxKeepAliveMillis());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        ConnectionPoolConfig config = ConnectionPoolConfigBuilder.getBuilder()
+                .maxTotal(500)
+                .maxPerRoute(100)
+                .maxPerHost(TEST_HOST, 250)
+                .validateAfterInactivity(500)
+                .connectionTimeToLive(60000)
+                .idleConnectionTimeout(10000)
+                .maxKeepAlive(20000)
+                .build();
+
+        assertEquals(500, config.getMaxTotal());
+        assertEquals(100, config.getMaxPerRoute());
+        assertEquals(Collections.singletonMap(TEST_HOST, 250), config.getMaxPerHost());
+        assertEquals(500, config.getValidateAfterInactivityMillis());
+        assertEquals(60000, config.getConnectionTimeToLiveMillis());
+        assertEquals(10000, config.getIdleConnectionTimeoutMillis());
+        assertEquals(20000, config.getMaxKeepAliveMillis());
+    }
+
+    @Test
+    public void buildWithNegativeIdleConnectionTimeoutTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(IDLE_CONNECTION_TIMEOUT_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().idleConnectionTimeout(-1).build();
+    }
+
+    @Test
+    public void buildWithNegativeMaxKeepAliveTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_KEEP_ALIVE_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().maxKeepAlive(-1).build();
+    }
+
+    @Test
+    public void buildWithZeroMaxTotalTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_TOTAL_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().maxTotal(0).build();
+    }
+
+    @Test
+    public void buildWithInvalidHostTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(HOST_DISPLAY_NAME + NOT_VALID_URL_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().maxPerHost("example.com", 10).build();
+    }
+
+    @Test
+    public void buildWithNegativeMaxPerHostTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_PER_HOST_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().maxPerHost(TEST_HOST, -1).build();
+    }
+
+    @Test
+    public void buildWithNegativeValidateAfterInactivityTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(VALIDATE_AFTER_INACTIVITY_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        ConnectionPoolConfigBuilder.getBuilder().validateAfterInactivity(-1).build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.sap.cloud.rest.api.client.http;
 
 import static com.sap.cloud.rest.api.client.utils.test.HttpClientProviderUtils.getHttpClientProviderForAuthentication;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -17,6 +18,8 @@ import com.sap.cloud.rest.api.client.auth.none.NoAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthAuthentication;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthHttpClientProvider;
 import com.sap.cloud.rest.api.client.auth.oauth.OAuthServerConfig;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfig;
+import com.sap.cloud.rest.api.client.config.RestApiClientConfigBuilder;
 import com.sap.cloud.rest.api.client.http.HttpClientProvider;
 
 public class HttpClientProviderFactoryTest {
@@ -44,6 +47,53 @@ public class HttpClientProviderFactoryTest {
         assertTrue(oauthHttpClientProvider instanceof OAuthHttpClientProvider);
     }
 
+    @Test
+    public void createHttpClientProviderWithConnectionPoolTest() {
+        ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfigBuilder.getBuilder()
+                .maxPerRoute(100)
+                .build();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://test")
+                .basicAuthentication("username", "password".toCharArray())
+                .connectionPool(connectionPoolConfig)
+                .build();
+
+        HttpClientProvider httpClientProvider = HttpClientProviderFactory.createHttpClientProvider(config);
+
+        assertEquals(connectionPoolConfig, httpClientProvider.getConnectionPoolConfig());
+    }
+
+    @Test
+    public void createHttpClientProviderWithSharedConnectionPoolTest() {
+        SharedConnectionPool sharedConnectionPool = new SharedConnectionPool();
+        RestApiClientConfig config = RestApiClientConfigBuilder.getBuilder()
+                .host("http://test")
+                .sharedConnectionPool(sharedConnectionPool)
+                .build();
+
+        HttpClientProvider httpClientProvider = HttpClientProviderFactory.createHttpClientProvider(config);
+
+        assertEquals(sharedConnectionPool, httpClientProvider.getSharedConnectionPool());
+    }
+
+    @Test
+    public void createHttpClientProvidersWithTimeoutsTest() {
+        TimeoutConfig timeoutConfig = TimeoutConfigBuilder.getBuilder().socketTimeout(5000).build();
+        RestApiClientConfigBuilder builder = RestApiClientConfigBuilder.getBuilder()
+                .host("http://test")
+                .timeouts(timeoutConfig);
+
+        assertEquals(timeoutConfig, HttpClientProviderFactory.createHttpClientProvider(builder.build())
+                .getTimeoutConfig());
+        assertEquals(timeoutConfig, HttpClientProviderFactory.createHttpClientProvider(builder
+                .basicAuthentication("username", "password".toCharArray()).build()).getTimeoutConfig());
+        assertEquals(timeoutConfig, HttpClientProviderFactory.createHttpClientProvider(builder
+                .clientCertAuthentication(mock(KeystoreConfig.class)).build()).getTimeoutConfig());
+        assertEquals(timeoutConfig, HttpClientProviderFactory.createHttpClientProvider(builder
+                .oAuthAuthentication(new OAuthServerConfig("http://test", "dummyClientID",
+                        "dummyClientSecret".toCharArray())).build()).getTimeoutConfig());
+    }
+
     @Test
     public void createNoAuthHttpClientProviderTest() {
         Authentication authentication = new NoAuthentication();
@@ -0,0 +1,147 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import com.sap.cloud.rest.api.client.auth.none.NoAuthHttpClientProvider;
+
+public class HttpClientProviderTest {
+
+    private static final HttpHost PROXY = new HttpHost("proxy.int", 8888);
+    private static final HttpHost TARGET = new HttpHost("example.com", 443, "https");
+    private static final HttpHost OTHER_TARGET = new HttpHost("other.example.com", 443, "https");
+
+    private static final ConnectionPoolConfig CONNECTION_POOL_CONFIG = ConnectionPoolConfigBuilder.getBuilder()
+            .maxTotal(300)
+            .maxPerRoute(30)
+            .maxPerHost("https://example.com", 150)
+            .validateAfterInactivity(1000)
+            .build();
+
+    @Test
+    public void createConnectionManagerAppliesLimitsTest() {
+        PoolingHttpClientConnectionManager connectionManager = createConnectionManager(
+                new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
+
+        assertEquals(300, connectionManager.getMaxTotal());
+        assertEquals(30, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(1000, connectionManager.getValidateAfterInactivity());
+        assertEquals(150, connectionManager.getMaxPerRoute(new HttpRoute(TARGET, null, true)));
+        assertEquals(30, connectionManager.getMaxPerRoute(new HttpRoute(OTHER_TARGET, null, true)));
+    }
+
+    @Test
+    public void createConnectionManagerAppliesHostLimitToProxyRouteTest() {
+        PoolingHttpClientConnectionManager connectionManager = createConnectionManager(
+                new DefaultProxyRoutePlanner(PROXY));
+
+        assertEquals(150, connectionManager.getMaxPerRoute(new HttpRoute(TARGET, null, PROXY, true)));
+        assertEquals(30, connectionManager.getMaxPerRoute(new HttpRoute(TARGET, null, true)));
+    }
+
+    @Test
+    public void defaultConnectionPoolConfigTest() {
+        HttpClientProvider httpClientProvider = new NoAuthHttpClientProvider();
+        PoolingHttpClientConnectionManager connectionManager = httpClientProvider.createConnectionManager(
+                new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE),
+                SSLConnectionSocketFactory.getSystemSocketFactory());
+
+        assertEquals(ConnectionPoolConfig.DEFAULT_MAX_TOTAL, connectionManager.getMaxTotal());
+        assertEquals(ConnectionPoolConfig.DEFAULT_MAX_PER_ROUTE, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    public void connectionPoolStatisticsAndEvictionTest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(HttpStatus.SC_NO_CONTENT, -1);
+            exchange.close();
+        });
+        server.start();
+        HttpClientProvider httpClientProvider = new NoAuthHttpClientProvider(ConnectionPoolConfigBuilder.getBuilder()
+                .idleConnectionTimeout(50)
+                .build());
+        HttpHost target = new HttpHost("127.0.0.1", server.getAddress().getPort());
+        HttpRoute route = new HttpRoute(target);
+        try {
+            CloseableHttpClient httpClient = (CloseableHttpClient) httpClientProvider.createHttpClient();
+            EntityUtils.consume(httpClient.execute(target, new HttpGet("/")).getEntity());
+
+            PoolStats routeStats = httpClientProvider.getConnectionPoolStatistics().getRouteStats(route);
+            assertEquals(0, routeStats.getLeased());
+            assertEquals(1, routeStats.getAvailable());
+            assertEquals(ConnectionPoolConfig.DEFAULT_MAX_PER_ROUTE, routeStats.getMax());
+            assertEquals(1, httpClientProvider.getConnectionPoolStatistics().getTotalStats().getAvailable());
+
+            for (int i = 0; i < 100 && getAvailable(httpClientProvider) > 0; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(0, getAvailable(httpClientProvider));
+
+            httpClient.close();
+            assertTrue(httpClientProvider.getConnectionPoolStatistics().getRouteStats().isEmpty());
+            assertEquals(0, httpClientProvider.getConnectionPoolStatistics().getTotalStats().getMax());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void connectionPoolOfUnclosedClientIsCollectedTest() throws Exception {
+        HttpClientProvider httpClientProvider = new NoAuthHttpClientProvider(CONNECTION_POOL_CONFIG);
+        httpClientProvider.createHttpClient();
+        assertEquals(300, httpClientProvider.getConnectionPoolStatistics().getTotalStats().getMax());
+
+        for (int i = 0; i < 100 && httpClientProvider.getConnectionPoolStatistics().getTotalStats().getMax() > 0;
+                i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, httpClientProvider.getConnectionPoolStatistics().getTotalStats().getMax());
+    }
+
+    private static int getAvailable(HttpClientProvider httpClientProvider) {
+        return httpClientProvider.getConnectionPoolStatistics().getTotalStats().getAvailable();
+    }
+
+    @Test(expected = HttpClientCreationException.class)
+    public void createHttpAsyncClientNotSupportedByDefaultTest() {
+        HttpClientProvider httpClientProvider = new HttpClientProvider() {
+
+            @Override
+            public HttpClient createHttpClient(HttpRoutePlanner routePlanner) {
+                return null;
+            }
+        };
+
+        httpClientProvider.createHttpAsyncClient(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager(HttpRoutePlanner routePlanner) {
+        HttpClientProvider httpClientProvider = new NoAuthHttpClientProvider(CONNECTION_POOL_CONFIG);
+        return httpClientProvider.createConnectionManager(routePlanner,
+                SSLConnectionSocketFactory.getSystemSocketFactory());
+    }
+}
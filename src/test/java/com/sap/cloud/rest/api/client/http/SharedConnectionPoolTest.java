@@ -0,0 +1,104 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.http.SharedConnectionPool.ROUTE_PLANNER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.sap.cloud.rest.api.client.auth.none.NoAuthHttpClientProvider;
+
+public class SharedConnectionPoolTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("example.com", 80));
+
+    private final SharedConnectionPool sharedConnectionPool = new SharedConnectionPool();
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void acquireAndReleaseTest() throws Exception {
+        HttpClientConnectionManager first = acquire();
+        HttpClientConnectionManager second = acquire();
+
+        assertEquals(2, sharedConnectionPool.getReferenceCount());
+
+        first.shutdown();
+        first.shutdown();
+
+        assertEquals(1, sharedConnectionPool.getReferenceCount());
+        assertNotNull(second.requestConnection(ROUTE, null));
+    }
+
+    @Test
+    public void poolIsShutDownWithLastReferenceTest() throws Exception {
+        HttpClientConnectionManager connectionManager = acquire();
+        connectionManager.shutdown();
+
+        assertEquals(0, sharedConnectionPool.getReferenceCount());
+
+        expected.expect(IllegalStateException.class);
+        connectionManager.requestConnection(ROUTE, null).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void acquireAfterShutdownCreatesNewPoolTest() throws Exception {
+        acquire().shutdown();
+
+        HttpClientConnectionManager connectionManager = acquire();
+
+        assertEquals(1, sharedConnectionPool.getReferenceCount());
+        assertNotNull(connectionManager.requestConnection(ROUTE, null));
+    }
+
+    @Test
+    public void closingHttpClientsReleasesPoolTest() throws Exception {
+        HttpClientProvider firstProvider = new NoAuthHttpClientProvider(sharedConnectionPool);
+        HttpClientProvider secondProvider = new NoAuthHttpClientProvider(sharedConnectionPool);
+
+        Closeable firstHttpClient = (Closeable) firstProvider.createHttpClient();
+        Closeable secondHttpClient = (Closeable) secondProvider.createHttpClient();
+        assertEquals(2, sharedConnectionPool.getReferenceCount());
+
+        firstHttpClient.close();
+        secondHttpClient.close();
+        assertEquals(0, sharedConnectionPool.getReferenceCount());
+    }
+
+    @Test
+    public void statisticsTest() throws Exception {
+        assertTrue(sharedConnectionPool.getStatistics().getRouteStats().isEmpty());
+
+        HttpClientConnectionManager connectionManager = acquire();
+
+        assertEquals(ConnectionPoolConfig.DEFAULT_MAX_TOTAL,
+                sharedConnectionPool.getStatistics().getTotalStats().getMax());
+        connectionManager.shutdown();
+        assertEquals(0, sharedConnectionPool.getStatistics().getTotalStats().getMax());
+    }
+
+    @Test
+    public void acquireWithNullRoutePlannerTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ROUTE_PLANNER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        sharedConnectionPool.acquire(null);
+    }
+
+    private HttpClientConnectionManager acquire() {
+        return sharedConnectionPool.acquire(new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
+    }
+}
@@ -0,0 +1,83 @@
+package com.sap.cloud.rest.api.client.http;
+
+import static com.sap.cloud.rest.api.client.http.TimeoutConfig.CONNECT_TIMEOUT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.TimeoutConfig.DEFAULT_TIMEOUT_MILLIS;
+import static com.sap.cloud.rest.api.client.http.TimeoutConfig.REQUEST_TIMEOUT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.TimeoutConfig.SOCKET_TIMEOUT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.http.TimeoutConfig.UNLIMITED_REQUEST_TIMEOUT;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.client.config.RequestConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TimeoutConfigBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        TimeoutConfig config = TimeoutConfigBuilder.getBuilder().build();
+
+        assertEquals(DEFAULT_TIMEOUT_MILLIS, config.getConnectTimeoutMillis());
+        assertEquals(DEFAULT_TIMEOUT_MILLIS, config.getSocketTimeoutMillis());
+        assertEquals(DEFAULT_TIMEOUT_MILLIS, config.getConnectionRequestTimeoutMillis());
+        assertEquals(UNLIMITED_REQUEST_TIMEOUT, config.getRequestTimeoutMillis());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        TimeoutConfig config = TimeoutConfigBuilder.getBuilder()
+                .connectTimeout(1000)
+                .socketTimeout(2000)
+                .connectionRequestTimeout(3000)
+                .requestTimeout(10000)
+                .build();
+
+        assertEquals(1000, config.getConnectTimeoutMillis());
+        assertEquals(2000, config.getSocketTimeoutMillis());
+        assertEquals(3000, config.getConnectionRequestTimeoutMillis());
+        assertEquals(10000, config.getRequestTimeoutMillis());
+    }
+
+    @Test
+    public void toRequestConfigTest() {
+        RequestConfig requestConfig = TimeoutConfigBuilder.getBuilder()
+                .connectTimeout(1000)
+                .socketTimeout(2000)
+                .connectionRequestTimeout(3000)
+                .build()
+                .toRequestConfig();
+
+        assertEquals(1000, requestConfig.getConnectTimeout());
+        assertEquals(2000, requestConfig.getSocketTimeout());
+        assertEquals(3000, requestConfig.getConnectionRequestTimeout());
+    }
+
+    @Test
+    public void buildWithNegativeConnectTimeoutTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(CONNECT_TIMEOUT_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        TimeoutConfigBuilder.getBuilder().connectTimeout(-1).build();
+    }
+
+    @Test
+    public void buildWithNegativeSocketTimeoutTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(SOCKET_TIMEOUT_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        TimeoutConfigBuilder.getBuilder().socketTimeout(-1).build();
+    }
+
+    @Test
+    public void buildWithNegativeRequestTimeoutTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(REQUEST_TIMEOUT_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        TimeoutConfigBuilder.getBuilder().requestTimeout(-1).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class HistogramMetricsListenerTest {
+
+    private static final MetricTags TAGS = MetricTags.of("GET", "/entities", 200);
+
+    private final HistogramMetricsListener listener = new HistogramMetricsListener();
+
+    @Test
+    public void onRequestTest() {
+        listener.onRequest(createMetrics(TAGS, 100, null, RequestPhase.SERVER, 60));
+        listener.onRequest(createMetrics(TAGS, 300, new IOException(), RequestPhase.SERVER, 80));
+
+        RequestStatistics statistics = listener.getStatistics(TAGS);
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(1, statistics.getFailureCount());
+        assertEquals(300, statistics.getLatency().getMaxNanos());
+        assertEquals(2, statistics.getLatency(RequestPhase.SERVER).getCount());
+        assertEquals(140, statistics.getLatency(RequestPhase.SERVER).getTotalNanos());
+        assertNull(statistics.getLatency(RequestPhase.CONNECT));
+    }
+
+    @Test
+    public void statisticsPerTagsTest() {
+        MetricTags errorTags = MetricTags.of("GET", "/entities", 500);
+
+        listener.onRequest(createMetrics(TAGS, 100, null, RequestPhase.SERVER, 60));
+        listener.onRequest(createMetrics(errorTags, 100, null, RequestPhase.SERVER, 60));
+
+        assertEquals(2, listener.getStatistics().size());
+        assertEquals(1, listener.getStatistics(TAGS).getRequestCount());
+        assertEquals(1, listener.getStatistics(errorTags).getRequestCount());
+        assertNull(listener.getStatistics(MetricTags.of("POST", "/entities", 200)));
+    }
+
+    @Test
+    public void compressedBytesTest() {
+        long[] durations = new long[RequestPhase.values().length];
+        Arrays.fill(durations, RequestMetrics.NOT_MEASURED);
+
+        listener.onRequest(new RequestMetrics(TAGS, 200, 1, false, null, 100, durations, 10, 100));
+        listener.onRequest(new RequestMetrics(TAGS, 200, 1, false, null, 100, durations, 20, 300));
+        listener.onRequest(createMetrics(TAGS, 100, null, RequestPhase.SERVER, 60));
+
+        RequestStatistics statistics = listener.getStatistics(TAGS);
+        assertEquals(3, statistics.getRequestCount());
+        assertEquals(2, statistics.getCompressedResponseCount());
+        assertEquals(30, statistics.getCompressedBytes());
+        assertEquals(400, statistics.getDecompressedBytes());
+    }
+
+    @Test
+    public void onRetryTest() {
+        MetricTags retryTags = MetricTags.of("GET", "/entities", 503);
+
+        listener.onRetry(retryTags);
+        listener.onRetry(retryTags);
+
+        assertEquals(2, listener.getStatistics(retryTags).getRetryCount());
+        assertEquals(0, listener.getStatistics(retryTags).getRequestCount());
+    }
+
+    @Test
+    public void onTokenFetchTest() {
+        listener.onTokenFetch(1000, null);
+        listener.onTokenFetch(3000, new IOException());
+
+        assertEquals(2, listener.getTokenFetchCount());
+        assertEquals(1, listener.getTokenFetchFailureCount());
+        assertEquals(3000, listener.getTokenFetchLatency().getMaxNanos());
+    }
+
+    private static RequestMetrics createMetrics(MetricTags tags, long totalNanos, Throwable failure,
+            RequestPhase phase, long phaseNanos) {
+        long[] durations = new long[RequestPhase.values().length];
+        Arrays.fill(durations, RequestMetrics.NOT_MEASURED);
+        durations[phase.ordinal()] = phaseNanos;
+        return new RequestMetrics(tags, 200, 1, false, failure, totalNanos, durations, RequestMetrics.NOT_MEASURED,
+                RequestMetrics.NOT_MEASURED);
+    }
+}
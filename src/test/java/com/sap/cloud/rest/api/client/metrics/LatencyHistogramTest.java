@@ -0,0 +1,114 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.DURATION_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.MAX_TRACKABLE_VALUE;
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.PERCENTILE_OUT_OF_RANGE_MSG;
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.SUB_BUCKET_COUNT;
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.getBucketIndex;
+import static com.sap.cloud.rest.api.client.metrics.LatencyHistogram.getBucketUpperBound;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LatencyHistogramTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void bucketIndexIsContinuousTest() {
+        for (long value = 0; value < 4096; value++) {
+            int index = getBucketIndex(value);
+            assertTrue(value <= getBucketUpperBound(index));
+            if (index > 0) {
+                assertTrue(value > getBucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void bucketUpperBoundErrorTest() {
+        for (long value = 2 * SUB_BUCKET_COUNT; value < MAX_TRACKABLE_VALUE; value = value * 3 + 7) {
+            long upperBound = getBucketUpperBound(getBucketIndex(value));
+            assertTrue(upperBound >= value);
+            assertTrue((double) (upperBound - value) / value < 1.0 / SUB_BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    public void emptyHistogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getMeanNanos(), 0);
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void recordTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(60, histogram.getTotalNanos());
+        assertEquals(30, histogram.getMaxNanos());
+        assertEquals(20, histogram.getMeanNanos(), 0);
+        assertEquals(10, histogram.getValueAtPercentile(0));
+        assertEquals(20, histogram.getValueAtPercentile(50));
+        assertEquals(30, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void percentilesTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertWithinError(TimeUnit.MILLISECONDS.toNanos(500), histogram.getValueAtPercentile(50));
+        assertWithinError(TimeUnit.MILLISECONDS.toNanos(990), histogram.getValueAtPercentile(99));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void recordAboveMaxTrackableValueTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.getMaxNanos());
+        assertEquals(getBucketUpperBound(getBucketIndex(MAX_TRACKABLE_VALUE)), histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void recordNegativeDurationTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(DURATION_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        new LatencyHistogram().record(-1);
+    }
+
+    @Test
+    public void percentileOutOfRangeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(PERCENTILE_OUT_OF_RANGE_MSG, "100.5"));
+
+        new LatencyHistogram().getValueAtPercentile(100.5);
+    }
+
+    private static void assertWithinError(long expectedValue, long actualValue) {
+        assertTrue(actualValue >= expectedValue);
+        assertTrue((double) (actualValue - expectedValue) / expectedValue < 1.0 / SUB_BUCKET_COUNT);
+    }
+}
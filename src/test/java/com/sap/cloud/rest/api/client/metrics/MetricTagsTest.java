@@ -0,0 +1,52 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static com.sap.cloud.rest.api.client.metrics.MetricTags.NO_STATUS;
+import static com.sap.cloud.rest.api.client.metrics.MetricTags.UNKNOWN_ROUTE;
+import static com.sap.cloud.rest.api.client.metrics.MetricTags.getStatusClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+public class MetricTagsTest {
+
+    @Test
+    public void statusClassTest() {
+        assertEquals("1xx", getStatusClass(101));
+        assertEquals("2xx", getStatusClass(200));
+        assertEquals("3xx", getStatusClass(304));
+        assertEquals("4xx", getStatusClass(404));
+        assertEquals("5xx", getStatusClass(599));
+    }
+
+    @Test
+    public void invalidStatusClassTest() {
+        assertEquals(NO_STATUS, getStatusClass(-1));
+        assertEquals(NO_STATUS, getStatusClass(99));
+        assertEquals(NO_STATUS, getStatusClass(600));
+    }
+
+    @Test
+    public void ofTest() {
+        MetricTags tags = MetricTags.of("GET", "/entities/{0}", 503);
+
+        assertEquals("GET", tags.getMethod());
+        assertEquals("/entities/{0}", tags.getRoute());
+        assertEquals("5xx", tags.getStatusClass());
+    }
+
+    @Test
+    public void ofWithoutRouteTest() {
+        assertEquals(UNKNOWN_ROUTE, MetricTags.of("GET", null, 200).getRoute());
+    }
+
+    @Test
+    public void equalsTest() {
+        assertEquals(MetricTags.of("GET", "/entities", 200), MetricTags.of("GET", "/entities", 204));
+        assertEquals(MetricTags.of("GET", "/entities", 200).hashCode(),
+                MetricTags.of("GET", "/entities", 204).hashCode());
+        assertNotEquals(MetricTags.of("GET", "/entities", 200), MetricTags.of("POST", "/entities", 200));
+        assertNotEquals(MetricTags.of("GET", "/entities", 200), MetricTags.of("GET", "/entities", 404));
+        assertNotEquals(MetricTags.of("GET", "/entities", 200), MetricTags.of("GET", null, 200));
+    }
+}
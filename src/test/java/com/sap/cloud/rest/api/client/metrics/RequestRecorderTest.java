@@ -0,0 +1,165 @@
+package com.sap.cloud.rest.api.client.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import com.sap.cloud.rest.api.client.compression.CompressingEntity;
+import com.sap.cloud.rest.api.client.compression.ContentEncoding;
+import com.sap.cloud.rest.api.client.compression.DecompressingEntity;
+import com.sap.cloud.rest.api.client.http.ExchangeTimings;
+
+public class RequestRecorderTest {
+
+    private static final String ROUTE = "/entities/{0}";
+    private static final String BODY = "body";
+
+    private final List<RequestMetrics> requests = new ArrayList<>();
+    private final List<MetricTags> retries = new ArrayList<>();
+    private final MetricsListener listener = new MetricsListener() {
+
+        @Override
+        public void onRequest(RequestMetrics metrics) {
+            requests.add(metrics);
+        }
+
+        @Override
+        public void onRetry(MetricTags tags) {
+            retries.add(tags);
+        }
+    };
+
+    @Test
+    public void disabledRecorderTest() {
+        RequestRecorder recorder = RequestRecorder.start(MetricsListener.NONE, new HttpGet("/entities/1"), ROUTE);
+        HttpResponse response = createResponse(HttpStatus.SC_OK);
+
+        assertNull(recorder.startAttempt());
+        assertSame(response.getEntity(), recorder.onResponse(response).getEntity());
+    }
+
+    @Test
+    public void successfulRequestTest() throws IOException {
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), ROUTE);
+
+        HttpContext context = recorder.startAttempt();
+        HttpResponse response = recorder.onResponse(createResponse(HttpStatus.SC_OK));
+        assertEquals(BODY, EntityUtils.toString(response.getEntity()));
+        recorder.onResponseHandled(response);
+        recorder.onCompleted(null);
+
+        assertNotNull(ExchangeTimings.get(context));
+        assertEquals(1, requests.size());
+        RequestMetrics metrics = requests.get(0);
+        assertEquals(MetricTags.of("GET", ROUTE, HttpStatus.SC_OK), metrics.getTags());
+        assertEquals(HttpStatus.SC_OK, metrics.getStatusCode());
+        assertEquals(1, metrics.getAttempts());
+        assertFalse(metrics.isCached());
+        assertFalse(metrics.isFailed());
+        assertTrue(metrics.getDurationNanos(RequestPhase.BODY_READ) >= 0);
+        assertTrue(metrics.getDurationNanos(RequestPhase.DESERIALIZATION) >= 0);
+        assertTrue(metrics.getTotalNanos() >= metrics.getDurationNanos(RequestPhase.BODY_READ));
+        assertEquals(RequestMetrics.NOT_MEASURED, metrics.getDurationNanos(RequestPhase.SERVER));
+        assertFalse(metrics.isCompressed());
+    }
+
+    @Test
+    public void decompressedResponseTest() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new CompressingEntity(new StringEntity(BODY, StandardCharsets.UTF_8), ContentEncoding.GZIP)
+                .writeTo(compressed);
+        HttpResponse response = createResponse(HttpStatus.SC_OK);
+        response.setEntity(new DecompressingEntity(new ByteArrayEntity(compressed.toByteArray()),
+                ContentEncoding.GZIP, 1000));
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), ROUTE);
+
+        recorder.startAttempt();
+        assertEquals(BODY, EntityUtils.toString(recorder.onResponse(response).getEntity()));
+        recorder.onCompleted(null);
+
+        RequestMetrics metrics = requests.get(0);
+        assertTrue(metrics.isCompressed());
+        assertEquals(compressed.size(), metrics.getCompressedBytes());
+        assertEquals(BODY.length(), metrics.getDecompressedBytes());
+    }
+
+    @Test
+    public void retriedRequestTest() {
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), ROUTE);
+
+        recorder.startAttempt();
+        recorder.onRetry(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        recorder.startAttempt();
+        recorder.onRetry(-1);
+        recorder.onAttempt();
+        recorder.onResponseHandled(recorder.onResponse(createResponse(HttpStatus.SC_OK)));
+        recorder.onCompleted(null);
+
+        assertEquals(MetricTags.of("GET", ROUTE, HttpStatus.SC_SERVICE_UNAVAILABLE), retries.get(0));
+        assertEquals(MetricTags.of("GET", ROUTE, -1), retries.get(1));
+        assertEquals(3, requests.get(0).getAttempts());
+    }
+
+    @Test
+    public void failedRequestTest() {
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), null);
+        IOException failure = new IOException();
+
+        recorder.startAttempt();
+        recorder.onCompleted(failure);
+
+        RequestMetrics metrics = requests.get(0);
+        assertEquals(MetricTags.of("GET", MetricTags.UNKNOWN_ROUTE, -1), metrics.getTags());
+        assertSame(failure, metrics.getFailure());
+        assertEquals(RequestMetrics.NOT_MEASURED, metrics.getDurationNanos(RequestPhase.BODY_READ));
+    }
+
+    @Test
+    public void cacheHitTest() {
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), ROUTE);
+
+        recorder.onCacheHit();
+        recorder.onResponseHandled(recorder.onResponse(createResponse(HttpStatus.SC_OK)));
+        recorder.onCompleted(null);
+
+        assertTrue(requests.get(0).isCached());
+        assertEquals(0, requests.get(0).getAttempts());
+    }
+
+    @Test
+    public void reportedOnceTest() {
+        RequestRecorder recorder = RequestRecorder.start(listener, new HttpGet("/entities/1"), ROUTE);
+
+        recorder.onCompleted(null);
+        recorder.onCompleted(new IOException());
+
+        assertEquals(1, requests.size());
+        assertFalse(requests.get(0).isFailed());
+    }
+
+    private static HttpResponse createResponse(int statusCode) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, null);
+        response.setEntity(new StringEntity(BODY, "UTF-8"));
+        return response;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sap.cloud.rest.api.client.model;
+
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.http.client.methods.RequestBuilder;
+import org.junit.Test;
+
+public class BatchResultTest {
+
+    private static final Request<String> TEST_REQUEST = new Request<>(
+            RequestBuilder.get("https://example.com").build());
+
+    @Test
+    public void successTest() {
+        Response<String> response = new Response<>(makeMockedResponseWithStatusCode(200), "body");
+
+        BatchResult<String> result = BatchResult.success(3, TEST_REQUEST, response);
+
+        assertEquals(3, result.getIndex());
+        assertSame(TEST_REQUEST, result.getRequest());
+        assertTrue(result.isSuccessful());
+        assertSame(response, result.getResponse());
+        assertNull(result.getFailure());
+    }
+
+    @Test
+    public void failureTest() {
+        IllegalStateException failure = new IllegalStateException();
+
+        BatchResult<String> result = BatchResult.failure(3, TEST_REQUEST, failure);
+
+        assertFalse(result.isSuccessful());
+        assertNull(result.getResponse());
+        assertSame(failure, result.getFailure());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failureWithNullExceptionTest() {
+        BatchResult.failure(0, TEST_REQUEST, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIndexTest() {
+        BatchResult.failure(-1, TEST_REQUEST, new IllegalStateException());
+    }
+}
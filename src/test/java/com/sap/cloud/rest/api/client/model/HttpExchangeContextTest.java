@@ -2,12 +2,21 @@ package com.sap.cloud.rest.api.client.model;
 
 import static com.sap.cloud.rest.api.client.model.HttpExchangeContext.REQUEST_DISPLAY_NAME;
 import static com.sap.cloud.rest.api.client.model.HttpExchangeContext.RESPONSE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.model.HttpExchangeContext.RESPONSE_ENTITY_DISPLAY_NAME;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
 
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.message.BasicStatusLine;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -52,4 +61,45 @@ public class HttpExchangeContextTest {
 
         new HttpExchangeContext(TEST_REQUEST, null);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLazyContextCreatesRequestAndResponseOnFirstAccess() {
+        Supplier<Request<String>> requestSupplier = mock(Supplier.class);
+        Supplier<String> responseEntitySupplier = mock(Supplier.class);
+        when(requestSupplier.get()).thenReturn(TEST_REQUEST);
+        when(responseEntitySupplier.get()).thenReturn(TEST_RESPONSE_BODY);
+        HttpResponse httpResponse = mock(HttpResponse.class);
+        when(httpResponse.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, null));
+
+        HttpExchangeContext context = new HttpExchangeContext(requestSupplier, httpResponse, responseEntitySupplier);
+
+        assertEquals(200, context.getStatusCode());
+        verify(requestSupplier, never()).get();
+        verify(responseEntitySupplier, never()).get();
+
+        assertEquals(TEST_REQUEST, context.getRequest());
+        assertEquals(TEST_RESPONSE_BODY, context.getResponse().getEntity());
+        assertEquals(context.getResponse(), context.getResponse());
+        context.getRequest();
+
+        verify(requestSupplier, times(1)).get();
+        verify(responseEntitySupplier, times(1)).get();
+    }
+
+    @Test
+    public void testCreateLazyHttpExchangeContextWithNullRequestSupplier() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(REQUEST_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new HttpExchangeContext(null, TEST_HTTP_RESPONSE, () -> TEST_RESPONSE_BODY);
+    }
+
+    @Test
+    public void testCreateLazyHttpExchangeContextWithNullResponseEntitySupplier() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RESPONSE_ENTITY_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new HttpExchangeContext(() -> TEST_REQUEST, TEST_HTTP_RESPONSE, null);
+    }
 }
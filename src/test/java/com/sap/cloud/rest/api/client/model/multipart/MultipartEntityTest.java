@@ -3,7 +3,10 @@ package com.sap.cloud.rest.api.client.model.multipart;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import org.junit.Test;
 
@@ -46,6 +49,25 @@ public class MultipartEntityTest {
                 multipartEntity.toString());
     }
 
+    @Test
+    public void testCreateMultipartEntityWithFileParts() {
+        EntityPart<Path> filePart = new EntityPart<>(TEST_NAME, Paths.get("upload.json"));
+        MultipartEntity<String> multipartEntity = new MultipartEntity<>(new ArrayList<>(),
+                Collections.singletonList(filePart));
+
+        assertTrue(multipartEntity.getParts().isEmpty());
+        assertEquals(Collections.singletonList(filePart), multipartEntity.getFileParts());
+        assertEquals("{\"multipartEntity\":[],\"fileParts\":[{\"name\":\"" + TEST_NAME
+                + "\",\"entity\":\"upload.json\"}]}", multipartEntity.toString());
+    }
+
+    @Test
+    public void testCreateMultipartEntityWithoutFileParts() {
+        MultipartEntity<String> multipartEntity = new MultipartEntity<>(new ArrayList<>());
+
+        assertTrue(multipartEntity.getFileParts().isEmpty());
+    }
+
     @Test
     public void testEqualsAndHashcode() {
         EqualsVerifier.forClass(MultipartEntity.class).usingGetClass().verify();
@@ -0,0 +1,304 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.paging.PageIterator.PAGING_INTERRUPTED_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sap.cloud.rest.api.client.exceptions.ConnectionException;
+import com.sap.cloud.rest.api.client.exceptions.RestApiClientException;
+import com.sap.cloud.rest.api.client.model.Request;
+import com.sap.cloud.rest.api.client.model.Response;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
+
+public class PageIteratorTest {
+
+    private static final URI REQUEST_URI = URI.create("https://example.com/api/items");
+    private static final ObjectReader READER = ObjectMapperRegistry.getDefault().getReader(String.class);
+    private static final PagingStrategy STRATEGY = PagingStrategy.offsetLimit("offset", "limit", 2);
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    private final PageServer server = new PageServer(5);
+
+    @Test
+    public void iterateOverAllPagesTest() {
+        server.completeImmediately = true;
+
+        try (PageIterator<String> items = createIterator(1, Long.MAX_VALUE)) {
+            assertEquals(Arrays.asList("item0", "item1", "item2", "item3", "item4"), collect(items));
+            assertEquals(3, items.getPageCount());
+        }
+        assertEquals(Arrays.asList(REQUEST_URI + "?limit=2", REQUEST_URI + "?limit=2&offset=2",
+                REQUEST_URI + "?limit=2&offset=4"), server.requestedUris());
+    }
+
+    @Test
+    public void withoutItemsTest() {
+        PageServer emptyServer = new PageServer(0);
+        emptyServer.completeImmediately = true;
+
+        try (PageIterator<String> items = new PageIterator<>(REQUEST_URI, READER, createConfig(1, Long.MAX_VALUE),
+                emptyServer)) {
+            assertFalse(items.hasNext());
+        }
+        assertEquals(1, emptyServer.requests.size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextAfterLastItemTest() {
+        server.completeImmediately = true;
+
+        try (PageIterator<String> items = createIterator(1, Long.MAX_VALUE)) {
+            collect(items);
+            items.next();
+        }
+    }
+
+    @Test
+    public void prefetchOnePageTest() {
+        try (PageIterator<String> items = createIterator(1, Long.MAX_VALUE)) {
+            assertEquals(1, server.requests.size());
+
+            server.complete(0);
+            assertEquals(1, server.requests.size());
+
+            assertEquals("item0", items.next());
+            assertEquals(2, server.requests.size());
+
+            server.complete(1);
+            assertEquals(2, server.requests.size());
+
+            assertEquals("item1", items.next());
+            assertEquals("item2", items.next());
+            assertEquals(3, server.requests.size());
+        }
+    }
+
+    @Test
+    public void prefetchTwoPagesTest() {
+        try (PageIterator<String> items = createIterator(2, Long.MAX_VALUE)) {
+            server.complete(0);
+            assertEquals(2, server.requests.size());
+
+            server.complete(1);
+            assertEquals(2, server.requests.size());
+
+            assertEquals("item0", items.next());
+            assertEquals(3, server.requests.size());
+
+            server.complete(2);
+            assertEquals(Arrays.asList("item1", "item2", "item3", "item4"), collect(items));
+        }
+    }
+
+    @Test
+    public void withoutPrefetchTest() {
+        server.completeImmediately = true;
+
+        try (PageIterator<String> items = createIterator(0, Long.MAX_VALUE)) {
+            assertEquals("item0", items.next());
+            assertEquals("item1", items.next());
+            assertEquals(1, server.requests.size());
+
+            assertEquals("item2", items.next());
+            assertEquals(2, server.requests.size());
+        }
+    }
+
+    @Test
+    public void maxPrefetchedSizeTest() {
+        try (PageIterator<String> items = createIterator(3, 1)) {
+            server.complete(0);
+            assertEquals(1, server.requests.size());
+
+            assertEquals("item0", items.next());
+            assertEquals(2, server.requests.size());
+
+            server.complete(1);
+            assertEquals(2, server.requests.size());
+        }
+    }
+
+    @Test
+    public void failedPageTest() {
+        server.complete(0);
+        PageIterator<String> items = createIterator(1, Long.MAX_VALUE);
+        ConnectionException failure = new ConnectionException("Connection refused", new IOException(),
+                new Request<>(new HttpGet(REQUEST_URI)));
+        assertEquals("item0", items.next());
+        server.requests.get(1).future.completeExceptionally(failure);
+
+        assertEquals("item1", items.next());
+        try {
+            items.hasNext();
+            fail("Expected the failure of the second page");
+        } catch (ConnectionException e) {
+            assertSame(failure, e);
+        }
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    public void failingExecutorTest() {
+        expected.expect(IllegalStateException.class);
+
+        try (PageIterator<String> items = new PageIterator<>(REQUEST_URI, READER, createConfig(1, Long.MAX_VALUE),
+                (uri, handler) -> {
+                    throw new IllegalStateException();
+                })) {
+            items.hasNext();
+        }
+    }
+
+    @Test
+    public void closeCancelsPageInFlightTest() {
+        PageIterator<String> items = createIterator(1, Long.MAX_VALUE);
+        CompletableFuture<Response<Page<String>>> future = server.requests.get(0).future;
+
+        items.close();
+
+        assertTrue(future.isCancelled());
+        assertFalse(items.hasNext());
+        assertTrue(items.toString().contains("\"closed\":true"));
+    }
+
+    @Test
+    public void closeStreamClosesIteratorTest() {
+        server.completeImmediately = true;
+        PageIterator<String> items = createIterator(1, Long.MAX_VALUE);
+
+        try (Stream<String> stream = items.stream()) {
+            assertEquals("item0", stream.findFirst().get());
+        }
+
+        assertFalse(items.hasNext());
+        assertEquals(2, server.requests.size());
+    }
+
+    @Test
+    public void interruptedTest() {
+        PageIterator<String> items = createIterator(1, Long.MAX_VALUE);
+        Thread.currentThread().interrupt();
+        try {
+            items.hasNext();
+            fail("Expected the iterator to be interrupted");
+        } catch (RestApiClientException e) {
+            assertEquals(PAGING_INTERRUPTED_MSG, e.getMessage());
+            assertTrue(Thread.interrupted());
+        }
+        assertTrue(server.requests.get(0).future.isCancelled());
+    }
+
+    private PageIterator<String> createIterator(int prefetchDepth, long maxPrefetchedSizeBytes) {
+        return new PageIterator<>(REQUEST_URI, READER, createConfig(prefetchDepth, maxPrefetchedSizeBytes), server);
+    }
+
+    private static PagingConfig createConfig(int prefetchDepth, long maxPrefetchedSizeBytes) {
+        return PagingConfigBuilder.getBuilder()
+                .strategy(STRATEGY)
+                .prefetchDepth(prefetchDepth)
+                .maxPrefetchedSize(maxPrefetchedSizeBytes)
+                .build();
+    }
+
+    private static List<String> collect(PageIterator<String> items) {
+        List<String> collected = new ArrayList<>();
+        items.forEachRemaining(collected::add);
+        return collected;
+    }
+
+    /**
+     * Serves pages of a list of items with offset and limit parameters. The
+     * requests are completed when the test says so, or immediately.
+     */
+    private static class PageServer
+            implements BiFunction<URI, ResponseHandler<Page<String>>, CompletableFuture<Response<Page<String>>>> {
+
+        private final int itemCount;
+        private final List<PageRequest> requests = new ArrayList<>();
+        private final List<Integer> completeOnRequest = new ArrayList<>();
+        private boolean completeImmediately;
+
+        PageServer(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public CompletableFuture<Response<Page<String>>> apply(URI uri, ResponseHandler<Page<String>> handler) {
+            PageRequest request = new PageRequest(uri, handler);
+            requests.add(request);
+            if (completeImmediately || completeOnRequest.contains(requests.size() - 1)) {
+                request.complete(itemCount);
+            }
+            return request.future;
+        }
+
+        void complete(int index) {
+            if (index < requests.size()) {
+                requests.get(index).complete(itemCount);
+            } else {
+                completeOnRequest.add(index);
+            }
+        }
+
+        List<String> requestedUris() {
+            return requests.stream().map(request -> request.uri.toString()).collect(Collectors.toList());
+        }
+    }
+
+    private static class PageRequest {
+
+        private final URI uri;
+        private final ResponseHandler<Page<String>> handler;
+        private final CompletableFuture<Response<Page<String>>> future = new CompletableFuture<>();
+
+        PageRequest(URI uri, ResponseHandler<Page<String>> handler) {
+            this.uri = uri;
+            this.handler = handler;
+        }
+
+        void complete(int itemCount) {
+            String offsetValue = QueryParameters.get(uri, "offset");
+            int offset = offsetValue == null ? 0 : Integer.parseInt(offsetValue);
+            int limit = Integer.parseInt(QueryParameters.get(uri, "limit"));
+            String body = Stream.iterate(offset, i -> i + 1)
+                    .limit(Math.max(0, Math.min(limit, itemCount - offset)))
+                    .map(i -> "\"item" + i + "\"")
+                    .collect(Collectors.joining(",", "[", "]"));
+            HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+            response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+            try {
+                future.complete(new Response<>(response, handler.handleResponse(response)));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.paging.PageResponseHandler.ITEMS_NOT_AN_ARRAY_MSG;
+import static com.sap.cloud.rest.api.client.paging.PageResponseHandler.NEXT_PAGE_URI_NOT_VALID_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry;
+
+public class PageResponseHandlerTest {
+
+    private static final URI PAGE_URI = URI.create("https://example.com/api/items");
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void itemsOfArrayBodyTest() throws Exception {
+        HttpResponse response = createResponse(200, "[{\"field\":\"value1\"},{\"field\":\"value2\",\"other\":1}]");
+        response.addHeader("Link", "<https://example.com/api/items?page=2>; rel=\"next\"");
+
+        Page<TestClass> page = createHandler(PagingConfigBuilder.getBuilder().build()).handleResponse(response);
+
+        assertEquals(PAGE_URI, page.getUri());
+        assertEquals(Arrays.asList("value1", "value2"), fields(page));
+        assertEquals(URI.create("https://example.com/api/items?page=2"), page.getNextPageUri());
+        assertEquals(49, page.getBodySizeBytes());
+        assertNull(page.getErrorBody());
+    }
+
+    @Test
+    public void itemsAtPointerTest() throws Exception {
+        HttpResponse response = createResponse(200,
+                "{\"d\":{\"results\":[{\"field\":\"value\"}],\"__next\":\"items?$skiptoken=1\"}}");
+        PagingConfig config = PagingConfigBuilder.getBuilder()
+                .itemsPointer("/d/results")
+                .strategy(PagingStrategy.nextLink("/d/__next"))
+                .build();
+
+        Page<TestClass> page = createHandler(config).handleResponse(response);
+
+        assertEquals(Arrays.asList("value"), fields(page));
+        assertEquals(URI.create("https://example.com/api/items?$skiptoken=1"), page.getNextPageUri());
+    }
+
+    @Test
+    public void itemsWithTypeReferenceTest() throws Exception {
+        HttpResponse response = createResponse(200, "[{\"field\":\"value\"}]");
+        PageResponseHandler<Map<String, String>> handler = new PageResponseHandler<>(PAGE_URI,
+                ObjectMapperRegistry.getDefault().getReader(new TypeReference<Map<String, String>>() {
+                }), PagingConfigBuilder.getBuilder().build());
+
+        assertEquals("value", handler.handleResponse(response).getItems().get(0).get("field"));
+    }
+
+    @Test
+    public void itemsWithNonUtf8CharsetTest() throws Exception {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity("[{\"field\":\"ä\"}]",
+                ContentType.create("application/json", StandardCharsets.ISO_8859_1)));
+
+        Page<TestClass> page = createHandler(PagingConfigBuilder.getBuilder().build()).handleResponse(response);
+
+        assertEquals(Arrays.asList("ä"), fields(page));
+    }
+
+    @Test
+    public void missingItemsTest() throws Exception {
+        PagingConfig config = PagingConfigBuilder.getBuilder().itemsPointer("/value").build();
+
+        assertTrue(createHandler(config).handleResponse(createResponse(200, "{}")).getItems().isEmpty());
+        assertTrue(createHandler(config).handleResponse(createResponse(200, "{\"value\":null}")).getItems()
+                .isEmpty());
+        assertTrue(createHandler(config).handleResponse(createResponse(200, "")).getItems().isEmpty());
+    }
+
+    @Test
+    public void withoutEntityTest() throws Exception {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 204, "No Content");
+
+        Page<TestClass> page = createHandler(PagingConfigBuilder.getBuilder().build()).handleResponse(response);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextPageUri());
+        assertEquals(0, page.getBodySizeBytes());
+    }
+
+    @Test
+    public void itemsNotAnArrayTest() throws Exception {
+        expected.expect(IOException.class);
+        expected.expectMessage(format(ITEMS_NOT_AN_ARRAY_MSG, "/value", PAGE_URI));
+
+        PagingConfig config = PagingConfigBuilder.getBuilder().itemsPointer("/value").build();
+        createHandler(config).handleResponse(createResponse(200, "{\"value\":{}}"));
+    }
+
+    @Test
+    public void errorStatusCodeTest() throws Exception {
+        Page<TestClass> page = createHandler(PagingConfigBuilder.getBuilder().build())
+                .handleResponse(createResponse(404, "{\"error\":\"not found\"}"));
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextPageUri());
+        assertEquals("{\"error\":\"not found\"}", page.getErrorBody());
+        assertTrue(page.toString().contains("not found"));
+    }
+
+    @Test
+    public void nextPageWithSameUriTest() throws Exception {
+        HttpResponse response = createResponse(200, "[]");
+        response.addHeader("Link", "<" + PAGE_URI + ">; rel=\"next\"");
+
+        assertNull(createHandler(PagingConfigBuilder.getBuilder().build()).handleResponse(response)
+                .getNextPageUri());
+    }
+
+    @Test
+    public void invalidNextPageUriTest() throws Exception {
+        expected.expect(IOException.class);
+        expected.expectMessage(format(NEXT_PAGE_URI_NOT_VALID_MSG, PAGE_URI));
+
+        HttpResponse response = createResponse(200, "[]");
+        response.addHeader("Link", "<https://example.com/api/items?a=b c>; rel=\"next\"");
+        createHandler(PagingConfigBuilder.getBuilder().build()).handleResponse(response);
+    }
+
+    private static PageResponseHandler<TestClass> createHandler(PagingConfig config) {
+        return new PageResponseHandler<>(PAGE_URI, ObjectMapperRegistry.getDefault().getReader(TestClass.class),
+                config);
+    }
+
+    private static HttpResponse createResponse(int statusCode, String body) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "");
+        response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+
+    private static List<String> fields(Page<TestClass> page) {
+        return page.getItems().stream().map(item -> item.field).collect(Collectors.toList());
+    }
+
+    static class TestClass {
+
+        public String field;
+    }
+}
@@ -0,0 +1,92 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.DEFAULT_ITEMS_POINTER;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.DEFAULT_MAX_PREFETCHED_SIZE_BYTES;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.DEFAULT_PREFETCH_DEPTH;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.ITEMS_POINTER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.MAX_PREFETCHED_SIZE_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.PREFETCH_DEPTH_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.paging.PagingConfig.STRATEGY_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PagingConfigBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        PagingConfig config = PagingConfigBuilder.getBuilder().build();
+
+        assertSame(PagingStrategy.linkHeader(), config.getStrategy());
+        assertEquals(DEFAULT_ITEMS_POINTER, config.getItemsPointer().toString());
+        assertEquals(DEFAULT_PREFETCH_DEPTH, config.getPrefetchDepth());
+        assertEquals(DEFAULT_MAX_PREFETCHED_SIZE_BYTES, config.getMaxPrefetchedSizeBytes());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        PagingStrategy strategy = PagingStrategy.nextLink("/@odata.nextLink");
+        PagingConfig config = PagingConfigBuilder.getBuilder()
+                .strategy(strategy)
+                .itemsPointer("/value")
+                .prefetchDepth(3)
+                .maxPrefetchedSize(1024)
+                .build();
+
+        assertSame(strategy, config.getStrategy());
+        assertEquals("/value", config.getItemsPointer().toString());
+        assertEquals(3, config.getPrefetchDepth());
+        assertEquals(1024, config.getMaxPrefetchedSizeBytes());
+    }
+
+    @Test
+    public void buildWithZeroPrefetchDepthTest() {
+        assertEquals(0, PagingConfigBuilder.getBuilder().prefetchDepth(0).build().getPrefetchDepth());
+    }
+
+    @Test
+    public void buildWithNullStrategyTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(STRATEGY_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        PagingConfigBuilder.getBuilder().strategy(null).build();
+    }
+
+    @Test
+    public void buildWithNullItemsPointerTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(ITEMS_POINTER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        PagingConfigBuilder.getBuilder().itemsPointer(null).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildWithInvalidItemsPointerTest() {
+        PagingConfigBuilder.getBuilder().itemsPointer("value").build();
+    }
+
+    @Test
+    public void buildWithNegativePrefetchDepthTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(PREFETCH_DEPTH_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        PagingConfigBuilder.getBuilder().prefetchDepth(-1).build();
+    }
+
+    @Test
+    public void buildWithZeroMaxPrefetchedSizeTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_PREFETCHED_SIZE_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        PagingConfigBuilder.getBuilder().maxPrefetchedSize(0).build();
+    }
+}
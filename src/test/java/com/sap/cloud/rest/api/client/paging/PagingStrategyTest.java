@@ -0,0 +1,162 @@
+package com.sap.cloud.rest.api.client.paging;
+
+import static com.sap.cloud.rest.api.client.paging.BodyLinkPagingStrategy.JSON_POINTER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.paging.OffsetLimitPagingStrategy.LIMIT_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.paging.OffsetLimitPagingStrategy.OFFSET_PARAMETER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.net.URI;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+public class PagingStrategyTest {
+
+    private static final URI PAGE_URI = URI.create("https://example.com/api/items?filter=a%20b");
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void linkHeaderTest() {
+        HttpResponse response = createResponse();
+        response.addHeader("Link", "<https://example.com/api/items?page=1>; rel=\"prev\", "
+                + "<https://example.com/api/items?page=3>; rel=\"next\"");
+
+        assertEquals(URI.create("https://example.com/api/items?page=3"), getNextPageUri(PagingStrategy.linkHeader(),
+                response, MissingNode.getInstance()));
+    }
+
+    @Test
+    public void linkHeaderWithRelativeLinkAndRelationListTest() {
+        HttpResponse response = createResponse();
+        response.addHeader("Link", "</api/items?cursor=x,y>; title=\"a;b, c\"; rel=\"last next\"");
+
+        assertEquals(URI.create("https://example.com/api/items?cursor=x,y"),
+                getNextPageUri(PagingStrategy.linkHeader(), response, MissingNode.getInstance()));
+    }
+
+    @Test
+    public void linkHeaderInSecondHeaderTest() {
+        HttpResponse response = createResponse();
+        response.addHeader("Link", "<https://example.com/api/items?page=1>; rel=first");
+        response.addHeader("Link", "<https://example.com/api/items?page=2>; REL=Next");
+
+        assertEquals(URI.create("https://example.com/api/items?page=2"), getNextPageUri(PagingStrategy.linkHeader(),
+                response, MissingNode.getInstance()));
+    }
+
+    @Test
+    public void linkHeaderWithoutNextLinkTest() {
+        HttpResponse response = createResponse();
+        response.addHeader("Link", "<https://example.com/api/items?page=1>; rel=\"prev\"");
+
+        assertNull(getNextPageUri(PagingStrategy.linkHeader(), response, MissingNode.getInstance()));
+        assertNull(getNextPageUri(PagingStrategy.linkHeader(), createResponse(), MissingNode.getInstance()));
+    }
+
+    @Test
+    public void findNextLinkWithMalformedHeaderTest() {
+        assertNull(LinkHeaderPagingStrategy.findNextLink("<https://example.com/api/items; rel=next"));
+        assertNull(LinkHeaderPagingStrategy.findNextLink("https://example.com/api/items; rel=next"));
+    }
+
+    @Test
+    public void nextLinkTest() throws Exception {
+        PagingStrategy strategy = PagingStrategy.nextLink("/@odata.nextLink");
+
+        assertEquals(URI.create("https://example.com/api/items?$skiptoken=abc"), getNextPageUri(strategy,
+                createResponse(), readTree("{\"value\":[],\"@odata.nextLink\":\"items?$skiptoken=abc\"}")));
+        assertNull(getNextPageUri(strategy, createResponse(), readTree("{\"value\":[]}")));
+        assertNull(getNextPageUri(strategy, createResponse(), readTree("{\"@odata.nextLink\":null}")));
+        assertNull(getNextPageUri(strategy, createResponse(), MissingNode.getInstance()));
+    }
+
+    @Test
+    public void nextLinkWithNullPointerTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(JSON_POINTER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        PagingStrategy.nextLink(null);
+    }
+
+    @Test
+    public void skipTokenTest() throws Exception {
+        PagingStrategy strategy = PagingStrategy.skipToken("/d/__skiptoken");
+
+        assertEquals(URI.create("https://example.com/api/items?filter=a%20b&$skiptoken=a%2Bb"),
+                getNextPageUri(strategy, createResponse(), readTree("{\"d\":{\"__skiptoken\":\"a+b\"}}")));
+        assertNull(getNextPageUri(strategy, createResponse(), readTree("{\"d\":{\"__skiptoken\":\"\"}}")));
+    }
+
+    @Test
+    public void skipTokenReplacesParameterTest() throws Exception {
+        PagingStrategy strategy = PagingStrategy.skipToken("/cursor", "cursor");
+        URI pageUri = URI.create("https://example.com/api/items?cursor=1&size=10#top");
+
+        assertEquals(URI.create("https://example.com/api/items?size=10&cursor=2#top"),
+                strategy.getNextPageUri(pageUri, createResponse(), readTree("{\"cursor\":2}"), 10));
+    }
+
+    @Test
+    public void offsetLimitTest() {
+        PagingStrategy strategy = PagingStrategy.offsetLimit("$skip", "$top", 2);
+        URI firstPageUri = strategy.getFirstPageUri(PAGE_URI);
+        assertEquals(URI.create("https://example.com/api/items?filter=a%20b&$top=2"), firstPageUri);
+
+        URI secondPageUri = strategy.getNextPageUri(firstPageUri, createResponse(), MissingNode.getInstance(), 2);
+        assertEquals(URI.create("https://example.com/api/items?filter=a%20b&$top=2&$skip=2"), secondPageUri);
+
+        URI thirdPageUri = strategy.getNextPageUri(secondPageUri, createResponse(), MissingNode.getInstance(), 2);
+        assertEquals(URI.create("https://example.com/api/items?filter=a%20b&$top=2&$skip=4"), thirdPageUri);
+
+        assertNull(strategy.getNextPageUri(thirdPageUri, createResponse(), MissingNode.getInstance(), 1));
+    }
+
+    @Test
+    public void offsetLimitWithInvalidOffsetTest() {
+        expected.expect(IllegalArgumentException.class);
+
+        PagingStrategy.offsetLimit("offset", "limit", 2).getNextPageUri(
+                URI.create("https://example.com/api/items?offset=x"), createResponse(), MissingNode.getInstance(), 2);
+    }
+
+    @Test
+    public void offsetLimitWithNullParameterTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(OFFSET_PARAMETER_DISPLAY_NAME);
+
+        PagingStrategy.offsetLimit(null, "limit", 10);
+    }
+
+    @Test
+    public void offsetLimitWithZeroLimitTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(LIMIT_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        PagingStrategy.offsetLimit("offset", "limit", 0);
+    }
+
+    private static URI getNextPageUri(PagingStrategy strategy, HttpResponse response, JsonNode body) {
+        return strategy.getNextPageUri(PAGE_URI, response, body, 10);
+    }
+
+    private static HttpResponse createResponse() {
+        return new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+    }
+
+    private static JsonNode readTree(String json) throws Exception {
+        return new ObjectMapper().readTree(json);
+    }
+}
@@ -0,0 +1,290 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import static com.sap.cloud.rest.api.client.retry.RetryHandler.NO_RETRY;
+import static com.sap.cloud.rest.api.client.retry.RetryHandler.RETRY_HANDLER_CLOSED_MSG;
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.sap.cloud.rest.api.client.utils.test.MutableClock;
+
+public class RetryHandlerTest {
+
+    private static final long NOW = 1_500_000_000_000L;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final RecordingRetryListener retryListener = new RecordingRetryListener();
+    private final HttpUriRequest getRequest = RequestBuilder.get("https://example.com").build();
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void backoffIsExponentialAndCappedTest() {
+        RetryHandler retryHandler = createRetryHandler(RetryPolicyBuilder.getBuilder()
+                .initialBackoff(100)
+                .maxBackoff(1000)
+                .build(), 1.0);
+
+        assertEquals(100, retryHandler.getBackoffMillis(1));
+        assertEquals(200, retryHandler.getBackoffMillis(2));
+        assertEquals(400, retryHandler.getBackoffMillis(3));
+        assertEquals(800, retryHandler.getBackoffMillis(4));
+        assertEquals(1000, retryHandler.getBackoffMillis(5));
+        assertEquals(1000, retryHandler.getBackoffMillis(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void backoffIsJitteredTest() {
+        RetryHandler retryHandler = createRetryHandler(RetryPolicyBuilder.getBuilder()
+                .initialBackoff(100)
+                .build(), 0.5);
+
+        assertEquals(50, retryHandler.getBackoffMillis(1));
+        assertEquals(400, retryHandler.getBackoffMillis(4));
+    }
+
+    @Test
+    public void retryOnRetryableStatusCodeTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        long delay = retryHandler.getRetryDelay(getRequest, 1, makeMockedResponseWithStatusCode(503));
+
+        assertEquals(50, delay);
+        assertEquals(1, retryListener.retries.size());
+        RetryEvent event = retryListener.retries.get(0);
+        assertSame(getRequest, event.getRequest());
+        assertEquals(1, event.getAttempt());
+        assertEquals(503, event.getStatusCode());
+        assertNull(event.getException());
+        assertEquals(50, event.getDelayMillis());
+    }
+
+    @Test
+    public void noRetryOnOtherStatusCodeTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 1, makeMockedResponseWithStatusCode(500)));
+        assertTrue(retryListener.retries.isEmpty());
+        assertTrue(retryListener.abandoned.isEmpty());
+    }
+
+    @Test
+    public void noRetryAfterMaxAttemptsTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(2), 0.5);
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 2, makeMockedResponseWithStatusCode(503)));
+        assertEquals(1, retryListener.abandoned.size());
+        assertEquals(2, retryListener.abandoned.get(0).getAttempt());
+    }
+
+    @Test
+    public void retryOnIOExceptionTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        IOException exception = new IOException();
+
+        assertEquals(100, retryHandler.getRetryDelay(getRequest, 2, exception));
+        assertSame(exception, retryListener.retries.get(0).getException());
+        assertEquals(RetryEvent.NO_STATUS_CODE, retryListener.retries.get(0).getStatusCode());
+    }
+
+    @Test
+    public void noRetryOnUnknownHostTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 1, new UnknownHostException()));
+        assertEquals(1, retryListener.abandoned.size());
+    }
+
+    @Test
+    public void noRetryForNonIdempotentRequestTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        HttpUriRequest postRequest = RequestBuilder.post("https://example.com").build();
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(postRequest, 1, new IOException()));
+    }
+
+    @Test
+    public void retryForNonIdempotentRequestIfEnabledTest() throws Exception {
+        RetryHandler retryHandler = createRetryHandler(RetryPolicyBuilder.getBuilder()
+                .retryNonIdempotentRequests(true)
+                .retryListener(retryListener)
+                .build(), 0.5);
+        HttpUriRequest postRequest = RequestBuilder.post("https://example.com")
+                .setEntity(new StringEntity("entity"))
+                .build();
+
+        assertEquals(50, retryHandler.getRetryDelay(postRequest, 1, new IOException()));
+    }
+
+    @Test
+    public void noRetryForNonRepeatableEntityTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        HttpUriRequest putRequest = RequestBuilder.put("https://example.com")
+                .setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[1])))
+                .build();
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(putRequest, 1, new IOException()));
+    }
+
+    @Test
+    public void retryBudgetLimitsRetriesTest() {
+        RetryHandler retryHandler = createRetryHandler(RetryPolicyBuilder.getBuilder()
+                .maxAttempts(10)
+                .retryBudget(0.5, 2)
+                .retryListener(retryListener)
+                .build(), 0.5);
+
+        assertEquals(50, retryHandler.getRetryDelay(getRequest, 1, new IOException()));
+        assertEquals(50, retryHandler.getRetryDelay(getRequest, 1, new IOException()));
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 1, new IOException()));
+
+        retryHandler.onRequest();
+        retryHandler.onRequest();
+
+        assertEquals(50, retryHandler.getRetryDelay(getRequest, 1, new IOException()));
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 1, new IOException()));
+    }
+
+    @Test
+    public void retryAfterSecondsTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        long delay = retryHandler.getRetryDelay(getRequest, 1, makeResponseWithRetryAfter(429, "2"));
+
+        assertEquals(2000, delay);
+    }
+
+    @Test
+    public void retryAfterDateTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        String date = DateUtils.formatDate(new Date(NOW + 5000));
+
+        long delay = retryHandler.getRetryDelay(getRequest, 1, makeResponseWithRetryAfter(503, date));
+
+        assertEquals(5000, delay);
+    }
+
+    @Test
+    public void retryAfterDateInThePastTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        String date = DateUtils.formatDate(new Date(NOW - 5000));
+
+        assertEquals(0, retryHandler.getRetryDelay(getRequest, 1, makeResponseWithRetryAfter(503, date)));
+    }
+
+    @Test
+    public void invalidRetryAfterUsesBackoffTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        assertEquals(50, retryHandler.getRetryDelay(getRequest, 1, makeResponseWithRetryAfter(503, "soon")));
+    }
+
+    @Test
+    public void retryAfterExceedingMaximumIsNotRetriedTest() {
+        RetryHandler retryHandler = createRetryHandler(RetryPolicyBuilder.getBuilder()
+                .maxRetryAfter(1000)
+                .retryListener(retryListener)
+                .build(), 0.5);
+
+        assertEquals(NO_RETRY, retryHandler.getRetryDelay(getRequest, 1, makeResponseWithRetryAfter(503, "2")));
+        assertEquals(1, retryListener.abandoned.size());
+    }
+
+    @Test
+    public void onAttemptNotifiesListenerTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+
+        retryHandler.onAttempt(getRequest, 1);
+        retryHandler.onAttempt(getRequest, 2);
+
+        assertEquals(2, retryListener.attempts);
+    }
+
+    @Test
+    public void scheduleRetryTest() throws Exception {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        CountDownLatch retried = new CountDownLatch(1);
+
+        retryHandler.scheduleRetry(retried::countDown, 1);
+
+        assertTrue(retried.await(5, TimeUnit.SECONDS));
+        retryHandler.close();
+    }
+
+    @Test
+    public void scheduleRetryAfterCloseTest() {
+        RetryHandler retryHandler = createRetryHandler(createRetryPolicy(3), 0.5);
+        retryHandler.close();
+
+        expected.expect(IllegalStateException.class);
+        expected.expectMessage(RETRY_HANDLER_CLOSED_MSG);
+
+        retryHandler.scheduleRetry(() -> {
+        }, 1);
+    }
+
+    private RetryPolicy createRetryPolicy(int maxAttempts) {
+        return RetryPolicyBuilder.getBuilder()
+                .maxAttempts(maxAttempts)
+                .retryListener(retryListener)
+                .build();
+    }
+
+    private RetryHandler createRetryHandler(RetryPolicy retryPolicy, double random) {
+        return new RetryHandler(retryPolicy, clock, () -> random);
+    }
+
+    private static HttpResponse makeResponseWithRetryAfter(int statusCode, String retryAfter) {
+        HttpResponse response = makeMockedResponseWithStatusCode(statusCode);
+        doReturn(new BasicHeader(HttpHeaders.RETRY_AFTER, retryAfter)).when(response)
+                .getFirstHeader(HttpHeaders.RETRY_AFTER);
+        return response;
+    }
+
+    private static class RecordingRetryListener implements RetryListener {
+
+        private final List<RetryEvent> retries = new ArrayList<>();
+        private final List<RetryEvent> abandoned = new ArrayList<>();
+        private int attempts;
+
+        @Override
+        public void onAttempt(HttpUriRequest request, int attempt) {
+            attempts++;
+        }
+
+        @Override
+        public void onRetry(RetryEvent event) {
+            retries.add(event);
+        }
+
+        @Override
+        public void onRetryAbandoned(RetryEvent event) {
+            abandoned.add(event);
+        }
+    }
+}
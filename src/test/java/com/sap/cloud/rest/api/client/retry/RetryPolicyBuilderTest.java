@@ -0,0 +1,113 @@
+package com.sap.cloud.rest.api.client.retry;
+
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_INITIAL_BACKOFF_MILLIS;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_MAX_ATTEMPTS;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_MAX_BACKOFF_MILLIS;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_MAX_RETRY_AFTER_MILLIS;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_RETRYABLE_STATUS_CODES;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_RETRY_BUDGET_CAPACITY;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.DEFAULT_RETRY_BUDGET_RATIO;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.INVALID_MAX_BACKOFF_MSG;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.MAX_ATTEMPTS_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.RETRY_BUDGET_RATIO_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.retry.RetryPolicy.RETRY_LISTENER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NEGATIVE_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.MUST_BE_POSITIVE_MSG;
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class RetryPolicyBuilderTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void buildWithDefaultsTest() {
+        RetryPolicy retryPolicy = RetryPolicyBuilder.getBuilder().build();
+
+        assertEquals(DEFAULT_MAX_ATTEMPTS, retryPolicy.getMaxAttempts());
+        assertEquals(DEFAULT_INITIAL_BACKOFF_MILLIS, retryPolicy.getInitialBackoffMillis());
+        assertEquals(DEFAULT_MAX_BACKOFF_MILLIS, retryPolicy.getMaxBackoffMillis());
+        assertEquals(DEFAULT_RETRYABLE_STATUS_CODES, retryPolicy.getRetryableStatusCodes());
+        assertFalse(retryPolicy.isRetryNonIdempotentRequests());
+        assertEquals(DEFAULT_MAX_RETRY_AFTER_MILLIS, retryPolicy.getMaxRetryAfterMillis());
+        assertEquals(DEFAULT_RETRY_BUDGET_RATIO, retryPolicy.getRetryBudgetRatio(), 0);
+        assertEquals(DEFAULT_RETRY_BUDGET_CAPACITY, retryPolicy.getRetryBudgetCapacity());
+        assertSame(RetryListener.NONE, retryPolicy.getRetryListener());
+    }
+
+    @Test
+    public void buildWithAllSettingsTest() {
+        RetryListener retryListener = new RetryListener() {
+        };
+
+        RetryPolicy retryPolicy = RetryPolicyBuilder.getBuilder()
+                .maxAttempts(5)
+                .initialBackoff(50)
+                .maxBackoff(2000)
+                .retryOnStatusCodes(502, 503, 504)
+                .retryNonIdempotentRequests(true)
+                .maxRetryAfter(5000)
+                .retryBudget(0.5, 20)
+                .retryListener(retryListener)
+                .build();
+
+        assertEquals(5, retryPolicy.getMaxAttempts());
+        assertEquals(50, retryPolicy.getInitialBackoffMillis());
+        assertEquals(2000, retryPolicy.getMaxBackoffMillis());
+        assertEquals(new HashSet<>(Arrays.asList(502, 503, 504)), retryPolicy.getRetryableStatusCodes());
+        assertTrue(retryPolicy.isRetryNonIdempotentRequests());
+        assertEquals(5000, retryPolicy.getMaxRetryAfterMillis());
+        assertEquals(0.5, retryPolicy.getRetryBudgetRatio(), 0);
+        assertEquals(20, retryPolicy.getRetryBudgetCapacity());
+        assertSame(retryListener, retryPolicy.getRetryListener());
+    }
+
+    @Test
+    public void noRetriesTest() {
+        assertEquals(1, RetryPolicy.noRetries().getMaxAttempts());
+    }
+
+    @Test
+    public void buildWithZeroMaxAttemptsTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(MAX_ATTEMPTS_DISPLAY_NAME + MUST_BE_POSITIVE_MSG);
+
+        RetryPolicyBuilder.getBuilder().maxAttempts(0).build();
+    }
+
+    @Test
+    public void buildWithMaxBackoffLessThanInitialBackoffTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(format(INVALID_MAX_BACKOFF_MSG, 100, 200));
+
+        RetryPolicyBuilder.getBuilder().initialBackoff(200).maxBackoff(100).build();
+    }
+
+    @Test
+    public void buildWithNegativeRetryBudgetRatioTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RETRY_BUDGET_RATIO_DISPLAY_NAME + CANNOT_BE_NEGATIVE_MSG);
+
+        RetryPolicyBuilder.getBuilder().retryBudget(-0.1, 10).build();
+    }
+
+    @Test
+    public void buildWithNullRetryListenerTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(RETRY_LISTENER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        RetryPolicyBuilder.getBuilder().retryListener(null).build();
+    }
+}
@@ -1,18 +1,33 @@
 package com.sap.cloud.rest.api.client.utils;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.sap.cloud.rest.api.client.utils.JacksonJsonResponseHandler;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusAndEntity;
 import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.when;
 
 public class JacksonJsonResponseHandlerTest {
 
@@ -78,9 +93,87 @@ public class JacksonJsonResponseHandlerTest {
         responseHandler.handleResponse(mockResponse);
     }
 
+    @Test
+    public void testWithEmptyEntityShouldReturnNull() throws Exception {
+        HttpResponse mockResponse = makeMockedResponseWithStatusAndEntity(200, "");
+
+        JacksonJsonResponseHandler<TestClass> responseHandler = new JacksonJsonResponseHandler<>(TestClass.class);
+
+        assertNull(responseHandler.handleResponse(mockResponse));
+    }
+
+    @Test
+    public void testWithUtf8StreamShouldParseToObject() throws Exception {
+        byte[] json = "{ \"field\": \"\u00e4\u20ac\"}".getBytes(StandardCharsets.UTF_8);
+        HttpResponse mockResponse = mockResponseWithEntity(
+                new InputStreamEntity(new ByteArrayInputStream(json), ContentType.APPLICATION_JSON));
+
+        JacksonJsonResponseHandler<TestClass> responseHandler = new JacksonJsonResponseHandler<>(TestClass.class);
+
+        assertEquals("\u00e4\u20ac", responseHandler.handleResponse(mockResponse).field);
+    }
+
+    @Test
+    public void testWithNonUtf8CharsetShouldParseToObject() throws Exception {
+        ContentType contentType = ContentType.create("application/json", StandardCharsets.UTF_16BE);
+        HttpResponse mockResponse = mockResponseWithEntity(new StringEntity("{ \"field\": \"\u00e4\"}", contentType));
+
+        JacksonJsonResponseHandler<TestClass> responseHandler = new JacksonJsonResponseHandler<>(TestClass.class);
+
+        assertEquals("\u00e4", responseHandler.handleResponse(mockResponse).field);
+    }
+
+    @Test
+    public void testWithInvalidJsonShouldCloseStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream content = new ByteArrayInputStream("{ \"field\": ".getBytes(StandardCharsets.UTF_8)) {
+
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        HttpResponse mockResponse = mockResponseWithEntity(
+                new InputStreamEntity(content, ContentType.APPLICATION_JSON));
+
+        JacksonJsonResponseHandler<TestClass> responseHandler = new JacksonJsonResponseHandler<>(TestClass.class);
+        try {
+            responseHandler.handleResponse(mockResponse);
+            fail("Expected the incomplete JSON to be rejected");
+        } catch (JsonProcessingException e) {
+            assertTrue(closed.get());
+        }
+    }
+
+    @Test
+    public void testWithCustomObjectMapperShouldParseToObject() throws Exception {
+        HttpResponse mockResponse = makeMockedResponseWithStatusAndEntity(200,
+                "{ \"some_field\": \"value\", \"unknown\": \"value\"}");
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(
+                new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+
+        JacksonJsonResponseHandler<SnakeCaseTestClass> responseHandler = new JacksonJsonResponseHandler<>(
+                SnakeCaseTestClass.class, registry);
+        SnakeCaseTestClass resultEntity = responseHandler.handleResponse(mockResponse);
+
+        assertEquals("value", resultEntity.someField);
+    }
+
+    private static HttpResponse mockResponseWithEntity(HttpEntity entity) {
+        HttpResponse mockResponse = makeMockedResponseWithStatusCode(200);
+        when(mockResponse.getEntity()).thenReturn(entity);
+        return mockResponse;
+    }
+
     private static class TestClass {
 
         public String field;
     }
 
+    private static class SnakeCaseTestClass {
+
+        public String someField;
+    }
+
 }
\ No newline at end of file
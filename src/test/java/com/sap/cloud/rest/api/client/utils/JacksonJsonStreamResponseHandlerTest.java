@@ -0,0 +1,235 @@
+package com.sap.cloud.rest.api.client.utils;
+
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusAndEntity;
+import static com.sap.cloud.rest.api.client.utils.test.MockResponseUtil.makeMockedResponseWithStatusCode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class JacksonJsonStreamResponseHandlerTest {
+
+    private static final String JSON_ARRAY = "[{\"field\":\"value1\"},{\"field\":\"value2\"},{\"field\":\"value3\"}]";
+    private static final String NDJSON = "{\"field\":\"value1\"}\n{\"field\":\"value2\"}\n{\"field\":\"value3\"}\n";
+
+    private final JacksonJsonStreamResponseHandler<TestClass> responseHandler =
+            new JacksonJsonStreamResponseHandler<>(TestClass.class);
+
+    @Test
+    public void testWithJsonArrayShouldIterateOverElements() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, JSON_ARRAY);
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertEquals(Arrays.asList("value1", "value2", "value3"), fields(records));
+        }
+    }
+
+    @Test
+    public void testWithNdjsonShouldIterateOverLines() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, NDJSON);
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertEquals(Arrays.asList("value1", "value2", "value3"), fields(records));
+        }
+    }
+
+    @Test
+    public void testWithTypeReferenceShouldIterateOverElements() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, JSON_ARRAY);
+        JacksonJsonStreamResponseHandler<Map<String, String>> mapHandler =
+                new JacksonJsonStreamResponseHandler<>(new TypeReference<Map<String, String>>() {
+                });
+
+        try (JsonRecordIterator<Map<String, String>> records = mapHandler.handleResponse(response)) {
+            assertEquals("value1", records.next().get("field"));
+        }
+    }
+
+    @Test
+    public void testWithUnknownPropertiesShouldIgnoreThem() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, "{\"field\":\"value\",\"other\":1}");
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertEquals("value", records.next().field);
+            assertFalse(records.hasNext());
+        }
+    }
+
+    @Test
+    public void testWithNonUtf8CharsetShouldDecodeRecords() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusCode(200);
+        when(response.getEntity()).thenReturn(new StringEntity("[{\"field\":\"ä\"}]",
+                ContentType.create("application/json", StandardCharsets.ISO_8859_1)));
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertEquals("ä", records.next().field);
+        }
+    }
+
+    @Test
+    public void testWithEmptyBodyShouldHaveNoRecords() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, "");
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertFalse(records.hasNext());
+        }
+    }
+
+    @Test
+    public void testWithoutEntityShouldHaveNoRecords() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusCode(204);
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertFalse(records.hasNext());
+            assertNull(records.getErrorBody());
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextAfterLastRecordShouldThrow() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, "[]");
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            records.next();
+        }
+    }
+
+    @Test
+    public void testWithErrorStatusShouldKeepErrorBody() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(404, "{\"error\":\"not found\"}");
+
+        try (JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response)) {
+            assertFalse(records.hasNext());
+            assertEquals("{\"error\":\"not found\"}", records.getErrorBody());
+            assertTrue(records.toString().contains("not found"));
+        }
+    }
+
+    @Test
+    public void testReadingAllRecordsShouldCloseContentButNotConnection() throws Exception {
+        TrackingInputStream content = new TrackingInputStream(NDJSON);
+        CloseableHttpResponse response = mockCloseableResponse(content);
+
+        JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response);
+        assertEquals(3, fields(records).size());
+
+        assertTrue(content.closed);
+        verify(response, never()).close();
+    }
+
+    @Test
+    public void testClosingEarlyShouldCloseConnection() throws Exception {
+        TrackingInputStream content = new TrackingInputStream(NDJSON);
+        CloseableHttpResponse response = mockCloseableResponse(content);
+
+        JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response);
+        assertEquals("value1", records.next().field);
+        records.close();
+        records.close();
+
+        assertTrue(content.closed);
+        verify(response).close();
+        assertFalse(records.hasNext());
+    }
+
+    @Test
+    public void testClosingStreamShouldCloseIterator() throws Exception {
+        TrackingInputStream content = new TrackingInputStream(JSON_ARRAY);
+        CloseableHttpResponse response = mockCloseableResponse(content);
+
+        try (Stream<TestClass> records = responseHandler.handleResponse(response).stream()) {
+            assertEquals("value1", records.findFirst().get().field);
+        }
+
+        assertTrue(content.closed);
+        verify(response).close();
+    }
+
+    @Test
+    public void testStreamShouldContainAllRecords() throws Exception {
+        HttpResponse response = makeMockedResponseWithStatusAndEntity(200, JSON_ARRAY);
+
+        try (Stream<TestClass> records = responseHandler.handleResponse(response).stream()) {
+            assertEquals(Arrays.asList("value1", "value2", "value3"),
+                    records.map(record -> record.field).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testWithInvalidRecordShouldCloseConnection() throws Exception {
+        TrackingInputStream content = new TrackingInputStream("{\"field\":\"value1\"}\n{\"field\":");
+        CloseableHttpResponse response = mockCloseableResponse(content);
+        JsonRecordIterator<TestClass> records = responseHandler.handleResponse(response);
+        records.next();
+
+        try {
+            records.next();
+            fail("Expected the invalid record to fail");
+        } catch (RuntimeException e) {
+            assertTrue(content.closed);
+            verify(response).close();
+        }
+    }
+
+    private static CloseableHttpResponse mockCloseableResponse(TrackingInputStream content) {
+        CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        StatusLine statusLine = mock(StatusLine.class);
+        when(response.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(200);
+        when(response.getEntity()).thenReturn(new InputStreamEntity(content, ContentType.APPLICATION_JSON));
+        return response;
+    }
+
+    private static List<String> fields(JsonRecordIterator<TestClass> records) {
+        List<String> fields = new ArrayList<>();
+        records.forEachRemaining(record -> fields.add(record.field));
+        return fields;
+    }
+
+    private static class TrackingInputStream extends FilterInputStream {
+
+        private boolean closed;
+
+        TrackingInputStream(String content) {
+            super(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static class TestClass {
+
+        public String field;
+    }
+}
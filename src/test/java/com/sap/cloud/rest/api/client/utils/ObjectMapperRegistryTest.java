@@ -0,0 +1,81 @@
+package com.sap.cloud.rest.api.client.utils;
+
+import static com.sap.cloud.rest.api.client.utils.ObjectMapperRegistry.OBJECT_MAPPER_DISPLAY_NAME;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.CANNOT_BE_NULL_MSG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+public class ObjectMapperRegistryTest {
+
+    @Rule
+    public ExpectedException expected = ExpectedException.none();
+
+    @Test
+    public void testReaderIsCachedPerType() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(new ObjectMapper());
+
+        assertSame(registry.getReader(TestClass.class), registry.getReader(TestClass.class));
+        assertNotSame(registry.getReader(TestClass.class), registry.getReader(Map.class));
+    }
+
+    @Test
+    public void testReaderIsCachedPerResolvedTypeReference() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(new ObjectMapper());
+
+        assertSame(registry.getReader(new TypeReference<List<TestClass>>() {
+        }), registry.getReader(new TypeReference<List<TestClass>>() {
+        }));
+        assertSame(registry.getReader(TestClass.class), registry.getReader(new TypeReference<TestClass>() {
+        }));
+    }
+
+    @Test
+    public void testWriterIsCachedPerType() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(new ObjectMapper());
+
+        assertSame(registry.getWriter(TestClass.class), registry.getWriter(TestClass.class));
+    }
+
+    @Test
+    public void testReaderAndWriterUseConfiguredMapper() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(objectMapper);
+
+        TestClass entity = registry.getReader(TestClass.class).readValue("{\"some_field\":\"value\"}");
+
+        assertEquals("value", entity.someField);
+        assertEquals("{\"some_field\":\"value\"}", registry.getWriter(TestClass.class).writeValueAsString(entity));
+        assertSame(objectMapper, registry.getObjectMapper());
+    }
+
+    @Test
+    public void testDefaultRegistryIsShared() {
+        assertSame(ObjectMapperRegistry.getDefault(), ObjectMapperRegistry.getDefault());
+    }
+
+    @Test
+    public void testCreateWithNullObjectMapper() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(OBJECT_MAPPER_DISPLAY_NAME + CANNOT_BE_NULL_MSG);
+
+        new ObjectMapperRegistry(null);
+    }
+
+    private static class TestClass {
+
+        public String someField;
+    }
+}
@@ -1,7 +1,9 @@
 package com.sap.cloud.rest.api.client.utils;
 
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotEmptyOrNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNegative;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isNotNull;
+import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isPositive;
 import static com.sap.cloud.rest.api.client.utils.ValidateArgument.isValidUrl;
 
 import org.junit.Rule;
@@ -18,6 +20,8 @@ public class ValidateArgumentTest {
 
     private static final String STRING_ARGUMENT = "String";
 
+    private static final String NUMBER_ARGUMENT = "Number";
+
     private static final String URL_MSG_PREFIX = "Host URL";
 
     private static final String TEST_CORRECT_URL = "https://example.com";
@@ -100,4 +104,29 @@ public class ValidateArgumentTest {
 
     }
 
+    @Test
+    public void isNotNegativeValidNumberTest() {
+        isNotNegative(NUMBER_ARGUMENT, 0);
+    }
+
+    @Test
+    public void isNotNegativeNegativeNumberTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(NUMBER_ARGUMENT + ValidateArgument.CANNOT_BE_NEGATIVE_MSG);
+
+        isNotNegative(NUMBER_ARGUMENT, -1);
+    }
+
+    @Test
+    public void isPositiveValidNumberTest() {
+        isPositive(NUMBER_ARGUMENT, 1);
+    }
+
+    @Test
+    public void isPositiveZeroTest() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage(NUMBER_ARGUMENT + ValidateArgument.MUST_BE_POSITIVE_MSG);
+
+        isPositive(NUMBER_ARGUMENT, 0);
+    }
 }
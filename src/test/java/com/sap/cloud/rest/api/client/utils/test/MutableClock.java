@@ -0,0 +1,43 @@
+package com.sap.cloud.rest.api.client.utils.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Clock} which time is moved forward manually by the tests.
+ */
+public class MutableClock extends Clock {
+
+    private final AtomicLong millis;
+
+    public MutableClock(long millis) {
+        this.millis = new AtomicLong(millis);
+    }
+
+    public void advance(long deltaMillis) {
+        millis.addAndGet(deltaMillis);
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}